@@ -2,15 +2,29 @@
 package com.myBusiness.adapters.inbound.rest;
 
 import com.myBusiness.application.dto.AlertOutputDto;
+import com.myBusiness.application.dto.AlertSweepResultDto;
 import com.myBusiness.application.dto.CriticalAlertDto;
+import com.myBusiness.application.dto.CursorPageDto;
+import com.myBusiness.application.dto.StreamTicketDto;
+import com.myBusiness.application.usecase.AlertStreamService;
+import com.myBusiness.application.usecase.AlertStreamTicketService;
+import com.myBusiness.application.usecase.AlertThresholdSweepUseCase;
 import com.myBusiness.application.usecase.DeleteAlertUseCase;
+import com.myBusiness.application.usecase.ListAlertsPageUseCase;
 import com.myBusiness.application.usecase.ListAlertsUseCase;
 import com.myBusiness.application.usecase.ListUnreadAlertsUseCase;
 import com.myBusiness.application.usecase.ListCriticalAlertsUseCase;
 import com.myBusiness.application.usecase.MarkAlertReadUseCase;
+import com.myBusiness.application.usecase.MarkAllAlertsReadUseCase;
+import com.myBusiness.application.usecase.UnreadCountUseCase;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -24,6 +38,12 @@ public class AlertController {
     private final ListCriticalAlertsUseCase listCriticalUseCase;
     private final DeleteAlertUseCase deleteUseCase;
     private final MarkAlertReadUseCase markReadUseCase;
+    private final ListAlertsPageUseCase listPageUseCase;
+    private final MarkAllAlertsReadUseCase markAllReadUseCase;
+    private final AlertThresholdSweepUseCase thresholdSweep;
+    private final AlertStreamService alertStream;
+    private final AlertStreamTicketService streamTickets;
+    private final UnreadCountUseCase unreadCount;
 
     /**
      * GET /api/alerts/unread → solo alertas no leídas, para polling de notificaciones efímeras.
@@ -34,6 +54,14 @@ public class AlertController {
         return ResponseEntity.ok(dto);
     }
 
+    /**
+     * GET /api/alerts/unread-count → número de alertas no leídas (contador materializado).
+     */
+    @GetMapping("/unread-count")
+    public ResponseEntity<Long> unreadCount() {
+        return ResponseEntity.ok(unreadCount.unreadAlerts());
+    }
+
     /**
      * GET /api/alerts → devuelve TODO el historial de alertas automáticas.
      */
@@ -43,6 +71,40 @@ public class AlertController {
         return ResponseEntity.ok(dto);
     }
 
+    /**
+     * GET /api/alerts/page?cursor=&size=&unreadOnly= → historial paginado por cursor.
+     * Para la siguiente página se envía el `nextCursor` recibido.
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageDto<AlertOutputDto>> listPage(
+            @RequestParam(name = "cursor", required = false) Long cursor,
+            @RequestParam(name = "size", defaultValue = "50") int size,
+            @RequestParam(name = "unreadOnly", defaultValue = "false") boolean unreadOnly) {
+        return ResponseEntity.ok(listPageUseCase.execute(cursor, size, unreadOnly));
+    }
+
+    /**
+     * POST /api/alerts/read-all → marca todas como leídas (un único UPDATE).
+     */
+    @PostMapping("/read-all")
+    public ResponseEntity<Void> markAllAsRead() {
+        markAllReadUseCase.execute();
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * POST /api/alerts/sweep → reevalúa ahora todo el catálogo contra sus umbrales.
+     * 409 si ya hay un barrido en curso.
+     */
+    @PostMapping("/sweep")
+    public ResponseEntity<AlertSweepResultDto> sweep() {
+        AlertSweepResultDto result = thresholdSweep.sweepAll();
+        if (result == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * POST /api/alerts/{id}/read → Marca alerta como leída.
      */
@@ -70,4 +132,29 @@ public class AlertController {
         List<CriticalAlertDto> dto = listCriticalUseCase.execute();
         return ResponseEntity.ok(dto);
     }
+
+    /**
+     * POST /api/alerts/stream/ticket → ticket de un solo uso (segundos de vida) para abrir el stream.
+     */
+    @PostMapping("/stream/ticket")
+    public ResponseEntity<StreamTicketDto> streamTicket(Authentication auth) {
+        return ResponseEntity.ok(streamTickets.issue(Long.valueOf(auth.getName())));
+    }
+
+    /**
+     * GET /api/alerts/stream?ticket= → Server-Sent Events con la apertura/cierre de alertas.
+     * Reemplaza el polling. EventSource no permite cabeceras: se autentica con el ticket de
+     * POST /stream/ticket (nunca con el JWT en la url) y el último id recibido puede ir en
+     * `lastEventId`. Cada reconexión necesita un ticket nuevo.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(name = "lastEventId", required = false) String lastEventIdParam,
+            HttpServletResponse response) {
+        // Evitar que un proxy (nginx) acumule los eventos en buffer
+        response.setHeader("X-Accel-Buffering", "no");
+        response.setHeader("Cache-Control", "no-cache");
+        return alertStream.subscribe(lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam);
+    }
 }
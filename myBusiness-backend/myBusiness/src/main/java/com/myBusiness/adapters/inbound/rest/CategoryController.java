@@ -10,11 +10,13 @@ import com.myBusiness.application.usecase.GetCategoryUseCase;
 import com.myBusiness.application.usecase.ListCategoriesUseCase;
 import com.myBusiness.application.usecase.UpdateCategoryUseCase;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -65,11 +67,14 @@ public class CategoryController {
 
     /**
      * ——— Resumen por Categoría ———
-     * GET /api/categories/summary
+     * GET /api/categories/summary?asOf=yyyy-MM-dd&unitId=
      */
     @GetMapping("/summary")
-    public ResponseEntity<List<CategorySummaryDto>> getSummary() {
-        List<CategorySummaryDto> dto = summaryUseCase.execute();
+    public ResponseEntity<List<CategorySummaryDto>> getSummary(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf,
+            @RequestParam(required = false) Long unitId
+    ) {
+        List<CategorySummaryDto> dto = summaryUseCase.execute(asOf, unitId);
         return ResponseEntity.ok(dto);
     }
 }
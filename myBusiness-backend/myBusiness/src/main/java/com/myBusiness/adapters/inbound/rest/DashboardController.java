@@ -9,6 +9,7 @@ import com.myBusiness.application.usecase.GetStockEvolutionUseCase;
 import com.myBusiness.application.usecase.GetTopProductsUseCase;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -33,17 +34,21 @@ public class DashboardController {
      */
     @GetMapping("/stock-evolution")
     public ResponseEntity<List<StockByDateDto>> getStockEvolution(
-        @RequestParam(name = "days", defaultValue = "7") int days
+        @RequestParam(name = "days", defaultValue = "7") int days,
+        Authentication auth
     ) {
-        List<StockByDateDto> dto = stockEvolutionUseCase.execute(days);
+        Long userId = auth != null ? Long.valueOf(auth.getName()) : null;
+        List<StockByDateDto> dto = stockEvolutionUseCase.execute(days, userId);
         return ResponseEntity.ok(dto);
     }
 
     @GetMapping("/top-products")
     public ResponseEntity<List<TopProductDto>> getTopProducts(
-        @RequestParam(name = "limit", defaultValue = "5") int limit
+        @RequestParam(name = "limit", defaultValue = "5") int limit,
+        Authentication auth
     ) {
-        List<TopProductDto> dto = topProductsUseCase.execute(limit);
+        Long userId = auth != null ? Long.valueOf(auth.getName()) : null;
+        List<TopProductDto> dto = topProductsUseCase.execute(limit, userId);
         return ResponseEntity.ok(dto);
     }
 }
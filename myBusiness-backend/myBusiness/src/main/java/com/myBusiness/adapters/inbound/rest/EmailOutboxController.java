@@ -0,0 +1,27 @@
+// src/main/java/com/myBusiness/adapters/inbound/rest/EmailOutboxController.java
+package com.myBusiness.adapters.inbound.rest;
+
+import com.myBusiness.application.dto.EmailOutboxStatsDto;
+import com.myBusiness.application.usecase.EmailOutboxWorker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/email-outbox")
+@RequiredArgsConstructor
+public class EmailOutboxController {
+
+    private final EmailOutboxWorker outboxWorker;
+
+    /**
+     * Profundidad de la cola de correo por estado y antigüedad del pendiente más viejo.
+     * GET /api/email-outbox/stats
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<EmailOutboxStatsDto> getStats() {
+        return ResponseEntity.ok(outboxWorker.stats());
+    }
+}
@@ -0,0 +1,37 @@
+// src/main/java/com/myBusiness/adapters/inbound/rest/ForecastController.java
+package com.myBusiness.adapters.inbound.rest;
+
+import com.myBusiness.application.dto.ProductForecastDto;
+import com.myBusiness.application.usecase.GetProductForecastUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/products")
+@RequiredArgsConstructor
+public class ForecastController {
+
+    private final GetProductForecastUseCase forecastUseCase;
+
+    /**
+     * GET /api/products/{id}/forecast → días hasta quiebre de stock y fecha estimada.
+     */
+    @GetMapping("/{id}/forecast")
+    public ResponseEntity<ProductForecastDto> getForecast(@PathVariable("id") Long id) {
+        return ResponseEntity.ok(forecastUseCase.execute(id));
+    }
+
+    /**
+     * GET /api/products/forecast → pronóstico de todo el catálogo.
+     */
+    @GetMapping("/forecast")
+    public ResponseEntity<List<ProductForecastDto>> getAllForecasts() {
+        return ResponseEntity.ok(forecastUseCase.executeAll());
+    }
+}
@@ -1,8 +1,23 @@
 package com.myBusiness.adapters.inbound.rest;
 
 import com.myBusiness.application.exception.CategoryNotFoundException;
+import com.myBusiness.application.exception.InsufficientStockException;
+import com.myBusiness.application.exception.InvalidMovementException;
+import com.myBusiness.application.exception.InvalidScheduleException;
+import com.myBusiness.application.exception.InvalidTimeZoneException;
+import com.myBusiness.application.exception.InvalidLocationException;
+import com.myBusiness.application.exception.InvalidReservationException;
+import com.myBusiness.application.exception.InvalidWebhookException;
+import com.myBusiness.application.exception.LocationNotFoundException;
+import com.myBusiness.application.exception.NotificationNotFoundException;
 import com.myBusiness.application.exception.ProductNotFoundException;
+import com.myBusiness.application.exception.ReportJobNotFoundException;
+import com.myBusiness.application.exception.ReportJobNotReadyException;
+import com.myBusiness.application.exception.ReportJobRejectedException;
+import com.myBusiness.application.exception.ReservationConflictException;
+import com.myBusiness.application.exception.ReservationNotFoundException;
 import com.myBusiness.application.exception.UnitNotFoundException;
+import com.myBusiness.application.exception.WebhookNotFoundException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -28,19 +43,60 @@ public class GlobalExceptionHandler {
     }
 
     /**
-     * 2) “No encontrado” para categorías, unidades o productos → 404 NOT_FOUND.
+     * 2) “No encontrado” para categorías, unidades, productos, ubicaciones, reservas, trabajos de reporte, webhooks o notificaciones → 404 NOT_FOUND.
      */
     @ExceptionHandler({
         CategoryNotFoundException.class,
         UnitNotFoundException.class,
-        ProductNotFoundException.class
+        ProductNotFoundException.class,
+        LocationNotFoundException.class,
+        ReservationNotFoundException.class,
+        ReportJobNotFoundException.class,
+        WebhookNotFoundException.class,
+        NotificationNotFoundException.class
     })
     public ResponseEntity<Map<String,Object>> handleNotFound(RuntimeException ex) {
         return build(HttpStatus.NOT_FOUND, ex.getMessage());
     }
 
     /**
-     * 3) Cualquier otra excepción → 500 INTERNAL_SERVER_ERROR.
+     * 3) Datos de movimiento, ubicación, reserva, programación, webhook, zona horaria o parámetros de exportación inválidos → 400 BAD_REQUEST.
+     */
+    @ExceptionHandler({
+        InvalidMovementException.class,
+        InvalidLocationException.class,
+        InvalidReservationException.class,
+        InvalidScheduleException.class,
+        InvalidTimeZoneException.class,
+        InvalidWebhookException.class
+    })
+    public ResponseEntity<Map<String,Object>> handleInvalidMovement(RuntimeException ex) {
+        return build(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
+    /**
+     * 4) Trabajo de reporte aún sin resultado descargable, reserva o salida sin stock
+     *    disponible, o reserva que ya no está activa → 409 CONFLICT.
+     */
+    @ExceptionHandler({
+        ReportJobNotReadyException.class,
+        InsufficientStockException.class,
+        ReservationConflictException.class
+    })
+    public ResponseEntity<Map<String,Object>> handleConflict(RuntimeException ex) {
+        return build(HttpStatus.CONFLICT, ex.getMessage());
+    }
+
+    /**
+     * 5) Cola de reportes llena → 503 SERVICE_UNAVAILABLE.
+     */
+    @ExceptionHandler(ReportJobRejectedException.class)
+    public ResponseEntity<Map<String,Object>> handleJobRejected(ReportJobRejectedException ex) {
+        return build(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+    }
+
+    /**
+     * 6) Cualquier otra excepción → 500 INTERNAL_SERVER_ERROR.
      */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String,Object>> handleAll(Exception ex) {
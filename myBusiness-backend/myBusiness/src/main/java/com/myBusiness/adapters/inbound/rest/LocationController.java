@@ -0,0 +1,67 @@
+// src/main/java/com/myBusiness/adapters/inbound/rest/LocationController.java
+package com.myBusiness.adapters.inbound.rest;
+
+import com.myBusiness.application.dto.LocationDto;
+import com.myBusiness.application.dto.LocationInputDto;
+import com.myBusiness.application.dto.LocationStockDto;
+import com.myBusiness.application.usecase.LocationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/locations")
+@RequiredArgsConstructor
+public class LocationController {
+
+    private final LocationService locationService;
+
+    @GetMapping
+    public ResponseEntity<List<LocationDto>> list() {
+        return ResponseEntity.ok(locationService.list());
+    }
+
+    @GetMapping("/{id:\\d+}")
+    public ResponseEntity<LocationDto> getById(@PathVariable Long id) {
+        return ResponseEntity.ok(locationService.get(id));
+    }
+
+    @PostMapping
+    public ResponseEntity<LocationDto> create(@Valid @RequestBody LocationInputDto dto) {
+        LocationDto out = locationService.create(dto);
+        return ResponseEntity.created(URI.create("/api/locations/" + out.getId())).body(out);
+    }
+
+    @PutMapping("/{id:\\d+}")
+    public ResponseEntity<LocationDto> update(@PathVariable Long id, @Valid @RequestBody LocationInputDto dto) {
+        return ResponseEntity.ok(locationService.update(id, dto));
+    }
+
+    @DeleteMapping("/{id:\\d+}")
+    public ResponseEntity<Void> delete(@PathVariable Long id) {
+        locationService.delete(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Saldos por producto de una ubicación.
+     * GET /api/locations/{id}/stock
+     */
+    @GetMapping("/{id:\\d+}/stock")
+    public ResponseEntity<List<LocationStockDto>> stock(@PathVariable Long id) {
+        return ResponseEntity.ok(locationService.stock(id));
+    }
+
+    /**
+     * Stock de un producto repartido por ubicación.
+     * GET /api/locations/stock?productId=
+     */
+    @GetMapping("/stock")
+    public ResponseEntity<List<LocationStockDto>> productStock(@RequestParam Long productId) {
+        return ResponseEntity.ok(locationService.productStock(productId));
+    }
+}
@@ -5,9 +5,16 @@ import com.myBusiness.application.dto.*;
 import com.myBusiness.application.usecase.*;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.List;
 
 @RestController
@@ -26,23 +33,30 @@ public class MovementController {
     private final GetMovementsLast24hCountUseCase last24hUseCase;
     private final GetTopProductsUseCase topProductsUseCase;
     private final GetStockEvolutionUseCase stockEvolutionUseCase;
+    private final ExportMovementsUseCase exportUseCase;
+    private final GetMovementSeriesUseCase seriesUseCase;
+    private final BusinessTimeZoneService timeZones;
 
     /**
      * 1) Listado paginado con filtros.
-     *    GET /api/movements?page=&size=&productId=&dateFrom=&dateTo=&movementType=&search=&sort=
+     *    GET /api/movements?page=&size=&productId=&locationId=&dateFrom=&dateTo=&movementType=&search=&sort=
      */
     @GetMapping
-    public ResponseEntity<PageResponseDto<MovementOutputDto>> list(@Valid MovementFilterDto filter) {
-        PageResponseDto<MovementOutputDto> page = listUseCase.execute(filter);
+    public ResponseEntity<PageResponseDto<MovementOutputDto>> list(@Valid MovementFilterDto filter, Authentication auth) {
+        Long userId = auth != null ? Long.valueOf(auth.getName()) : null;
+        PageResponseDto<MovementOutputDto> page = listUseCase.execute(filter, userId);
         return ResponseEntity.ok(page);
     }
 
     /**
-     * 2) Obtener por ID numérico
+     * 2) Obtener por ID numérico. movementDate (opcional, la fecha del movimiento tal como
+     * llegó en el listado) evita buscar el id en todas las particiones; igual en PUT y DELETE.
      */
     @GetMapping("/{id:\\d+}")
-    public ResponseEntity<MovementOutputDto> getById(@PathVariable("id") Long id) {
-        MovementOutputDto dto = listUseCase.fetchById(id);
+    public ResponseEntity<MovementOutputDto> getById(
+            @PathVariable("id") Long id,
+            @RequestParam(name = "movementDate", required = false) Instant movementDate) {
+        MovementOutputDto dto = listUseCase.fetchById(id, movementDate);
         return ResponseEntity.ok(dto);
     }
 
@@ -61,8 +75,9 @@ public class MovementController {
     @PutMapping("/{id:\\d+}")
     public ResponseEntity<MovementOutputDto> update(
             @PathVariable("id") Long id,
+            @RequestParam(name = "movementDate", required = false) Instant movementDate,
             @RequestBody @Valid MovementInputDto dto) {
-        MovementOutputDto out = updateUseCase.execute(id, dto);
+        MovementOutputDto out = updateUseCase.execute(id, movementDate, dto);
         return ResponseEntity.ok(out);
     }
 
@@ -70,24 +85,31 @@ public class MovementController {
      * 5) Eliminar
      */
     @DeleteMapping("/{id:\\d+}")
-    public ResponseEntity<Void> delete(@PathVariable("id") Long id) {
-        deleteUseCase.execute(id);
+    public ResponseEntity<Void> delete(
+            @PathVariable("id") Long id,
+            @RequestParam(name = "movementDate", required = false) Instant movementDate) {
+        deleteUseCase.execute(id, movementDate);
         return ResponseEntity.noContent().build();
     }
 
     // ——— Métricas y endpoints adicionales ———
+    // Los días se cortan en la zona del negocio del usuario (o UTC), como en /series.
 
     @GetMapping("/daily-trend")
     public ResponseEntity<List<DailyMovementCountDto>> getDailyTrend(
-            @RequestParam(name = "days", defaultValue = "7") int days) {
-        List<DailyMovementCountDto> dto = dailyTrendUseCase.execute(days);
+            @RequestParam(name = "days", defaultValue = "7") int days,
+            Authentication auth) {
+        Long userId = auth != null ? Long.valueOf(auth.getName()) : null;
+        List<DailyMovementCountDto> dto = dailyTrendUseCase.execute(days, userId);
         return ResponseEntity.ok(dto);
     }
 
     @GetMapping("/type-counts")
     public ResponseEntity<List<MovementTypeCountDto>> getTypeCounts(
-            @RequestParam(name = "days", defaultValue = "7") int days) {
-        List<MovementTypeCountDto> dto = typeCountsUseCase.execute(days);
+            @RequestParam(name = "days", defaultValue = "7") int days,
+            Authentication auth) {
+        Long userId = auth != null ? Long.valueOf(auth.getName()) : null;
+        List<MovementTypeCountDto> dto = typeCountsUseCase.execute(days, userId);
         return ResponseEntity.ok(dto);
     }
 
@@ -106,15 +128,66 @@ public class MovementController {
 
     @GetMapping("/top-products")
     public ResponseEntity<List<TopProductDto>> getTopProducts(
-            @RequestParam(name = "limit", defaultValue = "5") int limit) {
-        List<TopProductDto> dto = topProductsUseCase.execute(limit);
+            @RequestParam(name = "limit", defaultValue = "5") int limit,
+            Authentication auth) {
+        Long userId = auth != null ? Long.valueOf(auth.getName()) : null;
+        List<TopProductDto> dto = topProductsUseCase.execute(limit, userId);
         return ResponseEntity.ok(dto);
     }
 
     @GetMapping("/daily-inventory")
     public ResponseEntity<List<StockByDateDto>> getDailyInventory(
-            @RequestParam(name = "days", defaultValue = "30") int days) {
-        List<StockByDateDto> dto = stockEvolutionUseCase.execute(days);
+            @RequestParam(name = "days", defaultValue = "30") int days,
+            Authentication auth) {
+        Long userId = auth != null ? Long.valueOf(auth.getName()) : null;
+        List<StockByDateDto> dto = stockEvolutionUseCase.execute(days, userId);
+        return ResponseEntity.ok(dto);
+    }
+
+    /**
+     * Exportación del libro de movimientos en streaming.
+     *    GET /api/movements/export?format=csv|ndjson&dateFrom=&dateTo=&productId=&gzip=
+     * Las filas se escriben directamente en la respuesta a medida que se leen del cursor.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name = "format", defaultValue = "csv") String format,
+            @RequestParam(name = "dateFrom", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateFrom,
+            @RequestParam(name = "dateTo", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateTo,
+            @RequestParam(name = "productId", required = false) Long productId,
+            @RequestParam(name = "gzip", defaultValue = "false") boolean gzip,
+            Authentication auth) {
+        exportUseCase.validate(format, dateFrom, dateTo);
+        // La zona se resuelve aquí: el cuerpo se escribe fuera del hilo de la petición
+        ZoneId zone = timeZones.resolve(auth != null ? Long.valueOf(auth.getName()) : null);
+        StreamingResponseBody body = out ->
+                exportUseCase.execute(format, dateFrom, dateTo, productId, zone, gzip, out);
+        return ResponseEntity.ok()
+                .header("Content-Disposition", "attachment; filename=" + exportUseCase.fileName(format, gzip))
+                .contentType(MediaType.parseMediaType(exportUseCase.contentType(format, gzip)))
+                .body(body);
+    }
+
+    /**
+     * Serie temporal de movimientos agrupada en la BD.
+     *    GET /api/movements/series?bucket=hour|day|week|month&tz=&from=&to=&productId=&categoryId=
+     * Sin `tz` se usa la zona configurada en el negocio del usuario (o UTC).
+     */
+    @GetMapping("/series")
+    public ResponseEntity<MovementSeriesDto> getSeries(
+            @RequestParam(name = "bucket", defaultValue = "day") String bucket,
+            @RequestParam(name = "tz", required = false) String tz,
+            @RequestParam(name = "from", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(name = "productId", required = false) Long productId,
+            @RequestParam(name = "categoryId", required = false) Long categoryId,
+            Authentication auth) {
+        Long userId = auth != null ? Long.valueOf(auth.getName()) : null;
+        MovementSeriesDto dto = seriesUseCase.execute(bucket, tz, from, to, productId, categoryId, userId);
         return ResponseEntity.ok(dto);
     }
 }
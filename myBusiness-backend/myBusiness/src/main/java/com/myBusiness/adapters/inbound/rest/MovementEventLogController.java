@@ -0,0 +1,38 @@
+// src/main/java/com/myBusiness/adapters/inbound/rest/MovementEventLogController.java
+package com.myBusiness.adapters.inbound.rest;
+
+import com.myBusiness.application.dto.MovementEventLogStatsDto;
+import com.myBusiness.application.dto.StockReplayResultDto;
+import com.myBusiness.application.usecase.MovementEventLogService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/movement-events")
+@RequiredArgsConstructor
+public class MovementEventLogController {
+
+    private final MovementEventLogService eventLogService;
+
+    /**
+     * Última secuencia, segmentos y tamaño del registro de eventos.
+     * GET /api/movement-events/stats
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<MovementEventLogStatsDto> getStats() {
+        return ResponseEntity.ok(eventLogService.stats());
+    }
+
+    /**
+     * Reconstruye el stock desde el registro y lo compara con el stock por ubicación.
+     * POST /api/movement-events/replay/stock → solo informa; no modifica ningún saldo.
+     */
+    @PostMapping("/replay/stock")
+    public ResponseEntity<StockReplayResultDto> replayStock() {
+        return ResponseEntity.ok(eventLogService.replayStock());
+    }
+}
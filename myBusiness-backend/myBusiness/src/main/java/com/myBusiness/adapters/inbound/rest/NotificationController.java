@@ -5,12 +5,17 @@ import com.myBusiness.application.dto.NotificationDto;
 import com.myBusiness.application.usecase.ListAllNotificationsUseCase;
 import com.myBusiness.application.usecase.ListUnreadNotificationsUseCase;
 import com.myBusiness.application.usecase.MarkNotificationAsReadUseCase;
+import com.myBusiness.application.usecase.NotificationInboxUseCase;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
+/**
+ * Bandeja de notificaciones del usuario autenticado: el estado de lectura es por usuario.
+ */
 @RestController
 @RequestMapping("/api/notifications")
 @RequiredArgsConstructor
@@ -19,25 +24,46 @@ public class NotificationController {
     private final ListUnreadNotificationsUseCase listUnreadUseCase;
     private final ListAllNotificationsUseCase listAllUseCase;
     private final MarkNotificationAsReadUseCase markAsReadUseCase;
+    private final NotificationInboxUseCase inbox;
 
     /** GET /api/notifications/unread → solo las no leídas */
     @GetMapping("/unread")
-    public ResponseEntity<List<NotificationDto>> getUnread() {
-        List<NotificationDto> dto = listUnreadUseCase.execute();
+    public ResponseEntity<List<NotificationDto>> getUnread(Authentication auth) {
+        List<NotificationDto> dto = listUnreadUseCase.execute(userId(auth));
         return ResponseEntity.ok(dto);
     }
 
+    /** GET /api/notifications/unread-count → número de no leídas del usuario */
+    @GetMapping("/unread-count")
+    public ResponseEntity<Long> getUnreadCount(Authentication auth) {
+        return ResponseEntity.ok(inbox.countUnread(userId(auth)));
+    }
+
     /** GET /api/notifications/all → todas (leídas y no leídas) */
     @GetMapping("/all")
-    public ResponseEntity<List<NotificationDto>> getAll() {
-        List<NotificationDto> dto = listAllUseCase.execute();
+    public ResponseEntity<List<NotificationDto>> getAll(Authentication auth) {
+        List<NotificationDto> dto = listAllUseCase.execute(userId(auth));
         return ResponseEntity.ok(dto);
     }
 
     /** POST /api/notifications/{id}/read → marca como leída */
     @PostMapping("/{id}/read")
-    public ResponseEntity<Void> markAsRead(@PathVariable Long id) {
-        markAsReadUseCase.execute(id);
+    public ResponseEntity<Void> markAsRead(@PathVariable Long id, Authentication auth) {
+        markAsReadUseCase.execute(userId(auth), id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * POST /api/notifications/read-all?upTo={id} → marca como leídas todas hasta la más reciente
+     * que vio el cliente (sin upTo, todas las que hay)
+     */
+    @PostMapping("/read-all")
+    public ResponseEntity<Void> markAllAsRead(@RequestParam(required = false) Long upTo, Authentication auth) {
+        inbox.markAllRead(userId(auth), upTo);
+        return ResponseEntity.noContent().build();
+    }
+
+    private Long userId(Authentication auth) {
+        return Long.valueOf(auth.getName());
+    }
 }
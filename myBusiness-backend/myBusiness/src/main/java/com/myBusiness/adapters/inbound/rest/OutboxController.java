@@ -0,0 +1,29 @@
+// src/main/java/com/myBusiness/adapters/inbound/rest/OutboxController.java
+package com.myBusiness.adapters.inbound.rest;
+
+import com.myBusiness.application.dto.OutboxProjectionStatsDto;
+import com.myBusiness.application.usecase.OutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/outbox")
+@RequiredArgsConstructor
+public class OutboxController {
+
+    private final OutboxService outboxService;
+
+    /**
+     * Checkpoint, eventos pendientes y último error de cada proyección del outbox de movimientos.
+     * GET /api/outbox/stats
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<List<OutboxProjectionStatsDto>> getStats() {
+        return ResponseEntity.ok(outboxService.stats());
+    }
+}
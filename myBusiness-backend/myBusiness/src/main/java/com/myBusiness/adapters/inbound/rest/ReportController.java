@@ -2,20 +2,34 @@
 package com.myBusiness.adapters.inbound.rest;
 
 import com.myBusiness.application.dto.CategorySummaryDto;
+import com.myBusiness.application.cache.ReportResultCache;
 import com.myBusiness.application.dto.InventoryReportRowDto;
+import com.myBusiness.application.dto.ReportCacheStatsDto;
 import com.myBusiness.application.dto.ReportFilterDto;
+import com.myBusiness.application.dto.ReportJobDto;
+import com.myBusiness.application.dto.ReorderSuggestionDto;
 import com.myBusiness.application.dto.ReportSummaryDto;
 import com.myBusiness.application.dto.ScheduleDto;
+import com.myBusiness.application.usecase.BusinessTimeZoneService;
 import com.myBusiness.application.usecase.GenerateInventoryReportUseCase;
 import com.myBusiness.application.usecase.GetCategorySummaryUseCase;
 import com.myBusiness.application.usecase.GetReportSummaryUseCase;
+import com.myBusiness.application.usecase.ReorderSuggestionJob;
+import com.myBusiness.application.usecase.ReportJobService;
 import com.myBusiness.application.usecase.ScheduleReportUseCase;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -27,50 +41,129 @@ public class ReportController {
     private final GetCategorySummaryUseCase categorySummaryUseCase;
     private final GetReportSummaryUseCase reportSummaryUseCase;
     private final ScheduleReportUseCase scheduleReportUseCase;
+    private final ReportJobService reportJobService;
+    private final ReportResultCache reportCache;
+    private final ReorderSuggestionJob reorderJob;
+    private final BusinessTimeZoneService timeZones;
 
     @GetMapping("/inventory")
-    public ResponseEntity<List<InventoryReportRowDto>> getInventoryReport(ReportFilterDto filter) {
-        List<InventoryReportRowDto> report = reportUseCase.execute(filter);
+    public ResponseEntity<List<InventoryReportRowDto>> getInventoryReport(ReportFilterDto filter, Authentication auth) {
+        List<InventoryReportRowDto> report = reportUseCase.execute(withZone(filter, auth));
         return ResponseEntity.ok(report);
     }
 
+    /**
+     * Exportación del reporte de inventario. El archivo se escribe directamente en la
+     * respuesta mientras se genera (no se arma completo en memoria).
+     */
     @GetMapping(value = "/inventory/export", produces = {
             MediaType.APPLICATION_PDF_VALUE,
             "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"
     })
-    public ResponseEntity<byte[]> exportInventoryReport(
+    public ResponseEntity<StreamingResponseBody> exportInventoryReport(
             ReportFilterDto filter,
-            @RequestParam String format
-    ) throws Exception {
-        byte[] data;
+            @RequestParam String format,
+            Authentication auth
+    ) {
+        withZone(filter, auth);
+        StreamingResponseBody body;
         String contentType;
         if ("excel".equalsIgnoreCase(format)) {
-            data = reportUseCase.exportToExcel(filter);
+            body = out -> reportUseCase.exportToExcel(filter, out);
             contentType = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
         } else {
-            data = reportUseCase.exportToPdf(filter);
+            body = out -> reportUseCase.exportToPdf(filter, out);
             contentType = MediaType.APPLICATION_PDF_VALUE;
         }
         return ResponseEntity.ok()
                 .header("Content-Disposition", "attachment; filename=inventory_report." + format)
                 .contentType(MediaType.parseMediaType(contentType))
-                .body(data);
+                .body(body);
     }
     
+    /**
+     * Encola la generación del reporte y devuelve el trabajo (202 Accepted).
+     * POST /api/reports/jobs?format=pdf|excel
+     */
+    @PostMapping("/jobs")
+    public ResponseEntity<ReportJobDto> submitReportJob(
+            @RequestBody(required = false) ReportFilterDto filter,
+            @RequestParam String format,
+            Authentication auth
+    ) {
+        ReportJobDto job = reportJobService.submit(withZone(filter, auth), format);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<ReportJobDto> getReportJob(@PathVariable String id) {
+        return ResponseEntity.ok(reportJobService.getJob(id));
+    }
+
+    /**
+     * Descarga del archivo generado. Al devolver un Resource, Spring atiende
+     * cabeceras Range (206 Partial Content) para descargas reanudables.
+     */
+    @GetMapping("/jobs/{id}/download")
+    public ResponseEntity<Resource> downloadReportJob(@PathVariable String id) {
+        Resource file = new FileSystemResource(reportJobService.resultFile(id));
+        return ResponseEntity.ok()
+                .header("Content-Disposition", "attachment; filename=" + reportJobService.fileName(id))
+                .header("Accept-Ranges", "bytes")
+                .contentType(MediaType.parseMediaType(reportJobService.contentType(id)))
+                .body(file);
+    }
+
+    /**
+     * Resumen por categoría, opcionalmente a una fecha (asOf) y para una unidad.
+     */
     @GetMapping("/categories-summary")
-    public ResponseEntity<List<CategorySummaryDto>> getCategorySummary() {
-        List<CategorySummaryDto> dto = categorySummaryUseCase.execute();
+    public ResponseEntity<List<CategorySummaryDto>> getCategorySummary(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf,
+            @RequestParam(required = false) Long unitId
+    ) {
+        List<CategorySummaryDto> dto = categorySummaryUseCase.execute(asOf, unitId);
         return ResponseEntity.ok(dto);
     }
     
    
 
     @GetMapping("/summary")
-    public ResponseEntity<ReportSummaryDto> getReportSummary(ReportFilterDto filter) {
-        ReportSummaryDto dto = reportSummaryUseCase.execute(filter);
+    public ResponseEntity<ReportSummaryDto> getReportSummary(ReportFilterDto filter, Authentication auth) {
+        ReportSummaryDto dto = reportSummaryUseCase.execute(withZone(filter, auth));
         return ResponseEntity.ok(dto);
     }
 
+    /**
+     * Tamaño y tasa de aciertos de la caché de reportes.
+     * GET /api/reports/cache/stats
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<ReportCacheStatsDto> getCacheStats() {
+        return ResponseEntity.ok(reportCache.stats());
+    }
+
+    /**
+     * Sugerencias de reposición del último cálculo nocturno.
+     * GET /api/reports/reorder
+     */
+    @GetMapping("/reorder")
+    public ResponseEntity<List<ReorderSuggestionDto>> getReorderSuggestions() {
+        return ResponseEntity.ok(reorderJob.list());
+    }
+
+    /**
+     * Recalcula las sugerencias ahora. 409 si ya hay un cálculo en curso.
+     * POST /api/reports/reorder/run
+     */
+    @PostMapping("/reorder/run")
+    public ResponseEntity<List<ReorderSuggestionDto>> runReorderSuggestions() {
+        if (!reorderJob.run()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.ok(reorderJob.list());
+    }
+
     /**
      * 5) Programar envío periódico de reportes.
      *    POST /api/reports/schedule
@@ -80,4 +173,15 @@ public class ReportController {
         scheduleReportUseCase.execute(scheduleDto);
         return ResponseEntity.ok().build();
     }
+
+    /**
+     * Fija en el filtro la zona en la que se cortan dateFrom/dateTo: la recibida en `timeZone`,
+     * si no la del negocio del usuario, si no UTC. Forma parte de la clave de caché.
+     */
+    private ReportFilterDto withZone(ReportFilterDto filter, Authentication auth) {
+        ReportFilterDto f = filter != null ? filter : new ReportFilterDto();
+        Long userId = auth != null ? Long.valueOf(auth.getName()) : null;
+        f.setTimeZone(timeZones.resolve(f.getTimeZone(), userId).getId());
+        return f;
+    }
 }
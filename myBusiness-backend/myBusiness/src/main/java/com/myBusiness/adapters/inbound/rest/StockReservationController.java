@@ -0,0 +1,70 @@
+// src/main/java/com/myBusiness/adapters/inbound/rest/StockReservationController.java
+package com.myBusiness.adapters.inbound.rest;
+
+import com.myBusiness.application.dto.StockAvailabilityDto;
+import com.myBusiness.application.dto.StockReservationDto;
+import com.myBusiness.application.dto.StockReservationInputDto;
+import com.myBusiness.application.usecase.StockReservationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/reservations")
+@RequiredArgsConstructor
+public class StockReservationController {
+
+    private final StockReservationService reservationService;
+
+    /**
+     * Aparta stock para un pedido pendiente; 409 si no hay disponible suficiente.
+     * POST /api/reservations
+     */
+    @PostMapping
+    public ResponseEntity<StockReservationDto> reserve(@Valid @RequestBody StockReservationInputDto dto) {
+        StockReservationDto out = reservationService.reserve(dto);
+        return ResponseEntity.created(URI.create("/api/reservations/" + out.getId())).body(out);
+    }
+
+    /**
+     * GET /api/reservations?productId=&status=   (status por defecto ACTIVE)
+     */
+    @GetMapping
+    public ResponseEntity<List<StockReservationDto>> list(@RequestParam Long productId,
+                                                          @RequestParam(required = false) String status) {
+        return ResponseEntity.ok(reservationService.list(productId, status));
+    }
+
+    @GetMapping("/{id:\\d+}")
+    public ResponseEntity<StockReservationDto> getById(@PathVariable Long id) {
+        return ResponseEntity.ok(reservationService.get(id));
+    }
+
+    @PostMapping("/{id:\\d+}/release")
+    public ResponseEntity<StockReservationDto> release(@PathVariable Long id) {
+        return ResponseEntity.ok(reservationService.release(id));
+    }
+
+    /**
+     * Registra la salida de lo reservado desde la ubicación de la reserva.
+     * POST /api/reservations/{id}/consume
+     */
+    @PostMapping("/{id:\\d+}/consume")
+    public ResponseEntity<StockReservationDto> consume(@PathVariable Long id) {
+        return ResponseEntity.ok(reservationService.consume(id));
+    }
+
+    /**
+     * Disponible para prometer: stock menos reservas activas.
+     * GET /api/reservations/availability?productId=&locationId=   (sin locationId, todas las ubicaciones)
+     */
+    @GetMapping("/availability")
+    public ResponseEntity<StockAvailabilityDto> availability(@RequestParam Long productId,
+                                                             @RequestParam(required = false) Long locationId) {
+        return ResponseEntity.ok(reservationService.available(productId, locationId));
+    }
+}
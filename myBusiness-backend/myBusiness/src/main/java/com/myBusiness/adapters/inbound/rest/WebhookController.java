@@ -0,0 +1,77 @@
+// src/main/java/com/myBusiness/adapters/inbound/rest/WebhookController.java
+package com.myBusiness.adapters.inbound.rest;
+
+import com.myBusiness.application.dto.WebhookDeliveryDto;
+import com.myBusiness.application.dto.WebhookStatsDto;
+import com.myBusiness.application.dto.WebhookSubscriptionDto;
+import com.myBusiness.application.dto.WebhookSubscriptionInputDto;
+import com.myBusiness.application.usecase.WebhookDispatcher;
+import com.myBusiness.application.usecase.WebhookService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/webhooks")
+@RequiredArgsConstructor
+public class WebhookController {
+
+    private final WebhookService webhookService;
+    private final WebhookDispatcher webhookDispatcher;
+
+    @GetMapping
+    public ResponseEntity<List<WebhookSubscriptionDto>> list() {
+        return ResponseEntity.ok(webhookService.list());
+    }
+
+    @PostMapping
+    public ResponseEntity<WebhookSubscriptionDto> create(@Valid @RequestBody WebhookSubscriptionInputDto dto) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(webhookService.create(dto));
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<WebhookSubscriptionDto> update(@PathVariable Long id,
+                                                         @Valid @RequestBody WebhookSubscriptionInputDto dto) {
+        return ResponseEntity.ok(webhookService.update(id, dto));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable Long id) {
+        webhookService.delete(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Entregas descartadas tras agotar reintentos (más recientes primero).
+     * GET /api/webhooks/dead-letters?subscriptionId=&limit=
+     */
+    @GetMapping("/dead-letters")
+    public ResponseEntity<List<WebhookDeliveryDto>> deadLetters(
+            @RequestParam(required = false) Long subscriptionId,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(webhookService.deadLetters(subscriptionId, limit));
+    }
+
+    /**
+     * Vuelve a encolar una entrega descartada con los intentos a cero.
+     * POST /api/webhooks/dead-letters/{id}/retry
+     */
+    @PostMapping("/dead-letters/{id}/retry")
+    public ResponseEntity<Void> retry(@PathVariable Long id) {
+        webhookService.retryDeadLetter(id);
+        return ResponseEntity.accepted().build();
+    }
+
+    /**
+     * Profundidad de la cola por estado y endpoints saturados.
+     * GET /api/webhooks/stats
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<WebhookStatsDto> stats() {
+        return ResponseEntity.ok(webhookDispatcher.stats());
+    }
+}
@@ -1,22 +1,46 @@
 package com.myBusiness.adapters.outbound.persistence;
 
 import com.myBusiness.domain.model.Alert;
+import com.myBusiness.domain.model.AlertTransitionRow;
+import com.myBusiness.domain.model.AlertType;
+import com.myBusiness.domain.model.ArchiveBatch;
+import com.myBusiness.domain.model.Product;
 import com.myBusiness.domain.port.AlertRepository;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
+@RequiredArgsConstructor
 public class AlertRepositoryImpl implements AlertRepository {
 
+    // Stock total del producto `p`: suma por ubicación, al día con cada movimiento (product_stock va por detrás)
+    private static final String STOCK =
+        "COALESCE((SELECT SUM(ls.quantity) FROM LocationStock ls WHERE ls.productId = p.id), :zero)";
+
+    private static final String OPEN_INDEX = "ux_alerts_open_product";
+
     @PersistenceContext
     private EntityManager em;
 
+    // Los INSERT nativos no pasan por AuditingEntityListener
+    private final AuditorAware<String> auditor;
+
+    private volatile Boolean postgres;
+
     @Override
     @Transactional
     public Alert save(Alert alert) {
@@ -42,6 +66,11 @@ public class AlertRepositoryImpl implements AlertRepository {
         return q.getResultStream().findFirst();
     }
 
+    @Override
+    public boolean existsById(Long id) {
+        return em.find(Alert.class, id) != null;
+    }
+
     @Override
     public List<Alert> findAllUnread() {
         TypedQuery<Alert> q = em.createQuery(
@@ -81,9 +110,307 @@ public class AlertRepositoryImpl implements AlertRepository {
         return q.getResultList();
     }
 
+    @Override
+    public List<Alert> findOpen() {
+        TypedQuery<Alert> q = em.createQuery(
+            "SELECT a FROM Alert a " +
+            " JOIN FETCH a.product p " +
+            " WHERE a.closedAt IS NULL " +
+            " ORDER BY a.triggeredAt DESC",
+            Alert.class
+        );
+        return q.getResultList();
+    }
+
+    @Override
+    public List<Alert> findOpenByProductId(Long productId) {
+        TypedQuery<Alert> q = em.createQuery(
+            "SELECT a FROM Alert a " +
+            " WHERE a.product.id = :pid AND a.closedAt IS NULL",
+            Alert.class
+        );
+        q.setParameter("pid", productId);
+        return q.getResultList();
+    }
+
+    @Override
+    @Transactional
+    public Optional<Alert> openIfAbsent(Long productId, AlertType type, Long movementId, Instant triggeredAt) {
+        String by = auditor.getCurrentAuditor().orElse("system");
+        boolean pg = isPostgres();
+        if (!pg) {
+            // Sin el índice único parcial (H2) no hay conflicto que detectar: se serializa por
+            // la fila del producto y se comprueba a mano
+            lockProducts(productId, productId);
+            if (!findOpenByProductId(productId).isEmpty()) {
+                return Optional.empty();
+            }
+        }
+        // Un null sin tipo no se puede enlazar en PostgreSQL: sin movimiento va NULL literal
+        Query insert = em.createNativeQuery(
+            "INSERT INTO alerts " +
+            " (product_id, movement_id, alert_type, triggered_at, is_read, created_by, created_date, modified_by, modified_date) " +
+            " VALUES (:pid, " + (movementId != null ? ":mid" : "NULL") + ", :type, :now, false, :by, :now, :by, :now)" +
+            (pg ? " ON CONFLICT DO NOTHING" : ""))
+            .setParameter("pid", productId)
+            .setParameter("type", type.name())
+            .setParameter("now", triggeredAt)
+            .setParameter("by", by);
+        if (movementId != null) {
+            insert.setParameter("mid", movementId);
+        }
+        int inserted = insert.executeUpdate();
+        if (inserted == 0) {
+            return Optional.empty();
+        }
+        // Con el índice único, el único episodio abierto del producto es el recién insertado
+        return em.createQuery(
+            "SELECT a FROM Alert a WHERE a.product.id = :pid AND a.closedAt IS NULL ORDER BY a.id DESC",
+            Alert.class)
+            .setParameter("pid", productId)
+            .setMaxResults(1)
+            .getResultStream()
+            .findFirst();
+    }
+
+    @Override
+    @Transactional
+    public int ensureSingleOpenEpisode(Instant closedAt) {
+        if (!isPostgres()) {
+            return 0;
+        }
+        Object exists = em.createNativeQuery("SELECT CAST(to_regclass(:name) AS varchar)")
+            .setParameter("name", OPEN_INDEX)
+            .getSingleResult();
+        if (exists != null) {
+            return 0;
+        }
+        int closed = em.createNativeQuery(
+            "UPDATE alerts a SET closed_at = :now " +
+            " WHERE a.closed_at IS NULL " +
+            "   AND EXISTS (SELECT 1 FROM alerts b " +
+            "                WHERE b.product_id = a.product_id AND b.closed_at IS NULL AND b.id > a.id)")
+            .setParameter("now", closedAt)
+            .executeUpdate();
+        em.createNativeQuery(
+            "CREATE UNIQUE INDEX IF NOT EXISTS " + OPEN_INDEX + " ON alerts (product_id) WHERE closed_at IS NULL")
+            .executeUpdate();
+        return closed;
+    }
+
+    @Override
+    @Transactional
+    public void detachMovement(Long movementId) {
+        em.createQuery("UPDATE Alert a SET a.movement = null WHERE a.movement.id = :mid")
+          .setParameter("mid", movementId)
+          .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public boolean markRead(Long id) {
+        // Condicional: solo la primera transacción que la marca cuenta para el contador
+        return em.createQuery("UPDATE Alert a SET a.isRead = true WHERE a.id = :id AND a.isRead = false")
+                 .setParameter("id", id)
+                 .executeUpdate() > 0;
+    }
+
+    @Override
+    @Transactional
+    public int markRead(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return em.createQuery("UPDATE Alert a SET a.isRead = true WHERE a.id IN :ids AND a.isRead = false")
+                 .setParameter("ids", ids)
+                 .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int markAllRead() {
+        return em.createQuery("UPDATE Alert a SET a.isRead = true WHERE a.isRead = false")
+                 .executeUpdate();
+    }
+
+    @Override
+    public List<Alert> findPage(Long beforeId, boolean unreadOnly, int limit) {
+        // Keyset por id (IDENTITY, creciente con triggeredAt): usa la PK, sin OFFSET
+        StringBuilder jpql = new StringBuilder(
+            "SELECT a FROM Alert a " +
+            " JOIN FETCH a.product p " +
+            " LEFT JOIN FETCH a.movement m " +
+            " WHERE 1 = 1"
+        );
+        if (beforeId != null) jpql.append(" AND a.id < :beforeId");
+        if (unreadOnly) jpql.append(" AND a.isRead = false");
+        jpql.append(" ORDER BY a.id DESC");
+
+        TypedQuery<Alert> q = em.createQuery(jpql.toString(), Alert.class);
+        if (beforeId != null) q.setParameter("beforeId", beforeId);
+        q.setMaxResults(limit);
+        return q.getResultList();
+    }
+
+    @Override
+    public long countUnread() {
+        return em.createQuery("SELECT COUNT(a) FROM Alert a WHERE a.isRead = false", Long.class)
+                 .getSingleResult();
+    }
+
     @Override
     @Transactional
     public void deleteById(Long id) {
         findById(id).ifPresent(em::remove);
     }
+
+    @Override
+    public List<AlertTransitionRow> findStaleOpen(Long fromProductId, Long toProductId) {
+        // Saldo leído en la misma consulta: una para todo el rango de productos
+        return em.createQuery(
+            "SELECT new com.myBusiness.domain.model.AlertTransitionRow(" +
+            "   a.id, p.id, p.name, a.alertType, " + STOCK + ", p.thresholdMin, p.thresholdMax) " +
+            " FROM Alert a " +
+            " JOIN a.product p " +
+            " WHERE a.closedAt IS NULL " +
+            "   AND p.id BETWEEN :from AND :to " +
+            "   AND NOT ((a.alertType = :under AND " + STOCK + " < p.thresholdMin) " +
+            "         OR (a.alertType = :over  AND " + STOCK + " > p.thresholdMax))",
+            AlertTransitionRow.class)
+            .setParameter("zero", BigDecimal.ZERO)
+            .setParameter("from", fromProductId)
+            .setParameter("to", toProductId)
+            .setParameter("under", AlertType.UNDERSTOCK)
+            .setParameter("over", AlertType.OVERSTOCK)
+            .getResultList();
+    }
+
+    @Override
+    @Transactional
+    public int closeByIds(Collection<Long> ids, Instant closedAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return em.createQuery(
+            "UPDATE Alert a SET a.closedAt = :now WHERE a.id IN :ids AND a.closedAt IS NULL")
+            .setParameter("now", closedAt)
+            .setParameter("ids", ids)
+            .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int openMissing(Long fromProductId, Long toProductId, Instant triggeredAt) {
+        // Se ejecuta después de cerrar los episodios obsoletos: cualquier episodio que siga
+        // abierto ya es del tipo correcto, así que basta con "no hay ninguno abierto"
+        boolean pg = isPostgres();
+        if (!pg) {
+            // H2: sin índice único parcial, mismo orden de bloqueo que openIfAbsent
+            lockProducts(fromProductId, toProductId);
+        }
+        return em.createNativeQuery(
+            "INSERT INTO alerts " +
+            " (product_id, alert_type, triggered_at, is_read, created_by, created_date, modified_by, modified_date) " +
+            " SELECT t.id, t.desired, :now, false, 'system', :now, 'system', :now FROM (" +
+            "   SELECT p.id, " +
+            "          CASE WHEN COALESCE(s.quantity, 0) < p.threshold_min THEN 'UNDERSTOCK' " +
+            "               WHEN COALESCE(s.quantity, 0) > p.threshold_max THEN 'OVERSTOCK' END AS desired " +
+            "     FROM products p " +
+            "     LEFT JOIN (SELECT l.product_id, SUM(l.quantity) AS quantity FROM location_stock l " +
+            "                 WHERE l.product_id BETWEEN :from AND :to GROUP BY l.product_id) s " +
+            "            ON s.product_id = p.id " +
+            "    WHERE p.id BETWEEN :from AND :to) t " +
+            " WHERE t.desired IS NOT NULL " +
+            "   AND NOT EXISTS (SELECT 1 FROM alerts a WHERE a.product_id = t.id AND a.closed_at IS NULL) " +
+            // El NOT EXISTS no ve los episodios aún sin confirmar de SyncAlertStateUseCase
+            (pg ? " ON CONFLICT DO NOTHING" : ""))
+            .setParameter("now", triggeredAt)
+            .setParameter("from", fromProductId)
+            .setParameter("to", toProductId)
+            .executeUpdate();
+    }
+
+    @Override
+    public List<AlertTransitionRow> findOpenedAt(Long fromProductId, Long toProductId, Instant triggeredAt) {
+        return em.createQuery(
+            "SELECT new com.myBusiness.domain.model.AlertTransitionRow(" +
+            "   a.id, p.id, p.name, a.alertType, " + STOCK + ", p.thresholdMin, p.thresholdMax) " +
+            " FROM Alert a " +
+            " JOIN a.product p " +
+            " WHERE a.closedAt IS NULL AND a.triggeredAt = :now " +
+            "   AND p.id BETWEEN :from AND :to",
+            AlertTransitionRow.class)
+            .setParameter("zero", BigDecimal.ZERO)
+            .setParameter("now", triggeredAt)
+            .setParameter("from", fromProductId)
+            .setParameter("to", toProductId)
+            .getResultList();
+    }
+
+    @Override
+    @Transactional
+    public ArchiveBatch archiveClosedBefore(Instant cutoff, int batchSize) {
+        // Límite superior de id del lote: el resto de sentencias trabaja por rango, no fila a fila
+        Number maxId = (Number) em.createNativeQuery(
+            "SELECT MAX(t.id) FROM (" +
+            "  SELECT a.id FROM alerts a " +
+            "   WHERE a.closed_at IS NOT NULL AND a.closed_at < :cutoff " +
+            "   ORDER BY a.id LIMIT :n) t")
+            .setParameter("cutoff", cutoff)
+            .setParameter("n", batchSize)
+            .getSingleResult();
+        if (maxId == null) {
+            return new ArchiveBatch(0, 0);
+        }
+        String where = " WHERE closed_at IS NOT NULL AND closed_at < :cutoff AND id <= :maxId";
+
+        Number unread = (Number) em.createNativeQuery(
+            "SELECT COUNT(*) FROM alerts" + where + " AND is_read = false")
+            .setParameter("cutoff", cutoff)
+            .setParameter("maxId", maxId.longValue())
+            .getSingleResult();
+
+        em.createNativeQuery(
+            "INSERT INTO alerts_archive " +
+            " (id, product_id, movement_id, alert_type, triggered_at, closed_at, is_read, created_by, created_date, archived_at) " +
+            " SELECT id, product_id, movement_id, alert_type, triggered_at, closed_at, is_read, created_by, created_date, :now " +
+            " FROM alerts" + where)
+            .setParameter("now", Instant.now())
+            .setParameter("cutoff", cutoff)
+            .setParameter("maxId", maxId.longValue())
+            .executeUpdate();
+
+        int deleted = em.createNativeQuery("DELETE FROM alerts" + where)
+            .setParameter("cutoff", cutoff)
+            .setParameter("maxId", maxId.longValue())
+            .executeUpdate();
+
+        return new ArchiveBatch(deleted, unread.intValue());
+    }
+
+    @Override
+    @Transactional
+    public int purgeArchiveBefore(Instant cutoff) {
+        return em.createQuery("DELETE FROM AlertArchive a WHERE a.closedAt < :cutoff")
+                 .setParameter("cutoff", cutoff)
+                 .executeUpdate();
+    }
+
+    /** Bloquea (FOR UPDATE) los productos del rango hasta el final de la transacción. */
+    private void lockProducts(Long fromProductId, Long toProductId) {
+        em.createQuery("SELECT p FROM Product p WHERE p.id BETWEEN :from AND :to", Product.class)
+          .setParameter("from", fromProductId)
+          .setParameter("to", toProductId)
+          .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+          .getResultList();
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            String product = em.unwrap(Session.class)
+                    .doReturningWork(c -> c.getMetaData().getDatabaseProductName());
+            postgres = "PostgreSQL".equalsIgnoreCase(product);
+        }
+        return postgres;
+    }
 }
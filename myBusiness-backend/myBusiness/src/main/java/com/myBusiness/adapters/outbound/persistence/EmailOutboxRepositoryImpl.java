@@ -0,0 +1,122 @@
+// src/main/java/com/myBusiness/adapters/outbound/persistence/EmailOutboxRepositoryImpl.java
+package com.myBusiness.adapters.outbound.persistence;
+
+import com.myBusiness.domain.model.EmailStatus;
+import com.myBusiness.domain.model.OutboundEmail;
+import com.myBusiness.domain.port.EmailOutboxRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+public class EmailOutboxRepositoryImpl implements EmailOutboxRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    @Transactional
+    public OutboundEmail save(OutboundEmail email) {
+        if (email.getId() == null) {
+            em.persist(email);
+            return email;
+        } else {
+            return em.merge(email);
+        }
+    }
+
+    /**
+     * SELECT ... FOR UPDATE SKIP LOCKED (en PostgreSQL): varias instancias pueden reclamar
+     * lotes a la vez sin esperar ni tomar las mismas filas. También se reclaman filas SENDING
+     * cuyo lease venció (worker caído a mitad de envío).
+     */
+    @Override
+    @Transactional
+    public List<OutboundEmail> claimBatch(int limit, Instant now, Instant leaseUntil) {
+        List<OutboundEmail> batch = SkipLocked.forUpdate(em.createQuery(
+            "SELECT e FROM OutboundEmail e " +
+            " WHERE e.status IN (:pending, :sending) AND e.nextAttemptAt <= :now " +
+            " ORDER BY e.id",
+            OutboundEmail.class)
+            .setParameter("pending", EmailStatus.PENDING)
+            .setParameter("sending", EmailStatus.SENDING)
+            .setParameter("now", now)
+            .setMaxResults(limit))
+            .getResultList();
+        for (OutboundEmail e : batch) {
+            e.setStatus(EmailStatus.SENDING);
+            e.setNextAttemptAt(leaseUntil);
+        }
+        return batch;
+    }
+
+    @Override
+    @Transactional
+    public void markSent(List<Long> ids, Instant sentAt) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        em.createQuery(
+            "UPDATE OutboundEmail e SET e.status = :sent, e.sentAt = :sentAt, " +
+            " e.attempts = e.attempts + 1, e.lastError = null " +
+            " WHERE e.id IN :ids")
+            .setParameter("sent", EmailStatus.SENT)
+            .setParameter("sentAt", sentAt)
+            .setParameter("ids", ids)
+            .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public void markFailedAttempt(Long id, String error, Instant nextAttemptAt, boolean giveUp) {
+        em.createQuery(
+            "UPDATE OutboundEmail e SET e.status = :status, e.nextAttemptAt = :next, " +
+            " e.attempts = e.attempts + 1, e.lastError = :error " +
+            " WHERE e.id = :id")
+            .setParameter("status", giveUp ? EmailStatus.FAILED : EmailStatus.PENDING)
+            .setParameter("next", nextAttemptAt)
+            .setParameter("error", error)
+            .setParameter("id", id)
+            .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int deleteSentBefore(Instant limit) {
+        return em.createQuery(
+            "DELETE FROM OutboundEmail e WHERE e.status = :sent AND e.sentAt < :limit")
+            .setParameter("sent", EmailStatus.SENT)
+            .setParameter("limit", limit)
+            .executeUpdate();
+    }
+
+    @Override
+    public Map<EmailStatus, Long> countByStatus() {
+        Map<EmailStatus, Long> counts = new EnumMap<>(EmailStatus.class);
+        for (EmailStatus s : EmailStatus.values()) {
+            counts.put(s, 0L);
+        }
+        List<Object[]> rows = em.createQuery(
+            "SELECT e.status, COUNT(e) FROM OutboundEmail e GROUP BY e.status", Object[].class)
+            .getResultList();
+        for (Object[] r : rows) {
+            counts.put((EmailStatus) r[0], (Long) r[1]);
+        }
+        return counts;
+    }
+
+    @Override
+    public Optional<Instant> findOldestPendingDate() {
+        return Optional.ofNullable(em.createQuery(
+            "SELECT MIN(e.createdDate) FROM OutboundEmail e WHERE e.status = :pending", Instant.class)
+            .setParameter("pending", EmailStatus.PENDING)
+            .getSingleResult());
+    }
+}
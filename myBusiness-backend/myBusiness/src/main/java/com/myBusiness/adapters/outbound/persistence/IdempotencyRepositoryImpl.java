@@ -0,0 +1,111 @@
+// src/main/java/com/myBusiness/adapters/outbound/persistence/IdempotencyRepositoryImpl.java
+package com.myBusiness.adapters.outbound.persistence;
+
+import com.myBusiness.domain.model.IdempotencyRecord;
+import com.myBusiness.domain.model.IdempotencyStatus;
+import com.myBusiness.domain.port.IdempotencyRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Repository
+public class IdempotencyRepositoryImpl implements IdempotencyRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void insert(IdempotencyRecord record) {
+        em.persist(record);
+        em.flush();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<IdempotencyRecord> find(Long ownerId, String idemKey) {
+        return em.createQuery(
+            "SELECT r FROM IdempotencyRecord r WHERE r.ownerId = :owner AND r.idemKey = :key",
+            IdempotencyRecord.class)
+            .setParameter("owner", ownerId)
+            .setParameter("key", idemKey)
+            .getResultStream()
+            .findFirst();
+    }
+
+    @Override
+    @Transactional
+    public boolean takeOver(Long id, Instant seenCreatedAt, Instant seenHeartbeatAt, String requestHash,
+                            Instant now, Instant expiresAt) {
+        return em.createQuery(
+            "UPDATE IdempotencyRecord r SET r.status = :inProgress, r.requestHash = :hash, "
+          + "r.responseStatus = NULL, r.contentType = NULL, r.location = NULL, r.responseBody = NULL, "
+          + "r.createdAt = :now, r.heartbeatAt = :now, r.expiresAt = :expires "
+          + "WHERE r.id = :id AND r.createdAt = :seen AND r.heartbeatAt = :seenHeartbeat")
+            .setParameter("inProgress", IdempotencyStatus.IN_PROGRESS)
+            .setParameter("hash", requestHash)
+            .setParameter("now", now)
+            .setParameter("expires", expiresAt)
+            .setParameter("id", id)
+            .setParameter("seen", seenCreatedAt)
+            .setParameter("seenHeartbeat", seenHeartbeatAt)
+            .executeUpdate() == 1;
+    }
+
+    @Override
+    @Transactional
+    public boolean heartbeat(Long id, Instant createdAt, Instant now) {
+        return em.createQuery(
+            "UPDATE IdempotencyRecord r SET r.heartbeatAt = :now "
+          + "WHERE r.id = :id AND r.createdAt = :created AND r.status = :inProgress")
+            .setParameter("now", now)
+            .setParameter("id", id)
+            .setParameter("created", createdAt)
+            .setParameter("inProgress", IdempotencyStatus.IN_PROGRESS)
+            .executeUpdate() == 1;
+    }
+
+    @Override
+    @Transactional
+    public boolean complete(Long id, Instant createdAt, int responseStatus, String contentType, String location,
+                            String responseBody) {
+        return em.createQuery(
+            "UPDATE IdempotencyRecord r SET r.status = :completed, r.responseStatus = :status, "
+          + "r.contentType = :contentType, r.location = :location, r.responseBody = :body "
+          + "WHERE r.id = :id AND r.createdAt = :created AND r.status = :inProgress")
+            .setParameter("completed", IdempotencyStatus.COMPLETED)
+            .setParameter("status", responseStatus)
+            .setParameter("contentType", contentType)
+            .setParameter("location", location)
+            .setParameter("body", responseBody)
+            .setParameter("id", id)
+            .setParameter("created", createdAt)
+            .setParameter("inProgress", IdempotencyStatus.IN_PROGRESS)
+            .executeUpdate() == 1;
+    }
+
+    @Override
+    @Transactional
+    public void delete(Long id, Instant createdAt) {
+        em.createQuery(
+            "DELETE FROM IdempotencyRecord r "
+          + "WHERE r.id = :id AND r.createdAt = :created AND r.status = :inProgress")
+            .setParameter("id", id)
+            .setParameter("created", createdAt)
+            .setParameter("inProgress", IdempotencyStatus.IN_PROGRESS)
+            .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int deleteExpired(Instant now) {
+        return em.createQuery("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+            .setParameter("now", now)
+            .executeUpdate();
+    }
+}
@@ -1,19 +1,32 @@
 // src/main/java/com/myBusiness/adapters/outbound/persistence/InventoryMovementRepositoryImpl.java
 package com.myBusiness.adapters.outbound.persistence;
 
+import com.myBusiness.domain.model.ArchivedMovement;
 import com.myBusiness.domain.model.InventoryMovement;
+import com.myBusiness.domain.model.MovementLedgerRow;
+import com.myBusiness.domain.model.MovementSeriesRow;
+import com.myBusiness.domain.model.MovementType;
+import com.myBusiness.domain.model.StockReplayRow;
 import com.myBusiness.domain.port.InventoryMovementRepository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public class InventoryMovementRepositoryImpl implements InventoryMovementRepository {
@@ -34,58 +47,57 @@ public class InventoryMovementRepositoryImpl implements InventoryMovementReposit
 
     @Override
     public Optional<InventoryMovement> findById(Long id) {
+        return findById(id, null);
+    }
+
+    @Override
+    public Optional<InventoryMovement> findById(Long id, Instant movementDate) {
+        Optional<InventoryMovement> found = find(id, movementDate);
+        // Una fecha que no coincide no debe convertirse en 404: se repite sin acotar
+        return found.isPresent() || movementDate == null ? found : find(id, null);
+    }
+
+    private Optional<InventoryMovement> find(Long id, Instant movementDate) {
         TypedQuery<InventoryMovement> q = em.createQuery(
             "SELECT m FROM InventoryMovement m " +
             " JOIN FETCH m.product p " +
             " JOIN FETCH p.category " +
             " JOIN FETCH p.unit " +
-            " WHERE m.id = :id",
+            " LEFT JOIN FETCH m.location " +
+            " LEFT JOIN FETCH m.destinationLocation " +
+            " WHERE m.id = :id" +
+            (movementDate != null ? " AND m.movementDate = :date" : ""),
             InventoryMovement.class
         );
         q.setParameter("id", id);
+        if (movementDate != null) {
+            q.setParameter("date", movementDate);
+        }
         return q.getResultStream().findFirst();
     }
 
     @Override
-    public boolean existsById(Long id) {
-        return findById(id).isPresent();
-    }
-
-    @Override
-    public List<InventoryMovement> findAllByProductId(Long productId) {
-        if (productId == null) {
-            return findAll();
-        }
+    public List<InventoryMovement> findAllByProductId(Long productId, Instant from) {
         TypedQuery<InventoryMovement> q = em.createQuery(
             "SELECT m FROM InventoryMovement m " +
             " JOIN FETCH m.product p " +
             " JOIN FETCH p.category " +
             " JOIN FETCH p.unit " +
-            " WHERE p.id = :pid " +
+            " LEFT JOIN FETCH m.location " +
+            " LEFT JOIN FETCH m.destinationLocation " +
+            " WHERE p.id = :pid AND m.movementDate >= :from " +
             " ORDER BY m.movementDate DESC",
             InventoryMovement.class
         );
         q.setParameter("pid", productId);
+        q.setParameter("from", from);
         return q.getResultList();
     }
 
     @Override
     @Transactional
-    public void deleteById(Long id) {
-        findById(id).ifPresent(em::remove);
-    }
-
-    @Override
-    public List<InventoryMovement> findAll() {
-        TypedQuery<InventoryMovement> q = em.createQuery(
-            "SELECT m FROM InventoryMovement m " +
-            " JOIN FETCH m.product p " +
-            " JOIN FETCH p.category " +
-            " JOIN FETCH p.unit " +
-            " ORDER BY m.movementDate DESC",
-            InventoryMovement.class
-        );
-        return q.getResultList();
+    public void delete(InventoryMovement movement) {
+        em.remove(em.contains(movement) ? movement : em.merge(movement));
     }
 
     @Override
@@ -95,6 +107,8 @@ public class InventoryMovementRepositoryImpl implements InventoryMovementReposit
             " JOIN FETCH m.product p " +
             " JOIN FETCH p.category " +
             " JOIN FETCH p.unit " +
+            " LEFT JOIN FETCH m.location " +
+            " LEFT JOIN FETCH m.destinationLocation " +
             " ORDER BY m.movementDate DESC",
             InventoryMovement.class
         );
@@ -107,36 +121,220 @@ public class InventoryMovementRepositoryImpl implements InventoryMovementReposit
             Long productId,
             Long categoryId,
             Long unitId,
+            Long locationId,
             LocalDate dateFrom,
-            LocalDate dateTo) {
+            LocalDate dateTo,
+            ZoneId zone) {
 
         StringBuilder jpql = new StringBuilder(
           "SELECT m FROM InventoryMovement m " +
           " JOIN FETCH m.product p " +
           " JOIN FETCH p.category " +
           " JOIN FETCH p.unit " +
+          " LEFT JOIN FETCH m.location " +
+          " LEFT JOIN FETCH m.destinationLocation " +
           " WHERE 1=1"
         );
         if (productId != null)    jpql.append(" AND p.id = :productId");
         if (categoryId != null)   jpql.append(" AND p.category.id = :categoryId");
         if (unitId != null)       jpql.append(" AND p.unit.id = :unitId");
+        if (locationId != null)   jpql.append(" AND (m.location.id = :locationId OR m.destinationLocation.id = :locationId)");
         if (dateFrom != null)     jpql.append(" AND m.movementDate >= :dateFrom");
-        if (dateTo != null)       jpql.append(" AND m.movementDate <= :dateTo");
+        if (dateTo != null)       jpql.append(" AND m.movementDate < :dateTo");
 
         TypedQuery<InventoryMovement> query = em.createQuery(jpql.toString(), InventoryMovement.class);
 
         if (productId != null)    query.setParameter("productId", productId);
         if (categoryId != null)   query.setParameter("categoryId", categoryId);
         if (unitId != null)       query.setParameter("unitId", unitId);
+        if (locationId != null)   query.setParameter("locationId", locationId);
         if (dateFrom != null) {
-            Instant start = dateFrom.atStartOfDay(ZoneId.systemDefault()).toInstant();
+            Instant start = dateFrom.atStartOfDay(zone).toInstant();
             query.setParameter("dateFrom", start);
         }
         if (dateTo != null) {
-            Instant end = dateTo.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant();
+            Instant end = dateTo.plusDays(1).atStartOfDay(zone).toInstant();
             query.setParameter("dateTo", end);
         }
 
         return query.getResultList();
     }
+
+    @Override
+    public Stream<MovementLedgerRow> streamLedger(
+            Long productId,
+            Instant from,
+            Instant to,
+            int fetchSize) {
+
+        // Proyección por constructor: no se crean entidades gestionadas, memoria constante
+        StringBuilder jpql = new StringBuilder(
+          "SELECT new com.myBusiness.domain.model.MovementLedgerRow(" +
+          "   m.id, p.id, p.name, c.name, u.name, m.movementType, m.quantity, m.reason, m.movementDate, m.createdBy) " +
+          " FROM InventoryMovement m " +
+          " JOIN m.product p " +
+          " JOIN p.category c " +
+          " JOIN p.unit u " +
+          " WHERE m.movementDate >= :from AND m.movementDate < :to"
+        );
+        if (productId != null) jpql.append(" AND p.id = :productId");
+        jpql.append(" ORDER BY m.movementDate, m.id");
+
+        TypedQuery<MovementLedgerRow> query = em.createQuery(jpql.toString(), MovementLedgerRow.class);
+        query.setParameter("from", from);
+        query.setParameter("to", to);
+        if (productId != null) query.setParameter("productId", productId);
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        return query.getResultStream();
+    }
+
+    @Override
+    public long countBetween(Instant from, Instant to) {
+        return em.createQuery(
+            "SELECT COUNT(m) FROM InventoryMovement m " +
+            " WHERE m.movementDate >= :from AND m.movementDate < :to",
+            Long.class)
+            .setParameter("from", from)
+            .setParameter("to", to)
+            .getSingleResult();
+    }
+
+    @Override
+    public long lockBetween(Instant from, Instant to) {
+        List<?> ids = em.createNativeQuery(
+            "SELECT id FROM inventory_movements " +
+            " WHERE movement_date >= :from AND movement_date < :to FOR UPDATE")
+            .setParameter("from", from)
+            .setParameter("to", to)
+            .getResultList();
+        return ids.size();
+    }
+
+    @Override
+    public Stream<ArchivedMovement> streamForArchive(Instant from, Instant to, int fetchSize) {
+        TypedQuery<ArchivedMovement> query = em.createQuery(
+            "SELECT new com.myBusiness.domain.model.ArchivedMovement(" +
+            "   m.id, p.id, p.name, c.id, c.name, u.name, m.movementType, m.quantity, m.reason, " +
+            "   m.movementDate, m.createdBy, l.id, d.id, m.locationDelta) " +
+            " FROM InventoryMovement m " +
+            " JOIN m.product p " +
+            " JOIN p.category c " +
+            " JOIN p.unit u " +
+            " LEFT JOIN m.location l " +
+            " LEFT JOIN m.destinationLocation d " +
+            " WHERE m.movementDate >= :from AND m.movementDate < :to " +
+            " ORDER BY m.movementDate, m.id",
+            ArchivedMovement.class);
+        query.setParameter("from", from);
+        query.setParameter("to", to);
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        return query.getResultStream();
+    }
+
+    @Override
+    @Transactional
+    public int deleteBetween(Instant from, Instant to) {
+        em.createQuery(
+            "UPDATE Alert a SET a.movement = null " +
+            " WHERE a.movement.id IN (SELECT m.id FROM InventoryMovement m " +
+            "                          WHERE m.movementDate >= :from AND m.movementDate < :to)")
+            .setParameter("from", from)
+            .setParameter("to", to)
+            .executeUpdate();
+        return em.createQuery(
+            "DELETE FROM InventoryMovement m WHERE m.movementDate >= :from AND m.movementDate < :to")
+            .setParameter("from", from)
+            .setParameter("to", to)
+            .executeUpdate();
+    }
+
+    @Override
+    public Optional<Instant> findEarliestMovementDate() {
+        TypedQuery<Instant> q = em.createQuery(
+            "SELECT MIN(m.movementDate) FROM InventoryMovement m",
+            Instant.class
+        );
+        return Optional.ofNullable(q.getSingleResult());
+    }
+
+    @Override
+    public String contentVersion() {
+        Object[] row = em.createQuery(
+            "SELECT COUNT(m), MAX(m.id), MAX(m.modifiedDate) FROM InventoryMovement m", Object[].class)
+            .getSingleResult();
+        return row[0] + ":" + row[1] + ":" + row[2];
+    }
+
+    @Override
+    public Stream<StockReplayRow> streamStockReplay(Long unitId, Instant until, int fetchSize) {
+        StringBuilder jpql = new StringBuilder(
+          "SELECT new com.myBusiness.domain.model.StockReplayRow(" +
+          "   p.id, p.category.id, p.price, m.movementType, m.quantity) " +
+          " FROM InventoryMovement m " +
+          " JOIN m.product p " +
+          " WHERE m.movementDate < :until"
+        );
+        if (unitId != null) jpql.append(" AND p.unit.id = :unitId");
+        jpql.append(" ORDER BY p.id, m.movementDate, m.id");
+
+        TypedQuery<StockReplayRow> query = em.createQuery(jpql.toString(), StockReplayRow.class);
+        query.setParameter("until", until);
+        if (unitId != null) query.setParameter("unitId", unitId);
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        return query.getResultStream();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<MovementSeriesRow> findSeries(
+            String bucket,
+            String timeZone,
+            Instant from,
+            Instant to,
+            Long productId,
+            Long categoryId) {
+
+        // date_trunc sobre la fecha convertida a la zona pedida: los intervalos (y el lunes
+        // de inicio de semana) se calculan en la hora local del negocio, no en la del servidor
+        StringBuilder sql = new StringBuilder(
+          "SELECT date_trunc(:bucket, m.movement_date AT TIME ZONE :tz) AS bucket_start, " +
+          "       m.movement_type, COUNT(*), COALESCE(SUM(m.quantity), 0) " +
+          "  FROM inventory_movements m "
+        );
+        if (categoryId != null) sql.append(" JOIN products p ON p.id = m.product_id");
+        sql.append(" WHERE m.movement_date >= :from AND m.movement_date < :to");
+        if (productId != null) sql.append(" AND m.product_id = :productId");
+        if (categoryId != null) sql.append(" AND p.category_id = :categoryId");
+        sql.append(" GROUP BY bucket_start, m.movement_type ORDER BY bucket_start");
+
+        Query query = em.createNativeQuery(sql.toString());
+        query.setParameter("bucket", bucket);
+        query.setParameter("tz", timeZone);
+        query.setParameter("from", from);
+        query.setParameter("to", to);
+        if (productId != null) query.setParameter("productId", productId);
+        if (categoryId != null) query.setParameter("categoryId", categoryId);
+
+        List<Object[]> rows = query.getResultList();
+        List<MovementSeriesRow> result = new ArrayList<>(rows.size());
+        for (Object[] r : rows) {
+            result.add(new MovementSeriesRow(
+                toLocalDateTime(r[0]),
+                MovementType.valueOf((String) r[1]),
+                ((Number) r[2]).longValue(),
+                r[3] instanceof BigDecimal bd ? bd : new BigDecimal(r[3].toString())
+            ));
+        }
+        return result;
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof LocalDateTime ldt) return ldt;
+        if (value instanceof Timestamp ts) return ts.toLocalDateTime();
+        if (value instanceof OffsetDateTime odt) return odt.toLocalDateTime();
+        throw new IllegalStateException("Tipo de intervalo no soportado: " + value);
+    }
 }
@@ -0,0 +1,182 @@
+// src/main/java/com/myBusiness/adapters/outbound/persistence/LocalMovementSegmentStore.java
+package com.myBusiness.adapters.outbound.persistence;
+
+import com.myBusiness.domain.model.ArchivedMovement;
+import com.myBusiness.domain.model.MovementArchiveSegment;
+import com.myBusiness.domain.model.MovementType;
+import com.myBusiness.domain.port.MovementSegmentStore;
+import jakarta.annotation.PostConstruct;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVPrinter;
+import org.apache.commons.csv.CSVRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Segmentos en disco local: movements-YYYY-MM.csv.gz, CSV con cabecera comprimido con gzip.
+ * Se escriben en un .part y se renombran al terminar; una vez registrados quedan de solo lectura.
+ * La lectura toma las columnas de la cabecera del propio archivo, así que los segmentos
+ * anteriores a las columnas de ubicación se siguen leyendo (con esos campos a null).
+ */
+@Component
+public class LocalMovementSegmentStore implements MovementSegmentStore {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String[] HEADER = {
+        "id", "productId", "productName", "categoryId", "categoryName", "unitName",
+        "movementType", "quantity", "reason", "movementDate", "createdBy",
+        "locationId", "destinationLocationId", "locationDelta"
+    };
+
+    @Value("${app.movements.archive.dir:./data/movement-archive}")
+    private String archiveDir;
+
+    private Path baseDir;
+
+    @PostConstruct
+    void init() throws IOException {
+        baseDir = Paths.get(archiveDir).toAbsolutePath();
+        Files.createDirectories(baseDir);
+    }
+
+    @Override
+    public MovementArchiveSegment write(YearMonth month, Iterator<ArchivedMovement> rows) throws IOException {
+        String fileName = "movements-" + month + ".csv.gz";
+        Path tmp = baseDir.resolve(fileName + ".part");
+        Path target = baseDir.resolve(fileName);
+
+        MessageDigest digest = sha256();
+        long count = 0;
+        try (OutputStream file = Files.newOutputStream(tmp);
+             DigestOutputStream hashed = new DigestOutputStream(file, digest);
+             GZIPOutputStream gzip = new GZIPOutputStream(hashed, BUFFER_SIZE);
+             Writer writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8), BUFFER_SIZE);
+             CSVPrinter printer = new CSVPrinter(writer, CSVFormat.DEFAULT.builder().setHeader(HEADER).build())) {
+            while (rows.hasNext()) {
+                ArchivedMovement m = rows.next();
+                printer.printRecord(
+                    m.getId(),
+                    m.getProductId(),
+                    m.getProductName(),
+                    m.getCategoryId(),
+                    m.getCategoryName(),
+                    m.getUnitName(),
+                    m.getMovementType(),
+                    m.getQuantity(),
+                    m.getReason(),
+                    m.getMovementDate(),
+                    m.getCreatedBy(),
+                    m.getLocationId(),
+                    m.getDestinationLocationId(),
+                    m.getLocationDelta()
+                );
+                count++;
+            }
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(tmp);
+            throw ex;
+        }
+
+        // Un archivo previo con este nombre es de un intento no registrado (el job no
+        // reescribe meses ya registrados)
+        target.toFile().setWritable(true);
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        target.toFile().setReadOnly();
+
+        return MovementArchiveSegment.builder()
+                .month(month.toString())
+                .fileName(fileName)
+                .rowCount(count)
+                .checksum(HexFormat.of().formatHex(digest.digest()))
+                .archivedAt(Instant.now())
+                .build();
+    }
+
+    @Override
+    public Stream<ArchivedMovement> read(MovementArchiveSegment segment) {
+        Path file = baseDir.resolve(segment.getFileName());
+        CSVParser parser;
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(file), BUFFER_SIZE), StandardCharsets.UTF_8),
+                    BUFFER_SIZE);
+            parser = CSVParser.parse(reader, CSVFormat.DEFAULT.builder()
+                    .setHeader()
+                    .setSkipHeaderRecord(true)
+                    .build());
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo abrir el segmento " + segment.getFileName(), ex);
+        }
+        return parser.stream()
+                .map(LocalMovementSegmentStore::toRow)
+                .onClose(() -> {
+                    try {
+                        parser.close();
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+    }
+
+    private static ArchivedMovement toRow(CSVRecord r) {
+        return new ArchivedMovement(
+            Long.valueOf(r.get("id")),
+            Long.valueOf(r.get("productId")),
+            r.get("productName"),
+            emptyToNull(r.get("categoryId")) == null ? null : Long.valueOf(r.get("categoryId")),
+            emptyToNull(r.get("categoryName")),
+            emptyToNull(r.get("unitName")),
+            MovementType.valueOf(r.get("movementType")),
+            new BigDecimal(r.get("quantity")),
+            emptyToNull(r.get("reason")),
+            Instant.parse(r.get("movementDate")),
+            emptyToNull(r.get("createdBy")),
+            optional(r, "locationId") == null ? null : Long.valueOf(r.get("locationId")),
+            optional(r, "destinationLocationId") == null ? null : Long.valueOf(r.get("destinationLocationId")),
+            optional(r, "locationDelta") == null ? null : new BigDecimal(r.get("locationDelta"))
+        );
+    }
+
+    private static String emptyToNull(String s) {
+        return s == null || s.isEmpty() ? null : s;
+    }
+
+    /** Columna que puede faltar en segmentos de un formato anterior. */
+    private static String optional(CSVRecord r, String column) {
+        return r.isSet(column) ? emptyToNull(r.get(column)) : null;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 no disponible", ex);
+        }
+    }
+}
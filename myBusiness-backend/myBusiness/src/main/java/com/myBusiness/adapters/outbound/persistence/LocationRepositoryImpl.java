@@ -0,0 +1,74 @@
+// src/main/java/com/myBusiness/adapters/outbound/persistence/LocationRepositoryImpl.java
+package com.myBusiness.adapters.outbound.persistence;
+
+import com.myBusiness.domain.model.Location;
+import com.myBusiness.domain.port.LocationRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public class LocationRepositoryImpl implements LocationRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    @Transactional
+    public Location save(Location location) {
+        if (location.getId() == null) {
+            em.persist(location);
+            return location;
+        }
+        return em.merge(location);
+    }
+
+    @Override
+    public Optional<Location> findById(Long id) {
+        return Optional.ofNullable(em.find(Location.class, id));
+    }
+
+    @Override
+    public Optional<Location> findByName(String name) {
+        return em.createQuery("SELECT l FROM Location l WHERE l.name = :name", Location.class)
+            .setParameter("name", name)
+            .getResultStream()
+            .findFirst();
+    }
+
+    @Override
+    public List<Location> findAll() {
+        return em.createQuery("SELECT l FROM Location l ORDER BY l.name", Location.class)
+            .getResultList();
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(Long id) {
+        findById(id).ifPresent(em::remove);
+    }
+
+    @Override
+    public boolean hasMovements(Long locationId) {
+        return !em.createQuery(
+            "SELECT m.id FROM InventoryMovement m " +
+            " WHERE m.location.id = :lid OR m.destinationLocation.id = :lid", Long.class)
+            .setParameter("lid", locationId)
+            .setMaxResults(1)
+            .getResultList()
+            .isEmpty();
+    }
+
+    @Override
+    @Transactional
+    public int assignToUnlocatedMovements(Long locationId) {
+        return em.createQuery(
+            "UPDATE InventoryMovement m SET m.location = :location WHERE m.location IS NULL")
+            .setParameter("location", em.getReference(Location.class, locationId))
+            .executeUpdate();
+    }
+}
@@ -0,0 +1,220 @@
+// src/main/java/com/myBusiness/adapters/outbound/persistence/LocationStockRepositoryImpl.java
+package com.myBusiness.adapters.outbound.persistence;
+
+import com.myBusiness.domain.model.LocationStock;
+import com.myBusiness.domain.port.LocationStockRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+public class LocationStockRepositoryImpl implements LocationStockRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public Optional<BigDecimal> findQuantity(Long locationId, Long productId) {
+        return em.createQuery(
+            "SELECT s.quantity FROM LocationStock s WHERE s.locationId = :lid AND s.productId = :pid",
+            BigDecimal.class)
+            .setParameter("lid", locationId)
+            .setParameter("pid", productId)
+            .getResultStream()
+            .findFirst();
+    }
+
+    @Override
+    public Optional<BigDecimal> findReserved(Long locationId, Long productId) {
+        return em.createQuery(
+            "SELECT s.reserved FROM LocationStock s WHERE s.locationId = :lid AND s.productId = :pid",
+            BigDecimal.class)
+            .setParameter("lid", locationId)
+            .setParameter("pid", productId)
+            .getResultStream()
+            .findFirst();
+    }
+
+    @Override
+    public List<LocationStock> findByLocation(Long locationId) {
+        return em.createQuery(
+            "SELECT s FROM LocationStock s WHERE s.locationId = :lid ORDER BY s.productId", LocationStock.class)
+            .setParameter("lid", locationId)
+            .getResultList();
+    }
+
+    @Override
+    public List<LocationStock> findByProduct(Long productId) {
+        return em.createQuery(
+            "SELECT s FROM LocationStock s WHERE s.productId = :pid ORDER BY s.locationId", LocationStock.class)
+            .setParameter("pid", productId)
+            .getResultList();
+    }
+
+    @Override
+    public BigDecimal sumByProduct(Long productId) {
+        BigDecimal sum = em.createQuery(
+            "SELECT SUM(s.quantity) FROM LocationStock s WHERE s.productId = :pid", BigDecimal.class)
+            .setParameter("pid", productId)
+            .getSingleResult();
+        return sum != null ? sum : BigDecimal.ZERO;
+    }
+
+    @Override
+    public Map<Long, BigDecimal> sumByProducts(Collection<Long> productIds) {
+        Map<Long, BigDecimal> result = new HashMap<>();
+        if (productIds.isEmpty()) {
+            return result;
+        }
+        List<Object[]> rows = em.createQuery(
+            "SELECT s.productId, SUM(s.quantity) FROM LocationStock s WHERE s.productId IN :ids GROUP BY s.productId",
+            Object[].class)
+            .setParameter("ids", productIds)
+            .getResultList();
+        for (Object[] r : rows) {
+            result.put((Long) r[0], (BigDecimal) r[1]);
+        }
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public BigDecimal lockSumByProduct(Long productId) {
+        return em.createQuery(
+            "SELECT s FROM LocationStock s WHERE s.productId = :pid ORDER BY s.locationId", LocationStock.class)
+            .setParameter("pid", productId)
+            .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+            .getResultStream()
+            .map(LocationStock::getQuantity)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    /**
+     * El UPDATE toma el cerrojo de fila solo del par (ubicación, producto): movimientos de otras
+     * ubicaciones no esperan, y la condición evita leer el saldo antes de escribirlo.
+     */
+    @Override
+    @Transactional
+    public boolean add(Long locationId, Long productId, BigDecimal delta) {
+        return em.createQuery(
+            "UPDATE LocationStock s SET s.quantity = s.quantity + :d, s.updatedAt = :now " +
+            " WHERE s.locationId = :lid AND s.productId = :pid AND s.quantity + :d >= 0")
+            .setParameter("d", delta)
+            .setParameter("now", Instant.now())
+            .setParameter("lid", locationId)
+            .setParameter("pid", productId)
+            .executeUpdate() > 0;
+    }
+
+    @Override
+    @Transactional
+    public boolean take(Long locationId, Long productId, BigDecimal quantity) {
+        return em.createQuery(
+            "UPDATE LocationStock s SET s.quantity = s.quantity - :q, s.updatedAt = :now " +
+            " WHERE s.locationId = :lid AND s.productId = :pid AND s.quantity - s.reserved >= :q")
+            .setParameter("q", quantity)
+            .setParameter("now", Instant.now())
+            .setParameter("lid", locationId)
+            .setParameter("pid", productId)
+            .executeUpdate() > 0;
+    }
+
+    @Override
+    @Transactional
+    public boolean reserve(Long locationId, Long productId, BigDecimal quantity) {
+        return em.createQuery(
+            "UPDATE LocationStock s SET s.reserved = s.reserved + :q " +
+            " WHERE s.locationId = :lid AND s.productId = :pid AND s.quantity - s.reserved >= :q")
+            .setParameter("q", quantity)
+            .setParameter("lid", locationId)
+            .setParameter("pid", productId)
+            .executeUpdate() > 0;
+    }
+
+    @Override
+    @Transactional
+    public void unreserve(Long locationId, Long productId, BigDecimal quantity) {
+        em.createQuery(
+            "UPDATE LocationStock s " +
+            " SET s.reserved = CASE WHEN s.reserved > :q THEN s.reserved - :q ELSE :zero END " +
+            " WHERE s.locationId = :lid AND s.productId = :pid")
+            .setParameter("q", quantity)
+            .setParameter("zero", BigDecimal.ZERO)
+            .setParameter("lid", locationId)
+            .setParameter("pid", productId)
+            .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public void addClamped(Long locationId, Long productId, BigDecimal delta) {
+        em.createQuery(
+            "UPDATE LocationStock s " +
+            " SET s.quantity = CASE WHEN s.quantity + :d > 0 THEN s.quantity + :d ELSE :zero END, " +
+            "     s.updatedAt = :now " +
+            " WHERE s.locationId = :lid AND s.productId = :pid")
+            .setParameter("d", delta)
+            .setParameter("zero", BigDecimal.ZERO)
+            .setParameter("now", Instant.now())
+            .setParameter("lid", locationId)
+            .setParameter("pid", productId)
+            .executeUpdate();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void insertEmpty(Long locationId, Long productId) {
+        if (em.find(LocationStock.class, new LocationStock.Key(locationId, productId)) == null) {
+            em.persist(LocationStock.builder()
+                    .locationId(locationId)
+                    .productId(productId)
+                    .quantity(BigDecimal.ZERO)
+                    .reserved(BigDecimal.ZERO)
+                    .updatedAt(Instant.now())
+                    .build());
+            em.flush();
+        }
+    }
+
+    @Override
+    @Transactional
+    public int seedFromProductStock(Long locationId) {
+        return em.createNativeQuery(
+            "INSERT INTO location_stock (location_id, product_id, quantity, reserved, updated_at) " +
+            " SELECT :lid, s.product_id, s.quantity, 0, :now FROM product_stock s " +
+            "  WHERE NOT EXISTS (SELECT 1 FROM location_stock l WHERE l.product_id = s.product_id)")
+            .setParameter("lid", locationId)
+            .setParameter("now", Instant.now())
+            .executeUpdate();
+    }
+
+    @Override
+    public boolean hasStock(Long locationId) {
+        return !em.createQuery(
+            "SELECT s.productId FROM LocationStock s WHERE s.locationId = :lid AND (s.quantity > 0 OR s.reserved > 0)",
+            Long.class)
+            .setParameter("lid", locationId)
+            .setMaxResults(1)
+            .getResultList()
+            .isEmpty();
+    }
+
+    @Override
+    @Transactional
+    public void deleteByProductId(Long productId) {
+        em.createQuery("DELETE FROM LocationStock s WHERE s.productId = :pid")
+            .setParameter("pid", productId)
+            .executeUpdate();
+    }
+}
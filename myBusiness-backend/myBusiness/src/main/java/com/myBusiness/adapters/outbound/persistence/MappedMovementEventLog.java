@@ -0,0 +1,255 @@
+// src/main/java/com/myBusiness/adapters/outbound/persistence/MappedMovementEventLog.java
+package com.myBusiness.adapters.outbound.persistence;
+
+import com.myBusiness.domain.port.MovementEventLog;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Registro de eventos en segmentos mapeados en memoria: movement-events-{primera secuencia}.seg,
+ * preasignados a `segment-records` registros de 48 bytes (little-endian):
+ *   0 secuencia | 8 movementId | 16 productId | 24 cantidad (centésimas) | 32 fecha (µs)
+ *   40 tipo de cambio | 41 tipo de movimiento | 42 relleno | 44 CRC32 de los bytes 0..43
+ * Una secuencia 0 marca el final de los datos. La secuencia se escribe la última, y al arrancar
+ * se descarta (y se pone a cero) todo lo que sigue al primer registro incompleto o con CRC erróneo.
+ * Escribir es copiar 48 bytes en la página mapeada; el volcado a disco es periódico (flush).
+ */
+@Slf4j
+@Component
+public class MappedMovementEventLog implements MovementEventLog {
+
+    static final int RECORD_SIZE = 48;
+    private static final int CRC_OFFSET = 44;
+    private static final String PREFIX = "movement-events-";
+    private static final String SUFFIX = ".seg";
+
+    private record Segment(long firstSequence, Path path, int capacity) {
+        long lastSequence() {
+            return firstSequence + capacity - 1;
+        }
+    }
+
+    @Value("${app.movements.event-log.dir:./data/movement-events}")
+    private String logDir;
+
+    @Value("${app.movements.event-log.segment-records:1048576}")
+    private int segmentRecords;
+
+    private Path baseDir;
+    private volatile List<Segment> segments = List.of();
+    private volatile long lastSequence;
+
+    // Estado del escritor, protegido por `this`
+    private MappedByteBuffer writeBuffer;
+    private Segment writeSegment;
+    private long flushedSequence;
+    private final ByteBuffer scratch = ByteBuffer.allocate(RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private final CRC32 crc = new CRC32();
+
+    @PostConstruct
+    void init() throws IOException {
+        if (segmentRecords < 1024 || segmentRecords > Integer.MAX_VALUE / RECORD_SIZE) {
+            throw new IllegalStateException("app.movements.event-log.segment-records fuera de rango: " + segmentRecords);
+        }
+        baseDir = Paths.get(logDir).toAbsolutePath();
+        Files.createDirectories(baseDir);
+
+        List<Segment> found = new ArrayList<>();
+        try (Stream<Path> files = Files.list(baseDir)) {
+            files.filter(p -> p.getFileName().toString().startsWith(PREFIX) && p.getFileName().toString().endsWith(SUFFIX))
+                 .sorted()
+                 .forEach(p -> {
+                     String name = p.getFileName().toString();
+                     long first = Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+                     try {
+                         found.add(new Segment(first, p, (int) (Files.size(p) / RECORD_SIZE)));
+                     } catch (IOException ex) {
+                         throw new UncheckedIOException(ex);
+                     }
+                 });
+        }
+        segments = List.copyOf(found);
+        if (found.isEmpty()) {
+            return;
+        }
+        Segment last = found.get(found.size() - 1);
+        writeSegment = last;
+        writeBuffer = map(last, FileChannel.MapMode.READ_WRITE);
+        lastSequence = recover(last, writeBuffer);
+        flushedSequence = lastSequence;
+        log.info("Registro de eventos de movimientos: {} segmentos, última secuencia {}", found.size(), lastSequence);
+    }
+
+    /** Busca el último registro válido del segmento activo y limpia lo que quede detrás. */
+    private long recover(Segment segment, MappedByteBuffer buffer) {
+        int count = 0;
+        while (count < segment.capacity()) {
+            int p = count * RECORD_SIZE;
+            long seq = buffer.getLong(p);
+            if (seq == 0) {
+                break;
+            }
+            if (seq != segment.firstSequence() + count || buffer.getInt(p + CRC_OFFSET) != checksum(buffer, p)) {
+                log.warn("Registro incompleto en {} (posición {}); se descarta el resto del segmento",
+                        segment.path().getFileName(), count);
+                for (int i = count; i < segment.capacity(); i++) {
+                    if (buffer.getLong(i * RECORD_SIZE) != 0) {
+                        buffer.put(i * RECORD_SIZE, new byte[RECORD_SIZE]);
+                    }
+                }
+                buffer.force();
+                break;
+            }
+            count++;
+        }
+        return segment.firstSequence() + count - 1;
+    }
+
+    @Override
+    public synchronized long append(byte changeType, long movementId, long productId,
+                                    byte movementType, long quantityCents, long movementDateMicros) {
+        long seq = lastSequence + 1;
+        if (writeBuffer == null || seq > writeSegment.lastSequence()) {
+            roll(seq);
+        }
+        scratch.clear();
+        scratch.putLong(0, seq)
+               .putLong(8, movementId)
+               .putLong(16, productId)
+               .putLong(24, quantityCents)
+               .putLong(32, movementDateMicros)
+               .put(40, changeType)
+               .put(41, movementType)
+               .putShort(42, (short) 0);
+        scratch.putInt(CRC_OFFSET, checksum(scratch, 0));
+
+        // Primero el cuerpo y la secuencia al final: un registro sin secuencia no existe
+        int p = (int) (seq - writeSegment.firstSequence()) * RECORD_SIZE;
+        writeBuffer.put(p + 8, scratch.array(), 8, RECORD_SIZE - 8);
+        writeBuffer.putLong(p, seq);
+        lastSequence = seq;
+        return seq;
+    }
+
+    private void roll(long firstSequence) {
+        if (writeBuffer != null) {
+            writeBuffer.force();
+        }
+        Path path = baseDir.resolve(String.format("%s%020d%s", PREFIX, firstSequence, SUFFIX));
+        Segment segment = new Segment(firstSequence, path, segmentRecords);
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.setLength((long) segmentRecords * RECORD_SIZE);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo crear el segmento " + path, ex);
+        }
+        writeBuffer = map(segment, FileChannel.MapMode.READ_WRITE);
+        writeSegment = segment;
+        List<Segment> next = new ArrayList<>(segments);
+        next.add(segment);
+        segments = List.copyOf(next);
+    }
+
+    @Override
+    public long replay(long fromSequence, Handler handler) {
+        long until = lastSequence;
+        long delivered = 0;
+        for (Segment s : segments) {
+            if (s.lastSequence() < fromSequence || s.firstSequence() > until) {
+                continue;
+            }
+            MappedByteBuffer buffer = map(s, FileChannel.MapMode.READ_ONLY);
+            long first = Math.max(fromSequence, s.firstSequence());
+            long last = Math.min(until, s.lastSequence());
+            for (long seq = first; seq <= last; seq++) {
+                int p = (int) (seq - s.firstSequence()) * RECORD_SIZE;
+                handler.onEvent(
+                        buffer.getLong(p),
+                        buffer.get(p + 40),
+                        buffer.getLong(p + 8),
+                        buffer.getLong(p + 16),
+                        buffer.get(p + 41),
+                        buffer.getLong(p + 24),
+                        buffer.getLong(p + 32));
+            }
+            delivered += last - first + 1;
+        }
+        return delivered;
+    }
+
+    @Override
+    public long lastSequence() {
+        return lastSequence;
+    }
+
+    @Override
+    public void flush() {
+        MappedByteBuffer buffer;
+        long sequence;
+        synchronized (this) {
+            if (writeBuffer == null || flushedSequence == lastSequence) {
+                return;
+            }
+            buffer = writeBuffer;
+            sequence = lastSequence;
+        }
+        // Fuera del candado: el msync no bloquea a quien está escribiendo
+        buffer.force();
+        synchronized (this) {
+            flushedSequence = Math.max(flushedSequence, sequence);
+        }
+    }
+
+    @Override
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public long sizeBytes() {
+        return segments.stream().mapToLong(s -> (long) s.capacity() * RECORD_SIZE).sum();
+    }
+
+    @PreDestroy
+    void close() {
+        flush();
+    }
+
+    private static MappedByteBuffer map(Segment segment, FileChannel.MapMode mode) {
+        StandardOpenOption[] options = mode == FileChannel.MapMode.READ_ONLY
+                ? new StandardOpenOption[] {StandardOpenOption.READ}
+                : new StandardOpenOption[] {StandardOpenOption.READ, StandardOpenOption.WRITE};
+        // El mapeo sigue siendo válido después de cerrar el canal
+        try (FileChannel channel = FileChannel.open(segment.path(), options)) {
+            MappedByteBuffer buffer = channel.map(mode, 0, (long) segment.capacity() * RECORD_SIZE);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            return buffer;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo mapear el segmento " + segment.path(), ex);
+        }
+    }
+
+    private int checksum(ByteBuffer buffer, int offset) {
+        crc.reset();
+        crc.update(buffer.slice(offset, CRC_OFFSET));
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,32 @@
+// src/main/java/com/myBusiness/adapters/outbound/persistence/MovementArchiveSegmentRepositoryImpl.java
+package com.myBusiness.adapters.outbound.persistence;
+
+import com.myBusiness.domain.model.MovementArchiveSegment;
+import com.myBusiness.domain.port.MovementArchiveSegmentRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public class MovementArchiveSegmentRepositoryImpl implements MovementArchiveSegmentRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<MovementArchiveSegment> findAll() {
+        return em.createQuery(
+            "SELECT s FROM MovementArchiveSegment s ORDER BY s.month", MovementArchiveSegment.class)
+            .getResultList();
+    }
+
+    @Override
+    @Transactional
+    public MovementArchiveSegment save(MovementArchiveSegment segment) {
+        em.persist(segment);
+        return segment;
+    }
+}
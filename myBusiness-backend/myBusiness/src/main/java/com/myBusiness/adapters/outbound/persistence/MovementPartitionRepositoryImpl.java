@@ -0,0 +1,215 @@
+// src/main/java/com/myBusiness/adapters/outbound/persistence/MovementPartitionRepositoryImpl.java
+package com.myBusiness.adapters.outbound.persistence;
+
+import com.myBusiness.domain.model.MovementType;
+import com.myBusiness.domain.port.MovementPartitionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * DDL nativo de PostgreSQL. Los límites de cada partición son meses UTC
+ * [primer día 00:00Z, primer día del mes siguiente 00:00Z).
+ *
+ * La clave primaria de la tabla particionada pasa a ser (id, movement_date), porque
+ * PostgreSQL exige que incluya la columna de partición; id sigue siendo único por la
+ * secuencia. Por lo mismo no puede haber FK de alerts.movement_id hacia esta tabla
+ * (Alert la declara sin constraint); DeleteMovementUseCase ya desliga las alertas antes de borrar.
+ */
+@Repository
+public class MovementPartitionRepositoryImpl implements MovementPartitionRepository {
+
+    private static final String TABLE = "inventory_movements";
+    private static final String LEGACY = "inventory_movements_legacy";
+    private static final String DEFAULT_PARTITION = "inventory_movements_pdefault";
+    private static final String SEQUENCE = "inventory_movements_id_seq";
+    private static final String TYPE_CHECK = "inventory_movements_movement_type_check";
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private volatile Boolean supported;
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isSupported() {
+        if (supported == null) {
+            String product = em.unwrap(Session.class)
+                    .doReturningWork(c -> c.getMetaData().getDatabaseProductName());
+            supported = "PostgreSQL".equalsIgnoreCase(product);
+        }
+        return supported;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isPartitioned() {
+        List<?> kind = em.createNativeQuery(
+            "SELECT CAST(c.relkind AS varchar) FROM pg_class c " +
+            " WHERE c.oid = to_regclass(:table)")
+            .setParameter("table", TABLE)
+            .getResultList();
+        return !kind.isEmpty() && "p".equals(kind.get(0));
+    }
+
+    /**
+     * Sobre la tabla particionada, DROP/ADD CONSTRAINT en la tabla padre se propaga a todas
+     * las particiones, así que sirve igual para la tabla simple y para la particionada.
+     */
+    @Override
+    @Transactional
+    public void syncMovementTypeCheck() {
+        String values = Arrays.stream(MovementType.values())
+                .map(t -> "'" + t.name() + "'")
+                .collect(Collectors.joining(", "));
+        String expected = "CHECK (movement_type IN (" + values + "))";
+
+        List<?> checks = em.createNativeQuery(
+            "SELECT CAST(conname AS varchar), CAST(pg_get_constraintdef(oid) AS varchar) FROM pg_constraint " +
+            " WHERE contype = 'c' AND conrelid = to_regclass(:table) " +
+            "   AND pg_get_constraintdef(oid) LIKE '%movement_type%'")
+            .setParameter("table", TABLE)
+            .getResultList();
+        if (checks.size() == 1 && Arrays.stream(MovementType.values())
+                .allMatch(t -> ((Object[]) checks.get(0))[1].toString().contains("'" + t.name() + "'"))) {
+            return;
+        }
+        for (Object row : checks) {
+            exec("ALTER TABLE " + TABLE + " DROP CONSTRAINT " + ((Object[]) row)[0]);
+        }
+        exec("ALTER TABLE " + TABLE + " ADD CONSTRAINT " + TYPE_CHECK + " " + expected);
+    }
+
+    /**
+     * Serializa la conversión entre instancias con un cerrojo consultivo de la transacción: la
+     * que llega segunda espera y, al entrar, encuentra la tabla ya particionada y no hace nada.
+     */
+    @Override
+    @Transactional
+    public void convertToPartitioned(YearMonth until) {
+        em.createNativeQuery("SELECT CAST(pg_advisory_xact_lock(hashtext(:key)) AS varchar)")
+            .setParameter("key", TABLE + ":partitioning")
+            .getSingleResult();
+        if (isPartitioned()) {
+            return;
+        }
+        exec("ALTER TABLE " + TABLE + " RENAME TO " + LEGACY);
+
+        // FKs que apuntan a la tabla (alerts.movement_id si el esquema es anterior)
+        List<?> fks = em.createNativeQuery(
+            "SELECT CAST(conrelid::regclass AS varchar), CAST(conname AS varchar) FROM pg_constraint " +
+            " WHERE contype = 'f' AND confrelid = to_regclass(:legacy)")
+            .setParameter("legacy", LEGACY)
+            .getResultList();
+        for (Object row : fks) {
+            Object[] fk = (Object[]) row;
+            exec("ALTER TABLE " + fk[0] + " DROP CONSTRAINT " + fk[1]);
+        }
+
+        // Los nombres de índices son globales al esquema: liberar los de la tabla vieja
+        List<?> pk = em.createNativeQuery(
+            "SELECT CAST(conname AS varchar) FROM pg_constraint " +
+            " WHERE contype = 'p' AND conrelid = to_regclass(:legacy)")
+            .setParameter("legacy", LEGACY)
+            .getResultList();
+        if (!pk.isEmpty()) {
+            exec("ALTER TABLE " + LEGACY + " DROP CONSTRAINT " + pk.get(0));
+        }
+        exec("DROP INDEX IF EXISTS idx_movement_date");
+        exec("DROP INDEX IF EXISTS idx_movement_product_date");
+        exec("DROP INDEX IF EXISTS idx_movement_location_date");
+        exec("DROP INDEX IF EXISTS idx_movement_destination_date");
+        exec("ALTER TABLE " + LEGACY + " ALTER COLUMN id DROP IDENTITY IF EXISTS");
+
+        exec("CREATE TABLE " + TABLE + " (LIKE " + LEGACY + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS) " +
+             " PARTITION BY RANGE (movement_date)");
+        exec("CREATE SEQUENCE IF NOT EXISTS " + SEQUENCE + " OWNED BY " + TABLE + ".id");
+        exec("ALTER TABLE " + TABLE + " ALTER COLUMN id SET DEFAULT nextval('" + SEQUENCE + "')");
+        exec("ALTER TABLE " + TABLE + " ADD CONSTRAINT " + TABLE + "_pkey PRIMARY KEY (id, movement_date)");
+        exec("ALTER TABLE " + TABLE + " ADD CONSTRAINT fk_inventory_movements_product " +
+             " FOREIGN KEY (product_id) REFERENCES products (id)");
+        exec("ALTER TABLE " + TABLE + " ADD CONSTRAINT fk_inventory_movements_location " +
+             " FOREIGN KEY (location_id) REFERENCES locations (id)");
+        exec("ALTER TABLE " + TABLE + " ADD CONSTRAINT fk_inventory_movements_destination " +
+             " FOREIGN KEY (destination_location_id) REFERENCES locations (id)");
+        exec("CREATE INDEX idx_movement_date ON " + TABLE + " (movement_date)");
+        exec("CREATE INDEX idx_movement_product_date ON " + TABLE + " (product_id, movement_date)");
+        exec("CREATE INDEX idx_movement_location_date ON " + TABLE + " (location_id, movement_date)");
+        exec("CREATE INDEX idx_movement_destination_date ON " + TABLE + " (destination_location_id, movement_date)");
+
+        Object earliest = em.createNativeQuery(
+            "SELECT CAST(to_char(MIN(movement_date) AT TIME ZONE 'UTC', 'YYYY-MM') AS varchar) FROM " + LEGACY)
+            .getSingleResult();
+        YearMonth from = earliest != null
+                ? YearMonth.parse(earliest.toString())
+                : YearMonth.now(ZoneOffset.UTC);
+        ensurePartitions(from.isAfter(until) ? until : from, until);
+        exec("CREATE TABLE IF NOT EXISTS " + DEFAULT_PARTITION + " PARTITION OF " + TABLE + " DEFAULT");
+
+        exec("INSERT INTO " + TABLE + " SELECT * FROM " + LEGACY);
+        em.createNativeQuery(
+            "SELECT setval('" + SEQUENCE + "', COALESCE((SELECT MAX(id) FROM " + TABLE + "), 0) + 1, false)")
+            .getSingleResult();
+        exec("DROP TABLE " + LEGACY);
+    }
+
+    @Override
+    @Transactional
+    public List<YearMonth> ensurePartitions(YearMonth from, YearMonth to) {
+        List<YearMonth> created = new ArrayList<>();
+        for (YearMonth m = from; !m.isAfter(to); m = m.plusMonths(1)) {
+            String name = partitionName(m);
+            Object exists = em.createNativeQuery("SELECT CAST(to_regclass(:name) AS varchar)")
+                    .setParameter("name", name)
+                    .getSingleResult();
+            if (exists != null) {
+                continue;
+            }
+            exec("CREATE TABLE " + name + " PARTITION OF " + TABLE +
+                 " FOR VALUES FROM ('" + bound(m) + "') TO ('" + bound(m.plusMonths(1)) + "')");
+            created.add(m);
+        }
+        return created;
+    }
+
+    @Override
+    @Transactional
+    public void dropPartition(YearMonth month) {
+        exec("DROP TABLE IF EXISTS " + partitionName(month));
+    }
+
+    @Override
+    public long countDefaultPartitionRows() {
+        Object exists = em.createNativeQuery("SELECT CAST(to_regclass(:name) AS varchar)")
+                .setParameter("name", DEFAULT_PARTITION)
+                .getSingleResult();
+        if (exists == null) {
+            return 0;
+        }
+        return ((Number) em.createNativeQuery("SELECT COUNT(*) FROM " + DEFAULT_PARTITION)
+                .getSingleResult()).longValue();
+    }
+
+    private void exec(String sql) {
+        em.createNativeQuery(sql).executeUpdate();
+    }
+
+    private static String partitionName(YearMonth m) {
+        return String.format("%s_p%04d%02d", TABLE, m.getYear(), m.getMonthValue());
+    }
+
+    private static String bound(YearMonth m) {
+        Instant start = m.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        return start.toString();
+    }
+}
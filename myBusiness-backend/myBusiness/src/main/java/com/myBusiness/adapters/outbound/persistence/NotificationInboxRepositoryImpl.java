@@ -0,0 +1,154 @@
+// src/main/java/com/myBusiness/adapters/outbound/persistence/NotificationInboxRepositoryImpl.java
+package com.myBusiness.adapters.outbound.persistence;
+
+import com.myBusiness.domain.model.Notification;
+import com.myBusiness.domain.model.NotificationReadException;
+import com.myBusiness.domain.model.NotificationReadMark;
+import com.myBusiness.domain.port.NotificationInboxRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Repository
+public class NotificationInboxRepositoryImpl implements NotificationInboxRepository {
+
+    // Condición de "no leída" para un usuario: por encima de su marca y sin excepción
+    private static final String UNREAD_WHERE =
+        " WHERE n.id > :mark " +
+        "   AND NOT EXISTS (SELECT e.id FROM NotificationReadException e " +
+        "                    WHERE e.userId = :uid AND e.notificationId = n.id)";
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public long findLastReadId(Long userId) {
+        NotificationReadMark mark = em.find(NotificationReadMark.class, userId);
+        return mark != null ? mark.getLastReadId() : 0L;
+    }
+
+    @Override
+    @Transactional
+    public Optional<Long> lockLastReadId(Long userId) {
+        NotificationReadMark mark = em.find(NotificationReadMark.class, userId, LockModeType.PESSIMISTIC_WRITE);
+        return mark != null ? Optional.of(mark.getLastReadId()) : Optional.empty();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void insertReadMark(Long userId) {
+        if (em.find(NotificationReadMark.class, userId) == null) {
+            em.persist(NotificationReadMark.builder()
+                    .userId(userId)
+                    .lastReadId(0L)
+                    .updatedAt(Instant.now())
+                    .build());
+            em.flush();
+        }
+    }
+
+    @Override
+    @Transactional
+    public void updateLastReadId(Long userId, long lastReadId) {
+        em.createQuery(
+            "UPDATE NotificationReadMark m SET m.lastReadId = :mark, m.updatedAt = :now " +
+            " WHERE m.userId = :uid AND m.lastReadId < :mark")
+          .setParameter("mark", lastReadId)
+          .setParameter("now", Instant.now())
+          .setParameter("uid", userId)
+          .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public boolean addException(Long userId, Long notificationId) {
+        Long existing = em.createQuery(
+            "SELECT COUNT(e) FROM NotificationReadException e " +
+            " WHERE e.userId = :uid AND e.notificationId = :nid", Long.class)
+            .setParameter("uid", userId)
+            .setParameter("nid", notificationId)
+            .getSingleResult();
+        if (existing > 0) {
+            return false;
+        }
+        em.persist(NotificationReadException.builder()
+                .userId(userId)
+                .notificationId(notificationId)
+                .build());
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public void deleteExceptionsUpTo(Long userId, long lastReadId) {
+        em.createQuery(
+            "DELETE FROM NotificationReadException e WHERE e.userId = :uid AND e.notificationId <= :mark")
+          .setParameter("uid", userId)
+          .setParameter("mark", lastReadId)
+          .executeUpdate();
+    }
+
+    @Override
+    public Set<Long> findExceptions(Long userId, long lastReadId) {
+        return new HashSet<>(em.createQuery(
+            "SELECT e.notificationId FROM NotificationReadException e " +
+            " WHERE e.userId = :uid AND e.notificationId > :mark", Long.class)
+            .setParameter("uid", userId)
+            .setParameter("mark", lastReadId)
+            .getResultList());
+    }
+
+    @Override
+    public Optional<Long> findFirstUnreadId(Long userId, long lastReadId) {
+        return Optional.ofNullable(em.createQuery(
+            "SELECT MIN(n.id) FROM Notification n" + UNREAD_WHERE, Long.class)
+            .setParameter("mark", lastReadId)
+            .setParameter("uid", userId)
+            .getSingleResult());
+    }
+
+    @Override
+    public List<Notification> findUnread(Long userId, long lastReadId) {
+        return em.createQuery(
+            "SELECT n FROM Notification n" + UNREAD_WHERE + " ORDER BY n.id DESC", Notification.class)
+            .setParameter("mark", lastReadId)
+            .setParameter("uid", userId)
+            .getResultList();
+    }
+
+    @Override
+    public List<Long> findUnreadIds(Long userId, long afterId, long upToId) {
+        return em.createQuery(
+            "SELECT n.id FROM Notification n" + UNREAD_WHERE + " AND n.id <= :upTo ORDER BY n.id", Long.class)
+            .setParameter("mark", afterId)
+            .setParameter("uid", userId)
+            .setParameter("upTo", upToId)
+            .getResultList();
+    }
+
+    @Override
+    public long countUnread(Long userId, long lastReadId) {
+        return em.createQuery(
+            "SELECT COUNT(n) FROM Notification n" + UNREAD_WHERE, Long.class)
+            .setParameter("mark", lastReadId)
+            .setParameter("uid", userId)
+            .getSingleResult();
+    }
+
+    @Override
+    public Optional<Long> findMaxNotificationIdCreatedBefore(Instant before) {
+        return Optional.ofNullable(em.createQuery(
+            "SELECT MAX(n.id) FROM Notification n WHERE n.createdDate < :before", Long.class)
+            .setParameter("before", before)
+            .getSingleResult());
+    }
+}
@@ -1,5 +1,6 @@
 package com.myBusiness.adapters.outbound.persistence;
 
+import com.myBusiness.domain.model.ArchiveBatch;
 import com.myBusiness.domain.model.Notification;
 import com.myBusiness.domain.port.NotificationRepository;
 import jakarta.persistence.EntityManager;
@@ -8,6 +9,7 @@ import jakarta.persistence.TypedQuery;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -56,11 +58,49 @@ public class NotificationRepositoryImpl implements NotificationRepository {
 
     @Override
     @Transactional
-    public void markAsRead(Long id) {
-        Notification n = em.find(Notification.class, id);
-        if (n != null && !n.isRead()) {
-            n.setRead(true);
-            em.merge(n);
+    public ArchiveBatch archiveCreatedBefore(Instant cutoff, int batchSize) {
+        Number maxId = (Number) em.createNativeQuery(
+            "SELECT MAX(t.id) FROM (" +
+            "  SELECT n.id FROM notifications n " +
+            "   WHERE n.created_date < :cutoff " +
+            "   ORDER BY n.id LIMIT :n) t")
+            .setParameter("cutoff", cutoff)
+            .setParameter("n", batchSize)
+            .getSingleResult();
+        if (maxId == null) {
+            return new ArchiveBatch(0, 0);
         }
+        String where = " WHERE created_date < :cutoff AND id <= :maxId";
+
+        // Las lecturas por usuario de notificaciones archivadas ya no se necesitan
+        em.createNativeQuery(
+            "DELETE FROM notification_read_exceptions WHERE notification_id IN (" +
+            " SELECT id FROM notifications" + where + ")")
+            .setParameter("cutoff", cutoff)
+            .setParameter("maxId", maxId.longValue())
+            .executeUpdate();
+
+        em.createNativeQuery(
+            "INSERT INTO notifications_archive (id, message, created_date, is_read, archived_at) " +
+            " SELECT id, message, created_date, is_read, :now FROM notifications" + where)
+            .setParameter("now", Instant.now())
+            .setParameter("cutoff", cutoff)
+            .setParameter("maxId", maxId.longValue())
+            .executeUpdate();
+
+        int deleted = em.createNativeQuery("DELETE FROM notifications" + where)
+            .setParameter("cutoff", cutoff)
+            .setParameter("maxId", maxId.longValue())
+            .executeUpdate();
+
+        return new ArchiveBatch(deleted, 0);
+    }
+
+    @Override
+    @Transactional
+    public int purgeArchiveBefore(Instant cutoff) {
+        return em.createQuery("DELETE FROM NotificationArchive n WHERE n.createdDate < :cutoff")
+                 .setParameter("cutoff", cutoff)
+                 .executeUpdate();
     }
 }
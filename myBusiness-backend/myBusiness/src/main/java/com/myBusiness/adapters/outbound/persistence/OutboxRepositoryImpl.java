@@ -0,0 +1,127 @@
+// src/main/java/com/myBusiness/adapters/outbound/persistence/OutboxRepositoryImpl.java
+package com.myBusiness.adapters.outbound.persistence;
+
+import com.myBusiness.domain.model.OutboxCheckpoint;
+import com.myBusiness.domain.model.OutboxEvent;
+import com.myBusiness.domain.port.OutboxRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public class OutboxRepositoryImpl implements OutboxRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private volatile Boolean postgres;
+
+    @Override
+    @Transactional
+    public void append(OutboxEvent event) {
+        em.persist(event);
+    }
+
+    @Override
+    public List<OutboxEvent> findAfter(long afterId, int limit) {
+        return em.createQuery(
+            "SELECT e FROM OutboxEvent e WHERE e.id > :after ORDER BY e.id", OutboxEvent.class)
+            .setParameter("after", afterId)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    @Override
+    public Optional<Long> oldestRunningTransaction() {
+        return snapshotBound("txid_snapshot_xmin");
+    }
+
+    @Override
+    public Optional<Long> nextTransaction() {
+        return snapshotBound("txid_snapshot_xmax");
+    }
+
+    private Optional<Long> snapshotBound(String function) {
+        if (!isPostgres()) {
+            return Optional.empty();
+        }
+        Number value = (Number) em.createNativeQuery("SELECT " + function + "(txid_current_snapshot())")
+            .getSingleResult();
+        return Optional.of(value.longValue());
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            String product = em.unwrap(Session.class)
+                    .doReturningWork(c -> c.getMetaData().getDatabaseProductName());
+            postgres = "PostgreSQL".equalsIgnoreCase(product);
+        }
+        return postgres;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void ensureCheckpoint(String projection) {
+        if (em.find(OutboxCheckpoint.class, projection) == null) {
+            em.persist(OutboxCheckpoint.builder()
+                    .projection(projection)
+                    .lastEventId(0)
+                    .updatedAt(Instant.now())
+                    .build());
+        }
+    }
+
+    /**
+     * SELECT ... FOR UPDATE SKIP LOCKED (en PostgreSQL): una sola instancia avanza cada proyección.
+     */
+    @Override
+    @Transactional
+    public Optional<OutboxCheckpoint> lockCheckpoint(String projection) {
+        return SkipLocked.forUpdate(em.createQuery(
+            "SELECT c FROM OutboxCheckpoint c WHERE c.projection = :projection", OutboxCheckpoint.class)
+            .setParameter("projection", projection))
+            .getResultStream()
+            .findFirst();
+    }
+
+    @Override
+    @Transactional
+    public void recordFailure(String projection, String error) {
+        em.createQuery(
+            "UPDATE OutboxCheckpoint c SET c.failures = c.failures + 1, c.lastError = :error, c.updatedAt = :now "
+          + "WHERE c.projection = :projection")
+            .setParameter("error", error)
+            .setParameter("now", Instant.now())
+            .setParameter("projection", projection)
+            .executeUpdate();
+    }
+
+    @Override
+    public List<OutboxCheckpoint> findAllCheckpoints() {
+        return em.createQuery("SELECT c FROM OutboxCheckpoint c ORDER BY c.projection", OutboxCheckpoint.class)
+            .getResultList();
+    }
+
+    @Override
+    public long countAfter(long afterId) {
+        return em.createQuery("SELECT COUNT(e) FROM OutboxEvent e WHERE e.id > :after", Long.class)
+            .setParameter("after", afterId)
+            .getSingleResult();
+    }
+
+    @Override
+    @Transactional
+    public int deleteProcessed(long upToId, Instant before) {
+        return em.createQuery("DELETE FROM OutboxEvent e WHERE e.id <= :upTo AND e.createdAt < :before")
+            .setParameter("upTo", upToId)
+            .setParameter("before", before)
+            .executeUpdate();
+    }
+}
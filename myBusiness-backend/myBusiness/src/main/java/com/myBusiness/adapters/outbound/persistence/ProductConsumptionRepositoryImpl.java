@@ -0,0 +1,80 @@
+// src/main/java/com/myBusiness/adapters/outbound/persistence/ProductConsumptionRepositoryImpl.java
+package com.myBusiness.adapters.outbound.persistence;
+
+import com.myBusiness.domain.model.MovementType;
+import com.myBusiness.domain.model.ProductConsumption;
+import com.myBusiness.domain.model.ProductForecastRow;
+import com.myBusiness.domain.port.ProductConsumptionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public class ProductConsumptionRepositoryImpl implements ProductConsumptionRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public Optional<ProductConsumption> findForUpdate(Long productId) {
+        return Optional.ofNullable(
+            em.find(ProductConsumption.class, productId, LockModeType.PESSIMISTIC_WRITE));
+    }
+
+    @Override
+    @Transactional
+    public ProductConsumption save(ProductConsumption consumption) {
+        if (em.contains(consumption)) {
+            return consumption;
+        }
+        ProductConsumption existing = em.find(ProductConsumption.class, consumption.getProductId());
+        if (existing == null) {
+            em.persist(consumption);
+            return consumption;
+        }
+        return em.merge(consumption);
+    }
+
+    @Override
+    @Transactional
+    public void deleteByProductId(Long productId) {
+        em.createQuery("DELETE FROM ProductConsumption c WHERE c.productId = :pid")
+            .setParameter("pid", productId)
+            .executeUpdate();
+    }
+
+    @Override
+    public List<Long> findProductIdsWithExitsWithoutRate() {
+        return em.createQuery(
+            "SELECT DISTINCT m.product.id FROM InventoryMovement m " +
+            " WHERE m.movementType = :exit " +
+            "   AND NOT EXISTS (SELECT 1 FROM ProductConsumption c WHERE c.productId = m.product.id)",
+            Long.class)
+            .setParameter("exit", MovementType.EXIT)
+            .getResultList();
+    }
+
+    @Override
+    public List<ProductForecastRow> findForecastRows(Long productId) {
+        StringBuilder jpql = new StringBuilder(
+          "SELECT new com.myBusiness.domain.model.ProductForecastRow(" +
+          "   p.id, p.name, p.thresholdMin, p.thresholdMax, s.quantity, " +
+          "   c.dailyRate, c.currentDay, c.currentDayQty) " +
+          " FROM Product p " +
+          " LEFT JOIN ProductStock s ON s.productId = p.id " +
+          " LEFT JOIN ProductConsumption c ON c.productId = p.id"
+        );
+        if (productId != null) jpql.append(" WHERE p.id = :productId");
+        jpql.append(" ORDER BY p.id");
+
+        TypedQuery<ProductForecastRow> q = em.createQuery(jpql.toString(), ProductForecastRow.class);
+        if (productId != null) q.setParameter("productId", productId);
+        return q.getResultList();
+    }
+}
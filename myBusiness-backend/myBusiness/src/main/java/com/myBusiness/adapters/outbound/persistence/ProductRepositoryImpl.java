@@ -110,4 +110,19 @@ public class ProductRepositoryImpl implements ProductRepository {
         );
         return q.getSingleResult();
     }
+
+    @Override
+    public Optional<Long> findMaxId() {
+        return Optional.ofNullable(entityManager.createQuery(
+            "SELECT MAX(p.id) FROM Product p", Long.class)
+            .getSingleResult());
+    }
+
+    @Override
+    public String contentVersion() {
+        Object[] row = entityManager.createQuery(
+            "SELECT COUNT(p), MAX(p.id), MAX(p.modifiedDate) FROM Product p", Object[].class)
+            .getSingleResult();
+        return row[0] + ":" + row[1] + ":" + row[2];
+    }
 }
@@ -0,0 +1,106 @@
+// src/main/java/com/myBusiness/adapters/outbound/persistence/ProductStockRepositoryImpl.java
+package com.myBusiness.adapters.outbound.persistence;
+
+import com.myBusiness.domain.model.CategoryStockRow;
+import com.myBusiness.domain.model.ProductStock;
+import com.myBusiness.domain.port.ProductStockRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+public class ProductStockRepositoryImpl implements ProductStockRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public Optional<BigDecimal> findQuantity(Long productId) {
+        // Consulta escalar (no em.find) para ver el valor de BD tras un UPDATE masivo
+        return em.createQuery(
+            "SELECT s.quantity FROM ProductStock s WHERE s.productId = :pid", BigDecimal.class)
+            .setParameter("pid", productId)
+            .getResultStream()
+            .findFirst();
+    }
+
+    @Override
+    public Map<Long, BigDecimal> findQuantities(Collection<Long> productIds) {
+        Map<Long, BigDecimal> result = new HashMap<>();
+        if (productIds.isEmpty()) {
+            return result;
+        }
+        List<Object[]> rows = em.createQuery(
+            "SELECT s.productId, s.quantity FROM ProductStock s WHERE s.productId IN :ids", Object[].class)
+            .setParameter("ids", productIds)
+            .getResultList();
+        for (Object[] r : rows) {
+            result.put((Long) r[0], (BigDecimal) r[1]);
+        }
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public void upsert(Long productId, BigDecimal quantity) {
+        int updated = em.createQuery(
+            "UPDATE ProductStock s SET s.quantity = :q, s.updatedAt = :now WHERE s.productId = :pid")
+            .setParameter("q", quantity)
+            .setParameter("now", Instant.now())
+            .setParameter("pid", productId)
+            .executeUpdate();
+        if (updated == 0) {
+            em.persist(ProductStock.builder()
+                    .productId(productId)
+                    .quantity(quantity)
+                    .updatedAt(Instant.now())
+                    .build());
+        }
+    }
+
+    @Override
+    @Transactional
+    public void deleteByProductId(Long productId) {
+        em.createQuery("DELETE FROM ProductStock s WHERE s.productId = :pid")
+            .setParameter("pid", productId)
+            .executeUpdate();
+    }
+
+    @Override
+    public List<Long> findProductIdsWithoutBalance() {
+        return em.createQuery(
+            "SELECT p.id FROM Product p " +
+            " WHERE NOT EXISTS (SELECT 1 FROM ProductStock s WHERE s.productId = p.id)",
+            Long.class)
+            .getResultList();
+    }
+
+    @Override
+    public List<CategoryStockRow> summarizeByCategory(Long unitId) {
+        StringBuilder jpql = new StringBuilder(
+          "SELECT new com.myBusiness.domain.model.CategoryStockRow(" +
+          "   c.id, c.name, COUNT(p.id), SUM(p.price * s.quantity)) " +
+          " FROM Category c " +
+          " LEFT JOIN Product p ON p.category = c"
+        );
+        if (unitId != null) jpql.append(" AND p.unit.id = :unitId");
+        jpql.append(
+          " LEFT JOIN ProductStock s ON s.productId = p.id " +
+          " GROUP BY c.id, c.name " +
+          " ORDER BY c.name"
+        );
+        TypedQuery<CategoryStockRow> q = em.createQuery(jpql.toString(), CategoryStockRow.class);
+        if (unitId != null) q.setParameter("unitId", unitId);
+        return q.getResultList();
+    }
+}
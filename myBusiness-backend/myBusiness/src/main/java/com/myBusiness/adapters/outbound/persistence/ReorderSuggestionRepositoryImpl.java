@@ -0,0 +1,44 @@
+// src/main/java/com/myBusiness/adapters/outbound/persistence/ReorderSuggestionRepositoryImpl.java
+package com.myBusiness.adapters.outbound.persistence;
+
+import com.myBusiness.domain.model.ReorderSuggestion;
+import com.myBusiness.domain.port.ReorderSuggestionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public class ReorderSuggestionRepositoryImpl implements ReorderSuggestionRepository {
+
+    // Coincide con hibernate.jdbc.batch_size: un flush por lote de INSERTs
+    private static final int FLUSH_EVERY = 500;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    @Transactional
+    public void replaceAll(List<ReorderSuggestion> suggestions) {
+        em.createQuery("DELETE FROM ReorderSuggestion").executeUpdate();
+        int i = 0;
+        for (ReorderSuggestion s : suggestions) {
+            em.persist(s);
+            if (++i % FLUSH_EVERY == 0) {
+                em.flush();
+                em.clear();
+            }
+        }
+    }
+
+    @Override
+    public List<ReorderSuggestion> findAll() {
+        return em.createQuery(
+            "SELECT r FROM ReorderSuggestion r " +
+            " ORDER BY r.daysToStockout ASC NULLS LAST, r.productName",
+            ReorderSuggestion.class)
+            .getResultList();
+    }
+}
@@ -0,0 +1,66 @@
+// src/main/java/com/myBusiness/adapters/outbound/persistence/ReportScheduleRepositoryImpl.java
+package com.myBusiness.adapters.outbound.persistence;
+
+import com.myBusiness.domain.model.ReportSchedule;
+import com.myBusiness.domain.port.ReportScheduleRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public class ReportScheduleRepositoryImpl implements ReportScheduleRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    @Transactional
+    public ReportSchedule save(ReportSchedule schedule) {
+        if (schedule.getId() == null) {
+            em.persist(schedule);
+            return schedule;
+        } else {
+            return em.merge(schedule);
+        }
+    }
+
+    @Override
+    public List<ReportSchedule> findDue(Instant now) {
+        return em.createQuery(
+            "SELECT s FROM ReportSchedule s " +
+            " WHERE s.active = true AND s.nextRunAt <= :now " +
+            " ORDER BY s.nextRunAt",
+            ReportSchedule.class)
+            .setParameter("now", now)
+            .getResultList();
+    }
+
+    /**
+     * Registra la ejecución y avanza nextRunAt un período de su frecuencia, en lote.
+     * Si el servicio estuvo detenido varios períodos, el siguiente envío se calcula desde
+     * runAt para no disparar todos los atrasados seguidos.
+     */
+    @Override
+    @Transactional
+    public void markRun(List<Long> ids, Instant runAt) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<ReportSchedule> schedules = em.createQuery(
+            "SELECT s FROM ReportSchedule s WHERE s.id IN :ids", ReportSchedule.class)
+            .setParameter("ids", ids)
+            .getResultList();
+        for (ReportSchedule s : schedules) {
+            Instant next = s.getNextRunAt().plus(s.getFrequency().getPeriod());
+            if (!next.isAfter(runAt)) {
+                next = runAt.plus(s.getFrequency().getPeriod());
+            }
+            s.setLastRunAt(runAt);
+            s.setNextRunAt(next);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+// src/main/java/com/myBusiness/adapters/outbound/persistence/SkipLocked.java
+package com.myBusiness.adapters.outbound.persistence;
+
+import jakarta.persistence.TypedQuery;
+import org.hibernate.LockMode;
+import org.hibernate.query.Query;
+
+/**
+ * SELECT ... FOR UPDATE SKIP LOCKED para los repositorios que reparten filas entre
+ * instancias (colas de correo y webhooks, checkpoints del outbox, barrido de reservas).
+ * En PostgreSQL las filas bloqueadas por otra transacción se saltan en lugar de esperar;
+ * en H2, que no lo soporta, queda como FOR UPDATE.
+ */
+final class SkipLocked {
+
+    private SkipLocked() {
+    }
+
+    static <T> TypedQuery<T> forUpdate(TypedQuery<T> query) {
+        query.unwrap(Query.class).setHibernateLockMode(LockMode.UPGRADE_SKIPLOCKED);
+        return query;
+    }
+}
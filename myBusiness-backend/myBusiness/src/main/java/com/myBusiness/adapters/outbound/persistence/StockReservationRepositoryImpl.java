@@ -0,0 +1,99 @@
+// src/main/java/com/myBusiness/adapters/outbound/persistence/StockReservationRepositoryImpl.java
+package com.myBusiness.adapters.outbound.persistence;
+
+import com.myBusiness.domain.model.ReservationStatus;
+import com.myBusiness.domain.model.StockReservation;
+import com.myBusiness.domain.port.StockReservationRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public class StockReservationRepositoryImpl implements StockReservationRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    @Transactional
+    public StockReservation save(StockReservation reservation) {
+        if (reservation.getId() == null) {
+            em.persist(reservation);
+            return reservation;
+        }
+        return em.merge(reservation);
+    }
+
+    @Override
+    public Optional<StockReservation> findById(Long id) {
+        return Optional.ofNullable(em.find(StockReservation.class, id));
+    }
+
+    @Override
+    public List<StockReservation> findByProduct(Long productId, ReservationStatus status, int limit) {
+        return em.createQuery(
+            "SELECT r FROM StockReservation r WHERE r.productId = :pid AND r.status = :status ORDER BY r.id DESC",
+            StockReservation.class)
+            .setParameter("pid", productId)
+            .setParameter("status", status)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    @Override
+    @Transactional
+    public boolean close(Long id, ReservationStatus status, Instant at) {
+        return em.createQuery(
+            "UPDATE StockReservation r SET r.status = :status, r.closedAt = :at " +
+            " WHERE r.id = :id AND r.status = :active")
+            .setParameter("status", status)
+            .setParameter("at", at)
+            .setParameter("id", id)
+            .setParameter("active", ReservationStatus.ACTIVE)
+            .executeUpdate() > 0;
+    }
+
+    /**
+     * SELECT ... FOR UPDATE SKIP LOCKED (en PostgreSQL): las reservas que otra petición está
+     * liberando o consumiendo se saltan y, si siguen activas, se toman en el siguiente barrido.
+     */
+    @Override
+    @Transactional
+    public List<StockReservation> claimExpired(Instant now, int limit) {
+        List<StockReservation> batch = SkipLocked.forUpdate(em.createQuery(
+            "SELECT r FROM StockReservation r WHERE r.status = :active AND r.expiresAt <= :now ORDER BY r.expiresAt",
+            StockReservation.class)
+            .setParameter("active", ReservationStatus.ACTIVE)
+            .setParameter("now", now)
+            .setMaxResults(limit))
+            .getResultList();
+        for (StockReservation r : batch) {
+            r.setStatus(ReservationStatus.EXPIRED);
+            r.setClosedAt(now);
+        }
+        return batch;
+    }
+
+    @Override
+    @Transactional
+    public int deleteClosedBefore(Instant before) {
+        return em.createQuery(
+            "DELETE FROM StockReservation r WHERE r.status <> :active AND r.closedAt < :before")
+            .setParameter("active", ReservationStatus.ACTIVE)
+            .setParameter("before", before)
+            .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public void deleteByProductId(Long productId) {
+        em.createQuery("DELETE FROM StockReservation r WHERE r.productId = :pid")
+            .setParameter("pid", productId)
+            .executeUpdate();
+    }
+}
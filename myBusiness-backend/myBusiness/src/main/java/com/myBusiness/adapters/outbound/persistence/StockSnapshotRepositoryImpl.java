@@ -0,0 +1,95 @@
+// src/main/java/com/myBusiness/adapters/outbound/persistence/StockSnapshotRepositoryImpl.java
+package com.myBusiness.adapters.outbound.persistence;
+
+import com.myBusiness.domain.model.MovementType;
+import com.myBusiness.domain.model.StockReplayRow;
+import com.myBusiness.domain.model.StockSnapshot;
+import com.myBusiness.domain.port.StockSnapshotRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+public class StockSnapshotRepositoryImpl implements StockSnapshotRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public Optional<BigDecimal> findQuantity(Long productId) {
+        return Optional.ofNullable(em.find(StockSnapshot.class, productId))
+                .map(StockSnapshot::getQuantity);
+    }
+
+    @Override
+    public Map<Long, BigDecimal> findAllQuantities() {
+        Map<Long, BigDecimal> result = new HashMap<>();
+        List<Object[]> rows = em.createQuery(
+            "SELECT s.productId, s.quantity FROM StockSnapshot s", Object[].class)
+            .getResultList();
+        for (Object[] r : rows) {
+            result.put((Long) r[0], (BigDecimal) r[1]);
+        }
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public void upsertAll(Map<Long, BigDecimal> quantities, Instant asOf) {
+        for (Map.Entry<Long, BigDecimal> e : quantities.entrySet()) {
+            int updated = em.createQuery(
+                "UPDATE StockSnapshot s SET s.quantity = :q, s.asOf = :asOf WHERE s.productId = :pid")
+                .setParameter("q", e.getValue())
+                .setParameter("asOf", asOf)
+                .setParameter("pid", e.getKey())
+                .executeUpdate();
+            if (updated == 0) {
+                em.persist(StockSnapshot.builder()
+                        .productId(e.getKey())
+                        .quantity(e.getValue())
+                        .asOf(asOf)
+                        .build());
+            }
+        }
+    }
+
+    @Override
+    @Transactional
+    public void deleteByProductId(Long productId) {
+        em.createQuery("DELETE FROM StockSnapshot s WHERE s.productId = :pid")
+            .setParameter("pid", productId)
+            .executeUpdate();
+    }
+
+    @Override
+    public List<StockReplayRow> findReplayBaseline(Long unitId) {
+        StringBuilder jpql = new StringBuilder(
+          "SELECT p.id, p.category.id, p.price, s.quantity " +
+          " FROM Product p " +
+          " LEFT JOIN StockSnapshot s ON s.productId = p.id"
+        );
+        if (unitId != null) jpql.append(" WHERE p.unit.id = :unitId");
+        jpql.append(" ORDER BY p.id");
+
+        TypedQuery<Object[]> q = em.createQuery(jpql.toString(), Object[].class);
+        if (unitId != null) q.setParameter("unitId", unitId);
+        List<Object[]> rows = q.getResultList();
+        List<StockReplayRow> result = new ArrayList<>(rows.size());
+        for (Object[] r : rows) {
+            BigDecimal quantity = r[3] != null ? (BigDecimal) r[3] : BigDecimal.ZERO;
+            result.add(new StockReplayRow((Long) r[0], (Long) r[1], (BigDecimal) r[2],
+                    MovementType.ADJUSTMENT, quantity));
+        }
+        return result;
+    }
+}
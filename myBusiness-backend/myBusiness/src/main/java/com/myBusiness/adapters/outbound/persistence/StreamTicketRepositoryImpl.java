@@ -0,0 +1,54 @@
+// src/main/java/com/myBusiness/adapters/outbound/persistence/StreamTicketRepositoryImpl.java
+package com.myBusiness.adapters.outbound.persistence;
+
+import com.myBusiness.domain.model.StreamTicket;
+import com.myBusiness.domain.port.StreamTicketRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Repository
+public class StreamTicketRepositoryImpl implements StreamTicketRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    @Transactional
+    public void save(StreamTicket ticket) {
+        em.persist(ticket);
+    }
+
+    @Override
+    @Transactional
+    public Optional<Long> consume(String ticketHash, Instant now) {
+        StreamTicket ticket = em.createQuery(
+            "SELECT t FROM StreamTicket t WHERE t.ticketHash = :hash AND t.expiresAt > :now",
+            StreamTicket.class)
+            .setParameter("hash", ticketHash)
+            .setParameter("now", now)
+            .getResultStream()
+            .findFirst()
+            .orElse(null);
+        if (ticket == null) {
+            return Optional.empty();
+        }
+        // El DELETE decide quién lo usa: la fila solo se borra una vez
+        int deleted = em.createQuery("DELETE FROM StreamTicket t WHERE t.id = :id")
+            .setParameter("id", ticket.getId())
+            .executeUpdate();
+        return deleted == 1 ? Optional.of(ticket.getUserId()) : Optional.empty();
+    }
+
+    @Override
+    @Transactional
+    public int deleteExpired(Instant now) {
+        return em.createQuery("DELETE FROM StreamTicket t WHERE t.expiresAt <= :now")
+            .setParameter("now", now)
+            .executeUpdate();
+    }
+}
@@ -0,0 +1,53 @@
+// src/main/java/com/myBusiness/adapters/outbound/persistence/UnreadCounterRepositoryImpl.java
+package com.myBusiness.adapters.outbound.persistence;
+
+import com.myBusiness.domain.model.UnreadCounter;
+import com.myBusiness.domain.port.UnreadCounterRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class UnreadCounterRepositoryImpl implements UnreadCounterRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public long get(String name) {
+        UnreadCounter c = em.find(UnreadCounter.class, name);
+        return c != null ? c.getUnread() : 0L;
+    }
+
+    @Override
+    @Transactional
+    public void add(String name, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        // UPDATE relativo: dos transacciones concurrentes no se pisan el valor
+        int updated = em.createQuery(
+            "UPDATE UnreadCounter c " +
+            " SET c.unread = CASE WHEN c.unread + :d < 0 THEN 0 ELSE c.unread + :d END " +
+            " WHERE c.name = :name")
+          .setParameter("d", delta)
+          .setParameter("name", name)
+          .executeUpdate();
+        if (updated == 0) {
+            em.persist(UnreadCounter.builder().name(name).unread(Math.max(0, delta)).build());
+        }
+    }
+
+    @Override
+    @Transactional
+    public void set(String name, long value) {
+        int updated = em.createQuery("UPDATE UnreadCounter c SET c.unread = :v WHERE c.name = :name")
+          .setParameter("v", value)
+          .setParameter("name", name)
+          .executeUpdate();
+        if (updated == 0) {
+            em.persist(UnreadCounter.builder().name(name).unread(value).build());
+        }
+    }
+}
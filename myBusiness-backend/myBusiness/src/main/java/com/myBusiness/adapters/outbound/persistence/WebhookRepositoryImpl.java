@@ -0,0 +1,214 @@
+// src/main/java/com/myBusiness/adapters/outbound/persistence/WebhookRepositoryImpl.java
+package com.myBusiness.adapters.outbound.persistence;
+
+import com.myBusiness.domain.model.WebhookDelivery;
+import com.myBusiness.domain.model.WebhookDeliveryStatus;
+import com.myBusiness.domain.model.WebhookSubscription;
+import com.myBusiness.domain.port.WebhookRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+public class WebhookRepositoryImpl implements WebhookRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    @Transactional
+    public WebhookSubscription saveSubscription(WebhookSubscription subscription) {
+        if (subscription.getId() == null) {
+            em.persist(subscription);
+            return subscription;
+        } else {
+            return em.merge(subscription);
+        }
+    }
+
+    @Override
+    public Optional<WebhookSubscription> findSubscriptionById(Long id) {
+        return Optional.ofNullable(em.find(WebhookSubscription.class, id));
+    }
+
+    @Override
+    public List<WebhookSubscription> findAllSubscriptions() {
+        return em.createQuery(
+            "SELECT s FROM WebhookSubscription s ORDER BY s.id", WebhookSubscription.class)
+            .getResultList();
+    }
+
+    @Override
+    public List<WebhookSubscription> findActiveSubscriptions() {
+        return em.createQuery(
+            "SELECT s FROM WebhookSubscription s WHERE s.active = true ORDER BY s.id",
+            WebhookSubscription.class)
+            .getResultList();
+    }
+
+    @Override
+    @Transactional
+    public void deleteSubscription(Long id) {
+        em.createQuery("DELETE FROM WebhookDelivery d WHERE d.subscriptionId = :id")
+            .setParameter("id", id)
+            .executeUpdate();
+        em.createQuery("DELETE FROM WebhookSubscription s WHERE s.id = :id")
+            .setParameter("id", id)
+            .executeUpdate();
+    }
+
+    /**
+     * Se ejecuta dentro de la transacción que originó el evento: la entrega existe
+     * si y solo si el cambio se confirmó.
+     */
+    @Override
+    @Transactional
+    public void enqueue(List<WebhookDelivery> deliveries) {
+        for (WebhookDelivery d : deliveries) {
+            em.persist(d);
+        }
+    }
+
+    /**
+     * SELECT ... FOR UPDATE SKIP LOCKED (en PostgreSQL), igual que el outbox de correo.
+     * También se reclaman filas SENDING cuyo lease venció (dispatcher caído a mitad de envío).
+     */
+    @Override
+    @Transactional
+    public List<WebhookDelivery> claimBatch(int limit, Instant now, Instant leaseUntil,
+                                            Collection<Long> excludedSubscriptionIds) {
+        boolean exclude = !excludedSubscriptionIds.isEmpty();
+        TypedQuery<WebhookDelivery> q = SkipLocked.forUpdate(em.createQuery(
+            "SELECT d FROM WebhookDelivery d " +
+            " WHERE d.status IN (:pending, :sending) AND d.nextAttemptAt <= :now " +
+            "   AND d.subscriptionId IN (SELECT s.id FROM WebhookSubscription s WHERE s.active = true) " +
+            (exclude ? " AND d.subscriptionId NOT IN :excluded " : "") +
+            " ORDER BY d.id",
+            WebhookDelivery.class)
+            .setParameter("pending", WebhookDeliveryStatus.PENDING)
+            .setParameter("sending", WebhookDeliveryStatus.SENDING)
+            .setParameter("now", now)
+            .setMaxResults(limit));
+        if (exclude) {
+            q.setParameter("excluded", excludedSubscriptionIds);
+        }
+        List<WebhookDelivery> batch = q.getResultList();
+        for (WebhookDelivery d : batch) {
+            d.setStatus(WebhookDeliveryStatus.SENDING);
+            d.setNextAttemptAt(leaseUntil);
+        }
+        return batch;
+    }
+
+    @Override
+    @Transactional
+    public void markSent(List<Long> ids, Instant sentAt) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        em.createQuery(
+            "UPDATE WebhookDelivery d SET d.status = :sent, d.sentAt = :sentAt, " +
+            " d.attempts = d.attempts + 1, d.lastError = null " +
+            " WHERE d.id IN :ids")
+            .setParameter("sent", WebhookDeliveryStatus.SENT)
+            .setParameter("sentAt", sentAt)
+            .setParameter("ids", ids)
+            .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public void markFailedAttempt(List<Long> ids, String error, Instant nextAttemptAt, boolean giveUp) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        em.createQuery(
+            "UPDATE WebhookDelivery d SET d.status = :status, d.nextAttemptAt = :next, " +
+            " d.attempts = d.attempts + 1, d.lastError = :error " +
+            " WHERE d.id IN :ids")
+            .setParameter("status", giveUp ? WebhookDeliveryStatus.DEAD : WebhookDeliveryStatus.PENDING)
+            .setParameter("next", nextAttemptAt)
+            .setParameter("error", error)
+            .setParameter("ids", ids)
+            .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public void release(List<Long> ids, Instant nextAttemptAt) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        em.createQuery(
+            "UPDATE WebhookDelivery d SET d.status = :pending, d.nextAttemptAt = :next " +
+            " WHERE d.id IN :ids AND d.status = :sending")
+            .setParameter("pending", WebhookDeliveryStatus.PENDING)
+            .setParameter("sending", WebhookDeliveryStatus.SENDING)
+            .setParameter("next", nextAttemptAt)
+            .setParameter("ids", ids)
+            .executeUpdate();
+    }
+
+    @Override
+    public List<WebhookDelivery> findDead(Long subscriptionId, int limit) {
+        TypedQuery<WebhookDelivery> q = em.createQuery(
+            "SELECT d FROM WebhookDelivery d WHERE d.status = :dead " +
+            (subscriptionId != null ? " AND d.subscriptionId = :sub " : "") +
+            " ORDER BY d.id DESC",
+            WebhookDelivery.class)
+            .setParameter("dead", WebhookDeliveryStatus.DEAD)
+            .setMaxResults(limit);
+        if (subscriptionId != null) {
+            q.setParameter("sub", subscriptionId);
+        }
+        return q.getResultList();
+    }
+
+    @Override
+    @Transactional
+    public boolean retryDead(Long id, Instant now) {
+        return em.createQuery(
+            "UPDATE WebhookDelivery d SET d.status = :pending, d.nextAttemptAt = :now, " +
+            " d.attempts = 0, d.lastError = null " +
+            " WHERE d.id = :id AND d.status = :dead")
+            .setParameter("pending", WebhookDeliveryStatus.PENDING)
+            .setParameter("dead", WebhookDeliveryStatus.DEAD)
+            .setParameter("now", now)
+            .setParameter("id", id)
+            .executeUpdate() > 0;
+    }
+
+    @Override
+    @Transactional
+    public int deleteSentBefore(Instant limit) {
+        return em.createQuery(
+            "DELETE FROM WebhookDelivery d WHERE d.status = :sent AND d.sentAt < :limit")
+            .setParameter("sent", WebhookDeliveryStatus.SENT)
+            .setParameter("limit", limit)
+            .executeUpdate();
+    }
+
+    @Override
+    public Map<WebhookDeliveryStatus, Long> countByStatus() {
+        Map<WebhookDeliveryStatus, Long> counts = new EnumMap<>(WebhookDeliveryStatus.class);
+        for (WebhookDeliveryStatus s : WebhookDeliveryStatus.values()) {
+            counts.put(s, 0L);
+        }
+        List<Object[]> rows = em.createQuery(
+            "SELECT d.status, COUNT(d) FROM WebhookDelivery d GROUP BY d.status", Object[].class)
+            .getResultList();
+        for (Object[] r : rows) {
+            counts.put((WebhookDeliveryStatus) r[0], (Long) r[1]);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,195 @@
+// src/main/java/com/myBusiness/application/cache/ReportResultCache.java
+package com.myBusiness.application.cache;
+
+import com.myBusiness.application.dto.ReportCacheStatsDto;
+import com.myBusiness.application.dto.ReportFilterDto;
+import com.myBusiness.application.event.MovementChangedEvent;
+import com.myBusiness.application.event.ProductChangedEvent;
+import com.myBusiness.application.util.ReportFilterKeys;
+import com.myBusiness.domain.model.Product;
+import com.myBusiness.domain.port.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Caché LRU de resultados de reportes, acotada por peso estimado en bytes y con TTL.
+ *
+ * La clave es tipo de reporte + ReportFilterDto normalizado. Cada entrada guarda el
+ * alcance de su filtro (producto, categoría, unidad); un cambio en movimientos solo
+ * invalida las entradas cuyo alcance incluye el producto afectado.
+ *
+ * Para no guardar resultados calculados con datos ya invalidados, cada lectura toma la
+ * generación actual antes de calcular y el resultado solo se guarda si ninguna
+ * invalidación ocurrió entre medio.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReportResultCache {
+
+    private final ProductRepository productRepo;
+
+    @Value("${app.reports.cache.max-weight-bytes:33554432}")
+    private long maxWeightBytes;
+
+    @Value("${app.reports.cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    // accessOrder = true → el primer elemento es el menos usado recientemente
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long weight;
+    private long generation;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+
+    @SuppressWarnings("unchecked")
+    public <T> T getOrCompute(String kind,
+                              ReportFilterDto filter,
+                              Supplier<T> loader,
+                              ToLongFunction<T> weigher) {
+        String key = kind + "#" + ReportFilterKeys.of(filter);
+        long startGeneration;
+        synchronized (this) {
+            Entry e = entries.get(key);
+            if (e != null && e.expiresAt.isAfter(Instant.now())) {
+                hits++;
+                return (T) e.value;
+            }
+            if (e != null) {
+                remove(key);
+            }
+            misses++;
+            startGeneration = generation;
+        }
+
+        T value = loader.get();
+        long w = weigher.applyAsLong(value);
+
+        synchronized (this) {
+            if (generation == startGeneration && w <= maxWeightBytes) {
+                Entry previous = entries.put(key, new Entry(value, w, Scope.of(filter),
+                        Instant.now().plus(Duration.ofSeconds(ttlSeconds))));
+                if (previous != null) {
+                    weight -= previous.weight;
+                }
+                weight += w;
+                evictToCap();
+            }
+        }
+        return value;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMovementChanged(MovementChangedEvent event) {
+        List<Scope> affected = new ArrayList<>();
+        affected.add(resolve(event.getProductId()));
+        if (event.getPreviousProductId() != null) {
+            affected.add(resolve(event.getPreviousProductId()));
+        }
+        synchronized (this) {
+            generation++;
+            Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+            while (it.hasNext()) {
+                Entry e = it.next().getValue();
+                if (affected.stream().anyMatch(e.scope::covers)) {
+                    weight -= e.weight;
+                    it.remove();
+                    invalidations++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Un producto puede haber cambiado de categoría, unidad, precio o umbral:
+     * se descarta todo.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onProductChanged(ProductChangedEvent event) {
+        generation++;
+        invalidations += entries.size();
+        entries.clear();
+        weight = 0;
+    }
+
+    public synchronized ReportCacheStatsDto stats() {
+        long lookups = hits + misses;
+        return ReportCacheStatsDto.builder()
+                .entries(entries.size())
+                .weightBytes(weight)
+                .maxWeightBytes(maxWeightBytes)
+                .hits(hits)
+                .misses(misses)
+                .hitRate(lookups == 0 ? 0.0 : (double) hits / lookups)
+                .evictions(evictions)
+                .invalidations(invalidations)
+                .build();
+    }
+
+    private void evictToCap() {
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while (weight > maxWeightBytes && it.hasNext()) {
+            weight -= it.next().getValue().weight;
+            it.remove();
+            evictions++;
+        }
+    }
+
+    private void remove(String key) {
+        Entry e = entries.remove(key);
+        if (e != null) {
+            weight -= e.weight;
+        }
+    }
+
+    /**
+     * Alcance del producto afectado. Si ya no existe, se usa un alcance que
+     * cubre cualquier entrada.
+     */
+    private Scope resolve(Long productId) {
+        Optional<Product> prod = productRepo.findById(productId);
+        return prod
+                .map(p -> new Scope(p.getId(), p.getCategory().getId(), p.getUnit().getId()))
+                .orElse(new Scope(null, null, null));
+    }
+
+    private record Entry(Object value, long weight, Scope scope, Instant expiresAt) {
+    }
+
+    /**
+     * Producto, categoría y unidad de un filtro (null = todos) o de un producto afectado
+     * (null = desconocido).
+     */
+    private record Scope(Long productId, Long categoryId, Long unitId) {
+
+        static Scope of(ReportFilterDto filter) {
+            return filter == null
+                    ? new Scope(null, null, null)
+                    : new Scope(filter.getProductId(), filter.getCategoryId(), filter.getUnitId());
+        }
+
+        boolean covers(Scope product) {
+            return matches(productId, product.productId)
+                    && matches(categoryId, product.categoryId)
+                    && matches(unitId, product.unitId);
+        }
+
+        private static boolean matches(Long filterValue, Long productValue) {
+            return filterValue == null || productValue == null || filterValue.equals(productValue);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+// src/main/java/com/myBusiness/application/dto/AlertStreamEventDto.java
+package com.myBusiness.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Getter
+@Builder
+public class AlertStreamEventDto {
+    private Long id;                 // id de la alerta (episodio)
+    private Long productId;
+    private String productName;
+    private String alertType;        // "UNDERSTOCK" o "OVERSTOCK"
+    private String state;            // "OPENED" o "CLOSED"
+    private Instant at;
+    private BigDecimal currentStock;
+    private Integer thresholdMin;
+    private Integer thresholdMax;
+}
@@ -0,0 +1,13 @@
+// src/main/java/com/myBusiness/application/dto/AlertSweepResultDto.java
+package com.myBusiness.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class AlertSweepResultDto {
+    private int opened;        // episodios abiertos
+    private int closed;        // episodios cerrados
+    private long durationMs;
+}
@@ -41,4 +41,7 @@ public class BusinessInputDto {
 
     @Size(max = 50, message = "La industria no puede exceder 50 caracteres")
     private String industry;
+
+    @Size(max = 50, message = "La zona horaria no puede exceder 50 caracteres")
+    private String timeZone;
 }
\ No newline at end of file
@@ -23,6 +23,7 @@ public class BusinessOutputDto {
     private String website;
     private String logoUrl;
     private String industry;
+    private String timeZone;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
\ No newline at end of file
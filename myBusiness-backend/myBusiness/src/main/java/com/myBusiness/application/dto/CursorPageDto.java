@@ -0,0 +1,19 @@
+// src/main/java/com/myBusiness/application/dto/CursorPageDto.java
+package com.myBusiness.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Página por cursor (keyset): para pedir la siguiente se envía `nextCursor` como `cursor`.
+ * No cuenta el total de filas, así el coste no crece con el historial.
+ */
+@Getter
+@Builder
+public class CursorPageDto<T> {
+    private List<T> content;
+    private Long nextCursor;     // null si no hay más
+    private boolean hasMore;
+}
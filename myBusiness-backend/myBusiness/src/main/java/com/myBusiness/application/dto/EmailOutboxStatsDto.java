@@ -0,0 +1,22 @@
+// src/main/java/com/myBusiness/application/dto/EmailOutboxStatsDto.java
+package com.myBusiness.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Métricas de la cola de correo saliente.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EmailOutboxStatsDto {
+    private long pending;
+    private long sending;
+    private long sent;
+    private long failed;
+    private Long oldestPendingAgeSeconds;   // null si no hay pendientes
+}
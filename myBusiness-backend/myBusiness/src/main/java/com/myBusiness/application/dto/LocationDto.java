@@ -0,0 +1,18 @@
+// src/main/java/com/myBusiness/application/dto/LocationDto.java
+package com.myBusiness.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@Builder
+public class LocationDto {
+    private Long id;
+    private String name;
+    private String type;
+    private boolean active;
+    private boolean defaultLocation;   // recibe los movimientos que no indican ubicación
+    private Instant createdDate;
+}
@@ -0,0 +1,24 @@
+// src/main/java/com/myBusiness/application/dto/LocationInputDto.java
+package com.myBusiness.application.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * DTO para crear o modificar una ubicación.
+ */
+@Data
+public class LocationInputDto {
+    @NotBlank(message = "name es obligatorio")
+    @Size(max = 100, message = "name admite hasta 100 caracteres")
+    private String name;
+
+    /**
+     * WAREHOUSE o STORE
+     */
+    @NotBlank(message = "type es obligatorio")
+    private String type;
+
+    private Boolean active;   // por defecto true
+}
@@ -0,0 +1,18 @@
+// src/main/java/com/myBusiness/application/dto/LocationStockDto.java
+package com.myBusiness.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Getter
+@Builder
+public class LocationStockDto {
+    private Long locationId;
+    private Long productId;
+    private BigDecimal quantity;
+    private BigDecimal reserved;
+    private Instant updatedAt;
+}
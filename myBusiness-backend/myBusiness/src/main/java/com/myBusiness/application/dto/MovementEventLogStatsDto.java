@@ -0,0 +1,21 @@
+// src/main/java/com/myBusiness/application/dto/MovementEventLogStatsDto.java
+package com.myBusiness.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Estado del registro binario de eventos de movimientos.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class MovementEventLogStatsDto {
+    private boolean enabled;
+    private long lastSequence;
+    private int segments;
+    private long sizeBytes;   // espacio preasignado en disco
+}
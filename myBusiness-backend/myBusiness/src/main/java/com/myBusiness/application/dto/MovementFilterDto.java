@@ -13,7 +13,8 @@ import java.time.LocalDate;
  *  - page, size
  *  - productId
  *  - dateFrom, dateTo  (format “YYYY-MM-DD”)
- *  - movementType (“ENTRY”, “EXIT”, “ADJUSTMENT”)
+ *  - locationId: movimientos de esa ubicación (como origen o destino)
+ *  - movementType (“ENTRY”, “EXIT”, “ADJUSTMENT”, “TRANSFER”)
  *  - search: texto para buscar en motivo o nombre de producto
  *  - sort: e.g. "movementDate,desc" o "id,asc"
  */
@@ -27,6 +28,8 @@ public class MovementFilterDto {
 
     private Long productId;
 
+    private Long locationId;
+
     @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
     private LocalDate dateFrom;
 
@@ -34,7 +37,7 @@ public class MovementFilterDto {
     private LocalDate dateTo;
 
     /**
-     * “ENTRY”, “EXIT” o “ADJUSTMENT” (no sensible a mayúsculas)
+     * “ENTRY”, “EXIT”, “ADJUSTMENT” o “TRANSFER” (no sensible a mayúsculas)
      */
     private String movementType;
 
@@ -20,11 +20,15 @@ public class MovementInputDto {
     private Long productId;
 
     @NotBlank
-    private String movementType; // "ENTRY","EXIT","ADJUSTMENT"
+    private String movementType; // "ENTRY","EXIT","ADJUSTMENT","TRANSFER"
 
     @NotNull
     @DecimalMin(value = "0.01", inclusive = true)
     private BigDecimal quantity;
 
     private String reason;
+
+    private Long locationId;            // null = ubicación por defecto; en TRANSFER, el origen
+
+    private Long destinationLocationId; // obligatorio solo en TRANSFER
 }
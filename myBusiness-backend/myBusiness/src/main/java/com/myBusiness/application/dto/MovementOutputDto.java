@@ -20,6 +20,10 @@ public class MovementOutputDto {
     private String movementType;
     private BigDecimal quantity;
     private String reason;
+    private Long locationId;
+    private String locationName;
+    private Long destinationLocationId;     // solo TRANSFER
+    private String destinationLocationName;
     private Instant movementDate;
     private String createdBy;
     private Instant createdDate;
@@ -0,0 +1,24 @@
+// src/main/java/com/myBusiness/application/dto/MovementSeriesDto.java
+package com.myBusiness.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serie de movimientos en formato compacto: un arreglo de inicios de intervalo
+ * y, por cada tipo de movimiento, arreglos paralelos de conteos y cantidades.
+ */
+@Getter
+@Builder
+public class MovementSeriesDto {
+    private String bucket;                          // hour | day | week | month
+    private String timeZone;                        // zona en la que se calcularon los intervalos
+    private List<LocalDateTime> buckets;            // hora local de inicio de cada intervalo
+    private Map<String, long[]> counts;             // tipo -> conteo por intervalo
+    private Map<String, BigDecimal[]> quantities;   // tipo -> cantidad total por intervalo
+}
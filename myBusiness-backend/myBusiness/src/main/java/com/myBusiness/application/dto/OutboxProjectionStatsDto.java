@@ -0,0 +1,27 @@
+// src/main/java/com/myBusiness/application/dto/OutboxProjectionStatsDto.java
+package com.myBusiness.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Avance de una proyección del outbox de movimientos.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class OutboxProjectionStatsDto {
+    private String projection;
+    private boolean registered;     // false: checkpoint de una proyección que ya no existe
+    private long lastEventId;
+    private long pending;           // eventos posteriores al checkpoint
+    private Instant waitingSince;   // desde cuándo espera al id siguiente al checkpoint (null: no espera)
+    private int failures;           // fallos seguidos del lote actual
+    private String lastError;
+    private Instant updatedAt;
+}
@@ -0,0 +1,19 @@
+// src/main/java/com/myBusiness/application/dto/ProductForecastDto.java
+package com.myBusiness.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class ProductForecastDto {
+    private Long productId;
+    private String productName;
+    private BigDecimal currentStock;
+    private BigDecimal dailyConsumption;     // media móvil exponencial de salidas por día
+    private Long daysToStockout;             // null si no hay consumo
+    private LocalDate projectedStockoutDate; // null si no hay consumo
+}
@@ -0,0 +1,22 @@
+// src/main/java/com/myBusiness/application/dto/ReorderSuggestionDto.java
+package com.myBusiness.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Getter
+@Builder
+public class ReorderSuggestionDto {
+    private Long productId;
+    private String productName;
+    private BigDecimal currentStock;
+    private BigDecimal dailyConsumption;
+    private Integer thresholdMin;
+    private Integer thresholdMax;
+    private BigDecimal suggestedQuantity;
+    private Long daysToStockout;
+    private Instant computedAt;
+}
@@ -0,0 +1,25 @@
+// src/main/java/com/myBusiness/application/dto/ReportCacheStatsDto.java
+package com.myBusiness.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Métricas de la caché de resultados de reportes.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReportCacheStatsDto {
+    private int entries;
+    private long weightBytes;
+    private long maxWeightBytes;
+    private long hits;
+    private long misses;
+    private double hitRate;
+    private long evictions;
+    private long invalidations;
+}
@@ -11,7 +11,10 @@ public class ReportFilterDto {
     private Long productId;
     private Long categoryId;
     private Long unitId;
+    private Long locationId;        // null = stock total; si no, solo esa ubicación
     private LocalDate dateFrom;
     private LocalDate dateTo;
+    private String movementType;    // ENTRY, EXIT, ADJUSTMENT o TRANSFER; null = todos
     private Boolean thresholdBelow; // true=solo bajo umbral
+    private String timeZone;        // zona en la que se cortan los días; la fija ReportController (null = UTC)
 }
@@ -0,0 +1,27 @@
+// src/main/java/com/myBusiness/application/dto/ReportJobDto.java
+package com.myBusiness.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Estado de un trabajo asíncrono de generación de reporte.
+ * status: PENDING, RUNNING, DONE o FAILED.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReportJobDto {
+    private String id;
+    private String status;
+    private String format;
+    private Instant createdAt;
+    private Instant finishedAt;
+    private Long sizeBytes;
+    private String error;
+}
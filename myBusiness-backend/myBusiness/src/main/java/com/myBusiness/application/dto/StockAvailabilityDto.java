@@ -0,0 +1,21 @@
+// src/main/java/com/myBusiness/application/dto/StockAvailabilityDto.java
+package com.myBusiness.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * Disponible para prometer: stock menos reservas activas, sumado por ubicación (en cada una,
+ * nunca negativo). locationId null = todas las ubicaciones.
+ */
+@Getter
+@Builder
+public class StockAvailabilityDto {
+    private Long productId;
+    private Long locationId;
+    private BigDecimal stock;
+    private BigDecimal reserved;
+    private BigDecimal available;
+}
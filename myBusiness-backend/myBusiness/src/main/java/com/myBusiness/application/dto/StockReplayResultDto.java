@@ -0,0 +1,29 @@
+// src/main/java/com/myBusiness/application/dto/StockReplayResultDto.java
+package com.myBusiness.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Resultado de reconstruir el stock desde el registro de eventos. Solo informativo: los
+ * saldos de la base de datos no se modifican.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class StockReplayResultDto {
+    private long events;
+    private long liveMovements;
+    private int products;
+    private long scanMillis;          // lectura del registro
+    private long totalMillis;         // lectura + cálculo por producto
+    private long eventsPerSecond;
+    private int mismatches;           // productos cuyo stock (suma por ubicación) difiere
+    private int unknownProducts;      // productos del registro sin saldo por ubicación
+    private List<Long> mismatchedProductIds;   // los primeros 100, por id
+}
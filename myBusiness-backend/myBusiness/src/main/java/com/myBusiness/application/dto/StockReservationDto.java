@@ -0,0 +1,23 @@
+// src/main/java/com/myBusiness/application/dto/StockReservationDto.java
+package com.myBusiness.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Getter
+@Builder
+public class StockReservationDto {
+    private Long id;
+    private Long productId;
+    private Long locationId;
+    private BigDecimal quantity;
+    private String reference;
+    private String status;
+    private Instant expiresAt;
+    private Instant createdAt;
+    private Instant closedAt;
+    private Long movementId;   // salida registrada al consumirla
+}
@@ -0,0 +1,31 @@
+// src/main/java/com/myBusiness/application/dto/StockReservationInputDto.java
+package com.myBusiness.application.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO para apartar stock de un producto.
+ */
+@Data
+public class StockReservationInputDto {
+    @NotNull(message = "productId es obligatorio")
+    private Long productId;
+
+    @NotNull(message = "quantity es obligatorio")
+    @DecimalMin(value = "0.01", message = "quantity debe ser mayor que 0")
+    private BigDecimal quantity;
+
+    private Long locationId;   // null = ubicación por defecto
+
+    @Size(max = 100, message = "reference admite hasta 100 caracteres")
+    private String reference;
+
+    @Min(value = 1, message = "ttlSeconds debe ser mayor que 0")
+    private Long ttlSeconds;   // null = duración por defecto
+}
@@ -0,0 +1,15 @@
+// src/main/java/com/myBusiness/application/dto/StreamTicketDto.java
+package com.myBusiness.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/** Ticket de un solo uso para abrir el stream SSE de alertas (ver AlertStreamTicketService). */
+@Getter
+@Builder
+public class StreamTicketDto {
+    private String ticket;
+    private Instant expiresAt;
+}
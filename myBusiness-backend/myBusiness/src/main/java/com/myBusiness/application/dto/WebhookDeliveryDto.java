@@ -0,0 +1,25 @@
+// src/main/java/com/myBusiness/application/dto/WebhookDeliveryDto.java
+package com.myBusiness.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Entrega de webhook en la lista de descartadas (DEAD).
+ */
+@Getter
+@Builder
+public class WebhookDeliveryDto {
+    private Long id;
+    private Long subscriptionId;
+    private String eventType;
+    private int attempts;
+    private String lastError;
+    private Instant createdDate;
+
+    @JsonRawValue
+    private String payload;
+}
@@ -0,0 +1,23 @@
+// src/main/java/com/myBusiness/application/dto/WebhookStatsDto.java
+package com.myBusiness.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Métricas de la cola de webhooks salientes.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class WebhookStatsDto {
+    private long pending;
+    private long sending;
+    private long sent;
+    private long dead;
+    private int activeSubscriptions;
+    private int saturatedEndpoints;   // endpoints con todas sus peticiones simultáneas ocupadas
+}
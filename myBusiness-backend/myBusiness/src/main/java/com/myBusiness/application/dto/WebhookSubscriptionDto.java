@@ -0,0 +1,20 @@
+// src/main/java/com/myBusiness/application/dto/WebhookSubscriptionDto.java
+package com.myBusiness.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@Builder
+public class WebhookSubscriptionDto {
+    private Long id;
+    private String url;
+    private boolean signed;          // tiene secret (el valor nunca se devuelve)
+    private List<String> eventTypes;
+    private int maxConcurrency;
+    private boolean active;
+    private Instant createdDate;
+}
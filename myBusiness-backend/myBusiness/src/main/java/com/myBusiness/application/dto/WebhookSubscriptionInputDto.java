@@ -0,0 +1,34 @@
+// src/main/java/com/myBusiness/application/dto/WebhookSubscriptionInputDto.java
+package com.myBusiness.application.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO para crear o modificar una suscripción de webhook.
+ */
+@Data
+public class WebhookSubscriptionInputDto {
+    @NotBlank(message = "url es obligatoria")
+    @Size(max = 500, message = "url admite hasta 500 caracteres")
+    private String url;
+
+    /**
+     * Opcional: clave para firmar cada envío (HMAC-SHA256). En PUT, null conserva la actual.
+     */
+    @Size(max = 200, message = "secret admite hasta 200 caracteres")
+    private String secret;
+
+    /**
+     * Tipos de evento: ALERT y/o MOVEMENT
+     */
+    @NotEmpty(message = "eventTypes es obligatorio")
+    private List<String> eventTypes;
+
+    private Integer maxConcurrency;   // por defecto app.webhooks.default-concurrency
+    private Boolean active;           // por defecto true
+}
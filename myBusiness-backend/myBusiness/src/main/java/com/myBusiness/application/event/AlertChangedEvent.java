@@ -0,0 +1,29 @@
+// src/main/java/com/myBusiness/application/event/AlertChangedEvent.java
+package com.myBusiness.application.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Se publica cuando un episodio de alerta se abre o se cierra.
+ * Lleva los datos que necesita el stream de alertas para no volver a consultar la BD.
+ */
+@Getter
+@AllArgsConstructor
+public class AlertChangedEvent {
+
+    public enum ChangeType { OPENED, CLOSED }
+
+    private final Long alertId;
+    private final Long productId;
+    private final String productName;
+    private final String alertType;
+    private final ChangeType changeType;
+    private final Instant at;
+    private final BigDecimal currentStock;
+    private final Integer thresholdMin;
+    private final Integer thresholdMax;
+}
@@ -0,0 +1,30 @@
+// src/main/java/com/myBusiness/application/event/MovementChangedEvent.java
+package com.myBusiness.application.event;
+
+import com.myBusiness.domain.model.MovementType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Se publica cuando un movimiento de inventario se crea, modifica o elimina.
+ * previousProductId solo se informa en modificaciones que cambian de producto.
+ * movementType, quantity y movementDate son los valores resultantes (en DELETED, los del
+ * movimiento eliminado), para que los oyentes no tengan que volver a leerlo.
+ */
+@Getter
+@AllArgsConstructor
+public class MovementChangedEvent {
+
+    public enum ChangeType { CREATED, UPDATED, DELETED }
+
+    private final Long movementId;
+    private final Long productId;
+    private final Long previousProductId;
+    private final ChangeType changeType;
+    private final MovementType movementType;
+    private final BigDecimal quantity;
+    private final Instant movementDate;
+}
@@ -0,0 +1,23 @@
+// src/main/java/com/myBusiness/application/event/OutboxProjection.java
+package com.myBusiness.application.event;
+
+import com.myBusiness.domain.model.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Vista derivada alimentada desde outbox_events (ver OutboxDispatcher). Basta con declararla
+ * como bean: el dispatcher la registra con su propio checkpoint.
+ */
+public interface OutboxProjection {
+
+    /** Nombre estable: es la clave de su checkpoint. */
+    String name();
+
+    /**
+     * Aplica un lote en orden de id, y por tanto en orden dentro de cada producto.
+     * Corre en la transacción que avanza el checkpoint: si lanza una excepción no se confirma
+     * nada y el lote se repite. Entrega al menos una vez; con efectos externos, debe tolerar repeticiones.
+     */
+    void handle(List<OutboxEvent> events);
+}
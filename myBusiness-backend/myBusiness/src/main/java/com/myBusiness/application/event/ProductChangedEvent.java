@@ -0,0 +1,14 @@
+// src/main/java/com/myBusiness/application/event/ProductChangedEvent.java
+package com.myBusiness.application.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Se publica cuando un producto se crea, modifica o elimina.
+ */
+@Getter
+@AllArgsConstructor
+public class ProductChangedEvent {
+    private final Long productId;
+}
@@ -0,0 +1,7 @@
+package com.myBusiness.application.exception;
+
+public class InvalidLocationException extends RuntimeException {
+    public InvalidLocationException(String message) {
+        super(message);
+    }
+}
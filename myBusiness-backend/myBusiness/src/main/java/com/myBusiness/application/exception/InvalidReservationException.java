@@ -0,0 +1,7 @@
+package com.myBusiness.application.exception;
+
+public class InvalidReservationException extends RuntimeException {
+    public InvalidReservationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+// src/main/java/com/myBusiness/application/exception/InvalidScheduleException.java
+package com.myBusiness.application.exception;
+
+public class InvalidScheduleException extends RuntimeException {
+    public InvalidScheduleException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+// src/main/java/com/myBusiness/application/exception/InvalidTimeZoneException.java
+package com.myBusiness.application.exception;
+
+public class InvalidTimeZoneException extends RuntimeException {
+    public InvalidTimeZoneException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.myBusiness.application.exception;
+
+public class InvalidWebhookException extends RuntimeException {
+    public InvalidWebhookException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.myBusiness.application.exception;
+
+public class LocationNotFoundException extends RuntimeException {
+    public LocationNotFoundException(String message) {
+        super(message);
+    }
+}
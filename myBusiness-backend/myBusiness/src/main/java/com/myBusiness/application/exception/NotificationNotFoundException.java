@@ -0,0 +1,7 @@
+package com.myBusiness.application.exception;
+
+public class NotificationNotFoundException extends RuntimeException {
+    public NotificationNotFoundException(String message) {
+        super(message);
+    }
+}
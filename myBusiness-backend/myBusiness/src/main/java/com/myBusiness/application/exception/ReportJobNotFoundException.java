@@ -0,0 +1,8 @@
+// src/main/java/com/myBusiness/application/exception/ReportJobNotFoundException.java
+package com.myBusiness.application.exception;
+
+public class ReportJobNotFoundException extends RuntimeException {
+    public ReportJobNotFoundException(String jobId) {
+        super("Report job not found with ID: " + jobId);
+    }
+}
@@ -0,0 +1,8 @@
+// src/main/java/com/myBusiness/application/exception/ReportJobNotReadyException.java
+package com.myBusiness.application.exception;
+
+public class ReportJobNotReadyException extends RuntimeException {
+    public ReportJobNotReadyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+// src/main/java/com/myBusiness/application/exception/ReportJobRejectedException.java
+package com.myBusiness.application.exception;
+
+public class ReportJobRejectedException extends RuntimeException {
+    public ReportJobRejectedException(String message) {
+        super(message);
+    }
+}
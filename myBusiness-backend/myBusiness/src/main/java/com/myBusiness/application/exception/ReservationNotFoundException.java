@@ -0,0 +1,7 @@
+package com.myBusiness.application.exception;
+
+public class ReservationNotFoundException extends RuntimeException {
+    public ReservationNotFoundException(String message) {
+        super(message);
+    }
+}
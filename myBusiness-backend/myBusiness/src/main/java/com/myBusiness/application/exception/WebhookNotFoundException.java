@@ -0,0 +1,7 @@
+package com.myBusiness.application.exception;
+
+public class WebhookNotFoundException extends RuntimeException {
+    public WebhookNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,51 @@
+// src/main/java/com/myBusiness/application/usecase/AlertOutputAssembler.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.application.dto.AlertOutputDto;
+import com.myBusiness.domain.model.Alert;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Convierte alertas a AlertOutputDto leyendo el stock actual una sola vez por producto
+ * distinto del lote (una consulta agrupada a location_stock), no una vez por alerta.
+ */
+@Component
+@RequiredArgsConstructor
+public class AlertOutputAssembler {
+
+    private final ComputeStockUseCase computeStockUseCase;
+
+    public List<AlertOutputDto> toDtos(List<Alert> alerts) {
+        Set<Long> productIds = alerts.stream()
+                .map(a -> a.getProduct().getId())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Long, BigDecimal> stocks = computeStockUseCase.executeAll(productIds);
+
+        return alerts.stream()
+                .map(a -> toDto(a, stocks.getOrDefault(a.getProduct().getId(), BigDecimal.ZERO)))
+                .collect(Collectors.toList());
+    }
+
+    private AlertOutputDto toDto(Alert a, BigDecimal currentStock) {
+        return AlertOutputDto.builder()
+                .id(a.getId())
+                .productId(a.getProduct().getId())
+                .productName(a.getProduct().getName())
+                .movementId(a.getMovement() != null ? a.getMovement().getId() : null)
+                .alertType(a.getAlertType().name())
+                .triggeredAt(a.getTriggeredAt())
+                .createdDate(a.getCreatedDate())
+                .thresholdMin(a.getProduct().getThresholdMin())
+                .thresholdMax(a.getProduct().getThresholdMax())
+                .currentStock(currentStock)
+                .build();
+    }
+}
@@ -0,0 +1,304 @@
+// src/main/java/com/myBusiness/application/usecase/AlertStreamService.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.application.dto.AlertStreamEventDto;
+import com.myBusiness.application.event.AlertChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stream SSE de cambios de alertas (/api/alerts/stream).
+ *
+ * Cada suscriptor es un SseEmitter sobre una petición asíncrona del servlet: mientras
+ * está inactivo no ocupa ningún hilo, solo la conexión. SseEmitter.send bloquea si el buffer
+ * TCP del cliente está lleno, así que ningún envío se hace desde quien publica ni bajo un lock
+ * compartido:
+ *  - cada suscriptor tiene su propia cola acotada (`queue-size`); publicar y el heartbeat solo
+ *    encolan, sin bloquear;
+ *  - un pool de `sender-threads` hilos vacía las colas, con como mucho una tarea a la vez por
+ *    suscriptor, así que un cliente lento solo retrasa sus propios eventos;
+ *  - si la cola de un suscriptor se llena, o un envío suyo lleva más de `send-timeout-ms`, se
+ *    le da de baja: deja de recibir y reconecta con Last-Event-ID (reanuda o recibe `reset`).
+ *    El envío atascado termina cuando vence el timeout de escritura del contenedor.
+ *
+ * Los últimos `buffer-size` eventos se guardan en un buffer circular para reanudar con
+ * Last-Event-ID. Los ids tienen la forma "{arranque}-{secuencia}"; si el id es de otro
+ * arranque o ya salió del buffer, se envía un evento `reset` y el cliente recarga el estado.
+ */
+@Slf4j
+@Service
+public class AlertStreamService {
+
+    public static final String EVENT_ALERT = "alert";
+    public static final String EVENT_RESET = "reset";
+
+    @Value("${app.alerts.stream.buffer-size:500}")
+    private int bufferSize;
+
+    @Value("${app.alerts.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${app.alerts.stream.retry-ms:5000}")
+    private long retryMs;
+
+    @Value("${app.alerts.stream.queue-size:1000}")
+    private int queueSize;
+
+    @Value("${app.alerts.stream.sender-threads:16}")
+    private int senderThreads;
+
+    @Value("${app.alerts.stream.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+    private final Deque<BufferedEvent> buffer = new ArrayDeque<>();   // protegido por synchronized(buffer)
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private long sequence;                                             // protegido por synchronized(buffer)
+
+    private ExecutorService senders;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger n = new AtomicInteger();
+        senders = Executors.newFixedThreadPool(Math.max(1, senderThreads), r -> {
+            Thread t = new Thread(r, "alert-stream-" + n.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        senders.shutdownNow();
+        subscribers.forEach(s -> s.emitter.complete());
+        subscribers.clear();
+    }
+
+    /**
+     * Registra un suscriptor. Si trae lastEventId, primero recibe los eventos perdidos
+     * desde ese id (o un `reset` si no se pueden reconstruir o no caben en su cola).
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber sub = new Subscriber(emitter, Math.max(2, queueSize));
+        emitter.onCompletion(() -> close(sub));
+        emitter.onTimeout(() -> {
+            close(sub);
+            emitter.complete();
+        });
+        emitter.onError(e -> close(sub));
+
+        // Bajo el mismo lock que publicar: ningún evento se pierde ni se duplica entre la
+        // reproducción del buffer y el alta. Solo se encola; el envío va fuera del lock.
+        synchronized (buffer) {
+            sub.queue.offer(SseEmitter.event().reconnectTime(retryMs).comment("connected"));
+            List<BufferedEvent> missed = missedSince(lastEventId);
+            if (missed == null || missed.size() >= sub.queue.remainingCapacity()) {
+                sub.queue.offer(SseEmitter.event().name(EVENT_RESET).data(""));
+            } else {
+                for (BufferedEvent ev : missed) {
+                    sub.queue.offer(ev.toSse());
+                }
+            }
+            subscribers.add(sub);
+        }
+        schedule(sub);
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAlertChanged(AlertChangedEvent event) {
+        AlertStreamEventDto payload = AlertStreamEventDto.builder()
+                .id(event.getAlertId())
+                .productId(event.getProductId())
+                .productName(event.getProductName())
+                .alertType(event.getAlertType())
+                .state(event.getChangeType().name())
+                .at(event.getAt())
+                .currentStock(event.getCurrentStock())
+                .thresholdMin(event.getThresholdMin())
+                .thresholdMax(event.getThresholdMax())
+                .build();
+
+        // Encolar bajo el lock mantiene el orden de secuencia en todas las colas; offer no bloquea
+        synchronized (buffer) {
+            BufferedEvent ev = new BufferedEvent(++sequence, bootId + "-" + sequence, payload);
+            buffer.addLast(ev);
+            while (buffer.size() > Math.max(1, bufferSize)) {
+                buffer.removeFirst();
+            }
+            for (Subscriber sub : subscribers) {
+                enqueue(sub, ev.toSse());
+            }
+        }
+    }
+
+    /** Heartbeat para los proxies y vigilancia de envíos atascados. */
+    @Scheduled(fixedDelayString = "${app.alerts.stream.heartbeat-ms:20000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        for (Subscriber sub : subscribers) {
+            long since = sub.sendingSince;
+            if (since != 0 && now - since > sendTimeoutMs) {
+                drop(sub, "envío bloqueado más de " + sendTimeoutMs + " ms");
+            } else {
+                enqueue(sub, SseEmitter.event().comment("hb"));
+            }
+        }
+    }
+
+    private void enqueue(Subscriber sub, SseEmitter.SseEventBuilder event) {
+        if (!sub.queue.offer(event)) {
+            drop(sub, "cola llena");
+            return;
+        }
+        schedule(sub);
+    }
+
+    /** Programa el vaciado de la cola si no hay ya una tarea en curso para este suscriptor. */
+    private void schedule(Subscriber sub) {
+        if (!sub.closed && sub.draining.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(sub));
+            } catch (RejectedExecutionException e) {
+                sub.draining.set(false);   // apagando
+            }
+        }
+    }
+
+    private void drain(Subscriber sub) {
+        while (true) {
+            SseEmitter.SseEventBuilder event;
+            while (!sub.closed && (event = sub.queue.poll()) != null) {
+                sub.sendingSince = System.currentTimeMillis();
+                try {
+                    sub.emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    // Cliente desconectado: el navegador reconectará con Last-Event-ID
+                    sub.sendingSince = 0;
+                    close(sub);
+                    sub.emitter.completeWithError(e);
+                    log.debug("Suscriptor de alertas descartado: {}", e.getMessage());
+                    return;
+                } finally {
+                    sub.sendingSince = 0;
+                }
+            }
+            if (sub.closed) {
+                // Dado de baja mientras enviaba (ver drop): se cierra desde este hilo, que es el
+                // único que podía estar dentro de send
+                sub.emitter.complete();
+                return;
+            }
+            sub.draining.set(false);
+            // Un evento encolado justo después del último poll no debe quedarse esperando
+            if (sub.queue.isEmpty() || !sub.draining.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Da de baja a un suscriptor lento. No llama a emitter.complete(): si hay un envío bloqueado,
+     * complete() esperaría al mismo monitor. Lo cierra la tarea de envío al terminar, o aquí si
+     * no hay ninguna en curso.
+     */
+    private void drop(Subscriber sub, String reason) {
+        if (sub.closed) {
+            return;
+        }
+        close(sub);
+        log.debug("Suscriptor de alertas dado de baja: {}", reason);
+        if (sub.draining.compareAndSet(false, true)) {
+            try {
+                senders.execute(sub.emitter::complete);
+            } catch (RejectedExecutionException e) {
+                // apagando: shutdown() completa todos los emisores
+            }
+        }
+    }
+
+    private void close(Subscriber sub) {
+        sub.closed = true;
+        subscribers.remove(sub);
+        sub.queue.clear();
+    }
+
+    /** Eventos posteriores a lastEventId, o null si no se pueden reconstruir. */
+    private List<BufferedEvent> missedSince(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return List.of();
+        }
+        int dash = lastEventId.lastIndexOf('-');
+        if (dash <= 0 || !bootId.equals(lastEventId.substring(0, dash))) {
+            return null;
+        }
+        long last;
+        try {
+            last = Long.parseLong(lastEventId.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (last > sequence) {
+            return null;
+        }
+        if (last < sequence && (buffer.isEmpty() || buffer.peekFirst().sequence > last + 1)) {
+            return null;
+        }
+        List<BufferedEvent> missed = new ArrayList<>();
+        for (BufferedEvent ev : buffer) {
+            if (ev.sequence > last) {
+                missed.add(ev);
+            }
+        }
+        return missed;
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+        private volatile long sendingSince;   // 0 = sin envío en curso
+
+        private Subscriber(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+
+    private record BufferedEvent(long sequence, String id, AlertStreamEventDto payload) {
+        SseEmitter.SseEventBuilder toSse() {
+            return SseEmitter.event()
+                    .id(id)
+                    .name(EVENT_ALERT)
+                    .data(payload, MediaType.APPLICATION_JSON);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+// src/main/java/com/myBusiness/application/usecase/AlertStreamTicketService.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.application.dto.StreamTicketDto;
+import com.myBusiness.domain.model.StreamTicket;
+import com.myBusiness.domain.port.StreamTicketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Tickets para /api/alerts/stream. El cliente pide uno con su JWT (POST, cabecera Authorization)
+ * y abre el EventSource con `?ticket=`: el JWT nunca viaja en la url, que acaba en logs de
+ * acceso, de proxies y en el historial del navegador. El ticket vale `ttl-seconds` y una sola
+ * vez; se guarda en base de datos para que el POST y el GET puedan llegar a instancias distintas.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AlertStreamTicketService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final StreamTicketRepository ticketRepo;
+
+    @Value("${app.alerts.stream.ticket-ttl-seconds:30}")
+    private long ttlSeconds;
+
+    public StreamTicketDto issue(Long userId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String ticket = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        Instant expiresAt = Instant.now().plus(Duration.ofSeconds(ttlSeconds));
+        ticketRepo.save(StreamTicket.builder()
+                .ticketHash(hash(ticket))
+                .userId(userId)
+                .expiresAt(expiresAt)
+                .build());
+        return StreamTicketDto.builder()
+                .ticket(ticket)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    /** Usuario del ticket, que queda gastado; vacío si no existe, caducó o ya se usó. */
+    public Optional<Long> redeem(String ticket) {
+        if (ticket == null || ticket.isBlank() || ticket.length() > 100) {
+            return Optional.empty();
+        }
+        return ticketRepo.consume(hash(ticket), Instant.now());
+    }
+
+    @Scheduled(fixedDelayString = "${app.alerts.stream.ticket-purge-interval-ms:600000}")
+    public void purgeExpired() {
+        int deleted = ticketRepo.deleteExpired(Instant.now());
+        if (deleted > 0) {
+            log.debug("Tickets de stream caducados eliminados: {}", deleted);
+        }
+    }
+
+    private static String hash(String ticket) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(ticket.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
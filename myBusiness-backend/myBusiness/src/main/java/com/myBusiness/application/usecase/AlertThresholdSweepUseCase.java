@@ -0,0 +1,162 @@
+// src/main/java/com/myBusiness/application/usecase/AlertThresholdSweepUseCase.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.application.dto.AlertSweepResultDto;
+import com.myBusiness.application.event.AlertChangedEvent;
+import com.myBusiness.domain.model.AlertTransitionRow;
+import com.myBusiness.domain.port.AlertRepository;
+import com.myBusiness.domain.port.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Reevalúa los episodios de alerta contra stock y umbrales actuales sin pasar producto
+ * por producto: por cada rango de ids de producto, una consulta encuentra los episodios
+ * abiertos que ya no corresponden, un UPDATE los cierra y un INSERT … SELECT abre los
+ * que faltan. Se ejecuta periódicamente y al cambiar los umbrales de un producto.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AlertThresholdSweepUseCase implements SmartLifecycle {
+
+    private final AlertRepository alertRepo;
+    private final ProductRepository productRepo;
+    private final UnreadCountUseCase unreadCount;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.alerts.sweep.batch-size:5000}")
+    private int batchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private volatile boolean started;
+
+    @Override
+    public void start() {
+        ensureSingleOpenEpisode();
+        started = true;
+    }
+
+    @Override
+    public void stop() {
+        started = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return started;
+    }
+
+    /**
+     * Justo después de MovementPartitionJob y antes que el servidor web: el índice se crea sin
+     * peticiones en curso y, desde la primera, openIfAbsent cuenta con él.
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE + 1;
+    }
+
+    /**
+     * Un solo episodio abierto por producto: lo garantiza un índice único parcial, que se crea
+     * al arrancar si falta (cerrando antes los duplicados que dejaran versiones anteriores).
+     */
+    public void ensureSingleOpenEpisode() {
+        int closed = alertRepo.ensureSingleOpenEpisode(Instant.now());
+        if (closed > 0) {
+            log.warn("Episodios de alerta abiertos duplicados cerrados: {}", closed);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.alerts.sweep.interval-ms:900000}",
+               initialDelayString = "${app.alerts.sweep.initial-delay-ms:60000}")
+    public void scheduledSweep() {
+        AlertSweepResultDto result = sweepAll();
+        if (result != null && result.getOpened() + result.getClosed() > 0) {
+            log.info("Barrido de umbrales: {} abiertas, {} cerradas en {} ms",
+                    result.getOpened(), result.getClosed(), result.getDurationMs());
+        }
+    }
+
+    /**
+     * Barrido de todo el catálogo, un rango de `batch-size` ids de producto por transacción.
+     * Devuelve null si ya hay un barrido en curso.
+     */
+    public AlertSweepResultDto sweepAll() {
+        if (!running.compareAndSet(false, true)) {
+            return null;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            long maxId = productRepo.findMaxId().orElse(0L);
+            int opened = 0;
+            int closed = 0;
+            for (long from = 0; from <= maxId; from += Math.max(1, batchSize)) {
+                long to = Math.min(maxId, from + Math.max(1, batchSize) - 1);
+                long lo = from;
+                int[] r = transactionTemplate.execute(status -> sweepRange(lo, to));
+                opened += r[0];
+                closed += r[1];
+            }
+            return AlertSweepResultDto.builder()
+                    .opened(opened)
+                    .closed(closed)
+                    .durationMs(System.currentTimeMillis() - start)
+                    .build();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /** Reevalúa un solo producto dentro de la transacción actual (p. ej. al cambiar sus umbrales). */
+    @Transactional
+    public void sweepProduct(Long productId) {
+        sweepRange(productId, productId);
+    }
+
+    /** Devuelve {abiertos, cerrados}. */
+    private int[] sweepRange(long fromProductId, long toProductId) {
+        // Instante truncado: el mismo valor se guarda y se vuelve a comparar en findOpenedAt
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+        List<AlertTransitionRow> stale = alertRepo.findStaleOpen(fromProductId, toProductId);
+        int closed = alertRepo.closeByIds(
+                stale.stream().map(AlertTransitionRow::getAlertId).collect(Collectors.toList()), now);
+        stale.forEach(row -> publish(row, AlertChangedEvent.ChangeType.CLOSED, now));
+
+        int opened = alertRepo.openMissing(fromProductId, toProductId, now);
+        if (opened > 0) {
+            unreadCount.alertsCreated(opened);
+            alertRepo.findOpenedAt(fromProductId, toProductId, now)
+                    .forEach(row -> publish(row, AlertChangedEvent.ChangeType.OPENED, now));
+        }
+        return new int[] { opened, closed };
+    }
+
+    private void publish(AlertTransitionRow row, AlertChangedEvent.ChangeType change, Instant at) {
+        eventPublisher.publishEvent(new AlertChangedEvent(
+                row.getAlertId(),
+                row.getProductId(),
+                row.getProductName(),
+                row.getAlertType().name(),
+                change,
+                at,
+                row.getCurrentStock(),
+                row.getThresholdMin(),
+                row.getThresholdMax()));
+    }
+}
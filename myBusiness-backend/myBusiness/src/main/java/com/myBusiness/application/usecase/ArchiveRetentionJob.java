@@ -0,0 +1,76 @@
+// src/main/java/com/myBusiness/application/usecase/ArchiveRetentionJob.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.domain.model.ArchiveBatch;
+import com.myBusiness.domain.port.AlertRepository;
+import com.myBusiness.domain.port.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Supplier;
+
+/**
+ * Mantiene pequeñas las tablas activas de alertas y notificaciones.
+ *  1) Mueve a *_archive lo más antiguo que `hot-days` (alertas: solo episodios cerrados),
+ *     por lotes de `batch-size` filas con INSERT … SELECT + DELETE por rango de id.
+ *  2) Borra del archivo lo más antiguo que `retention-days` con un único DELETE. Las alertas
+ *     se miden por closed_at en los dos pasos: un episodio largo no se purga recién archivado.
+ * Cada lote es una transacción e incluye el ajuste del contador de alertas no leídas.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArchiveRetentionJob {
+
+    private final AlertRepository alertRepo;
+    private final NotificationRepository notificationRepo;
+    private final UnreadCountUseCase unreadCount;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.retention.hot-days:90}")
+    private int hotDays;
+
+    @Value("${app.retention.retention-days:730}")
+    private int retentionDays;
+
+    @Value("${app.retention.batch-size:5000}")
+    private int batchSize;
+
+    @Scheduled(cron = "${app.retention.cron:0 15 4 * * *}")
+    public void run() {
+        Instant now = Instant.now();
+        Instant hotCutoff = now.minus(hotDays, ChronoUnit.DAYS);
+        Instant purgeCutoff = now.minus(retentionDays, ChronoUnit.DAYS);
+
+        int alerts = drain(() -> {
+            ArchiveBatch b = alertRepo.archiveClosedBefore(hotCutoff, batchSize);
+            unreadCount.alertsRead(b.getUnread());
+            return b;
+        });
+        int notifications = drain(() -> notificationRepo.archiveCreatedBefore(hotCutoff, batchSize));
+        int purgedAlerts = alertRepo.purgeArchiveBefore(purgeCutoff);
+        int purgedNotifications = notificationRepo.purgeArchiveBefore(purgeCutoff);
+
+        if (alerts + notifications + purgedAlerts + purgedNotifications > 0) {
+            log.info("Retención: archivadas {} alertas y {} notificaciones; purgadas {} y {} del archivo",
+                    alerts, notifications, purgedAlerts, purgedNotifications);
+        }
+    }
+
+    /** Repite lotes (uno por transacción) mientras vengan llenos. */
+    private int drain(Supplier<ArchiveBatch> batch) {
+        int total = 0;
+        ArchiveBatch b;
+        do {
+            b = transactionTemplate.execute(status -> batch.get());
+            total += b.getArchived();
+        } while (b.getArchived() >= batchSize);
+        return total;
+    }
+}
@@ -0,0 +1,53 @@
+// src/main/java/com/myBusiness/application/usecase/BusinessTimeZoneService.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.application.exception.InvalidTimeZoneException;
+import com.myBusiness.domain.model.Business;
+import com.myBusiness.domain.port.BusinessRepository;
+import com.myBusiness.domain.port.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+/**
+ * Zona horaria en la que se cortan los días de series, tendencias, listados y reportes:
+ * la pedida explícitamente; si no, la del negocio del usuario; si no tiene, UTC.
+ */
+@Service
+@RequiredArgsConstructor
+public class BusinessTimeZoneService {
+
+    private final UserRepository userRepository;
+    private final BusinessRepository businessRepository;
+
+    public ZoneId resolve(Long userId) {
+        return resolve(null, userId);
+    }
+
+    public ZoneId resolve(String tz, Long userId) {
+        String id = tz;
+        if ((id == null || id.isBlank()) && userId != null) {
+            id = userRepository.findById(userId)
+                    .flatMap(businessRepository::findByOwner)
+                    .map(Business::getTimeZone)
+                    .orElse(null);
+        }
+        return parse(id).orElse(ZoneOffset.UTC);
+    }
+
+    /** Zona vacía o null = sin zona. Una zona que no existe lanza InvalidTimeZoneException. */
+    public Optional<ZoneId> parse(String timeZone) {
+        if (timeZone == null || timeZone.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(ZoneId.of(timeZone));
+        } catch (DateTimeException e) {
+            throw new InvalidTimeZoneException("Zona horaria inválida: " + timeZone);
+        }
+    }
+}
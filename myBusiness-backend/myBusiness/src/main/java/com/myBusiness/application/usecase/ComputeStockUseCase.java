@@ -1,48 +1,126 @@
 package com.myBusiness.application.usecase;
 
 import com.myBusiness.domain.model.InventoryMovement;
+import com.myBusiness.domain.model.MovementType;
 import com.myBusiness.domain.port.InventoryMovementRepository;
+import com.myBusiness.domain.port.LocationStockRepository;
+import com.myBusiness.domain.port.ProductStockRepository;
+import com.myBusiness.domain.port.StockSnapshotRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class ComputeStockUseCase {
 
     private final InventoryMovementRepository movementRepo;
+    private final ProductStockRepository stockRepo;
+    private final LocationStockRepository locationStockRepo;
+    private final StockSnapshotRepository snapshotRepo;
+    private final MovementHistoryService history;
 
     /**
-     * Calcula el stock actual de un producto sumando/restando movimientos en orden cronológico:
+     * Stock actual de un producto: suma de sus saldos por ubicación (location_stock).
+     * Se lee de ahí y no de product_stock porque las escrituras de movimientos solo tocan la
+     * fila de su ubicación; product_stock es un total derivado que se pone al día desde el
+     * outbox (ProductStockProjection) para las consultas agrupadas.
+     */
+    public BigDecimal execute(Long productId) {
+        return locationStockRepo.sumByProduct(productId);
+    }
+
+    /**
+     * Stock actual de varios productos con una sola consulta agrupada sobre location_stock.
+     */
+    public Map<Long, BigDecimal> executeAll(Collection<Long> productIds) {
+        Map<Long, BigDecimal> stocks = locationStockRepo.sumByProducts(productIds);
+        for (Long productId : productIds) {
+            stocks.putIfAbsent(productId, BigDecimal.ZERO);
+        }
+        return stocks;
+    }
+
+    /**
+     * Pone product_stock al día con la suma por ubicación de cada producto.
+     */
+    public void refreshTotals(Collection<Long> productIds) {
+        Map<Long, BigDecimal> sums = locationStockRepo.sumByProducts(productIds);
+        for (Long productId : productIds) {
+            stockRepo.upsert(productId, sums.getOrDefault(productId, BigDecimal.ZERO));
+        }
+    }
+
+    /**
+     * Recalcula y guarda en product_stock el saldo recorriendo todos los movimientos.
+     * Solo para productos anteriores a los saldos materializados (ver backfillBalances).
+     */
+    public BigDecimal rebuild(Long productId) {
+        BigDecimal stock = replay(productId);
+        stockRepo.upsert(productId, stock);
+        return stock;
+    }
+
+    /**
+     * Calcula el stock de un producto sumando/restando movimientos en orden cronológico:
      *  - ENTRY: suma quantity
      *  - EXIT: resta quantity
      *  - ADJUSTMENT: fija stock = quantity
+     *  - TRANSFER: no cambia el total (solo mueve stock entre ubicaciones)
      * Nunca retorna valor negativo; en caso de suma/resta que diera <0, devuelve 0.
+     * Parte del stock archivado (stock_snapshots) si los movimientos más antiguos ya no están en la tabla.
+     * Solo lee desde el límite del archivo: lo anterior ya está en el snapshot (y PostgreSQL no
+     * recorre las particiones de esos meses).
      */
-    public BigDecimal execute(Long productId) {
-        List<InventoryMovement> movs = movementRepo.findAllByProductId(productId);
-        movs.sort(Comparator.comparing(InventoryMovement::getMovementDate, Comparator.nullsLast(Comparator.naturalOrder())));
-        BigDecimal stock = BigDecimal.ZERO;
+    public BigDecimal replay(Long productId) {
+        Instant from = history.archiveBoundary().orElse(Instant.EPOCH);
+        List<InventoryMovement> movs = new ArrayList<>(movementRepo.findAllByProductId(productId, from));
+        movs.sort(Comparator.comparing(InventoryMovement::getMovementDate, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(InventoryMovement::getId));
+        BigDecimal stock = snapshotRepo.findQuantity(productId).orElse(BigDecimal.ZERO);
         for (InventoryMovement m : movs) {
-            if (m.getMovementType() == null || m.getQuantity() == null) continue;
-            switch (m.getMovementType()) {
-                case ENTRY:
-                    stock = stock.add(m.getQuantity());
-                    break;
-                case EXIT:
-                    stock = stock.subtract(m.getQuantity());
-                    break;
-                case ADJUSTMENT:
-                    stock = m.getQuantity();
-                    break;
-            }
-            if (stock.compareTo(BigDecimal.ZERO) < 0) {
-                stock = BigDecimal.ZERO;
-            }
+            stock = apply(stock, m.getMovementType(), m.getQuantity());
         }
         return stock;
     }
+
+    /**
+     * Un paso del recorrido cronológico (ver replay).
+     */
+    public static BigDecimal apply(BigDecimal stock, MovementType type, BigDecimal quantity) {
+        if (type == null || quantity == null) {
+            return stock;
+        }
+        switch (type) {
+            case ENTRY:
+                stock = stock.add(quantity);
+                break;
+            case EXIT:
+                stock = stock.subtract(quantity);
+                break;
+            case ADJUSTMENT:
+                stock = quantity;
+                break;
+            case TRANSFER:
+                break;
+        }
+        return stock.compareTo(BigDecimal.ZERO) < 0 ? BigDecimal.ZERO : stock;
+    }
+
+    /**
+     * Crea el saldo de los productos que todavía no lo tienen (datos previos a la tabla
+     * product_stock); LocationStockService lo reparte después a la ubicación por defecto.
+     */
+    public void backfillBalances() {
+        for (Long productId : stockRepo.findProductIdsWithoutBalance()) {
+            rebuild(productId);
+        }
+    }
 }
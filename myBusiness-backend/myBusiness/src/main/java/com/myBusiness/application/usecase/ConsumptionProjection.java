@@ -0,0 +1,63 @@
+// src/main/java/com/myBusiness/application/usecase/ConsumptionProjection.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.application.event.OutboxProjection;
+import com.myBusiness.domain.model.MovementType;
+import com.myBusiness.domain.model.OutboxEvent;
+import com.myBusiness.domain.model.OutboxEventType;
+import com.myBusiness.domain.port.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tasa de consumo (product_consumption) alimentada desde el outbox en lugar de dentro de la
+ * transacción del movimiento. Un EXIT nuevo se suma en O(1); si en el lote hay modificaciones
+ * o bajas, el producto se reconstruye una sola vez al final (desde la tabla, que ya incluye
+ * todo lo confirmado), y sus altas del lote no se suman aparte.
+ */
+@Service
+@RequiredArgsConstructor
+public class ConsumptionProjection implements OutboxProjection {
+
+    private final TrackConsumptionUseCase trackConsumption;
+    private final ProductRepository productRepo;
+
+    @Override
+    public String name() {
+        return "consumption";
+    }
+
+    @Override
+    public void handle(List<OutboxEvent> events) {
+        Set<Long> rebuild = new LinkedHashSet<>();
+        for (OutboxEvent e : events) {
+            if (e.getEventType() == OutboxEventType.MOVEMENT_UPDATED) {
+                // Sin el tipo anterior no se sabe si era una salida: se reconstruye siempre
+                rebuild.add(e.getProductId());
+                if (e.getPreviousProductId() != null) {
+                    rebuild.add(e.getPreviousProductId());
+                }
+            } else if (e.getEventType() == OutboxEventType.MOVEMENT_DELETED && e.getMovementType() == MovementType.EXIT) {
+                rebuild.add(e.getProductId());
+            }
+        }
+
+        Map<Long, Boolean> exists = new HashMap<>();
+        for (OutboxEvent e : events) {
+            if (e.getEventType() == OutboxEventType.MOVEMENT_CREATED
+                    && e.getMovementType() == MovementType.EXIT
+                    && !rebuild.contains(e.getProductId())
+                    // Un producto borrado después del movimiento no debe recuperar su fila de consumo
+                    && exists.computeIfAbsent(e.getProductId(), id -> productRepo.findById(id).isPresent())) {
+                trackConsumption.recordExit(e.getProductId(), e.getQuantity(), e.getMovementDate());
+            }
+        }
+        rebuild.forEach(trackConsumption::rebuild);
+    }
+}
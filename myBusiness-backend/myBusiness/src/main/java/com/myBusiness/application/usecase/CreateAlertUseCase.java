@@ -20,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class CreateAlertUseCase {
 
     private final AlertRepository alertRepo;
+    private final UnreadCountUseCase unreadCount;
     private final ProductRepository productRepo;
     private final InventoryMovementRepository movementRepo;
 
@@ -37,7 +38,12 @@ public class CreateAlertUseCase {
             throw new InvalidAlertException("Tipo de alerta inválido: " + dto.getAlertType());
         }
 
-        // 3. Construir entidad Alert
+        // 3. Como mucho un episodio abierto por producto (índice único parcial en PostgreSQL)
+        if (!alertRepo.findOpenByProductId(prod.getId()).isEmpty()) {
+            throw new InvalidAlertException("El producto id=" + prod.getId() + " ya tiene una alerta abierta");
+        }
+
+        // 4. Construir entidad Alert
         Alert.AlertBuilder builder = Alert.builder()
                 .product(prod)
                 .alertType(type);
@@ -48,6 +54,7 @@ public class CreateAlertUseCase {
         }
         Alert ent = builder.build();
         Alert saved = alertRepo.save(ent);
+        unreadCount.alertsCreated(1);
         return toDto(saved);
     }
 
@@ -16,6 +16,7 @@ public class CreateBusinessUseCase {
 
     private final BusinessRepository businessRepository;
     private final UserRepository userRepository;
+    private final BusinessTimeZoneService timeZones;
 
     @Transactional
     public BusinessOutputDto execute(Long userId, BusinessInputDto inputDto) {
@@ -33,6 +34,8 @@ public class CreateBusinessUseCase {
             throw new RuntimeException("El NIT ya está registrado");
         }
 
+        timeZones.parse(inputDto.getTimeZone());
+
         // Create business
         Business business = Business.builder()
                 .name(inputDto.getName())
@@ -44,6 +47,7 @@ public class CreateBusinessUseCase {
                 .website(inputDto.getWebsite())
                 .logoUrl(inputDto.getLogoUrl())
                 .industry(inputDto.getIndustry())
+                .timeZone(inputDto.getTimeZone())
                 .owner(owner)
                 .build();
 
@@ -60,8 +64,9 @@ public class CreateBusinessUseCase {
                 .website(savedBusiness.getWebsite())
                 .logoUrl(savedBusiness.getLogoUrl())
                 .industry(savedBusiness.getIndustry())
+                .timeZone(savedBusiness.getTimeZone())
                 .createdAt(savedBusiness.getCreatedAt())
                 .updatedAt(savedBusiness.getUpdatedAt())
                 .build();
     }
-}
\ No newline at end of file
+}
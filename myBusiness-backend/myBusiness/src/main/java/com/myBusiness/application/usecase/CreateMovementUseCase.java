@@ -3,29 +3,28 @@ package com.myBusiness.application.usecase;
 
 import com.myBusiness.application.dto.MovementInputDto;
 import com.myBusiness.application.dto.MovementOutputDto;
+import com.myBusiness.application.event.MovementChangedEvent;
 import com.myBusiness.application.exception.InvalidMovementException;
-import com.myBusiness.domain.model.Alert;
-import com.myBusiness.domain.model.AlertType;
 import com.myBusiness.domain.model.InventoryMovement;
+import com.myBusiness.domain.model.Location;
 import com.myBusiness.domain.model.MovementType;
 import com.myBusiness.domain.model.Product;
-import com.myBusiness.domain.port.AlertRepository;
 import com.myBusiness.domain.port.InventoryMovementRepository;
 import com.myBusiness.domain.port.ProductRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-
 @Service
 @RequiredArgsConstructor
 public class CreateMovementUseCase {
 
     private final InventoryMovementRepository movRepo;
     private final ProductRepository prodRepo;
-    private final AlertRepository alertRepo;
-    private final ComputeStockUseCase computeStockUseCase;
+    private final SyncAlertStateUseCase syncAlertState;
+    private final LocationStockService locationStock;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public MovementOutputDto execute(MovementInputDto dto) {
@@ -39,34 +38,28 @@ public class CreateMovementUseCase {
             throw new InvalidMovementException("Tipo de movimiento inválido: " + dto.getMovementType());
         }
 
+        Location location = locationStock.resolve(dto.getLocationId());
+        Location destination = locationStock.resolveDestination(type, location, dto.getDestinationLocationId());
+
         InventoryMovement ent = InventoryMovement.builder()
                 .product(prod)
                 .movementType(type)
                 .quantity(dto.getQuantity())
                 .reason(dto.getReason())
+                .location(location)
+                .destinationLocation(destination)
                 .build();
         InventoryMovement saved = movRepo.save(ent);
+        // Solo se escriben las filas de sus ubicaciones; product_stock se actualiza desde el outbox
+        locationStock.apply(saved);
 
-        // Después de guardar, verificar stock y crear alerta si aplica
-        BigDecimal stockActual = computeStockUseCase.execute(prod.getId());
-        Integer min = prod.getThresholdMin();
-        Integer max = prod.getThresholdMax();
-        if (min != null && stockActual.compareTo(BigDecimal.valueOf(min)) < 0) {
-            Alert alert = Alert.builder()
-                    .product(prod)
-                    .alertType(AlertType.UNDERSTOCK)
-                    .movement(saved)
-                    .build();
-            alertRepo.save(alert);
-        } else if (max != null && stockActual.compareTo(BigDecimal.valueOf(max)) > 0) {
-            Alert alert = Alert.builder()
-                    .product(prod)
-                    .alertType(AlertType.OVERSTOCK)
-                    .movement(saved)
-                    .build();
-            alertRepo.save(alert);
-        }
+        // Abrir/cerrar el episodio de alerta solo si cambió el estado del producto
+        syncAlertState.sync(prod, saved);
 
+        // La tasa de consumo y demás vistas derivadas se actualizan desde el outbox (ConsumptionProjection)
+        eventPublisher.publishEvent(new MovementChangedEvent(
+                saved.getId(), prod.getId(), null, MovementChangedEvent.ChangeType.CREATED,
+                type, saved.getQuantity(), saved.getMovementDate()));
         return toDto(saved);
     }
 
@@ -78,6 +71,10 @@ public class CreateMovementUseCase {
                 .movementType(m.getMovementType().name())
                 .quantity(m.getQuantity())
                 .reason(m.getReason())
+                .locationId(m.getLocation() != null ? m.getLocation().getId() : null)
+                .locationName(m.getLocation() != null ? m.getLocation().getName() : null)
+                .destinationLocationId(m.getDestinationLocation() != null ? m.getDestinationLocation().getId() : null)
+                .destinationLocationName(m.getDestinationLocation() != null ? m.getDestinationLocation().getName() : null)
                 .movementDate(m.getMovementDate())
                 .createdBy(m.getCreatedBy())
                 .createdDate(m.getCreatedDate())
@@ -2,6 +2,7 @@ package com.myBusiness.application.usecase;
 
 import com.myBusiness.application.dto.ProductInputDto;
 import com.myBusiness.application.dto.ProductOutputDto;
+import com.myBusiness.application.event.ProductChangedEvent;
 import com.myBusiness.application.exception.InvalidProductException;
 import com.myBusiness.application.exception.CategoryNotFoundException;
 import com.myBusiness.application.exception.UnitNotFoundException;
@@ -11,6 +12,7 @@ import com.myBusiness.domain.port.CategoryRepository;
 import com.myBusiness.domain.port.UnitRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 
@@ -21,6 +23,7 @@ public class CreateProductUseCase {
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
     private final UnitRepository unitRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ProductOutputDto execute(ProductInputDto input) {
@@ -47,6 +50,7 @@ public class CreateProductUseCase {
                 .build();
 
         Product saved = productRepository.save(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(saved.getId()));
 
         // 4. Mapear a DTO de salida
         return ProductOutputDto.builder()
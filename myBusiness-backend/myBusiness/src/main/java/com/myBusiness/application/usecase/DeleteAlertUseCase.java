@@ -2,6 +2,7 @@
 package com.myBusiness.application.usecase;
 
 import com.myBusiness.application.exception.AlertNotFoundException;
+import com.myBusiness.domain.model.Alert;
 import com.myBusiness.domain.port.AlertRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -11,12 +12,15 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class DeleteAlertUseCase {
     private final AlertRepository alertRepo;
+    private final UnreadCountUseCase unreadCount;
 
     @Transactional
     public void execute(Long id) {
-        if (alertRepo.findById(id).isEmpty()) {
-            throw new AlertNotFoundException("Alerta no encontrada id=" + id);
-        }
+        Alert alert = alertRepo.findById(id)
+                .orElseThrow(() -> new AlertNotFoundException("Alerta no encontrada id=" + id));
         alertRepo.deleteById(id);
+        if (!alert.isRead()) {
+            unreadCount.alertsRead(1);
+        }
     }
 }
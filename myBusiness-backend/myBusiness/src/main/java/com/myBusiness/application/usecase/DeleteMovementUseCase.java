@@ -1,15 +1,17 @@
 // src/main/java/com/myBusiness/application/usecase/DeleteMovementUseCase.java
 package com.myBusiness.application.usecase;
 
+import com.myBusiness.application.event.MovementChangedEvent;
 import com.myBusiness.application.exception.MovementNotFoundException;
-import com.myBusiness.domain.model.Alert;
+import com.myBusiness.domain.model.InventoryMovement;
 import com.myBusiness.domain.port.AlertRepository;
 import com.myBusiness.domain.port.InventoryMovementRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.Instant;
 
 @Service
 @RequiredArgsConstructor
@@ -17,28 +19,39 @@ public class DeleteMovementUseCase {
 
     private final InventoryMovementRepository movRepo;
     private final AlertRepository alertRepo;
+    private final LocationStockService locationStock;
+    private final SyncAlertStateUseCase syncAlertState;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Elimina un movimiento. Para evitar errores por restricción de FK con Alert,
      * primero desasocia (movement = null) todas las alertas que referencien este movimiento,
      * y luego procede a borrar el movimiento.
      */
-    @Transactional
     public void execute(Long id) {
-        if (!movRepo.existsById(id)) {
-            throw new MovementNotFoundException("Movimiento no encontrado id=" + id);
-        }
+        execute(id, null);
+    }
+
+    /** movementDate (opcional) es la fecha del movimiento: limita la búsqueda a su partición. */
+    @Transactional
+    public void execute(Long id, Instant movementDate) {
+        InventoryMovement mov = movRepo.findById(id, movementDate)
+                .orElseThrow(() -> new MovementNotFoundException("Movimiento no encontrado id=" + id));
+        Long productId = mov.getProduct().getId();
+        LocationStockService.Effect effect = LocationStockService.Effect.of(mov);
 
         // Desasociar alertas que referencian este movimiento
-        List<Alert> allAlerts = alertRepo.findAll();
-        for (Alert a : allAlerts) {
-            if (a.getMovement() != null && id.equals(a.getMovement().getId())) {
-                a.setMovement(null);
-                alertRepo.save(a);
-            }
-        }
+        alertRepo.detachMovement(id);
 
         // Eliminar movimiento
-        movRepo.deleteById(id);
+        movRepo.delete(mov);
+        locationStock.reverse(effect);
+        locationStock.reconcile(productId,
+                effect.locationId() != null ? effect.locationId() : locationStock.defaultLocationId());
+        syncAlertState.sync(mov.getProduct(), null);
+
+        eventPublisher.publishEvent(new MovementChangedEvent(
+                id, productId, null, MovementChangedEvent.ChangeType.DELETED,
+                mov.getMovementType(), mov.getQuantity(), mov.getMovementDate()));
     }
 }
@@ -1,9 +1,15 @@
 package com.myBusiness.application.usecase;
 
+import com.myBusiness.application.event.ProductChangedEvent;
 import com.myBusiness.application.exception.ProductNotFoundException;
+import com.myBusiness.domain.port.LocationStockRepository;
 import com.myBusiness.domain.port.ProductRepository;
+import com.myBusiness.domain.port.ProductStockRepository;
+import com.myBusiness.domain.port.StockReservationRepository;
+import com.myBusiness.domain.port.StockSnapshotRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -11,6 +17,12 @@ import org.springframework.stereotype.Service;
 public class DeleteProductUseCase {
 
     private final ProductRepository productRepository;
+    private final ProductStockRepository stockRepository;
+    private final LocationStockRepository locationStockRepository;
+    private final StockReservationRepository reservationRepository;
+    private final StockSnapshotRepository snapshotRepository;
+    private final TrackConsumptionUseCase trackConsumption;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void execute(Long productId) {
@@ -18,5 +30,11 @@ public class DeleteProductUseCase {
             throw new ProductNotFoundException(productId);
         }
         productRepository.deleteById(productId);
+        stockRepository.deleteByProductId(productId);
+        locationStockRepository.deleteByProductId(productId);
+        reservationRepository.deleteByProductId(productId);
+        snapshotRepository.deleteByProductId(productId);
+        trackConsumption.delete(productId);
+        eventPublisher.publishEvent(new ProductChangedEvent(productId));
     }
 }
@@ -0,0 +1,168 @@
+// src/main/java/com/myBusiness/application/usecase/EmailOutboxWorker.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.application.dto.EmailOutboxStatsDto;
+import com.myBusiness.domain.model.EmailStatus;
+import com.myBusiness.domain.model.OutboundEmail;
+import com.myBusiness.domain.port.EmailOutboxRepository;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Envía los correos de email_outbox.
+ * Cada lote se manda con JavaMailSender.send(MimeMessage...), que abre una sola conexión
+ * SMTP para todos los mensajes del lote. Los fallos se reintentan con backoff exponencial
+ * hasta max-attempts; después el correo queda FAILED.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmailOutboxWorker {
+
+    private final EmailOutboxRepository outboxRepo;
+    private final JavaMailSender mailSender;
+
+    @Value("${app.mail.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.mail.outbox.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${app.mail.outbox.backoff-base-ms:5000}")
+    private long backoffBaseMs;
+
+    @Value("${app.mail.outbox.backoff-max-ms:3600000}")
+    private long backoffMaxMs;
+
+    @Value("${app.mail.outbox.lease-ms:300000}")
+    private long leaseMs;
+
+    @Value("${app.mail.outbox.retention-days:7}")
+    private int retentionDays;
+
+    @Value("${app.mail.outbox.from:no-reply@mybusiness.local}")
+    private String from;
+
+    /**
+     * Vacía la cola: sigue reclamando lotes mientras vengan llenos.
+     */
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval-ms:2000}")
+    public void drain() {
+        List<OutboundEmail> batch;
+        do {
+            Instant now = Instant.now();
+            batch = outboxRepo.claimBatch(batchSize, now, now.plusMillis(leaseMs));
+            if (!batch.isEmpty()) {
+                sendBatch(batch);
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    @Scheduled(cron = "${app.mail.outbox.cleanup-cron:0 30 3 * * *}")
+    public void purgeSent() {
+        int deleted = outboxRepo.deleteSentBefore(Instant.now().minus(retentionDays, ChronoUnit.DAYS));
+        if (deleted > 0) {
+            log.info("Outbox de correo: {} enviados eliminados", deleted);
+        }
+    }
+
+    public EmailOutboxStatsDto stats() {
+        Map<EmailStatus, Long> counts = outboxRepo.countByStatus();
+        Long oldestAge = outboxRepo.findOldestPendingDate()
+                .map(d -> Duration.between(d, Instant.now()).getSeconds())
+                .orElse(null);
+        return EmailOutboxStatsDto.builder()
+                .pending(counts.get(EmailStatus.PENDING))
+                .sending(counts.get(EmailStatus.SENDING))
+                .sent(counts.get(EmailStatus.SENT))
+                .failed(counts.get(EmailStatus.FAILED))
+                .oldestPendingAgeSeconds(oldestAge)
+                .build();
+    }
+
+    private void sendBatch(List<OutboundEmail> batch) {
+        Map<MimeMessage, OutboundEmail> byMessage = new IdentityHashMap<>();
+        for (OutboundEmail e : batch) {
+            try {
+                byMessage.put(toMimeMessage(e), e);
+            } catch (MessagingException ex) {
+                // Dirección o contenido inválido: reintentar no lo va a arreglar
+                fail(e, ex, true);
+            }
+        }
+        if (byMessage.isEmpty()) {
+            return;
+        }
+
+        Map<Object, Exception> failed = Map.of();
+        try {
+            mailSender.send(byMessage.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException ex) {
+            failed = ex.getFailedMessages();
+            if (failed.isEmpty()) {
+                failAll(byMessage.values(), ex);
+                return;
+            }
+        } catch (MailException ex) {
+            // Conexión o autenticación: no se envió nada del lote
+            failAll(byMessage.values(), ex);
+            return;
+        }
+
+        List<Long> sentIds = new ArrayList<>();
+        for (Map.Entry<MimeMessage, OutboundEmail> entry : byMessage.entrySet()) {
+            Exception error = failed.get(entry.getKey());
+            if (error == null) {
+                sentIds.add(entry.getValue().getId());
+            } else {
+                fail(entry.getValue(), error, false);
+            }
+        }
+        outboxRepo.markSent(sentIds, Instant.now());
+    }
+
+    private MimeMessage toMimeMessage(OutboundEmail e) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+        helper.setFrom(from);
+        helper.setTo(e.getRecipient());
+        helper.setSubject(e.getSubject());
+        helper.setText(e.getBody());
+        return message;
+    }
+
+    private void failAll(Iterable<OutboundEmail> emails, Exception ex) {
+        log.warn("Fallo enviando lote de correos: {}", ex.getMessage());
+        for (OutboundEmail e : emails) {
+            fail(e, ex, false);
+        }
+    }
+
+    private void fail(OutboundEmail e, Exception ex, boolean permanent) {
+        int attempt = e.getAttempts() + 1;
+        boolean giveUp = permanent || attempt >= maxAttempts;
+        long delay = Math.min(backoffMaxMs, backoffBaseMs << Math.min(attempt - 1, 20));
+        String error = ex.getMessage() == null ? ex.getClass().getSimpleName() : ex.getMessage();
+        if (error.length() > 500) {
+            error = error.substring(0, 500);
+        }
+        outboxRepo.markFailedAttempt(e.getId(), error, Instant.now().plusMillis(delay), giveUp);
+    }
+}
@@ -1,20 +1,24 @@
 package com.myBusiness.application.usecase;
 
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
+import com.myBusiness.domain.model.OutboundEmail;
+import com.myBusiness.domain.port.EmailOutboxRepository;
 import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class EmailService {
-    private final JavaMailSender mailSender;
+    private final EmailOutboxRepository outboxRepo;
 
+    /**
+     * Encola el correo en email_outbox; el envío real lo hace EmailOutboxWorker.
+     * Si se llama dentro de una transacción, el correo solo existe si ésta hace commit.
+     */
     public void sendSimpleMessage(String to, String subject, String text) {
-        SimpleMailMessage msg = new SimpleMailMessage();
-        msg.setTo(to);
-        msg.setSubject(subject);
-        msg.setText(text);
-        mailSender.send(msg);
+        outboxRepo.save(OutboundEmail.builder()
+                .recipient(to)
+                .subject(subject)
+                .body(text)
+                .build());
     }
 }
@@ -0,0 +1,189 @@
+// src/main/java/com/myBusiness/application/usecase/ExportMovementsUseCase.java
+package com.myBusiness.application.usecase;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.myBusiness.application.exception.InvalidMovementException;
+import com.myBusiness.domain.model.MovementLedgerRow;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+@RequiredArgsConstructor
+public class ExportMovementsUseCase {
+
+    public static final String FORMAT_CSV = "csv";
+    public static final String FORMAT_NDJSON = "ndjson";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String[] CSV_HEADER = {
+        "id", "productId", "productName", "categoryName", "unitName",
+        "movementType", "quantity", "reason", "movementDate", "createdBy"
+    };
+
+    private final MovementHistoryService movementHistory;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.movements.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${app.movements.export.chunk-days:31}")
+    private int chunkDays;
+
+    /**
+     * Valida los parámetros antes de empezar a escribir la respuesta
+     * (una vez iniciado el streaming ya no se puede devolver un 400).
+     */
+    public void validate(String format, LocalDate dateFrom, LocalDate dateTo) {
+        if (!FORMAT_CSV.equalsIgnoreCase(format) && !FORMAT_NDJSON.equalsIgnoreCase(format)) {
+            throw new InvalidMovementException("Formato de exportación inválido: " + format);
+        }
+        if (dateFrom != null && dateTo != null && dateFrom.isAfter(dateTo)) {
+            throw new InvalidMovementException("dateFrom no puede ser posterior a dateTo");
+        }
+    }
+
+    /**
+     * Escribe el libro de movimientos en `out`, en orden cronológico.
+     * El rango [dateFrom, dateTo] se recorre en ventanas de `chunkDays` días; cada ventana es
+     * un cursor independiente con fetch size configurado, de modo que la memoria usada es
+     * constante sin importar cuántas filas tenga el rango. Los meses archivados se leen de
+     * sus segmentos en disco. Los días se cortan en `zone`.
+     */
+    @Transactional(readOnly = true)
+    public void execute(String format,
+                        LocalDate dateFrom,
+                        LocalDate dateTo,
+                        Long productId,
+                        ZoneId zone,
+                        boolean gzip,
+                        OutputStream out) throws IOException {
+        LocalDate lastDay = dateTo != null ? dateTo : LocalDate.now(zone);
+        Instant end = lastDay.plusDays(1).atStartOfDay(zone).toInstant();
+        Instant start = dateFrom != null
+                ? dateFrom.atStartOfDay(zone).toInstant()
+                : movementHistory.findEarliestMovementDate().orElse(end);
+
+        GZIPOutputStream gzipOut = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : null;
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(gzipOut != null ? gzipOut : out, StandardCharsets.UTF_8),
+                BUFFER_SIZE);
+
+        RowWriter rowWriter = FORMAT_NDJSON.equalsIgnoreCase(format)
+                ? new NdjsonRowWriter(writer)
+                : new CsvRowWriter(writer);
+
+        Instant chunkStart = start;
+        while (chunkStart.isBefore(end)) {
+            Instant chunkEnd = chunkStart.plus(Math.max(1, chunkDays), ChronoUnit.DAYS);
+            if (chunkEnd.isAfter(end)) {
+                chunkEnd = end;
+            }
+            try (Stream<MovementLedgerRow> rows =
+                         movementHistory.streamLedger(productId, chunkStart, chunkEnd, fetchSize)) {
+                Iterator<MovementLedgerRow> it = rows.iterator();
+                while (it.hasNext()) {
+                    rowWriter.write(it.next());
+                }
+            }
+            // Entregar al cliente lo producido en cada ventana
+            rowWriter.flush();
+            chunkStart = chunkEnd;
+        }
+
+        rowWriter.flush();
+        if (gzipOut != null) {
+            gzipOut.finish();
+        }
+    }
+
+    public String contentType(String format, boolean gzip) {
+        if (gzip) {
+            return "application/gzip";
+        }
+        return FORMAT_NDJSON.equalsIgnoreCase(format) ? "application/x-ndjson" : "text/csv";
+    }
+
+    public String fileName(String format, boolean gzip) {
+        String ext = FORMAT_NDJSON.equalsIgnoreCase(format) ? FORMAT_NDJSON : FORMAT_CSV;
+        return "movements." + ext + (gzip ? ".gz" : "");
+    }
+
+    private interface RowWriter {
+        void write(MovementLedgerRow row) throws IOException;
+        void flush() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+        private final CSVPrinter printer;
+
+        CsvRowWriter(Writer writer) throws IOException {
+            this.printer = new CSVPrinter(writer,
+                    CSVFormat.DEFAULT.builder().setHeader(CSV_HEADER).build());
+        }
+
+        @Override
+        public void write(MovementLedgerRow r) throws IOException {
+            printer.printRecord(
+                r.getId(),
+                r.getProductId(),
+                r.getProductName(),
+                r.getCategoryName(),
+                r.getUnitName(),
+                r.getMovementType(),
+                r.getQuantity(),
+                r.getReason(),
+                r.getMovementDate(),
+                r.getCreatedBy()
+            );
+        }
+
+        @Override
+        public void flush() throws IOException {
+            printer.flush();
+        }
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+        private final ObjectWriter rowWriter;
+
+        NdjsonRowWriter(Writer writer) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(writer);
+            this.generator.setRootValueSeparator(null);
+            // Sin flush por fila: el flush se hace al cerrar cada ventana
+            this.rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        }
+
+        @Override
+        public void write(MovementLedgerRow row) throws IOException {
+            rowWriter.writeValue(generator, row);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+    }
+}
@@ -1,72 +1,110 @@
 // src/main/java/com/myBusiness/application/usecase/GenerateInventoryReportUseCase.java
 package com.myBusiness.application.usecase;
 
+import com.myBusiness.application.cache.ReportResultCache;
 import com.myBusiness.application.dto.InventoryReportRowDto;
 import com.myBusiness.application.dto.ReportFilterDto;
+import com.myBusiness.application.exception.InvalidMovementException;
 import com.myBusiness.domain.model.InventoryMovement;
 import com.myBusiness.domain.model.MovementType;
 import com.myBusiness.domain.model.Product;
-import com.myBusiness.domain.port.InventoryMovementRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfWriter;
 import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.Paragraph;
 import com.itextpdf.layout.element.Table;
+import com.itextpdf.layout.properties.UnitValue;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 
-import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class GenerateInventoryReportUseCase {
 
-    private final InventoryMovementRepository movementRepo;
+    private static final String[] REPORT_HEADERS = {
+            "Product ID", "Name", "Category", "Unit", "Current Stock", "Last Movement"
+    };
+    // Filas agregadas a la tabla PDF antes de volcarlas al writer
+    private static final int PDF_FLUSH_ROWS = 500;
+    // Filas de Excel que se mantienen en memoria; el resto se escribe a disco temporal
+    private static final int EXCEL_WINDOW_ROWS = 200;
+    // Peso estimado en caché de una fila del reporte (bytes)
+    private static final long ROW_WEIGHT_BYTES = 256;
 
+    private final MovementHistoryService movementHistory;
+    private final ReportResultCache reportCache;
+    private final BusinessTimeZoneService timeZones;
+
+    /**
+     * Filas del reporte para el filtro; el resultado se reutiliza desde ReportResultCache
+     * hasta que cambie algún movimiento dentro del alcance del filtro.
+     */
     public List<InventoryReportRowDto> execute(ReportFilterDto filter) {
-        // Llamamos directamente a findByFilter; si algún filtro es null, pasa null
+        return reportCache.getOrCompute("inventory", filter,
+                () -> compute(filter),
+                rows -> 64 + rows.size() * ROW_WEIGHT_BYTES);
+    }
+
+    private List<InventoryReportRowDto> compute(ReportFilterDto filter) {
+        // findByFilter con los filtros tal cual; si alguno es null, no se filtra por él
         LocalDate dateFrom = filter.getDateFrom();
         LocalDate dateTo = filter.getDateTo();
-        List<InventoryMovement> movements = movementRepo.findByFilter(
+        List<InventoryMovement> movements = movementHistory.findByFilter(
                 filter.getProductId(),
                 filter.getCategoryId(),
                 filter.getUnitId(),
+                filter.getLocationId(),
                 dateFrom,
-                dateTo
+                dateTo,
+                timeZones.resolve(filter.getTimeZone(), null)
         );
 
+        MovementType typeFilter = parseMovementType(filter.getMovementType());
+        boolean onlyBelow = Boolean.TRUE.equals(filter.getThresholdBelow());
+        Long locationId = filter.getLocationId();
+
         return movements.stream()
+            .filter(m -> typeFilter == null || m.getMovementType() == typeFilter)
             .collect(Collectors.groupingBy(m -> m.getProduct().getId()))
             .entrySet().stream()
             .map(entry -> {
                 List<InventoryMovement> group = entry.getValue();
                 Product prod = group.get(0).getProduct();
-                // Sumar/Restar según tipo
-                BigDecimal stock = group.stream()
-                    .map(m -> {
-                        MovementType mt = m.getMovementType();
-                        if (mt == MovementType.ENTRY) {
-                            return m.getQuantity();
-                        } else if (mt == MovementType.EXIT) {
-                            return m.getQuantity().negate();
-                        } else {
-                            // ADJUSTMENT: aquí asumimos se suma; si tu lógica es “fijar stock”, habría que cambiar
-                            return m.getQuantity();
-                        }
-                    })
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+                // Recorrido cronológico: ADJUSTMENT fija el stock y TRANSFER solo cuenta
+                // cuando el reporte es de una ubicación
+                group.sort(Comparator.comparing(InventoryMovement::getMovementDate)
+                        .thenComparing(InventoryMovement::getId));
+                BigDecimal stock = BigDecimal.ZERO;
+                for (InventoryMovement m : group) {
+                    stock = locationId == null
+                            ? ComputeStockUseCase.apply(stock, m.getMovementType(), m.getQuantity())
+                            : LocationStockService.applyAt(stock, m, locationId);
+                }
                 Instant lastDate = group.stream()
                     .map(InventoryMovement::getMovementDate)
                     .max(Instant::compareTo)
                     .orElse(Instant.now());
 
+                if (onlyBelow && stock.compareTo(BigDecimal.valueOf(prod.getThresholdMin())) >= 0) {
+                    return null;
+                }
+
                 return InventoryReportRowDto.builder()
                     .productId(prod.getId())
                     .productName(prod.getName())
@@ -76,18 +114,30 @@ public class GenerateInventoryReportUseCase {
                     .lastMovementDate(lastDate)
                     .build();
             })
-            .collect(Collectors.toList());
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    private MovementType parseMovementType(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return MovementType.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidMovementException("Tipo de movimiento inválido: " + value);
+        }
     }
 
-    public byte[] exportToExcel(ReportFilterDto filter) throws Exception {
+    public void exportToExcel(ReportFilterDto filter, OutputStream out) throws IOException {
         List<InventoryReportRowDto> rows = execute(filter);
-        try (Workbook wb = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+        SXSSFWorkbook wb = new SXSSFWorkbook(EXCEL_WINDOW_ROWS);
+        try {
             Sheet sheet = wb.createSheet("Inventory Report");
             Row header = sheet.createRow(0);
-            String[] cols = {"Product ID","Name","Category","Unit","Current Stock","Last Movement"};
-            for (int i = 0; i < cols.length; i++) {
+            for (int i = 0; i < REPORT_HEADERS.length; i++) {
                 Cell cell = header.createCell(i);
-                cell.setCellValue(cols[i]);
+                cell.setCellValue(REPORT_HEADERS[i]);
             }
             int rowIdx = 1;
             for (InventoryReportRowDto r : rows) {
@@ -100,23 +150,38 @@ public class GenerateInventoryReportUseCase {
                 row.createCell(5).setCellValue(r.getLastMovementDate().toString());
             }
             wb.write(out);
-            return out.toByteArray();
+        } finally {
+            wb.close();
+            wb.dispose();
         }
     }
 
-    public byte[] exportToPdf(ReportFilterDto filter) throws Exception {
+    /**
+     * Genera el PDF directamente sobre `out` (p.ej. la respuesta HTTP).
+     * La tabla se crea en modo "large table": se agrega al documento vacía y las filas se
+     * vuelcan por bloques de PDF_FLUSH_ROWS, así las páginas terminadas se escriben mientras
+     * se producen y la memoria no crece con el tamaño del catálogo. Los encabezados se
+     * repiten en cada página y las fuentes se crean una sola vez por documento.
+     */
+    public void exportToPdf(ReportFilterDto filter, OutputStream out) throws IOException {
         List<InventoryReportRowDto> rows = execute(filter);
-        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-            PdfWriter writer = new PdfWriter(out);
-            PdfDocument pdf = new PdfDocument(writer);
-            Document doc = new Document(pdf);
-            Table table = new Table(new float[]{2,4,4,3,3,4});
-            table.addHeaderCell("Product ID");
-            table.addHeaderCell("Name");
-            table.addHeaderCell("Category");
-            table.addHeaderCell("Unit");
-            table.addHeaderCell("Current Stock");
-            table.addHeaderCell("Last Movement");
+        PdfWriter writer = new PdfWriter(out);
+        // El stream lo cierra quien lo abrió (contenedor o archivo), no iText
+        writer.setCloseStream(false);
+        try (Document doc = new Document(new PdfDocument(writer))) {
+            PdfFont regular = PdfFontFactory.createFont(StandardFonts.HELVETICA);
+            PdfFont bold = PdfFontFactory.createFont(StandardFonts.HELVETICA_BOLD);
+            doc.setFont(regular).setFontSize(9);
+
+            Table table = new Table(UnitValue.createPercentArray(new float[]{2,4,4,3,3,4}), true)
+                    .useAllAvailableWidth();
+            for (String h : REPORT_HEADERS) {
+                table.addHeaderCell(new com.itextpdf.layout.element.Cell()
+                        .add(new Paragraph(h).setFont(bold)));
+            }
+            doc.add(table);
+
+            int count = 0;
             for (InventoryReportRowDto r : rows) {
                 table.addCell(String.valueOf(r.getProductId()));
                 table.addCell(r.getProductName());
@@ -124,10 +189,11 @@ public class GenerateInventoryReportUseCase {
                 table.addCell(r.getUnitName());
                 table.addCell(r.getCurrentStock().toString());
                 table.addCell(r.getLastMovementDate().toString());
+                if (++count % PDF_FLUSH_ROWS == 0) {
+                    table.flush();
+                }
             }
-            doc.add(table);
-            doc.close();
-            return out.toByteArray();
+            table.complete();
         }
     }
 }
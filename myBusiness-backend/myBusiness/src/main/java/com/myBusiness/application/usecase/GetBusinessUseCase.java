@@ -35,6 +35,7 @@ public class GetBusinessUseCase {
                 .website(business.getWebsite())
                 .logoUrl(business.getLogoUrl())
                 .industry(business.getIndustry())
+                .timeZone(business.getTimeZone())
                 .createdAt(business.getCreatedAt())
                 .updatedAt(business.getUpdatedAt())
                 .build();
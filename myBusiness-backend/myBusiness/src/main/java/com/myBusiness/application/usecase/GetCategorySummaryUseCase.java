@@ -1,73 +1,100 @@
 // src/main/java/com/myBusiness/application/usecase/GetCategorySummaryUseCase.java
 package com.myBusiness.application.usecase;
 
+import com.myBusiness.application.cache.ReportResultCache;
 import com.myBusiness.application.dto.CategorySummaryDto;
-import com.myBusiness.domain.model.InventoryMovement;
-import com.myBusiness.domain.model.Product;
-import com.myBusiness.domain.port.CategoryRepository;
-import com.myBusiness.domain.port.InventoryMovementRepository;
-import com.myBusiness.domain.port.ProductRepository;
+import com.myBusiness.application.dto.ReportFilterDto;
+import com.myBusiness.domain.model.CategoryStockRow;
+import com.myBusiness.domain.model.StockReplayRow;
+import com.myBusiness.domain.port.ProductStockRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class GetCategorySummaryUseCase {
 
-    private final CategoryRepository categoryRepo;
-    private final ProductRepository productRepo;
-    private final InventoryMovementRepository movementRepo;
+    private final ProductStockRepository stockRepo;
+    private final MovementHistoryService movementHistory;
+    private final ReportResultCache reportCache;
+
+    @Value("${app.movements.export.fetch-size:1000}")
+    private int fetchSize;
 
     public List<CategorySummaryDto> execute() {
-        List<CategorySummaryDto> result = new ArrayList<>();
-        var allCats = categoryRepo.findAll();
-        for (var cat : allCats) {
-            Long catId = cat.getId();
-            // Filtrar productos de esta categoría
-            List<Product> prods = productRepo.findAll().stream()
-                    .filter(p -> p.getCategory() != null && p.getCategory().getId().equals(catId))
-                    .collect(Collectors.toList());
-            long skuCount = prods.size();
-            BigDecimal accumValue = BigDecimal.ZERO;
-            for (var p : prods) {
-                BigDecimal stockActual = computeStockForProduct(p.getId());
-                accumValue = accumValue.add(p.getPrice().multiply(stockActual));
-            }
+        return execute(null, null);
+    }
+
+    /**
+     * Resumen por categoría: SKUs y valor de stock (precio × stock).
+     *  - Sin asOf: una sola consulta agrupada sobre el saldo materializado (product_stock,
+     *    que se actualiza desde el outbox y puede ir unos instantes por detrás).
+     *  - Con asOf: el valor se reconstruye recorriendo una sola vez, en streaming, los
+     *    movimientos hasta el fin de ese día (incluidos los archivados, ver MovementHistoryService).
+     * unitId (opcional) restringe a productos de esa unidad.
+     */
+    @Transactional(readOnly = true)
+    public List<CategorySummaryDto> execute(LocalDate asOf, Long unitId) {
+        ReportFilterDto key = new ReportFilterDto();
+        key.setUnitId(unitId);
+        key.setDateTo(asOf);
+        return reportCache.getOrCompute("categories", key,
+                () -> compute(asOf, unitId),
+                r -> 64L + r.size() * 128L);
+    }
+
+    private List<CategorySummaryDto> compute(LocalDate asOf, Long unitId) {
+        List<CategoryStockRow> rows = stockRepo.summarizeByCategory(unitId);
+        Map<Long, BigDecimal> valuesAsOf = asOf != null ? valuesAsOf(asOf, unitId) : null;
+
+        List<CategorySummaryDto> result = new ArrayList<>(rows.size());
+        for (CategoryStockRow row : rows) {
+            BigDecimal value = valuesAsOf != null
+                    ? valuesAsOf.getOrDefault(row.getCategoryId(), BigDecimal.ZERO)
+                    : row.getTotalValue();
             result.add(CategorySummaryDto.builder()
-                    .categoryId(catId)
-                    .categoryName(cat.getName())
-                    .totalSkus(skuCount)
-                    .totalValue(accumValue)
+                    .categoryId(row.getCategoryId())
+                    .categoryName(row.getCategoryName())
+                    .totalSkus(row.getSkuCount())
+                    .totalValue(value)
                     .build());
         }
-        return result;
+        return List.copyOf(result);
     }
 
-    private BigDecimal computeStockForProduct(Long productId) {
-        // Usar findAllByProductId (suma/recorre orden no estrictamente cronológico; 
-        // si necesitas orden, podrías ordenar por movementDate tras obtener la lista)
-        List<InventoryMovement> movements = movementRepo.findAllByProductId(productId);
-        // Ordenar cronológicamente asc:
-        movements.sort(Comparator.comparing(InventoryMovement::getMovementDate));
-        BigDecimal stock = BigDecimal.ZERO;
-        for (var m : movements) {
-            switch (m.getMovementType()) {
-                case ENTRY:
-                    stock = stock.add(m.getQuantity());
-                    break;
-                case EXIT:
-                    stock = stock.subtract(m.getQuantity());
-                    break;
-                case ADJUSTMENT:
-                    // si tu lógica es fijar stock: stock = m.getQuantity();
-                    stock = m.getQuantity();
-                    break;
+    /**
+     * Valor de stock por categoría al cierre del día asOf. Las filas llegan ordenadas por
+     * producto, así que basta con un acumulador por producto.
+     */
+    private Map<Long, BigDecimal> valuesAsOf(LocalDate asOf, Long unitId) {
+        Instant until = asOf.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant();
+        Map<Long, BigDecimal> values = new HashMap<>();
+        try (Stream<StockReplayRow> rows = movementHistory.streamStockReplay(unitId, until, fetchSize)) {
+            Iterator<StockReplayRow> it = rows.iterator();
+            StockReplayRow current = null;
+            BigDecimal stock = BigDecimal.ZERO;
+            while (it.hasNext()) {
+                StockReplayRow r = it.next();
+                if (current != null && !current.getProductId().equals(r.getProductId())) {
+                    values.merge(current.getCategoryId(), current.getPrice().multiply(stock), BigDecimal::add);
+                    stock = BigDecimal.ZERO;
+                }
+                current = r;
+                stock = ComputeStockUseCase.apply(stock, r.getMovementType(), r.getQuantity());
+            }
+            if (current != null) {
+                values.merge(current.getCategoryId(), current.getPrice().multiply(stock), BigDecimal::add);
             }
         }
-        return stock.max(BigDecimal.ZERO);
+        return values;
     }
 }
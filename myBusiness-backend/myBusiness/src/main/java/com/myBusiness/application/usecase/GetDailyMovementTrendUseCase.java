@@ -3,7 +3,6 @@ package com.myBusiness.application.usecase;
 
 import com.myBusiness.application.dto.DailyMovementCountDto;
 import com.myBusiness.domain.model.InventoryMovement;
-import com.myBusiness.domain.port.InventoryMovementRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -17,20 +16,22 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class GetDailyMovementTrendUseCase {
 
-    private final InventoryMovementRepository movementRepo;
+    private final MovementHistoryService movementHistory;
+    private final BusinessTimeZoneService timeZones;
 
-    public List<DailyMovementCountDto> execute(int days) {
-        ZoneId zid = ZoneId.systemDefault();
+    public List<DailyMovementCountDto> execute(int days, Long userId) {
+        ZoneId zid = timeZones.resolve(userId);
         LocalDate today = LocalDate.now(zid);
         LocalDate fromDate = today.minusDays(days - 1);
 
         // Obtener movimientos en el rango [fromDate, today]
-        List<InventoryMovement> todos = movementRepo.findByFilter(
+        List<InventoryMovement> todos = movementHistory.findByFilter(
             null,
             null,
             null,
             fromDate,
-            today
+            today,
+            zid
         );
 
         // Agrupar por LocalDate de movementDate
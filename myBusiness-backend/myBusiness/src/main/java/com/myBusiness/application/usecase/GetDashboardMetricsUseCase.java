@@ -1,9 +1,7 @@
 package com.myBusiness.application.usecase;
 
 import com.myBusiness.application.dto.DashboardMetricsDto;
-import com.myBusiness.domain.model.InventoryMovement;
 import com.myBusiness.domain.model.Product;
-import com.myBusiness.domain.port.AlertRepository;
 import com.myBusiness.domain.port.InventoryMovementRepository;
 import com.myBusiness.domain.port.ProductRepository;
 import lombok.RequiredArgsConstructor;
@@ -20,7 +18,7 @@ public class GetDashboardMetricsUseCase {
 
     private final ProductRepository productRepo;
     private final InventoryMovementRepository movRepo;
-    private final AlertRepository alertRepo;
+    private final UnreadCountUseCase unreadCount;
     private final ComputeStockUseCase computeStockUseCase;
 
     public DashboardMetricsDto execute() {
@@ -34,13 +32,10 @@ public class GetDashboardMetricsUseCase {
             totalValue = totalValue.add(precio.multiply(stockActual));
         }
 
-        long totalOpenAlerts = alertRepo.findAllUnread().size();
+        long totalOpenAlerts = unreadCount.unreadAlerts();
 
-        Instant cutoff7 = Instant.now().minus(7, ChronoUnit.DAYS);
-        long movementsLast7Days = movRepo.findAll().stream()
-            .map(InventoryMovement::getMovementDate)
-            .filter(d -> d != null && d.isAfter(cutoff7))
-            .count();
+        Instant now = Instant.now();
+        long movementsLast7Days = movRepo.countBetween(now.minus(7, ChronoUnit.DAYS), now);
 
         return DashboardMetricsDto.builder()
                 .totalProducts(totalProducts)
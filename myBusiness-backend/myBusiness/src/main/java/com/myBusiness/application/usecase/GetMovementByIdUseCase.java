@@ -27,6 +27,10 @@ public class GetMovementByIdUseCase {
                 .movementType(ent.getMovementType().name())
                 .quantity(ent.getQuantity())
                 .reason(ent.getReason())
+                .locationId(ent.getLocation() != null ? ent.getLocation().getId() : null)
+                .locationName(ent.getLocation() != null ? ent.getLocation().getName() : null)
+                .destinationLocationId(ent.getDestinationLocation() != null ? ent.getDestinationLocation().getId() : null)
+                .destinationLocationName(ent.getDestinationLocation() != null ? ent.getDestinationLocation().getName() : null)
                 .movementDate(ent.getMovementDate())
                 .createdBy(ent.getCreatedBy())
                 .createdDate(ent.getCreatedDate())
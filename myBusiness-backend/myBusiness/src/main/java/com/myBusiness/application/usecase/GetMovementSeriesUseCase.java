@@ -0,0 +1,183 @@
+// src/main/java/com/myBusiness/application/usecase/GetMovementSeriesUseCase.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.application.dto.MovementSeriesDto;
+import com.myBusiness.application.exception.InvalidMovementException;
+import com.myBusiness.domain.model.ArchivedMovement;
+import com.myBusiness.domain.model.MovementSeriesRow;
+import com.myBusiness.domain.model.MovementType;
+import com.myBusiness.domain.port.InventoryMovementRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class GetMovementSeriesUseCase {
+
+    private static final Set<String> BUCKETS = Set.of("hour", "day", "week", "month");
+
+    private final InventoryMovementRepository movementRepo;
+    private final BusinessTimeZoneService timeZones;
+    private final MovementHistoryService movementHistory;
+
+    @Value("${app.movements.series.max-buckets:2000}")
+    private int maxBuckets;
+
+    @Value("${app.movements.series.default-days:30}")
+    private int defaultDays;
+
+    /**
+     * Serie de movimientos agrupada en la BD por intervalo y tipo.
+     * La zona horaria se toma de `tz`, si no de la configuración del negocio del usuario y,
+     * en último caso, UTC; así el resultado no depende de la zona del servidor.
+     * [dateFrom, dateTo] son días locales incluyentes en esa zona.
+     */
+    @Transactional(readOnly = true)
+    public MovementSeriesDto execute(String bucket,
+                                     String tz,
+                                     LocalDate dateFrom,
+                                     LocalDate dateTo,
+                                     Long productId,
+                                     Long categoryId,
+                                     Long userId) {
+        String unit = bucket == null ? "day" : bucket.toLowerCase(Locale.ROOT);
+        if (!BUCKETS.contains(unit)) {
+            throw new InvalidMovementException("Intervalo inválido: " + bucket);
+        }
+        ZoneId zone = timeZones.resolve(tz, userId);
+
+        LocalDate lastDay = dateTo != null ? dateTo : LocalDate.now(zone);
+        LocalDate firstDay = dateFrom != null ? dateFrom : lastDay.minusDays(Math.max(1, defaultDays) - 1L);
+        if (firstDay.isAfter(lastDay)) {
+            throw new InvalidMovementException("dateFrom no puede ser posterior a dateTo");
+        }
+
+        // Intervalos locales completos que cubren el rango pedido
+        LocalDateTime first = truncate(firstDay.atStartOfDay(), unit);
+        LocalDateTime end = lastDay.plusDays(1).atStartOfDay();
+        List<LocalDateTime> buckets = new ArrayList<>();
+        for (LocalDateTime b = first; b.isBefore(end); b = next(b, unit)) {
+            if (buckets.size() >= maxBuckets) {
+                throw new InvalidMovementException(
+                    "El rango solicitado excede el máximo de " + maxBuckets + " intervalos");
+            }
+            buckets.add(b);
+        }
+
+        Instant from = first.atZone(zone).toInstant();
+        Instant to = end.atZone(zone).toInstant();
+        List<MovementSeriesRow> rows = new ArrayList<>(movementRepo.findSeries(
+            unit,
+            zone.getId(),
+            from,
+            to,
+            productId,
+            categoryId
+        ));
+
+        // Meses ya archivados: se agrupan aquí con el mismo truncado que date_trunc
+        Instant boundary = movementHistory.archiveBoundary().orElse(null);
+        if (boundary != null && from.isBefore(boundary)) {
+            rows.addAll(aggregateArchived(from, to.isBefore(boundary) ? to : boundary,
+                    unit, zone, productId, categoryId));
+        }
+
+        // Rellenar con ceros los intervalos sin movimientos
+        Map<LocalDateTime, Integer> index = new HashMap<>(buckets.size() * 2);
+        for (int i = 0; i < buckets.size(); i++) {
+            index.put(buckets.get(i), i);
+        }
+        Map<String, long[]> counts = new LinkedHashMap<>();
+        Map<String, BigDecimal[]> quantities = new LinkedHashMap<>();
+        for (MovementType type : MovementType.values()) {
+            BigDecimal[] q = new BigDecimal[buckets.size()];
+            Arrays.fill(q, BigDecimal.ZERO);
+            counts.put(type.name(), new long[buckets.size()]);
+            quantities.put(type.name(), q);
+        }
+        for (MovementSeriesRow row : rows) {
+            Integer i = index.get(row.getBucketStart());
+            if (i == null) {
+                continue;
+            }
+            // Un intervalo que cruza el límite de archivo llega en dos filas
+            String type = row.getMovementType().name();
+            counts.get(type)[i] += row.getCount();
+            quantities.get(type)[i] = quantities.get(type)[i].add(row.getQuantity());
+        }
+
+        return MovementSeriesDto.builder()
+                .bucket(unit)
+                .timeZone(zone.getId())
+                .buckets(buckets)
+                .counts(counts)
+                .quantities(quantities)
+                .build();
+    }
+
+    private List<MovementSeriesRow> aggregateArchived(Instant from,
+                                                      Instant to,
+                                                      String unit,
+                                                      ZoneId zone,
+                                                      Long productId,
+                                                      Long categoryId) {
+        Map<LocalDateTime, Map<MovementType, MovementSeriesRow>> acc = new HashMap<>();
+        try (Stream<ArchivedMovement> archived = movementHistory.streamArchived(from, to)) {
+            archived
+                .filter(m -> productId == null || productId.equals(m.getProductId()))
+                .filter(m -> categoryId == null || categoryId.equals(m.getCategoryId()))
+                .forEach(m -> {
+                    LocalDateTime bucketStart = truncate(LocalDateTime.ofInstant(m.getMovementDate(), zone), unit);
+                    acc.computeIfAbsent(bucketStart, k -> new EnumMap<>(MovementType.class))
+                       .merge(m.getMovementType(),
+                              new MovementSeriesRow(bucketStart, m.getMovementType(), 1, m.getQuantity()),
+                              (a, b) -> new MovementSeriesRow(bucketStart, a.getMovementType(),
+                                      a.getCount() + 1, a.getQuantity().add(b.getQuantity())));
+                });
+        }
+        List<MovementSeriesRow> result = new ArrayList<>();
+        acc.values().forEach(byType -> result.addAll(byType.values()));
+        return result;
+    }
+
+    /** Mismo truncado que date_trunc de PostgreSQL (la semana empieza el lunes). */
+    private static LocalDateTime truncate(LocalDateTime t, String unit) {
+        return switch (unit) {
+            case "hour" -> t.truncatedTo(ChronoUnit.HOURS);
+            case "week" -> t.toLocalDate()
+                    .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay();
+            case "month" -> t.toLocalDate().withDayOfMonth(1).atStartOfDay();
+            default -> t.truncatedTo(ChronoUnit.DAYS);
+        };
+    }
+
+    private static LocalDateTime next(LocalDateTime t, String unit) {
+        return switch (unit) {
+            case "hour" -> t.plusHours(1);
+            case "week" -> t.plusWeeks(1);
+            case "month" -> t.plusMonths(1);
+            default -> t.plusDays(1);
+        };
+    }
+}
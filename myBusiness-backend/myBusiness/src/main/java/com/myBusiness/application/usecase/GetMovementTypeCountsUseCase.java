@@ -3,7 +3,6 @@ package com.myBusiness.application.usecase;
 
 import com.myBusiness.application.dto.MovementTypeCountDto;
 import com.myBusiness.domain.model.InventoryMovement;
-import com.myBusiness.domain.port.InventoryMovementRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -16,19 +15,21 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class GetMovementTypeCountsUseCase {
 
-    private final InventoryMovementRepository movementRepo;
+    private final MovementHistoryService movementHistory;
+    private final BusinessTimeZoneService timeZones;
 
-    public List<MovementTypeCountDto> execute(int days) {
-        ZoneId zid = ZoneId.systemDefault();
+    public List<MovementTypeCountDto> execute(int days, Long userId) {
+        ZoneId zid = timeZones.resolve(userId);
         LocalDate today = LocalDate.now(zid);
         LocalDate fromDate = today.minusDays(days - 1);
 
-        List<InventoryMovement> todos = movementRepo.findByFilter(
+        List<InventoryMovement> todos = movementHistory.findByFilter(
             null,
             null,
             null,
             fromDate,
-            today
+            today,
+            zid
         );
 
         Map<String, Long> countsPorTipo = todos.stream()
@@ -38,7 +39,7 @@ public class GetMovementTypeCountsUseCase {
             ));
 
         List<MovementTypeCountDto> resultado = new ArrayList<>();
-        for (String tipo : List.of("ENTRY", "EXIT", "ADJUSTMENT")) {
+        for (String tipo : List.of("ENTRY", "EXIT", "ADJUSTMENT", "TRANSFER")) {
             long cnt = countsPorTipo.getOrDefault(tipo, 0L);
             resultado.add(MovementTypeCountDto.builder()
                 .movementType(tipo)
@@ -0,0 +1,79 @@
+// src/main/java/com/myBusiness/application/usecase/GetProductForecastUseCase.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.application.dto.ProductForecastDto;
+import com.myBusiness.application.exception.ProductNotFoundException;
+import com.myBusiness.domain.model.ProductConsumption;
+import com.myBusiness.domain.model.ProductForecastRow;
+import com.myBusiness.domain.port.ProductConsumptionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class GetProductForecastUseCase {
+
+    private final ProductConsumptionRepository consumptionRepo;
+    private final TrackConsumptionUseCase trackConsumption;
+
+    public ProductForecastDto execute(Long productId) {
+        return consumptionRepo.findForecastRows(productId).stream()
+                .findFirst()
+                .map(r -> toDto(r, LocalDate.now(ZoneId.systemDefault())))
+                .orElseThrow(() -> new ProductNotFoundException(productId));
+    }
+
+    /**
+     * Pronóstico de todo el catálogo con una sola consulta (saldo + consumo por producto).
+     */
+    public List<ProductForecastDto> executeAll() {
+        LocalDate today = LocalDate.now(ZoneId.systemDefault());
+        return consumptionRepo.findForecastRows(null).stream()
+                .map(r -> toDto(r, today))
+                .toList();
+    }
+
+    /**
+     * Consumo diario actual por producto (solo productos con salidas).
+     */
+    public Map<Long, Double> dailyRates() {
+        LocalDate today = LocalDate.now(ZoneId.systemDefault());
+        return consumptionRepo.findForecastRows(null).stream()
+                .filter(r -> r.getDailyRate() != null)
+                .collect(Collectors.toMap(ProductForecastRow::getProductId, r -> rate(r, today)));
+    }
+
+    public double rate(ProductForecastRow r, LocalDate today) {
+        if (r.getDailyRate() == null) {
+            return 0;
+        }
+        return ProductConsumption.rateAt(r.getDailyRate(), r.getCurrentDay(), r.getCurrentDayQty(),
+                today, trackConsumption.alpha());
+    }
+
+    private ProductForecastDto toDto(ProductForecastRow r, LocalDate today) {
+        double rate = rate(r, today);
+        Long days = null;
+        LocalDate stockoutDate = null;
+        if (rate > 0) {
+            days = (long) Math.floor(r.getCurrentStock().doubleValue() / rate);
+            stockoutDate = today.plusDays(days);
+        }
+        return ProductForecastDto.builder()
+                .productId(r.getProductId())
+                .productName(r.getProductName())
+                .currentStock(r.getCurrentStock())
+                .dailyConsumption(BigDecimal.valueOf(rate).setScale(4, RoundingMode.HALF_UP))
+                .daysToStockout(days)
+                .projectedStockoutDate(stockoutDate)
+                .build();
+    }
+}
@@ -1,21 +1,24 @@
 // src/main/java/com/myBusiness/application/usecase/GetReportSummaryUseCase.java
 package com.myBusiness.application.usecase;
 
+import com.myBusiness.application.cache.ReportResultCache;
 import com.myBusiness.application.dto.ReportFilterDto;
 import com.myBusiness.application.dto.ReportSummaryDto;
 import com.myBusiness.domain.model.InventoryMovement;
 import com.myBusiness.domain.model.MovementType;
 import com.myBusiness.domain.model.Product;
-import com.myBusiness.domain.port.InventoryMovementRepository;
 import com.myBusiness.domain.port.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -23,23 +26,32 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class GetReportSummaryUseCase {
 
-    private final InventoryMovementRepository inventoryMovementRepository;
+    private final MovementHistoryService movementHistory;
     private final ProductRepository productRepository;
+    private final ReportResultCache reportCache;
+    private final GetProductForecastUseCase forecastUseCase;
+    private final BusinessTimeZoneService timeZones;
 
     public ReportSummaryDto execute(ReportFilterDto filter) {
-        LocalDate dateTo = filter.getDateTo() != null ? filter.getDateTo() : LocalDate.now();
+        return reportCache.getOrCompute("summary", filter, () -> compute(filter), s -> 128L);
+    }
+
+    private ReportSummaryDto compute(ReportFilterDto filter) {
+        ZoneId zone = timeZones.resolve(filter.getTimeZone(), null);
+        LocalDate dateTo = filter.getDateTo() != null ? filter.getDateTo() : LocalDate.now(zone);
 
         Set<Long> productIds = new HashSet<>();
         if (filter.getProductId() != null) {
             productIds.add(filter.getProductId());
         } else {
             // extraer movimientos hasta dateTo según category/unit
-            List<InventoryMovement> movsHastaHoy = inventoryMovementRepository.findByFilter(
+            List<InventoryMovement> movsHastaHoy = movementHistory.findByFilter(
                     null,
                     filter.getCategoryId(),
                     filter.getUnitId(),
                     null,
-                    dateTo
+                    dateTo,
+                    zone
             );
             for (InventoryMovement mov : movsHastaHoy) {
                 if (mov.getProduct() != null && mov.getProduct().getId() != null) {
@@ -51,35 +63,13 @@ public class GetReportSummaryUseCase {
         long totalSkusCount = 0;
         BigDecimal totalValueSum = BigDecimal.ZERO;
 
-        LocalDate dateFromForConsumption = filter.getDateFrom() != null
-                ? filter.getDateFrom()
-                : dateTo.minusDays(30);
-        long daysInPeriod = Math.max(1, ChronoUnit.DAYS.between(dateFromForConsumption, dateTo) + 1);
-
-        // consumo EXIT en el período
-        List<InventoryMovement> movsForConsumption = inventoryMovementRepository.findByFilter(
-                null,
-                filter.getCategoryId(),
-                filter.getUnitId(),
-                dateFromForConsumption,
-                dateTo
-        );
-        BigDecimal totalConsumedInPeriod = BigDecimal.ZERO;
-        for (InventoryMovement mov : movsForConsumption) {
-            if (mov.getMovementType() == MovementType.EXIT && mov.getQuantity() != null) {
-                totalConsumedInPeriod = totalConsumedInPeriod.add(mov.getQuantity());
-            }
-        }
-        BigDecimal avgDailyConsumption = BigDecimal.ZERO;
-        if (totalConsumedInPeriod.compareTo(BigDecimal.ZERO) > 0) {
-            avgDailyConsumption = totalConsumedInPeriod.divide(
-                    BigDecimal.valueOf(daysInPeriod),
-                    8, BigDecimal.ROUND_HALF_UP);
-        }
+        BigDecimal avgDailyConsumption = filter.getDateFrom() != null
+                ? averageConsumptionInPeriod(filter, filter.getDateFrom(), dateTo, zone)
+                : trackedConsumption(productIds, filter);
 
         for (Long pid : productIds) {
             if (!matchesCategoryAndUnit(pid, filter)) continue;
-            BigDecimal stockActual = computeCurrentStockForProductUpTo(pid, dateTo);
+            BigDecimal stockActual = computeCurrentStockForProductUpTo(pid, dateTo, zone);
             if (stockActual == null || stockActual.compareTo(BigDecimal.ZERO) <= 0) continue;
             totalSkusCount++;
             BigDecimal unitCost = fetchUnitCost(pid);
@@ -90,7 +80,7 @@ public class GetReportSummaryUseCase {
 
         int daysOfStock = 0;
         if (avgDailyConsumption.compareTo(BigDecimal.ZERO) > 0) {
-            BigDecimal totalUnitsStock = computeTotalUnitsStock(productIds, filter, dateTo);
+            BigDecimal totalUnitsStock = computeTotalUnitsStock(productIds, filter, dateTo, zone);
             if (totalUnitsStock.compareTo(BigDecimal.ZERO) > 0) {
                 daysOfStock = totalUnitsStock.divide(avgDailyConsumption, 0, BigDecimal.ROUND_DOWN).intValue();
             }
@@ -99,13 +89,56 @@ public class GetReportSummaryUseCase {
         return new ReportSummaryDto(totalSkusCount, totalValueStr, daysOfStock);
     }
 
-    private BigDecimal computeCurrentStockForProductUpTo(Long productId, LocalDate dateTo) {
-        List<InventoryMovement> movs = inventoryMovementRepository.findByFilter(
+    /**
+     * Consumo diario promedio de salidas EXIT en [dateFrom, dateTo] (recorre los movimientos).
+     */
+    private BigDecimal averageConsumptionInPeriod(ReportFilterDto filter, LocalDate dateFrom, LocalDate dateTo,
+                                                  ZoneId zone) {
+        long daysInPeriod = Math.max(1, ChronoUnit.DAYS.between(dateFrom, dateTo) + 1);
+        List<InventoryMovement> movsForConsumption = movementHistory.findByFilter(
+                null,
+                filter.getCategoryId(),
+                filter.getUnitId(),
+                dateFrom,
+                dateTo,
+                zone
+        );
+        BigDecimal totalConsumedInPeriod = BigDecimal.ZERO;
+        for (InventoryMovement mov : movsForConsumption) {
+            if (mov.getMovementType() == MovementType.EXIT && mov.getQuantity() != null) {
+                totalConsumedInPeriod = totalConsumedInPeriod.add(mov.getQuantity());
+            }
+        }
+        if (totalConsumedInPeriod.compareTo(BigDecimal.ZERO) <= 0) {
+            return BigDecimal.ZERO;
+        }
+        return totalConsumedInPeriod.divide(BigDecimal.valueOf(daysInPeriod), 8, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Sin dateFrom: suma de las tasas de consumo mantenidas por TrackConsumptionUseCase
+     * para los productos del alcance, sin recorrer movimientos.
+     */
+    private BigDecimal trackedConsumption(Set<Long> productIds, ReportFilterDto filter) {
+        Map<Long, Double> rates = forecastUseCase.dailyRates();
+        double total = 0;
+        for (Long pid : productIds) {
+            Double rate = rates.get(pid);
+            if (rate != null && matchesCategoryAndUnit(pid, filter)) {
+                total += rate;
+            }
+        }
+        return BigDecimal.valueOf(total);
+    }
+
+    private BigDecimal computeCurrentStockForProductUpTo(Long productId, LocalDate dateTo, ZoneId zone) {
+        List<InventoryMovement> movs = movementHistory.findByFilter(
                 productId,
                 null,
                 null,
                 null,
-                dateTo
+                dateTo,
+                zone
         );
         BigDecimal stock = BigDecimal.ZERO;
         for (InventoryMovement mov : movs) {
@@ -150,11 +183,12 @@ public class GetReportSummaryUseCase {
                 .orElse(BigDecimal.ZERO);
     }
 
-    private BigDecimal computeTotalUnitsStock(Set<Long> productIds, ReportFilterDto filter, LocalDate dateTo) {
+    private BigDecimal computeTotalUnitsStock(Set<Long> productIds, ReportFilterDto filter, LocalDate dateTo,
+                                              ZoneId zone) {
         BigDecimal sumUnits = BigDecimal.ZERO;
         for (Long pid : productIds) {
             if (!matchesCategoryAndUnit(pid, filter)) continue;
-            BigDecimal stock = computeCurrentStockForProductUpTo(pid, dateTo);
+            BigDecimal stock = computeCurrentStockForProductUpTo(pid, dateTo, zone);
             if (stock != null && stock.compareTo(BigDecimal.ZERO) > 0) {
                 sumUnits = sumUnits.add(stock);
             }
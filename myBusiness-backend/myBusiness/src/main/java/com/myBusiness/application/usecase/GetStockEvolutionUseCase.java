@@ -3,7 +3,6 @@ package com.myBusiness.application.usecase;
 
 import com.myBusiness.application.dto.StockByDateDto;
 import com.myBusiness.domain.model.InventoryMovement;
-import com.myBusiness.domain.port.InventoryMovementRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -16,20 +15,22 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class GetStockEvolutionUseCase {
 
-    private final InventoryMovementRepository movementRepo;
+    private final MovementHistoryService movementHistory;
+    private final BusinessTimeZoneService timeZones;
 
-    public List<StockByDateDto> execute(int days) {
-        ZoneId zone = ZoneId.systemDefault();
+    public List<StockByDateDto> execute(int days, Long userId) {
+        ZoneId zone = timeZones.resolve(userId);
         LocalDate today = LocalDate.now(zone);
         LocalDate start = today.minusDays(days - 1);
 
         // Obtener movimientos en el rango [start, today]
-        List<InventoryMovement> movs = movementRepo.findByFilter(
+        List<InventoryMovement> movs = movementHistory.findByFilter(
             null,
             null,
             null,
             start,
-            today
+            today,
+            zone
         );
 
         // Ordenar por movementDate asc
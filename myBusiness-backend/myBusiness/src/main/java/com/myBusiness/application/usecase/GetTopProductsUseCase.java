@@ -2,7 +2,6 @@ package com.myBusiness.application.usecase;
 
 import com.myBusiness.application.dto.TopProductDto;
 import com.myBusiness.domain.model.InventoryMovement;
-import com.myBusiness.domain.port.InventoryMovementRepository;
 import com.myBusiness.domain.port.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -16,21 +15,23 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class GetTopProductsUseCase {
 
-    private final InventoryMovementRepository movementRepo;
+    private final MovementHistoryService movementHistory;
+    private final BusinessTimeZoneService timeZones;
     private final ProductRepository productRepo;
 
     /**
      * Devuelve top N productos con mayor suma de EXIT en los últimos 30 días.
      */
-    public List<TopProductDto> execute(int topN) {
-        ZoneId zone = ZoneId.systemDefault();
+    public List<TopProductDto> execute(int topN, Long userId) {
+        ZoneId zone = timeZones.resolve(userId);
         LocalDate today = LocalDate.now(zone);
         LocalDate thirtyDaysAgo = today.minusDays(30);
 
-        List<InventoryMovement> inRange = movementRepo.findByFilter(
+        List<InventoryMovement> inRange = movementHistory.findByFilter(
             null, null, null,
             thirtyDaysAgo,
-            today
+            today,
+            zone
         );
 
         Map<Long, Long> sumByProduct = inRange.stream()
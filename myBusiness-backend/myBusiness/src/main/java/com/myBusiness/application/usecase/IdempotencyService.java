@@ -0,0 +1,170 @@
+// src/main/java/com/myBusiness/application/usecase/IdempotencyService.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.domain.model.IdempotencyRecord;
+import com.myBusiness.domain.model.IdempotencyStatus;
+import com.myBusiness.domain.port.IdempotencyRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reserva y resultado de las claves Idempotency-Key (ver IdempotencyFilter).
+ * La primera petición con una clave inserta la fila y se ejecuta; las repeticiones reciben
+ * la respuesta guardada sin volver a ejecutar nada. Mientras una petición se ejecuta, esta
+ * instancia renueva el latido de su fila cada `heartbeat-interval-ms` (en un hilo propio, para
+ * que no lo retrase ningún @Scheduled); una IN_PROGRESS sin latido durante
+ * `in-progress-timeout-seconds` se da por abandonada (la instancia cayó) y la puede retomar
+ * una repetición de la misma petición. Una clave caducada la puede reutilizar cualquiera.
+ * complete y release solo tocan la fila si sigue siendo el mismo uso (id y createdAt).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    public enum Outcome { EXECUTE, REPLAY, IN_PROGRESS, MISMATCH }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Claim {
+        private final Outcome outcome;
+        private final IdempotencyRecord record;
+    }
+
+    private final IdempotencyRepository idempotencyRepo;
+
+    @Value("${app.idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${app.idempotency.in-progress-timeout-seconds:60}")
+    private long inProgressTimeoutSeconds;
+
+    @Value("${app.idempotency.heartbeat-interval-ms:15000}")
+    private long heartbeatIntervalMs;
+
+    private final Map<Long, Instant> running = new ConcurrentHashMap<>();   // id -> createdAt en ejecución aquí
+    private ScheduledExecutorService heartbeats;
+
+    @PostConstruct
+    void init() {
+        heartbeats = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "idempotency-heartbeat");
+            t.setDaemon(true);
+            return t;
+        });
+        heartbeats.scheduleWithFixedDelay(this::heartbeat, heartbeatIntervalMs, heartbeatIntervalMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeats.shutdownNow();
+    }
+
+    public Claim begin(Long ownerId, String key, String requestHash) {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            // La BD guarda microsegundos: createdAt se compara después tal cual
+            Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+            IdempotencyRecord record = IdempotencyRecord.builder()
+                    .ownerId(ownerId)
+                    .idemKey(key)
+                    .requestHash(requestHash)
+                    .status(IdempotencyStatus.IN_PROGRESS)
+                    .createdAt(now)
+                    .heartbeatAt(now)
+                    .expiresAt(now.plus(Duration.ofHours(ttlHours)))
+                    .build();
+            try {
+                idempotencyRepo.insert(record);
+                running.put(record.getId(), record.getCreatedAt());
+                return new Claim(Outcome.EXECUTE, record);
+            } catch (DataIntegrityViolationException ex) {
+                // Ya existe: se decide con la fila guardada
+            }
+
+            IdempotencyRecord existing = idempotencyRepo.find(ownerId, key).orElse(null);
+            if (existing == null) {
+                continue;   // liberada entre el INSERT y la lectura
+            }
+            boolean expired = existing.getExpiresAt().isBefore(now);
+            if (!expired && !existing.getRequestHash().equals(requestHash)) {
+                return new Claim(Outcome.MISMATCH, existing);
+            }
+            boolean abandoned = existing.getStatus() == IdempotencyStatus.IN_PROGRESS
+                    && existing.getHeartbeatAt().isBefore(now.minusSeconds(inProgressTimeoutSeconds));
+            if (expired || abandoned) {
+                if (idempotencyRepo.takeOver(existing.getId(), existing.getCreatedAt(), existing.getHeartbeatAt(),
+                        requestHash, now, record.getExpiresAt())) {
+                    if (abandoned) {
+                        log.warn("Idempotency-Key {} del usuario {} sin latido desde {}; se ejecuta de nuevo",
+                                key, ownerId, existing.getHeartbeatAt());
+                    }
+                    record.setId(existing.getId());
+                    running.put(record.getId(), record.getCreatedAt());
+                    return new Claim(Outcome.EXECUTE, record);
+                }
+                return new Claim(Outcome.IN_PROGRESS, existing);
+            }
+            if (existing.getStatus() == IdempotencyStatus.IN_PROGRESS) {
+                return new Claim(Outcome.IN_PROGRESS, existing);
+            }
+            return new Claim(Outcome.REPLAY, existing);
+        }
+        return new Claim(Outcome.IN_PROGRESS, null);
+    }
+
+    public void complete(IdempotencyRecord record, int status, String contentType, String location, String body) {
+        running.remove(record.getId(), record.getCreatedAt());
+        if (!idempotencyRepo.complete(record.getId(), record.getCreatedAt(), status, contentType, location, body)) {
+            log.warn("Idempotency-Key {} del usuario {} la retomó otra petición; no se guarda esta respuesta",
+                    record.getIdemKey(), record.getOwnerId());
+        }
+    }
+
+    /** La petición falló sin respuesta definitiva: la clave queda libre para reintentar. */
+    public void release(IdempotencyRecord record) {
+        running.remove(record.getId(), record.getCreatedAt());
+        idempotencyRepo.delete(record.getId(), record.getCreatedAt());
+    }
+
+    void heartbeat() {
+        if (running.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        running.forEach((id, createdAt) -> {
+            try {
+                if (!idempotencyRepo.heartbeat(id, createdAt, now)) {
+                    running.remove(id, createdAt);
+                }
+            } catch (RuntimeException ex) {
+                log.warn("No se pudo renovar la clave de idempotencia {}", id, ex);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int deleted = idempotencyRepo.deleteExpired(Instant.now());
+        if (deleted > 0) {
+            log.info("Claves de idempotencia caducadas eliminadas: {}", deleted);
+        }
+    }
+}
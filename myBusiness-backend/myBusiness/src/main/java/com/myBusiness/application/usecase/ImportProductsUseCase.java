@@ -2,6 +2,7 @@
 package com.myBusiness.application.usecase;
 
 import com.myBusiness.application.dto.ProductInputDto;
+import com.myBusiness.application.event.ProductChangedEvent;
 import com.myBusiness.application.exception.ImportExportException;
 import com.myBusiness.application.util.CsvUtils;
 import com.myBusiness.domain.model.Category;
@@ -10,6 +11,7 @@ import com.myBusiness.domain.model.Unit;
 import com.myBusiness.domain.port.ProductRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -17,6 +19,7 @@ import org.springframework.web.multipart.MultipartFile;
 @RequiredArgsConstructor
 public class ImportProductsUseCase {
     private final ProductRepository prodRepo;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void execute(MultipartFile file) {
@@ -38,7 +41,8 @@ public class ImportProductsUseCase {
                     .unit(unit)          
                     .build();
 
-                prodRepo.save(p);
+                Product saved = prodRepo.save(p);
+                eventPublisher.publishEvent(new ProductChangedEvent(saved.getId()));
             }
         } catch (ImportExportException ie) {
             throw ie;
@@ -0,0 +1,24 @@
+// src/main/java/com/myBusiness/application/usecase/InventoryDataVersion.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.domain.port.InventoryMovementRepository;
+import com.myBusiness.domain.port.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Versión de los datos de inventario, leída de la BD (cantidad, id máximo y última
+ * modificación de movimientos y productos). Al ser persistida, es la misma en todas las
+ * instancias y sobrevive a los reinicios; dos cálculos con la misma versión ven los mismos datos.
+ */
+@Service
+@RequiredArgsConstructor
+public class InventoryDataVersion {
+
+    private final InventoryMovementRepository movementRepo;
+    private final ProductRepository productRepo;
+
+    public String current() {
+        return "m" + movementRepo.contentVersion() + "|p" + productRepo.contentVersion();
+    }
+}
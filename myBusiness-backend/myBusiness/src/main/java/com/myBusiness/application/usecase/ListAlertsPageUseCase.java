@@ -0,0 +1,44 @@
+// src/main/java/com/myBusiness/application/usecase/ListAlertsPageUseCase.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.application.dto.AlertOutputDto;
+import com.myBusiness.application.dto.CursorPageDto;
+import com.myBusiness.domain.model.Alert;
+import com.myBusiness.domain.port.AlertRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ListAlertsPageUseCase {
+
+    private final AlertRepository alertRepo;
+    private final AlertOutputAssembler assembler;
+
+    @Value("${app.alerts.page.max-size:200}")
+    private int maxSize;
+
+    /**
+     * Historial de alertas de la más reciente a la más antigua, por cursor (id de la última
+     * alerta recibida). Se pide una fila extra para saber si hay más sin hacer COUNT, y el
+     * stock se lee una vez por producto distinto de la página.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<AlertOutputDto> execute(Long cursor, int size, boolean unreadOnly) {
+        int limit = Math.max(1, Math.min(size, maxSize));
+        List<Alert> rows = alertRepo.findPage(cursor, unreadOnly, limit + 1);
+
+        boolean hasMore = rows.size() > limit;
+        List<Alert> page = hasMore ? rows.subList(0, limit) : rows;
+
+        return CursorPageDto.<AlertOutputDto>builder()
+                .content(assembler.toDtos(page))
+                .nextCursor(hasMore ? page.get(page.size() - 1).getId() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+}
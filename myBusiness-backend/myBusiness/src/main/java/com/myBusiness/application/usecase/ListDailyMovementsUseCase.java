@@ -2,7 +2,6 @@ package com.myBusiness.application.usecase;
 
 import com.myBusiness.application.dto.DailyMovementCountDto;
 import com.myBusiness.domain.model.InventoryMovement;
-import com.myBusiness.domain.port.InventoryMovementRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -14,23 +13,25 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ListDailyMovementsUseCase {
 
-    private final InventoryMovementRepository movementRepo;
+    private final MovementHistoryService movementHistory;
+    private final BusinessTimeZoneService timeZones;
 
     /**
      * Cuenta cuántos movimientos hubo cada día en los últimos `days` días (incluyendo hoy).
      */
-    public List<DailyMovementCountDto> execute(int days) {
-        ZoneId zid = ZoneId.systemDefault();
+    public List<DailyMovementCountDto> execute(int days, Long userId) {
+        ZoneId zid = timeZones.resolve(userId);
         LocalDate today = LocalDate.now(zid);
         LocalDate fromDate = today.minusDays(days - 1);
 
         // 1) Traer movimientos en ese rango de fechas
-        List<InventoryMovement> todos = movementRepo.findByFilter(
+        List<InventoryMovement> todos = movementHistory.findByFilter(
             null, 
             null, 
             null, 
             fromDate,
-            today
+            today,
+            zid
         );
 
         // 2) Agrupar por LocalDate directamente
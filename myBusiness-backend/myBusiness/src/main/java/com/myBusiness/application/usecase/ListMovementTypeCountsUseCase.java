@@ -2,7 +2,6 @@ package com.myBusiness.application.usecase;
 
 import com.myBusiness.application.dto.MovementTypeCountDto;
 import com.myBusiness.domain.model.InventoryMovement;
-import com.myBusiness.domain.port.InventoryMovementRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -14,20 +13,22 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ListMovementTypeCountsUseCase {
 
-    private final InventoryMovementRepository movementRepo;
+    private final MovementHistoryService movementHistory;
+    private final BusinessTimeZoneService timeZones;
 
     /**
      * Cuenta cuántos movimientos de cada tipo hubo en los últimos `days` días.
      */
-    public List<MovementTypeCountDto> execute(int days) {
-        ZoneId zid = ZoneId.systemDefault();
+    public List<MovementTypeCountDto> execute(int days, Long userId) {
+        ZoneId zid = timeZones.resolve(userId);
         LocalDate today = LocalDate.now(zid);
         LocalDate fromDate = today.minusDays(days - 1);
 
-        List<InventoryMovement> movs = movementRepo.findByFilter(
+        List<InventoryMovement> movs = movementHistory.findByFilter(
             null, null, null,
             fromDate,
-            today
+            today,
+            zid
         );
 
         Map<String, Long> countsByType = movs.stream()
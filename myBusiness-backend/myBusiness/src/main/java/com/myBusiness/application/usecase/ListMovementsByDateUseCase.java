@@ -2,11 +2,11 @@ package com.myBusiness.application.usecase;
 
 import com.myBusiness.application.dto.MovementOutputDto;
 import com.myBusiness.domain.model.InventoryMovement;
-import com.myBusiness.domain.port.InventoryMovementRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.time.*;
+import java.time.LocalDate;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -14,25 +14,18 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ListMovementsByDateUseCase {
 
-    private final InventoryMovementRepository movementRepo;
+    private final MovementHistoryService movementHistory;
+    private final BusinessTimeZoneService timeZones;
 
     /**
      * Devuelve lista de MovementOutputDto para todos los movimientos cuya
-     * movementDate (Instant) esté entre dateFrom (inicio del día) y dateTo (fin del día).
+     * movementDate (Instant) esté entre dateFrom (inicio del día) y dateTo (fin del día), en la zona del negocio de userId.
      */
-    public List<MovementOutputDto> execute(LocalDate dateFrom, LocalDate dateTo) {
-        // Convertir LocalDate dateFrom a Instant al inicio del día:
-        ZoneId zid = ZoneId.systemDefault();
-        Instant fromInstant = dateFrom.atStartOfDay(zid).toInstant();
-        // Convertir LocalDate dateTo a Instant al final del día:
-        Instant toInstant = dateTo.plusDays(1).atStartOfDay(zid).toInstant();
-
-        List<InventoryMovement> movimientos = movementRepo.findAll().stream()
-            .filter(m -> {
-                Instant inst = m.getMovementDate();
-                return !inst.isBefore(fromInstant) && inst.isBefore(toInstant);
-            })
-            .collect(Collectors.toList());
+    public List<MovementOutputDto> execute(LocalDate dateFrom, LocalDate dateTo, Long userId) {
+        // El rango se filtra en la BD (solo se leen las particiones de esas fechas)
+        List<InventoryMovement> movimientos = movementHistory.findByFilter(null, null, null, dateFrom, dateTo,
+                timeZones.resolve(userId));
+        movimientos.sort(Comparator.comparing(InventoryMovement::getMovementDate).reversed());
 
         return movimientos.stream()
                 .map(m -> MovementOutputDto.builder()
@@ -41,6 +34,10 @@ public class ListMovementsByDateUseCase {
                         .movementType(m.getMovementType().name())
                         .quantity(m.getQuantity())
                         .reason(m.getReason())
+                        .locationId(m.getLocation() != null ? m.getLocation().getId() : null)
+                        .locationName(m.getLocation() != null ? m.getLocation().getName() : null)
+                        .destinationLocationId(m.getDestinationLocation() != null ? m.getDestinationLocation().getId() : null)
+                        .destinationLocationName(m.getDestinationLocation() != null ? m.getDestinationLocation().getName() : null)
                         .movementDate(m.getMovementDate())
                         .createdBy(m.getCreatedBy())
                         .createdDate(m.getCreatedDate())
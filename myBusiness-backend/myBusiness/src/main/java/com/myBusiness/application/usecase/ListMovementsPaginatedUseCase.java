@@ -10,6 +10,7 @@ import com.myBusiness.domain.port.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -18,27 +19,32 @@ import java.util.stream.Collectors;
 public class ListMovementsPaginatedUseCase {
 
     private final InventoryMovementRepository movementRepo;
+    private final MovementHistoryService movementHistory;
     private final ProductRepository productRepo;
+    private final BusinessTimeZoneService timeZones;
 
     /**
      * Devuelve respuesta paginada de MovementOutputDto según filtros en DTO.
-     * Filtra primero con repository.findByFilter(productId, null, null, dateFrom, dateTo),
+     * Filtra primero con MovementHistoryService.findByFilter(productId, null, null, locationId, dateFrom, dateTo)
+     * (días en la zona del negocio de userId),
      * luego en memoria aplica movementType, search, ordena y pagina.
      */
-    public PageResponseDto<MovementOutputDto> execute(MovementFilterDto filterDto) {
+    public PageResponseDto<MovementOutputDto> execute(MovementFilterDto filterDto, Long userId) {
         int page = Optional.ofNullable(filterDto.getPage()).orElse(0);
         int size = Optional.ofNullable(filterDto.getSize()).orElse(10);
         Long productId = filterDto.getProductId();
         java.time.LocalDate dateFrom = filterDto.getDateFrom();
         java.time.LocalDate dateTo = filterDto.getDateTo();
 
-        // 1) Obtener lista base desde repo (dateFrom/dateTo y productId)
-        List<InventoryMovement> baseList = movementRepo.findByFilter(
+        // 1) Obtener lista base desde repo (dateFrom/dateTo, productId y locationId)
+        List<InventoryMovement> baseList = movementHistory.findByFilter(
                 productId,
                 null,
                 null,
+                filterDto.getLocationId(),
                 dateFrom,
-                dateTo
+                dateTo,
+                timeZones.resolve(userId)
         );
 
         // 2) Filtrar por movementType si se proporcionó
@@ -138,6 +144,10 @@ public class ListMovementsPaginatedUseCase {
                 .movementType(m.getMovementType().name())
                 .quantity(m.getQuantity())
                 .reason(m.getReason())
+                .locationId(m.getLocation() != null ? m.getLocation().getId() : null)
+                .locationName(m.getLocation() != null ? m.getLocation().getName() : null)
+                .destinationLocationId(m.getDestinationLocation() != null ? m.getDestinationLocation().getId() : null)
+                .destinationLocationName(m.getDestinationLocation() != null ? m.getDestinationLocation().getName() : null)
                 .movementDate(m.getMovementDate())
                 .createdBy(m.getCreatedBy())
                 .createdDate(m.getCreatedDate())
@@ -147,10 +157,10 @@ public class ListMovementsPaginatedUseCase {
     }
 
     /**
-     * Caso sencillo para fetchById
+     * Caso sencillo para fetchById; movementDate (opcional) limita la búsqueda a su partición
      */
-    public MovementOutputDto fetchById(Long id) {
-        return movementRepo.findById(id)
+    public MovementOutputDto fetchById(Long id, Instant movementDate) {
+        return movementRepo.findById(id, movementDate)
                 .map(this::toDto)
                 .orElseThrow(() -> new IllegalArgumentException("Movimiento no encontrado id=" + id));
     }
@@ -5,7 +5,6 @@ import com.myBusiness.application.dto.MovementFilterDto;
 import com.myBusiness.application.dto.MovementOutputDto;
 import com.myBusiness.domain.model.InventoryMovement;
 import com.myBusiness.domain.model.Product;
-import com.myBusiness.domain.port.InventoryMovementRepository;
 import com.myBusiness.domain.port.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
@@ -19,11 +18,12 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ListMovementsUseCase {
 
-    private final InventoryMovementRepository movementRepo;
+    private final MovementHistoryService movementHistory;
     private final ProductRepository productRepo;
+    private final BusinessTimeZoneService timeZones;
 
     @Transactional(readOnly = true)
-    public Page<MovementOutputDto> execute(MovementFilterDto filterDto) {
+    public Page<MovementOutputDto> execute(MovementFilterDto filterDto, Long userId) {
         int page = filterDto.getPage() != null ? filterDto.getPage() : 0;
         int size = filterDto.getSize() != null ? filterDto.getSize() : 10;
         // parseSort para crear Sort metadata, luego usaremos para ordenar en memoria
@@ -31,12 +31,14 @@ public class ListMovementsUseCase {
         Pageable pageable = PageRequest.of(page, size, sortMeta);
 
         // 1) Obtener lista cruda filtrada por repositorio
-        List<InventoryMovement> all = movementRepo.findByFilter(
+        List<InventoryMovement> all = movementHistory.findByFilter(
                 filterDto.getProductId(),
                 null,
                 null,
+                filterDto.getLocationId(),
                 filterDto.getDateFrom(),
-                filterDto.getDateTo()
+                filterDto.getDateTo(),
+                timeZones.resolve(userId)
         );
 
         // 2) Filtrar por movementType si aplica
@@ -150,6 +152,10 @@ public class ListMovementsUseCase {
                 .movementType(ent.getMovementType().name())
                 .quantity(ent.getQuantity())
                 .reason(ent.getReason())
+                .locationId(ent.getLocation() != null ? ent.getLocation().getId() : null)
+                .locationName(ent.getLocation() != null ? ent.getLocation().getName() : null)
+                .destinationLocationId(ent.getDestinationLocation() != null ? ent.getDestinationLocation().getId() : null)
+                .destinationLocationName(ent.getDestinationLocation() != null ? ent.getDestinationLocation().getName() : null)
                 .movementDate(ent.getMovementDate())
                 .createdBy(ent.getCreatedBy())
                 .createdDate(ent.getCreatedDate())
@@ -1,36 +1,25 @@
 package com.myBusiness.application.usecase;
 
 import com.myBusiness.application.dto.NotificationDto;
-import com.myBusiness.domain.model.Notification;
-import com.myBusiness.domain.port.NotificationRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
- * Este UseCase se encarga de listar todas las notificaciones NO leídas.
+ * Este UseCase se encarga de listar todas las notificaciones NO leídas del usuario.
  * Spring lo registrará como bean (gracias a @Service).
  */
 @Service
 @RequiredArgsConstructor
 public class ListNotificationsUseCase {
 
-    private final NotificationRepository notificationRepo;
+    private final NotificationInboxUseCase inbox;
 
     /**
-     * Devuelve un List<NotificationDto> con aquellas notificaciones cuyo campo isRead == false.
+     * Devuelve un List<NotificationDto> con las notificaciones que el usuario aún no leyó.
      */
-    public List<NotificationDto> execute() {
-        List<Notification> unreadEntities = notificationRepo.findAllUnread();
-        return unreadEntities.stream()
-                .map(n -> NotificationDto.builder()
-                        .id(n.getId())
-                        .message(n.getMessage())
-                        .createdDate(n.getCreatedDate())
-                        .isRead(n.isRead())
-                        .build())
-                .collect(Collectors.toList());
+    public List<NotificationDto> execute(Long userId) {
+        return inbox.listUnread(userId);
     }
 }
@@ -27,6 +27,10 @@ public class ListRecentMovementsUseCase {
                 .movementType(m.getMovementType().name())
                 .quantity(m.getQuantity())
                 .reason(m.getReason())
+                .locationId(m.getLocation() != null ? m.getLocation().getId() : null)
+                .locationName(m.getLocation() != null ? m.getLocation().getName() : null)
+                .destinationLocationId(m.getDestinationLocation() != null ? m.getDestinationLocation().getId() : null)
+                .destinationLocationName(m.getDestinationLocation() != null ? m.getDestinationLocation().getName() : null)
                 .movementDate(m.getMovementDate())
                 .createdBy(m.getCreatedBy())
                 .createdDate(m.getCreatedDate())
@@ -0,0 +1,143 @@
+// src/main/java/com/myBusiness/application/usecase/LocationService.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.application.dto.LocationDto;
+import com.myBusiness.application.dto.LocationInputDto;
+import com.myBusiness.application.dto.LocationStockDto;
+import com.myBusiness.application.exception.InvalidLocationException;
+import com.myBusiness.application.exception.LocationNotFoundException;
+import com.myBusiness.domain.model.Location;
+import com.myBusiness.domain.model.LocationStock;
+import com.myBusiness.domain.model.LocationType;
+import com.myBusiness.domain.port.LocationRepository;
+import com.myBusiness.domain.port.LocationStockRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Alta, consulta y baja de ubicaciones, y lectura de sus saldos (location_stock).
+ */
+@Service
+@RequiredArgsConstructor
+public class LocationService {
+
+    private final LocationRepository locationRepo;
+    private final LocationStockRepository locationStockRepo;
+    private final LocationStockService locationStock;
+
+    public List<LocationDto> list() {
+        Long defaultId = locationStock.defaultLocationId();
+        return locationRepo.findAll().stream().map(l -> toDto(l, defaultId)).toList();
+    }
+
+    public LocationDto get(Long id) {
+        return toDto(findLocation(id), locationStock.defaultLocationId());
+    }
+
+    @Transactional
+    public LocationDto create(LocationInputDto dto) {
+        String name = validateName(dto.getName(), null);
+        Location saved = locationRepo.save(Location.builder()
+                .name(name)
+                .type(parseType(dto.getType()))
+                .active(dto.getActive() == null || dto.getActive())
+                .build());
+        return toDto(saved, locationStock.defaultLocationId());
+    }
+
+    @Transactional
+    public LocationDto update(Long id, LocationInputDto dto) {
+        Location location = findLocation(id);
+        Long defaultId = locationStock.defaultLocationId();
+        if (id.equals(defaultId) && !location.getName().equals(dto.getName().trim())) {
+            throw new InvalidLocationException("La ubicación por defecto no se puede renombrar");
+        }
+        if (id.equals(defaultId) && Boolean.FALSE.equals(dto.getActive())) {
+            throw new InvalidLocationException("La ubicación por defecto no se puede desactivar");
+        }
+        location.setName(validateName(dto.getName(), id));
+        location.setType(parseType(dto.getType()));
+        if (dto.getActive() != null) {
+            location.setActive(dto.getActive());
+        }
+        return toDto(locationRepo.save(location), defaultId);
+    }
+
+    /**
+     * Solo se borran ubicaciones sin historial; las que tienen movimientos se desactivan.
+     */
+    @Transactional
+    public void delete(Long id) {
+        findLocation(id);
+        if (id.equals(locationStock.defaultLocationId())) {
+            throw new InvalidLocationException("La ubicación por defecto no se puede eliminar");
+        }
+        if (locationRepo.hasMovements(id) || locationStockRepo.hasStock(id)) {
+            throw new InvalidLocationException("La ubicación " + id + " tiene movimientos o stock; desactívela en su lugar");
+        }
+        locationRepo.deleteById(id);
+    }
+
+    /** Saldos de una ubicación: lee solo sus filas de location_stock. */
+    public List<LocationStockDto> stock(Long locationId) {
+        findLocation(locationId);
+        return locationStockRepo.findByLocation(locationId).stream().map(this::toStockDto).toList();
+    }
+
+    /** Reparto del stock de un producto entre ubicaciones. */
+    public List<LocationStockDto> productStock(Long productId) {
+        return locationStockRepo.findByProduct(productId).stream().map(this::toStockDto).toList();
+    }
+
+    private Location findLocation(Long id) {
+        return locationRepo.findById(id)
+                .orElseThrow(() -> new LocationNotFoundException("Ubicación no encontrada: " + id));
+    }
+
+    private String validateName(String name, Long id) {
+        String trimmed = name == null ? "" : name.trim();
+        if (trimmed.isEmpty()) {
+            throw new InvalidLocationException("El nombre de la ubicación no puede estar vacío");
+        }
+        locationRepo.findByName(trimmed)
+                .filter(other -> !other.getId().equals(id))
+                .ifPresent(other -> {
+                    throw new InvalidLocationException("Ya existe una ubicación con el nombre " + trimmed);
+                });
+        return trimmed;
+    }
+
+    private LocationType parseType(String type) {
+        try {
+            return LocationType.valueOf(type.trim().toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException ex) {
+            throw new InvalidLocationException(
+                    "Tipo de ubicación inválido: " + type + " (válidos: " + Arrays.toString(LocationType.values()) + ")");
+        }
+    }
+
+    private LocationDto toDto(Location l, Long defaultId) {
+        return LocationDto.builder()
+                .id(l.getId())
+                .name(l.getName())
+                .type(l.getType().name())
+                .active(l.isActive())
+                .defaultLocation(l.getId().equals(defaultId))
+                .createdDate(l.getCreatedDate())
+                .build();
+    }
+
+    private LocationStockDto toStockDto(LocationStock s) {
+        return LocationStockDto.builder()
+                .locationId(s.getLocationId())
+                .productId(s.getProductId())
+                .quantity(s.getQuantity())
+                .reserved(s.getReserved())
+                .updatedAt(s.getUpdatedAt())
+                .build();
+    }
+}
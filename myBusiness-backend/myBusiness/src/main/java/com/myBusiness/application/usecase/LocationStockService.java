@@ -0,0 +1,299 @@
+// src/main/java/com/myBusiness/application/usecase/LocationStockService.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.application.exception.InsufficientStockException;
+import com.myBusiness.application.exception.InvalidMovementException;
+import com.myBusiness.domain.model.InventoryMovement;
+import com.myBusiness.domain.model.Location;
+import com.myBusiness.domain.model.LocationType;
+import com.myBusiness.domain.model.MovementType;
+import com.myBusiness.domain.port.LocationRepository;
+import com.myBusiness.domain.port.LocationStockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+
+/**
+ * Saldos por (ubicación, producto) en location_stock, el único saldo que se escribe en cada
+ * movimiento (el total del producto es su suma; product_stock se deriva desde el outbox):
+ *  - ENTRY suma en su ubicación; EXIT resta y se rechaza si la ubicación no tiene stock sin
+ *    reservar suficiente (quantity - reserved, ver StockReservationService).
+ *  - TRANSFER resta en el origen (con la misma condición) y suma en el destino.
+ *  - ADJUSTMENT fija el total del producto como siempre; la diferencia se imputa a su ubicación.
+ * ENTRY, EXIT y TRANSFER son UPDATE condicionales sobre la fila de su par, así que ubicaciones
+ * distintas no se bloquean entre sí. ADJUSTMENT bloquea todas las filas del producto para leer
+ * el total. Orden de cerrojos: siempre por id de ubicación.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LocationStockService {
+
+    private final LocationRepository locationRepo;
+    private final LocationStockRepository locationStockRepo;
+    private final ComputeStockUseCase computeStockUseCase;
+
+    @Value("${app.locations.default-name:Principal}")
+    private String defaultName;
+
+    private volatile Long defaultLocationId;
+
+    /** Efecto de un movimiento sobre las ubicaciones, copiado antes de modificarlo o borrarlo. */
+    public record Effect(Long productId, MovementType type, BigDecimal quantity,
+                         Long locationId, Long destinationId, BigDecimal locationDelta) {
+
+        public static Effect of(InventoryMovement m) {
+            return new Effect(m.getProduct().getId(), m.getMovementType(), m.getQuantity(),
+                    idOf(m.getLocation()), idOf(m.getDestinationLocation()), m.getLocationDelta());
+        }
+    }
+
+    /**
+     * Al arrancar: crea la ubicación por defecto, le asigna los movimientos sin ubicación y le
+     * da el saldo de los productos que aún no tienen filas por ubicación.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        Location location = ensureDefaultLocation();
+        int movements = locationRepo.assignToUnlocatedMovements(location.getId());
+        computeStockUseCase.backfillBalances();
+        int balances = locationStockRepo.seedFromProductStock(location.getId());
+        if (movements > 0 || balances > 0) {
+            log.info("Ubicación por defecto '{}': {} movimientos y {} saldos asignados", defaultName, movements, balances);
+        }
+    }
+
+    public Long defaultLocationId() {
+        Long id = defaultLocationId;
+        return id != null ? id : ensureDefaultLocation().getId();
+    }
+
+    private Location ensureDefaultLocation() {
+        Location location = locationRepo.findByName(defaultName)
+                .orElseGet(() -> locationRepo.save(Location.builder()
+                        .name(defaultName)
+                        .type(LocationType.WAREHOUSE)
+                        .active(true)
+                        .build()));
+        defaultLocationId = location.getId();
+        return location;
+    }
+
+    /**
+     * Ubicación de un movimiento nuevo o editado; null = la ubicación por defecto.
+     */
+    public Location resolve(Long locationId) {
+        Long id = locationId != null ? locationId : defaultLocationId();
+        Location location = locationRepo.findById(id)
+                .orElseThrow(() -> new InvalidMovementException("Ubicación no encontrada id=" + id));
+        if (!location.isActive()) {
+            throw new InvalidMovementException("La ubicación " + location.getName() + " está inactiva");
+        }
+        return location;
+    }
+
+    /**
+     * Ubicación de destino de un TRANSFER (obligatoria y distinta del origen); los demás tipos no llevan.
+     */
+    public Location resolveDestination(MovementType type, Location source, Long destinationId) {
+        if (type != MovementType.TRANSFER) {
+            if (destinationId != null) {
+                throw new InvalidMovementException("destinationLocationId solo aplica a movimientos TRANSFER");
+            }
+            return null;
+        }
+        if (destinationId == null) {
+            throw new InvalidMovementException("Un TRANSFER requiere destinationLocationId");
+        }
+        if (destinationId.equals(source.getId())) {
+            throw new InvalidMovementException("El origen y el destino del TRANSFER deben ser distintos");
+        }
+        return resolve(destinationId);
+    }
+
+    /**
+     * Aplica un movimiento nuevo. En ADJUSTMENT lee el total con las filas del producto
+     * bloqueadas y guarda en el movimiento la diferencia imputada.
+     */
+    public void apply(InventoryMovement m) {
+        Long productId = m.getProduct().getId();
+        Long locationId = m.getLocation().getId();
+        BigDecimal q = m.getQuantity();
+        switch (m.getMovementType()) {
+            case ENTRY -> change(locationId, productId, q);
+            case EXIT -> take(locationId, productId, q);
+            case TRANSFER -> {
+                Long destinationId = m.getDestinationLocation().getId();
+                // Siempre en orden de id: dos traspasos opuestos no se bloquean mutuamente
+                if (locationId < destinationId) {
+                    take(locationId, productId, q);
+                    change(destinationId, productId, q);
+                } else {
+                    change(destinationId, productId, q);
+                    take(locationId, productId, q);
+                }
+            }
+            case ADJUSTMENT -> {
+                BigDecimal total = locationStockRepo.lockSumByProduct(productId);
+                BigDecimal delta = q.max(BigDecimal.ZERO).subtract(total);
+                change(locationId, productId, delta);
+                m.setLocationDelta(delta);
+            }
+        }
+    }
+
+    /**
+     * Deshace el efecto de un movimiento que se modifica o elimina. No valida saldo: si parte
+     * del stock ya salió de la ubicación, el saldo queda en 0 y lo corrige reconcile.
+     */
+    public void reverse(Effect e) {
+        if (e.locationId() == null || e.type() == null || e.quantity() == null) {
+            return;
+        }
+        switch (e.type()) {
+            case ENTRY -> credit(e.locationId(), e.productId(), e.quantity().negate());
+            case EXIT -> credit(e.locationId(), e.productId(), e.quantity());
+            case TRANSFER -> {
+                credit(e.locationId(), e.productId(), e.quantity());
+                if (e.destinationId() != null) {
+                    credit(e.destinationId(), e.productId(), e.quantity().negate());
+                }
+            }
+            case ADJUSTMENT -> {
+                // Sin delta (movimientos previos a las ubicaciones): lo resuelve reconcile
+                if (e.locationDelta() != null) {
+                    credit(e.locationId(), e.productId(), e.locationDelta().negate());
+                }
+            }
+        }
+    }
+
+    /**
+     * Aplica un movimiento editado, después de reverse.
+     * Un ADJUSTMENT editado no tiene un total "anterior" fiable: se imputa a su ubicación
+     * lo que falte para cuadrar con el total recalculado desde los movimientos.
+     */
+    public void applyEdited(InventoryMovement m) {
+        if (m.getMovementType() == MovementType.ADJUSTMENT) {
+            m.setLocationDelta(reconcile(m.getProduct().getId(), m.getLocation().getId()));
+        } else {
+            apply(m);
+        }
+    }
+
+    /**
+     * Hace que la suma por ubicación coincida con el total recalculado desde los movimientos
+     * (recorrido cronológico), imputando la diferencia a `locationId`. Se usa al modificar o
+     * eliminar movimientos, donde el orden cronológico puede cambiar el resultado.
+     * Devuelve la diferencia aplicada.
+     */
+    public BigDecimal reconcile(Long productId, Long locationId) {
+        return reconcile(productId, locationId, computeStockUseCase.replay(productId));
+    }
+
+    /** Igual que reconcile, con el total ya calculado. */
+    public BigDecimal reconcile(Long productId, Long locationId, BigDecimal total) {
+        BigDecimal diff = total.subtract(locationStockRepo.sumByProduct(productId));
+        if (diff.signum() != 0) {
+            credit(locationId, productId, diff);
+        }
+        return diff;
+    }
+
+    /**
+     * Un paso del recorrido cronológico del stock de una sola ubicación (ver
+     * ComputeStockUseCase.apply para el total). Los ADJUSTMENT sin delta son anteriores a las
+     * ubicaciones, cuando la ubicación por defecto tenía todo el stock: fijan el valor.
+     */
+    public static BigDecimal applyAt(BigDecimal stock, InventoryMovement m, Long locationId) {
+        if (m.getMovementType() == null || m.getQuantity() == null) {
+            return stock;
+        }
+        boolean atSource = locationId.equals(idOf(m.getLocation()));
+        BigDecimal q = m.getQuantity();
+        switch (m.getMovementType()) {
+            case ENTRY -> stock = atSource ? stock.add(q) : stock;
+            case EXIT -> stock = atSource ? stock.subtract(q) : stock;
+            case TRANSFER -> {
+                if (atSource) {
+                    stock = stock.subtract(q);
+                }
+                if (locationId.equals(idOf(m.getDestinationLocation()))) {
+                    stock = stock.add(q);
+                }
+            }
+            case ADJUSTMENT -> {
+                if (atSource) {
+                    stock = m.getLocationDelta() != null ? stock.add(m.getLocationDelta()) : q;
+                }
+            }
+        }
+        return stock.compareTo(BigDecimal.ZERO) < 0 ? BigDecimal.ZERO : stock;
+    }
+
+    /** Cambio validado: un delta negativo que dejaría el saldo bajo 0 se rechaza. */
+    private void change(Long locationId, Long productId, BigDecimal delta) {
+        if (delta.signum() == 0) {
+            return;
+        }
+        if (locationStockRepo.add(locationId, productId, delta)) {
+            return;
+        }
+        if (delta.signum() < 0) {
+            BigDecimal available = locationStockRepo.findQuantity(locationId, productId).orElse(BigDecimal.ZERO);
+            String name = locationRepo.findById(locationId).map(Location::getName).orElse(String.valueOf(locationId));
+            throw new InvalidMovementException("Stock insuficiente en la ubicación " + name
+                    + ": disponible " + available.toPlainString() + ", se requieren " + delta.negate().toPlainString());
+        }
+        ensureRow(locationId, productId);
+        locationStockRepo.add(locationId, productId, delta);
+    }
+
+    /**
+     * Salida validada contra lo no reservado. Si el stock alcanzaría pero está apartado por
+     * reservas, 409 (InsufficientStockException); si ni siquiera hay stock, 400 como siempre.
+     */
+    private void take(Long locationId, Long productId, BigDecimal q) {
+        if (locationStockRepo.take(locationId, productId, q)) {
+            return;
+        }
+        BigDecimal quantity = locationStockRepo.findQuantity(locationId, productId).orElse(BigDecimal.ZERO);
+        String name = locationRepo.findById(locationId).map(Location::getName).orElse(String.valueOf(locationId));
+        if (quantity.compareTo(q) >= 0) {
+            BigDecimal reserved = locationStockRepo.findReserved(locationId, productId).orElse(BigDecimal.ZERO);
+            throw new InsufficientStockException("Stock reservado en la ubicación " + name
+                    + ": sin reservar " + quantity.subtract(reserved).max(BigDecimal.ZERO).toPlainString()
+                    + ", se requieren " + q.toPlainString());
+        }
+        throw new InvalidMovementException("Stock insuficiente en la ubicación " + name
+                + ": disponible " + quantity.toPlainString() + ", se requieren " + q.toPlainString());
+    }
+
+    /** Cambio sin validar (reversiones y cuadre), creando la fila si hace falta. */
+    private void credit(Long locationId, Long productId, BigDecimal delta) {
+        if (delta.signum() < 0) {
+            locationStockRepo.addClamped(locationId, productId, delta);
+        } else if (delta.signum() > 0 && !locationStockRepo.add(locationId, productId, delta)) {
+            ensureRow(locationId, productId);
+            locationStockRepo.add(locationId, productId, delta);
+        }
+    }
+
+    private void ensureRow(Long locationId, Long productId) {
+        try {
+            locationStockRepo.insertEmpty(locationId, productId);
+        } catch (DataIntegrityViolationException ex) {
+            // Otra petición creó la fila a la vez: ya existe
+        }
+    }
+
+    private static Long idOf(Location location) {
+        return location != null ? location.getId() : null;
+    }
+}
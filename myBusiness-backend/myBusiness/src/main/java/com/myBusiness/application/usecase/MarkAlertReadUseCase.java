@@ -2,7 +2,6 @@
 package com.myBusiness.application.usecase;
 
 import com.myBusiness.application.exception.AlertNotFoundException;
-import com.myBusiness.domain.model.Alert;
 import com.myBusiness.domain.port.AlertRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -12,14 +11,14 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class MarkAlertReadUseCase {
     private final AlertRepository alertRepo;
+    private final UnreadCountUseCase unreadCount;
 
     @Transactional
     public void execute(Long id) {
-        Alert a = alertRepo.findById(id)
-            .orElseThrow(() -> new AlertNotFoundException("Alerta no encontrada id=" + id));
-        if (!a.isRead()) {
-            a.setRead(true);
-            alertRepo.save(a);
+        if (alertRepo.markRead(id)) {
+            unreadCount.alertsRead(1);
+        } else if (!alertRepo.existsById(id)) {
+            throw new AlertNotFoundException("Alerta no encontrada id=" + id);
         }
     }
 }
@@ -0,0 +1,24 @@
+// src/main/java/com/myBusiness/application/usecase/MarkAllAlertsReadUseCase.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.domain.port.AlertRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class MarkAllAlertsReadUseCase {
+    private final AlertRepository alertRepo;
+    private final UnreadCountUseCase unreadCount;
+
+    /**
+     * Marca todas las alertas como leídas con un único UPDATE; devuelve cuántas cambiaron.
+     */
+    @Transactional
+    public int execute() {
+        int marked = alertRepo.markAllRead();
+        unreadCount.alertsRead(marked);
+        return marked;
+    }
+}
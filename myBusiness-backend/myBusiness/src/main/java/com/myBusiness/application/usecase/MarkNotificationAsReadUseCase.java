@@ -1,21 +1,18 @@
 package com.myBusiness.application.usecase;
 
-import com.myBusiness.domain.port.NotificationRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
- * UseCase que marca una notificación como leída (isRead = true).
+ * UseCase que marca una notificación como leída para un usuario (no afecta a los demás).
  */
 @Service
 @RequiredArgsConstructor
 public class MarkNotificationAsReadUseCase {
 
-    private final NotificationRepository notificationRepo;
+    private final NotificationInboxUseCase inbox;
 
-    @Transactional
-    public void execute(Long id) {
-        notificationRepo.markAsRead(id);
+    public void execute(Long userId, Long id) {
+        inbox.markRead(userId, id);
     }
 }
@@ -0,0 +1,204 @@
+// src/main/java/com/myBusiness/application/usecase/MovementArchiveJob.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.domain.model.ArchivedMovement;
+import com.myBusiness.domain.model.MovementArchiveSegment;
+import com.myBusiness.domain.port.InventoryMovementRepository;
+import com.myBusiness.domain.port.MovementArchiveSegmentRepository;
+import com.myBusiness.domain.port.MovementPartitionRepository;
+import com.myBusiness.domain.port.MovementSegmentStore;
+import com.myBusiness.domain.port.StockSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Pasa a almacenamiento en frío los movimientos más antiguos que `horizon-months`, mes a mes:
+ *  1) escribe el mes en un segmento comprimido (MovementSegmentStore) y, mientras lo recorre,
+ *     acumula el stock de cada producto sobre su snapshot anterior;
+ *  2) en una transacción: bloquea las filas del mes y comprueba que no cambiaron (huella
+ *     SHA-256 de sus valores, calculada al escribir y otra vez con las filas bloqueadas), guarda
+ *     los snapshots, borra las filas y registra el segmento. Un UPDATE entre la escritura y el
+ *     borrado cambia la huella y el mes se reintenta; uno posterior espera al bloqueo. Si algo
+ *     falla, el mes queda en la tabla y el archivo sin registrar se reescribe en la siguiente
+ *     ejecución.
+ * Las lecturas históricas pasan por MovementHistoryService, que une segmentos y tabla.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MovementArchiveJob {
+
+    private final InventoryMovementRepository movementRepo;
+    private final StockSnapshotRepository snapshotRepo;
+    private final MovementArchiveSegmentRepository segmentRepo;
+    private final MovementSegmentStore segmentStore;
+    private final MovementPartitionRepository partitionRepo;
+    private final MovementHistoryService history;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.movements.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.movements.archive.horizon-months:24}")
+    private int horizonMonths;
+
+    @Value("${app.movements.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Scheduled(cron = "${app.movements.archive.cron:0 30 4 * * *}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        Instant earliest = movementRepo.findEarliestMovementDate().orElse(null);
+        if (earliest == null) {
+            return;
+        }
+        // Solo meses completos anteriores al horizonte y posteriores al último archivado
+        YearMonth limit = YearMonth.now(ZoneOffset.UTC).minusMonths(horizonMonths);
+        YearMonth month = YearMonth.from(earliest.atOffset(ZoneOffset.UTC));
+        Instant boundary = history.archiveBoundary().orElse(null);
+        if (boundary != null) {
+            YearMonth next = YearMonth.from(boundary.atOffset(ZoneOffset.UTC));
+            if (month.isBefore(next)) {
+                log.warn("Hay movimientos anteriores al último mes archivado ({}); no se archivan", next);
+                month = next;
+            }
+        }
+
+        Map<Long, BigDecimal> snapshots = snapshotRepo.findAllQuantities();
+        int archivedMonths = 0;
+        for (; month.isBefore(limit); month = month.plusMonths(1)) {
+            if (!archiveMonth(month, snapshots)) {
+                break;
+            }
+            archivedMonths++;
+        }
+        if (archivedMonths > 0) {
+            log.info("Archivo de movimientos: {} meses pasados a segmentos (hasta {})", archivedMonths, month.minusMonths(1));
+        }
+    }
+
+    private boolean archiveMonth(YearMonth month, Map<Long, BigDecimal> snapshots) {
+        Instant from = MovementHistoryService.monthStart(month);
+        Instant to = MovementHistoryService.monthStart(month.plusMonths(1));
+        Map<Long, BigDecimal> monthStocks = new HashMap<>();
+        RowFingerprint written = new RowFingerprint();
+
+        MovementArchiveSegment segment;
+        try {
+            segment = transactionTemplate.execute(status -> {
+                status.setRollbackOnly();   // solo lectura
+                try (Stream<ArchivedMovement> rows = movementRepo.streamForArchive(from, to, fetchSize)) {
+                    Iterator<ArchivedMovement> it = rows.iterator();
+                    return segmentStore.write(month, new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return it.hasNext();
+                        }
+
+                        @Override
+                        public ArchivedMovement next() {
+                            ArchivedMovement m = it.next();
+                            written.add(m);
+                            BigDecimal stock = monthStocks.containsKey(m.getProductId())
+                                    ? monthStocks.get(m.getProductId())
+                                    : snapshots.getOrDefault(m.getProductId(), BigDecimal.ZERO);
+                            monthStocks.put(m.getProductId(),
+                                    ComputeStockUseCase.apply(stock, m.getMovementType(), m.getQuantity()));
+                            return m;
+                        }
+                    });
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (RuntimeException ex) {
+            log.error("No se pudo escribir el segmento de movimientos de {}", month, ex);
+            return false;
+        }
+
+        Boolean committed = transactionTemplate.execute(status -> {
+            long current = movementRepo.lockBetween(from, to);
+            if (current != segment.getRowCount() || !fingerprint(from, to).equals(written.hex())) {
+                log.warn("Los movimientos de {} cambiaron mientras se archivaban ({} -> {} filas); se reintentará",
+                        month, segment.getRowCount(), current);
+                return false;
+            }
+            snapshotRepo.upsertAll(monthStocks, to);
+            movementRepo.deleteBetween(from, to);
+            segmentRepo.save(segment);
+            return true;
+        });
+        if (!Boolean.TRUE.equals(committed)) {
+            return false;
+        }
+        snapshots.putAll(monthStocks);
+
+        // Con la tabla particionada, la partición vacía se elimina en lugar de esperar al VACUUM
+        if (partitionRepo.isSupported() && partitionRepo.isPartitioned()) {
+            partitionRepo.dropPartition(month);
+        }
+        return true;
+    }
+
+    /** Huella de las filas del mes tal como están ahora (dentro de la transacción que las bloqueó). */
+    private String fingerprint(Instant from, Instant to) {
+        RowFingerprint current = new RowFingerprint();
+        try (Stream<ArchivedMovement> rows = movementRepo.streamForArchive(from, to, fetchSize)) {
+            rows.forEach(current::add);
+        }
+        return current.hex();
+    }
+
+    /**
+     * SHA-256 de los valores propios de cada movimiento, en el orden de streamForArchive. No
+     * incluye los nombres de producto, categoría o unidad: renombrarlos no invalida el segmento.
+     */
+    private static final class RowFingerprint {
+        private final MessageDigest digest;
+
+        RowFingerprint() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        void add(ArchivedMovement m) {
+            String row = m.getId() + "|" + m.getProductId() + "|" + m.getMovementType() + "|"
+                    + plain(m.getQuantity()) + "|" + m.getReason() + "|" + m.getMovementDate() + "|"
+                    + m.getCreatedBy() + "|" + m.getLocationId() + "|" + m.getDestinationLocationId() + "|"
+                    + plain(m.getLocationDelta()) + "\n";
+            digest.update(row.getBytes(StandardCharsets.UTF_8));
+        }
+
+        String hex() {
+            return HexFormat.of().formatHex(digest.digest());
+        }
+
+        private static String plain(BigDecimal value) {
+            return value == null ? "null" : value.stripTrailingZeros().toPlainString();
+        }
+    }
+}
@@ -0,0 +1,366 @@
+// src/main/java/com/myBusiness/application/usecase/MovementEventLogService.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.application.dto.MovementEventLogStatsDto;
+import com.myBusiness.application.dto.StockReplayResultDto;
+import com.myBusiness.application.event.MovementChangedEvent;
+import com.myBusiness.domain.model.MovementLedgerRow;
+import com.myBusiness.domain.model.MovementType;
+import com.myBusiness.domain.port.MovementEventLog;
+import com.myBusiness.domain.port.LocationStockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Alimenta el registro binario de eventos de movimientos (MovementEventLog) y reconstruye
+ * proyecciones desde él. Cada cambio se anexa después del commit, así que el registro solo
+ * contiene movimientos confirmados. Si el registro está vacío al arrancar, se siembra con un
+ * CREATED por cada movimiento existente (tabla y segmentos archivados).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MovementEventLogService {
+
+    private static final Instant FAR_FUTURE = Instant.parse("9999-12-31T00:00:00Z");
+    private static final int MAX_LISTED = 100;
+
+    private final MovementEventLog eventLog;
+    private final MovementHistoryService history;
+    private final LocationStockRepository locationStockRepo;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.movements.event-log.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.movements.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        if (!enabled || eventLog.lastSequence() > 0) {
+            return;
+        }
+        long seeded = transactionTemplate.execute(status -> {
+            status.setRollbackOnly();   // solo lectura
+            long count = 0;
+            try (Stream<MovementLedgerRow> rows = history.streamLedger(null, Instant.EPOCH, FAR_FUTURE, fetchSize)) {
+                for (MovementLedgerRow r : (Iterable<MovementLedgerRow>) rows::iterator) {
+                    eventLog.append(MovementEventLog.CREATED, r.getId(), r.getProductId(),
+                            typeCode(r.getMovementType()), cents(r.getQuantity()), micros(r.getMovementDate()));
+                    count++;
+                }
+            }
+            return count;
+        });
+        eventLog.flush();
+        if (seeded > 0) {
+            log.info("Registro de eventos de movimientos sembrado con {} movimientos existentes", seeded);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMovementChanged(MovementChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        byte change = switch (event.getChangeType()) {
+            case CREATED -> MovementEventLog.CREATED;
+            case UPDATED -> MovementEventLog.UPDATED;
+            case DELETED -> MovementEventLog.DELETED;
+        };
+        try {
+            eventLog.append(change, event.getMovementId(), event.getProductId(),
+                    typeCode(event.getMovementType()), cents(event.getQuantity()), micros(event.getMovementDate()));
+        } catch (RuntimeException ex) {
+            // El movimiento ya está confirmado: se registra el fallo y sigue la petición
+            log.error("No se pudo anexar el evento {} del movimiento {}", change, event.getMovementId(), ex);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.movements.event-log.flush-interval-ms:1000}")
+    public void flush() {
+        eventLog.flush();
+    }
+
+    public MovementEventLogStatsDto stats() {
+        return MovementEventLogStatsDto.builder()
+                .enabled(enabled)
+                .lastSequence(eventLog.lastSequence())
+                .segments(eventLog.segmentCount())
+                .sizeBytes(eventLog.sizeBytes())
+                .build();
+    }
+
+    /**
+     * Recalcula el stock de todos los productos recorriendo el registro, sin consultar movimientos:
+     *  1) reduce los eventos al estado final de cada movimiento vivo (arrays primitivos por id);
+     *  2) agrupa por producto y aplica los movimientos en orden de fecha e id, como ComputeStockUseCase.
+     * Después compara con el stock actual (suma por ubicación) y devuelve los que difieren.
+     * Solo informa: el registro es local a cada nodo y puede perder su cola en una caída, así
+     * que nunca sustituye a los saldos de la base de datos. Un producto que difiere se revisa
+     * contra sus movimientos (ComputeStockUseCase.replay).
+     */
+    public StockReplayResultDto replayStock() {
+        long started = System.nanoTime();
+        LiveMovements live = new LiveMovements(eventLog.lastSequence());
+        long events = eventLog.replay(1, live);
+        long scanned = System.nanoTime();
+        Map<Long, BigDecimal> stocks = live.foldStocks();
+        long finished = System.nanoTime();
+
+        Map<Long, BigDecimal> current = locationStockRepo.sumByProducts(stocks.keySet());
+        List<Long> differing = new ArrayList<>();
+        stocks.forEach((productId, stock) -> {
+            BigDecimal saved = current.get(productId);
+            if (saved != null && saved.compareTo(stock) != 0) {
+                differing.add(productId);
+            }
+        });
+        Collections.sort(differing);
+
+        long scanNanos = Math.max(1, scanned - started);
+        return StockReplayResultDto.builder()
+                .events(events)
+                .liveMovements(live.liveCount())
+                .products(stocks.size())
+                .scanMillis(scanNanos / 1_000_000)
+                .totalMillis((finished - started) / 1_000_000)
+                .eventsPerSecond(events * 1_000_000_000L / scanNanos)
+                .mismatches(differing.size())
+                .unknownProducts(stocks.size() - current.size())
+                .mismatchedProductIds(List.copyOf(differing.subList(0, Math.min(differing.size(), MAX_LISTED))))
+                .build();
+    }
+
+    private static byte typeCode(MovementType type) {
+        if (type == null) {
+            return 0;
+        }
+        return switch (type) {
+            case ENTRY -> (byte) 1;
+            case EXIT -> (byte) 2;
+            case ADJUSTMENT -> (byte) 3;
+            case TRANSFER -> (byte) 4;
+        };
+    }
+
+    private static long cents(BigDecimal quantity) {
+        return quantity == null ? 0 : quantity.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static long micros(Instant instant) {
+        return instant == null ? 0 : instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000;
+    }
+
+    /**
+     * Estado final de cada movimiento: tabla hash abierta id -> posición y arrays paralelos.
+     * Un DELETED deja la posición con tipo 0.
+     */
+    private static final class LiveMovements implements MovementEventLog.Handler {
+
+        private static final int RANK_BITS = 31;
+        private static final long RANK_MASK = (1L << RANK_BITS) - 1;
+
+        private long[] keys;
+        private int[] slots;
+        private int mask;
+        private int size;
+
+        private long[] ids;
+        private long[] productIds;
+        private long[] quantities;
+        private long[] dates;
+        private byte[] types;
+
+        LiveMovements(long expected) {
+            int capacity = Integer.highestOneBit((int) Math.min(1 << 29, Math.max(1024, expected * 2)) - 1) << 1;
+            keys = new long[capacity];
+            slots = new int[capacity];
+            mask = capacity - 1;
+            int n = capacity / 2;
+            ids = new long[n];
+            productIds = new long[n];
+            quantities = new long[n];
+            dates = new long[n];
+            types = new byte[n];
+        }
+
+        @Override
+        public void onEvent(long sequence, byte changeType, long movementId, long productId,
+                            byte movementType, long quantityCents, long movementDateMicros) {
+            int slot = slotOf(movementId);
+            if (changeType == MovementEventLog.DELETED) {
+                types[slot] = 0;
+                return;
+            }
+            productIds[slot] = productId;
+            quantities[slot] = quantityCents;
+            dates[slot] = movementDateMicros;
+            types[slot] = movementType;
+        }
+
+        private int slotOf(long id) {
+            int i = (int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+            while (keys[i] != 0) {
+                if (keys[i] == id) {
+                    return slots[i];
+                }
+                i = (i + 1) & mask;
+            }
+            if (size == ids.length) {
+                grow();
+                return slotOf(id);
+            }
+            keys[i] = id;
+            slots[i] = size;
+            ids[size] = id;
+            return size++;
+        }
+
+        private void grow() {
+            int n = ids.length * 2;
+            ids = Arrays.copyOf(ids, n);
+            productIds = Arrays.copyOf(productIds, n);
+            quantities = Arrays.copyOf(quantities, n);
+            dates = Arrays.copyOf(dates, n);
+            types = Arrays.copyOf(types, n);
+            keys = new long[n * 2];
+            slots = new int[n * 2];
+            mask = n * 2 - 1;
+            for (int s = 0; s < size; s++) {
+                int i = (int) ((ids[s] * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+                while (keys[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = ids[s];
+                slots[i] = s;
+            }
+        }
+
+        long liveCount() {
+            long count = 0;
+            for (int s = 0; s < size; s++) {
+                if (types[s] != 0) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Agrupa las posiciones por producto (conteo + sumas prefijas) recorriéndolas en orden
+         * cronológico; el reparto es estable, así que cada grupo queda ya ordenado.
+         */
+        Map<Long, BigDecimal> foldStocks() {
+            Map<Long, Integer> productIndex = new HashMap<>();
+            int[] productOf = new int[size];
+            int[] counts = new int[16];
+            for (int s = 0; s < size; s++) {
+                if (types[s] == 0) {
+                    productOf[s] = -1;
+                    continue;
+                }
+                int p = productIndex.computeIfAbsent(productIds[s], k -> productIndex.size());
+                if (p == counts.length) {
+                    counts = Arrays.copyOf(counts, p * 2);
+                }
+                productOf[s] = p;
+                counts[p]++;
+            }
+            int products = productIndex.size();
+            int[] start = new int[products + 1];
+            for (int p = 0; p < products; p++) {
+                start[p + 1] = start[p] + counts[p];
+            }
+            int[] order = new int[start[products]];
+            int[] next = Arrays.copyOf(start, products);
+            for (int s : chronological(order.length)) {
+                order[next[productOf[s]]++] = s;
+            }
+
+            Map<Long, BigDecimal> stocks = new HashMap<>(products * 2);
+            for (Map.Entry<Long, Integer> e : productIndex.entrySet()) {
+                int from = start[e.getValue()];
+                int to = start[e.getValue() + 1];
+                long stock = 0;
+                for (int i = from; i < to; i++) {
+                    int s = order[i];
+                    switch (types[s]) {
+                        case 1 -> stock += quantities[s];
+                        case 2 -> stock -= quantities[s];
+                        case 3 -> stock = quantities[s];
+                        default -> { }  // 4 = TRANSFER: no cambia el total
+                    }
+                    if (stock < 0) {
+                        stock = 0;
+                    }
+                }
+                stocks.put(e.getKey(), BigDecimal.valueOf(stock, 2));
+            }
+            return stocks;
+        }
+
+        /**
+         * Posiciones vivas ordenadas por (fecha, id) con Arrays.sort sobre primitivos. Fechas e ids
+         * se sustituyen por su rango (menor que size, un int: caben en 31 bits); cada posición
+         * se empaqueta en un long rango de fecha << 31 | rango de id, y el rango de id, que es único,
+         * devuelve la posición. O(n log n) aunque las fechas lleguen muy desordenadas.
+         */
+        private int[] chronological(int live) {
+            long[] sortedIds = new long[live];
+            long[] sortedDates = new long[live];
+            int n = 0;
+            for (int s = 0; s < size; s++) {
+                if (types[s] != 0) {
+                    sortedIds[n] = ids[s];
+                    sortedDates[n] = dates[s];
+                    n++;
+                }
+            }
+            Arrays.sort(sortedIds);
+            Arrays.sort(sortedDates);
+            int distinctDates = 0;
+            for (int i = 0; i < live; i++) {
+                if (i == 0 || sortedDates[i] != sortedDates[distinctDates - 1]) {
+                    sortedDates[distinctDates++] = sortedDates[i];
+                }
+            }
+
+            int[] slotByIdRank = new int[live];
+            long[] packed = new long[live];
+            for (int r = 0; r < live; r++) {
+                int s = slotOf(sortedIds[r]);
+                slotByIdRank[r] = s;
+                long dateRank = Arrays.binarySearch(sortedDates, 0, distinctDates, dates[s]);
+                packed[r] = dateRank << RANK_BITS | r;
+            }
+            Arrays.sort(packed);
+
+            int[] chronological = new int[live];
+            for (int i = 0; i < live; i++) {
+                chronological[i] = slotByIdRank[(int) (packed[i] & RANK_MASK)];
+            }
+            return chronological;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+// src/main/java/com/myBusiness/application/usecase/MovementHistoryService.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.domain.model.ArchivedMovement;
+import com.myBusiness.domain.model.Category;
+import com.myBusiness.domain.model.InventoryMovement;
+import com.myBusiness.domain.model.Location;
+import com.myBusiness.domain.model.MovementArchiveSegment;
+import com.myBusiness.domain.model.MovementLedgerRow;
+import com.myBusiness.domain.model.MovementType;
+import com.myBusiness.domain.model.Product;
+import com.myBusiness.domain.model.StockReplayRow;
+import com.myBusiness.domain.model.Unit;
+import com.myBusiness.domain.port.InventoryMovementRepository;
+import com.myBusiness.domain.port.LocationRepository;
+import com.myBusiness.domain.port.MovementArchiveSegmentRepository;
+import com.myBusiness.domain.port.MovementSegmentStore;
+import com.myBusiness.domain.port.ProductRepository;
+import com.myBusiness.domain.port.StockSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lectura del historial completo de movimientos: une los segmentos archivados en disco
+ * (meses anteriores al límite de archivo) con lo que sigue en inventory_movements.
+ * Sin segmentos registrados, cada método equivale a la consulta directa del repositorio.
+ */
+@Service
+@RequiredArgsConstructor
+public class MovementHistoryService {
+
+    private final InventoryMovementRepository movementRepo;
+    private final MovementArchiveSegmentRepository segmentRepo;
+    private final MovementSegmentStore segmentStore;
+    private final StockSnapshotRepository snapshotRepo;
+    private final ProductRepository productRepo;
+    private final LocationRepository locationRepo;
+
+    /**
+     * Primer instante cuyos movimientos siguen en la tabla (inicio del mes siguiente al
+     * último segmento). Vacío si no se ha archivado nada.
+     */
+    public Optional<Instant> archiveBoundary() {
+        List<MovementArchiveSegment> segments = segmentRepo.findAll();
+        if (segments.isEmpty()) {
+            return Optional.empty();
+        }
+        YearMonth last = YearMonth.parse(segments.get(segments.size() - 1).getMonth());
+        return Optional.of(monthStart(last.plusMonths(1)));
+    }
+
+    /**
+     * Igual que InventoryMovementRepository.findByFilter, que solo ve la tabla, incluyendo los
+     * meses archivados que toca el rango (sin dateFrom, todos). Las filas archivadas se
+     * devuelven como InventoryMovement sin gestionar, con el producto y las ubicaciones
+     * vigentes; si el producto ya no existe, con los nombres guardados en el segmento.
+     * Sin orden definido, como la consulta del repositorio. Los días se cortan en `zone`
+     * (la del negocio, ver BusinessTimeZoneService).
+     */
+    public List<InventoryMovement> findByFilter(Long productId, Long categoryId, Long unitId,
+                                                LocalDate dateFrom, LocalDate dateTo, ZoneId zone) {
+        return findByFilter(productId, categoryId, unitId, null, dateFrom, dateTo, zone);
+    }
+
+    public List<InventoryMovement> findByFilter(Long productId, Long categoryId, Long unitId, Long locationId,
+                                                LocalDate dateFrom, LocalDate dateTo, ZoneId zone) {
+        // Primero la tabla y después el límite: si el archivo avanza entre medias, un mes puede
+        // aparecer en los dos lados (se descarta por id), pero nunca en ninguno
+        List<InventoryMovement> hot = movementRepo.findByFilter(productId, categoryId, unitId, locationId,
+                dateFrom, dateTo, zone);
+        Instant boundary = archiveBoundary().orElse(null);
+        Instant from = dateFrom != null ? dateFrom.atStartOfDay(zone).toInstant() : Instant.EPOCH;
+        if (boundary == null || !from.isBefore(boundary)) {
+            return hot;
+        }
+        Instant to = dateTo != null ? dateTo.plusDays(1).atStartOfDay(zone).toInstant() : boundary;
+        if (to.isAfter(boundary)) {
+            to = boundary;
+        }
+
+        Set<Long> hotIds = new HashSet<>();
+        hot.forEach(m -> hotIds.add(m.getId()));
+        ArchivedMovementMapper mapper = new ArchivedMovementMapper();
+        List<InventoryMovement> result = new ArrayList<>();
+        try (Stream<ArchivedMovement> rows = streamArchived(from, to)) {
+            rows.filter(m -> productId == null || productId.equals(m.getProductId()))
+                .filter(m -> categoryId == null || categoryId.equals(m.getCategoryId()))
+                .filter(m -> locationId == null || locationId.equals(m.getLocationId())
+                        || locationId.equals(m.getDestinationLocationId()))
+                .filter(m -> !hotIds.contains(m.getId()))
+                .map(mapper::toMovement)
+                .filter(m -> unitId == null || (m.getProduct().getUnit() != null
+                        && unitId.equals(m.getProduct().getUnit().getId())))
+                .forEach(result::add);
+        }
+        result.addAll(hot);
+        return result;
+    }
+
+    /**
+     * Convierte filas archivadas en InventoryMovement sin gestionar. Productos y ubicaciones se
+     * cargan una sola vez, al encontrar la primera fila.
+     */
+    private final class ArchivedMovementMapper {
+        private Map<Long, Product> products;
+        private Map<Long, Location> locations;
+
+        InventoryMovement toMovement(ArchivedMovement a) {
+            if (products == null) {
+                products = new HashMap<>();
+                productRepo.findAll().forEach(p -> products.put(p.getId(), p));
+                locations = new HashMap<>();
+                locationRepo.findAll().forEach(l -> locations.put(l.getId(), l));
+            }
+            Product product = products.computeIfAbsent(a.getProductId(), id -> Product.builder()
+                    .id(id)
+                    .name(a.getProductName())
+                    .category(Category.builder().id(a.getCategoryId()).name(a.getCategoryName()).build())
+                    .unit(Unit.builder().name(a.getUnitName()).build())
+                    .build());
+            return InventoryMovement.builder()
+                    .id(a.getId())
+                    .product(product)
+                    .movementType(a.getMovementType())
+                    .quantity(a.getQuantity())
+                    .reason(a.getReason())
+                    .location(a.getLocationId() != null ? locations.get(a.getLocationId()) : null)
+                    .destinationLocation(a.getDestinationLocationId() != null
+                            ? locations.get(a.getDestinationLocationId()) : null)
+                    .locationDelta(a.getLocationDelta())
+                    .movementDate(a.getMovementDate())
+                    .createdBy(a.getCreatedBy())
+                    .build();
+        }
+    }
+
+    public Optional<Instant> findEarliestMovementDate() {
+        List<MovementArchiveSegment> segments = segmentRepo.findAll();
+        if (!segments.isEmpty()) {
+            return Optional.of(monthStart(YearMonth.parse(segments.get(0).getMonth())));
+        }
+        return movementRepo.findEarliestMovementDate();
+    }
+
+    /**
+     * Movimientos archivados con movementDate en [from, to), en orden de fecha e id.
+     * Solo se abren los segmentos de los meses que tocan el rango.
+     */
+    public Stream<ArchivedMovement> streamArchived(Instant from, Instant to) {
+        List<MovementArchiveSegment> overlapping = segmentRepo.findAll().stream()
+                .filter(s -> {
+                    YearMonth m = YearMonth.parse(s.getMonth());
+                    return monthStart(m.plusMonths(1)).isAfter(from) && monthStart(m).isBefore(to);
+                })
+                .toList();
+        return overlapping.stream()
+                .flatMap(segmentStore::read)
+                .filter(m -> !m.getMovementDate().isBefore(from) && m.getMovementDate().isBefore(to));
+    }
+
+    /**
+     * Igual que InventoryMovementRepository.streamLedger, incluyendo los meses archivados.
+     */
+    public Stream<MovementLedgerRow> streamLedger(Long productId, Instant from, Instant to, int fetchSize) {
+        Instant boundary = archiveBoundary().orElse(null);
+        if (boundary == null || !from.isBefore(boundary)) {
+            return movementRepo.streamLedger(productId, from, to, fetchSize);
+        }
+        Instant archivedEnd = to.isBefore(boundary) ? to : boundary;
+        Stream<MovementLedgerRow> archived = streamArchived(from, archivedEnd)
+                .filter(m -> productId == null || productId.equals(m.getProductId()))
+                .map(ArchivedMovement::toLedgerRow);
+        if (!to.isAfter(boundary)) {
+            return archived;
+        }
+        return Stream.concat(archived, movementRepo.streamLedger(productId, boundary, to, fetchSize));
+    }
+
+    /**
+     * Igual que InventoryMovementRepository.streamStockReplay (filas agrupadas por producto)
+     * pero partiendo del stock archivado. Cada producto empieza con una fila ADJUSTMENT:
+     *  - `until` después del límite de archivo: el snapshot, seguido de sus movimientos en la tabla.
+     *  - `until` dentro del archivo: el stock recalculado desde los segmentos hasta `until`.
+     */
+    public Stream<StockReplayRow> streamStockReplay(Long unitId, Instant until, int fetchSize) {
+        Instant boundary = archiveBoundary().orElse(null);
+        if (boundary == null) {
+            return movementRepo.streamStockReplay(unitId, until, fetchSize);
+        }
+        List<StockReplayRow> baseline = snapshotRepo.findReplayBaseline(unitId);
+
+        if (until.isBefore(boundary)) {
+            Map<Long, BigDecimal> stocks = new HashMap<>();
+            try (Stream<ArchivedMovement> rows = streamArchived(Instant.EPOCH, until)) {
+                rows.forEach(m -> stocks.put(m.getProductId(), ComputeStockUseCase.apply(
+                        stocks.getOrDefault(m.getProductId(), BigDecimal.ZERO), m.getMovementType(), m.getQuantity())));
+            }
+            return baseline.stream().map(b -> new StockReplayRow(b.getProductId(), b.getCategoryId(), b.getPrice(),
+                    MovementType.ADJUSTMENT, stocks.getOrDefault(b.getProductId(), BigDecimal.ZERO)));
+        }
+
+        Stream<StockReplayRow> hot = movementRepo.streamStockReplay(unitId, until, fetchSize);
+        Iterator<StockReplayRow> merged = merge(baseline, hot.iterator());
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merged, Spliterator.ORDERED), false)
+                .onClose(hot::close);
+    }
+
+    /**
+     * Intercala dos listas ordenadas por producto: la fila base de cada producto y, a
+     * continuación, sus movimientos.
+     */
+    private static Iterator<StockReplayRow> merge(List<StockReplayRow> baseline, Iterator<StockReplayRow> rows) {
+        return new Iterator<>() {
+            private int index;
+            private Long current;
+            private StockReplayRow pending = rows.hasNext() ? rows.next() : null;
+
+            @Override
+            public boolean hasNext() {
+                return index < baseline.size() || pending != null;
+            }
+
+            @Override
+            public StockReplayRow next() {
+                if (pending != null && (index >= baseline.size() || pending.getProductId().equals(current))) {
+                    StockReplayRow r = pending;
+                    pending = rows.hasNext() ? rows.next() : null;
+                    return r;
+                }
+                StockReplayRow b = baseline.get(index++);
+                current = b.getProductId();
+                return b;
+            }
+        };
+    }
+
+    static Instant monthStart(YearMonth month) {
+        return month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+}
@@ -0,0 +1,97 @@
+// src/main/java/com/myBusiness/application/usecase/MovementPartitionJob.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.domain.port.MovementPartitionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Particiona inventory_movements por mes de movement_date y crea las particiones
+ * con `months-ahead` meses de antelación, para que ningún movimiento caiga en la
+ * partición DEFAULT. En bases sin particionado (H2) no hace nada.
+ *
+ * La preparación corre como SmartLifecycle en la fase más baja: termina antes de que arranque
+ * el servidor web (y antes de las tareas @Scheduled y de ApplicationReadyEvent), así que la
+ * conversión, que toma ACCESS EXCLUSIVE sobre la tabla, nunca coincide con peticiones.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MovementPartitionJob implements SmartLifecycle {
+
+    private final MovementPartitionRepository partitionRepo;
+
+    @Value("${app.movements.partitions.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.movements.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        prepare();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** Antes que cualquier otro ciclo de vida, incluido el del servidor web. */
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE;
+    }
+
+    /**
+     * El CHECK de movement_type se corrige primero, en la tabla tal como esté (simple o ya
+     * particionada), para que la copia con LIKE herede la versión con TRANSFER.
+     */
+    public void prepare() {
+        if (partitionRepo.isSupported()) {
+            partitionRepo.syncMovementTypeCheck();
+        }
+        if (!enabled || !partitionRepo.isSupported()) {
+            log.info("Particionado de movimientos desactivado o no soportado por la base; se usa la tabla simple");
+            return;
+        }
+        if (!partitionRepo.isPartitioned()) {
+            YearMonth until = YearMonth.now(ZoneOffset.UTC).plusMonths(monthsAhead);
+            partitionRepo.convertToPartitioned(until);
+            log.info("inventory_movements convertida a tabla particionada por mes (hasta {})", until);
+        }
+        ensureAhead();
+    }
+
+    @Scheduled(cron = "${app.movements.partitions.cron:0 5 2 * * *}")
+    public void ensureAhead() {
+        if (!enabled || !partitionRepo.isSupported() || !partitionRepo.isPartitioned()) {
+            return;
+        }
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        List<YearMonth> created = partitionRepo.ensurePartitions(current, current.plusMonths(monthsAhead));
+        if (!created.isEmpty()) {
+            log.info("Particiones de movimientos creadas: {}", created);
+        }
+        long stray = partitionRepo.countDefaultPartitionRows();
+        if (stray > 0) {
+            log.warn("{} movimientos en la partición DEFAULT: crear sus particiones requiere moverlos antes", stray);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+// src/main/java/com/myBusiness/application/usecase/NotificationInboxUseCase.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.application.dto.NotificationDto;
+import com.myBusiness.application.exception.NotificationNotFoundException;
+import com.myBusiness.domain.model.Notification;
+import com.myBusiness.domain.port.NotificationInboxRepository;
+import com.myBusiness.domain.port.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bandeja de notificaciones por usuario.
+ * El estado de lectura de cada usuario es una marca (último id leído en orden) más un
+ * conjunto disperso de ids leídos por encima de ella; una notificación nueva no crea
+ * filas por usuario y las no leídas se obtienen recorriendo la PK desde la marca.
+ *
+ * Los ids IDENTITY no se confirman en orden: una notificación con id menor puede hacerse
+ * visible después que una mayor. Por eso la marca nunca pasa de la última notificación creada
+ * hace más de `settle-seconds`; lo leído por encima se guarda como excepción hasta entonces.
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationInboxUseCase {
+
+    private final NotificationInboxRepository inboxRepo;
+    private final NotificationRepository notificationRepo;
+
+    @Value("${app.notifications.inbox.settle-seconds:60}")
+    private long settleSeconds;
+
+    @Transactional(readOnly = true)
+    public List<NotificationDto> listUnread(Long userId) {
+        long mark = inboxRepo.findLastReadId(userId);
+        return inboxRepo.findUnread(userId, mark).stream()
+                .map(n -> toDto(n, false))
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<NotificationDto> listAll(Long userId) {
+        long mark = inboxRepo.findLastReadId(userId);
+        Set<Long> readAbove = inboxRepo.findExceptions(userId, mark);
+        return notificationRepo.findAll().stream()
+                .map(n -> toDto(n, n.getId() <= mark || readAbove.contains(n.getId())))
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public long countUnread(Long userId) {
+        return inboxRepo.countUnread(userId, inboxRepo.findLastReadId(userId));
+    }
+
+    /**
+     * Marca una notificación como leída para el usuario y compacta: si ya no quedan no leídas
+     * entre la marca y la siguiente excepción, la marca avanza y esas excepciones se borran.
+     */
+    @Transactional
+    public void markRead(Long userId, Long notificationId) {
+        if (notificationRepo.findById(notificationId).isEmpty()) {
+            throw new NotificationNotFoundException("Notificación no encontrada: " + notificationId);
+        }
+        // Bloquea la marca del usuario: serializa lecturas concurrentes del mismo usuario
+        long mark = lockMark(userId);
+        if (notificationId <= mark || !inboxRepo.addException(userId, notificationId)) {
+            return;
+        }
+        compact(userId, mark);
+    }
+
+    /**
+     * Todas leídas hasta `upToId` (la más reciente que vio el cliente; null = todas las que
+     * hay). La marca avanza hasta donde los ids ya son estables y el resto se guarda como
+     * excepciones: una notificación que se confirme después con un id menor sigue sin leer.
+     */
+    @Transactional
+    public void markAllRead(Long userId, Long upToId) {
+        long mark = lockMark(userId);
+        long upTo = upToId != null ? upToId : Long.MAX_VALUE;
+        long newMark = Math.min(upTo, settledMaxId());
+        if (newMark > mark) {
+            inboxRepo.updateLastReadId(userId, newMark);
+            inboxRepo.deleteExceptionsUpTo(userId, newMark);
+            mark = newMark;
+        }
+        for (Long id : inboxRepo.findUnreadIds(userId, mark, upTo)) {
+            inboxRepo.addException(userId, id);
+        }
+    }
+
+    private void compact(Long userId, long mark) {
+        long settled = settledMaxId();
+        long newMark = inboxRepo.findFirstUnreadId(userId, mark)
+                .map(firstUnread -> Math.min(firstUnread - 1, settled))
+                .orElse(settled);
+        if (newMark > mark) {
+            inboxRepo.updateLastReadId(userId, newMark);
+            inboxRepo.deleteExceptionsUpTo(userId, newMark);
+        }
+    }
+
+    /** Marca bloqueada del usuario, creándola si es la primera vez (como LocationStockService.ensureRow). */
+    private long lockMark(Long userId) {
+        Optional<Long> mark = inboxRepo.lockLastReadId(userId);
+        if (mark.isPresent()) {
+            return mark.get();
+        }
+        try {
+            inboxRepo.insertReadMark(userId);
+        } catch (DataIntegrityViolationException ex) {
+            // Otra petición del mismo usuario la creó a la vez: ya existe
+        }
+        return inboxRepo.lockLastReadId(userId).orElseThrow();
+    }
+
+    /** Último id por debajo del cual ya no puede confirmarse ninguna notificación nueva. */
+    private long settledMaxId() {
+        return inboxRepo.findMaxNotificationIdCreatedBefore(Instant.now().minusSeconds(settleSeconds)).orElse(0L);
+    }
+
+    private NotificationDto toDto(Notification n, boolean read) {
+        return NotificationDto.builder()
+                .id(n.getId())
+                .message(n.getMessage())
+                .createdDate(n.getCreatedDate())
+                .isRead(read)
+                .build();
+    }
+}
@@ -0,0 +1,223 @@
+// src/main/java/com/myBusiness/application/usecase/OutboxDispatcher.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.application.event.OutboxProjection;
+import com.myBusiness.domain.model.OutboxCheckpoint;
+import com.myBusiness.domain.model.OutboxEvent;
+import com.myBusiness.domain.port.OutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reparte outbox_events a las proyecciones registradas (beans OutboxProjection).
+ * Cada proyección avanza sola: en una transacción bloquea su checkpoint, lee hasta `batch-size`
+ * eventos posteriores, los aplica y guarda el nuevo checkpoint. Un fallo deshace el lote, que
+ * se reintenta con backoff sin saltarse eventos (el orden por producto se mantiene y las demás
+ * proyecciones siguen avanzando).
+ *
+ * Los eventos se aplican siempre en orden de id y el checkpoint nunca salta un id. Un id menor
+ * puede confirmarse después que uno mayor (IDENTITY lo asigna al insertar), así que si falta el
+ * siguiente id el lote se para justo antes y espera: o aparece (se aplica en su sitio) o se
+ * demuestra que su transacción se deshizo. En PostgreSQL eso es exacto: al ver el hueco se guarda
+ * el siguiente id de transacción (la que insertó el id ya tenía uno menor, porque el evento se
+ * escribe después del movimiento) y el hueco se da por deshecho cuando la transacción más
+ * antigua en curso es posterior. Un import largo retiene la proyección hasta que confirma, pero
+ * sus eventos no se pierden. En H2 no hay instantáneas y se usa `gap-timeout-ms`.
+ *
+ * El evento se inserta en BEFORE_COMMIT, con los saldos del producto ya bloqueados, de modo que
+ * dos movimientos que compiten por el mismo producto obtienen los ids en el orden en que
+ * confirman: aplicar por id mantiene el orden por producto.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxDispatcher {
+
+    private final OutboxRepository outboxRepo;
+    private final List<OutboxProjection> projections;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.outbox.max-batches-per-poll:20}")
+    private int maxBatchesPerPoll;
+
+    @Value("${app.outbox.gap-timeout-ms:600000}")
+    private long gapTimeoutMs;
+
+    @Value("${app.outbox.backoff-base-ms:1000}")
+    private long backoffBaseMs;
+
+    @Value("${app.outbox.backoff-max-ms:300000}")
+    private long backoffMaxMs;
+
+    @Value("${app.outbox.retention-hours:24}")
+    private int retentionHours;
+
+    private volatile boolean ready;
+    private final Map<String, Integer> consecutiveFailures = new ConcurrentHashMap<>();
+    private final Map<String, Instant> retryAt = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerProjections() {
+        Set<String> names = new HashSet<>();
+        for (OutboxProjection projection : projections) {
+            if (!names.add(projection.name())) {
+                throw new IllegalStateException("Proyección de outbox duplicada: " + projection.name());
+            }
+            try {
+                outboxRepo.ensureCheckpoint(projection.name());
+            } catch (DataIntegrityViolationException ex) {
+                // Creado a la vez por otra instancia
+            }
+        }
+        ready = true;
+        log.info("Outbox de movimientos: proyecciones {}", names);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:500}")
+    public void poll() {
+        if (!ready) {
+            return;
+        }
+        for (OutboxProjection projection : projections) {
+            Instant retry = retryAt.get(projection.name());
+            if (retry != null && Instant.now().isBefore(retry)) {
+                continue;
+            }
+            for (int i = 0; i < maxBatchesPerPoll; i++) {
+                Integer processed;
+                try {
+                    processed = transactionTemplate.execute(status -> runBatch(projection));
+                } catch (RuntimeException ex) {
+                    failed(projection, ex);
+                    break;
+                }
+                if (consecutiveFailures.remove(projection.name()) != null) {
+                    retryAt.remove(projection.name());
+                    log.info("Proyección {} recuperada", projection.name());
+                }
+                if (processed == null || processed < batchSize) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private Integer runBatch(OutboxProjection projection) {
+        OutboxCheckpoint checkpoint = outboxRepo.lockCheckpoint(projection.name()).orElse(null);
+        if (checkpoint == null) {
+            return 0;   // la está procesando otra instancia
+        }
+        String name = projection.name();
+        Instant now = Instant.now();
+        long last = checkpoint.getLastEventId();
+
+        // Se decide antes de leer: si el hueco ya estaba resuelto, la lectura ve todo lo confirmado
+        boolean gapResolved = gapResolved(checkpoint, now);
+        List<OutboxEvent> events = outboxRepo.findAfter(last, batchSize);
+
+        List<OutboxEvent> batch = new ArrayList<>(events.size());
+        long expected = last + 1;
+        boolean blocked = false;
+        for (OutboxEvent e : events) {
+            if (e.getId() != expected) {
+                // Solo el hueco que ya se estaba esperando puede estar resuelto; uno nuevo se espera
+                if (!batch.isEmpty() || !gapResolved) {
+                    blocked = true;
+                    break;
+                }
+                log.warn("Proyección {}: los eventos {}..{} no llegaron a confirmarse; se omiten",
+                        name, expected, e.getId() - 1);
+            }
+            batch.add(e);
+            expected = e.getId() + 1;
+        }
+
+        if (!batch.isEmpty()) {
+            projection.handle(batch);
+            checkpoint.setLastEventId(batch.get(batch.size() - 1).getId());
+        }
+        if (!blocked) {
+            checkpoint.setGapHorizon(null);
+            checkpoint.setGapSeenAt(null);
+        } else if (!batch.isEmpty() || checkpoint.getGapSeenAt() == null) {
+            // Hueco nuevo: se anota después de la lectura que lo mostró
+            checkpoint.setGapHorizon(outboxRepo.nextTransaction().orElse(null));
+            checkpoint.setGapSeenAt(now);
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        checkpoint.setFailures(0);
+        checkpoint.setLastError(null);
+        checkpoint.setUpdatedAt(now);
+        return batch.size();
+    }
+
+    /**
+     * El hueco que sigue al checkpoint está resuelto si ya terminaron todas las transacciones
+     * que podían tener su id (PostgreSQL) o, sin instantáneas, si pasó `gap-timeout-ms`.
+     */
+    private boolean gapResolved(OutboxCheckpoint checkpoint, Instant now) {
+        if (checkpoint.getGapSeenAt() == null) {
+            return false;
+        }
+        Optional<Long> oldest = outboxRepo.oldestRunningTransaction();
+        if (oldest.isPresent()) {
+            return checkpoint.getGapHorizon() != null && oldest.get() >= checkpoint.getGapHorizon();
+        }
+        return checkpoint.getGapSeenAt().isBefore(now.minusMillis(gapTimeoutMs));
+    }
+
+    private void failed(OutboxProjection projection, RuntimeException ex) {
+        int failures = consecutiveFailures.merge(projection.name(), 1, Integer::sum);
+        long delay = Math.min(backoffMaxMs, backoffBaseMs << Math.min(failures - 1, 20));
+        retryAt.put(projection.name(), Instant.now().plusMillis(delay));
+        log.error("Proyección {} falló (intento {}); se reintenta en {} ms", projection.name(), failures, delay, ex);
+        String message = ex.getClass().getSimpleName() + ": " + ex.getMessage();
+        try {
+            outboxRepo.recordFailure(projection.name(), message.length() > 500 ? message.substring(0, 500) : message);
+        } catch (RuntimeException ignored) {
+            // Solo es informativo; el reintento no depende de ello
+        }
+    }
+
+    /**
+     * Borra los eventos que ya aplicaron todas las proyecciones registradas y tienen más de
+     * `retention-hours` (el margen permite revisar lo último procesado). El checkpoint nunca
+     * deja atrás un evento sin aplicar, así que todo lo que queda por debajo ya se entregó.
+     */
+    @Scheduled(cron = "${app.outbox.cleanup-cron:0 50 3 * * *}")
+    public void purgeProcessed() {
+        Set<String> names = new HashSet<>();
+        projections.forEach(p -> names.add(p.name()));
+        long upTo = outboxRepo.findAllCheckpoints().stream()
+                .filter(c -> names.contains(c.getProjection()))
+                .mapToLong(OutboxCheckpoint::getLastEventId)
+                .min()
+                .orElse(Long.MAX_VALUE);
+        int deleted = outboxRepo.deleteProcessed(upTo, Instant.now().minus(retentionHours, ChronoUnit.HOURS));
+        if (deleted > 0) {
+            log.info("Outbox de movimientos: {} eventos procesados eliminados", deleted);
+        }
+    }
+}
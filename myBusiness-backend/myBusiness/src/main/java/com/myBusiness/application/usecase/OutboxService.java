@@ -0,0 +1,67 @@
+// src/main/java/com/myBusiness/application/usecase/OutboxService.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.application.dto.OutboxProjectionStatsDto;
+import com.myBusiness.application.event.MovementChangedEvent;
+import com.myBusiness.application.event.OutboxProjection;
+import com.myBusiness.domain.model.OutboxEvent;
+import com.myBusiness.domain.model.OutboxEventType;
+import com.myBusiness.domain.port.OutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Lado de escritura del outbox de movimientos: cada MovementChangedEvent se guarda como una
+ * fila de outbox_events dentro de la transacción que lo produjo (BEFORE_COMMIT), con lo que
+ * el evento existe si y solo si el movimiento se confirmó. Las vistas derivadas se actualizan
+ * después desde OutboxDispatcher, sin añadir trabajo a la petición.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxRepository outboxRepo;
+    private final List<OutboxProjection> projections;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onMovementChanged(MovementChangedEvent event) {
+        OutboxEventType type = switch (event.getChangeType()) {
+            case CREATED -> OutboxEventType.MOVEMENT_CREATED;
+            case UPDATED -> OutboxEventType.MOVEMENT_UPDATED;
+            case DELETED -> OutboxEventType.MOVEMENT_DELETED;
+        };
+        outboxRepo.append(OutboxEvent.builder()
+                .eventType(type)
+                .productId(event.getProductId())
+                .previousProductId(event.getPreviousProductId())
+                .movementId(event.getMovementId())
+                .movementType(event.getMovementType())
+                .quantity(event.getQuantity())
+                .movementDate(event.getMovementDate())
+                .createdAt(Instant.now())
+                .build());
+    }
+
+    public List<OutboxProjectionStatsDto> stats() {
+        Set<String> registered = projections.stream().map(OutboxProjection::name).collect(Collectors.toSet());
+        return outboxRepo.findAllCheckpoints().stream()
+                .map(c -> OutboxProjectionStatsDto.builder()
+                        .projection(c.getProjection())
+                        .registered(registered.contains(c.getProjection()))
+                        .lastEventId(c.getLastEventId())
+                        .pending(outboxRepo.countAfter(c.getLastEventId()))
+                        .waitingSince(c.getGapSeenAt())
+                        .failures(c.getFailures())
+                        .lastError(c.getLastError())
+                        .updatedAt(c.getUpdatedAt())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,44 @@
+// src/main/java/com/myBusiness/application/usecase/ProductStockProjection.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.application.event.OutboxProjection;
+import com.myBusiness.domain.model.OutboxEvent;
+import com.myBusiness.domain.port.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Total por producto (product_stock) alimentado desde el outbox: los movimientos solo escriben
+ * location_stock, y aquí se copia la suma de cada producto tocado en el lote. Recalcular la suma
+ * es idempotente, así que repetir un lote no cambia el resultado.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductStockProjection implements OutboxProjection {
+
+    private final ComputeStockUseCase computeStockUseCase;
+    private final ProductRepository productRepo;
+
+    @Override
+    public String name() {
+        return "product-stock";
+    }
+
+    @Override
+    public void handle(List<OutboxEvent> events) {
+        Set<Long> productIds = new LinkedHashSet<>();
+        for (OutboxEvent e : events) {
+            productIds.add(e.getProductId());
+            if (e.getPreviousProductId() != null) {
+                productIds.add(e.getPreviousProductId());
+            }
+        }
+        // Un producto borrado después del movimiento no debe recuperar su fila de saldo
+        productIds.removeIf(id -> productRepo.findById(id).isEmpty());
+        computeStockUseCase.refreshTotals(productIds);
+    }
+}
@@ -0,0 +1,175 @@
+// src/main/java/com/myBusiness/application/usecase/ReorderSuggestionJob.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.application.dto.ReorderSuggestionDto;
+import com.myBusiness.domain.model.ProductForecastRow;
+import com.myBusiness.domain.model.ReorderSuggestion;
+import com.myBusiness.domain.port.ProductConsumptionRepository;
+import com.myBusiness.domain.port.ReorderSuggestionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Proceso de sugerencias de reposición.
+ * 1) Lee en una sola consulta saldo, umbrales y tasa de consumo de todo el catálogo.
+ * 2) Reparte el cálculo por tramos en un ForkJoinPool propio.
+ * 3) Reemplaza la tabla reorder_suggestions con inserciones por lotes.
+ *
+ * Se sugiere reponer cuando el stock proyectado al fin del plazo de entrega queda por
+ * debajo de thresholdMin; la cantidad sugerida lleva el stock proyectado a thresholdMax.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReorderSuggestionJob {
+
+    // Productos por tramo antes de dejar de subdividir
+    private static final int SEQUENTIAL_THRESHOLD = 2_000;
+
+    private final ProductConsumptionRepository consumptionRepo;
+    private final ReorderSuggestionRepository suggestionRepo;
+    private final GetProductForecastUseCase forecastUseCase;
+
+    @Value("${app.reorder.lead-time-days:7}")
+    private int leadTimeDays;
+
+    @Value("${app.reorder.parallelism:0}")
+    private int parallelism;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private ForkJoinPool pool;
+
+    @PostConstruct
+    void init() {
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Scheduled(cron = "${app.reorder.cron:0 0 2 * * *}")
+    public void scheduledRun() {
+        run();
+    }
+
+    /**
+     * Ejecuta el cálculo; devuelve false si ya había una ejecución en curso.
+     */
+    public boolean run() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            List<ProductForecastRow> rows = consumptionRepo.findForecastRows(null);
+            Instant now = Instant.now();
+            LocalDate today = LocalDate.ofInstant(now, ZoneId.systemDefault());
+            List<ReorderSuggestion> suggestions =
+                    pool.invoke(new PartitionTask(rows, 0, rows.size(), today, now));
+            suggestionRepo.replaceAll(suggestions);
+            log.info("Sugerencias de reposición: {} de {} productos en {} ms",
+                    suggestions.size(), rows.size(), System.currentTimeMillis() - start);
+            return true;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    public List<ReorderSuggestionDto> list() {
+        return suggestionRepo.findAll().stream()
+                .map(s -> ReorderSuggestionDto.builder()
+                        .productId(s.getProductId())
+                        .productName(s.getProductName())
+                        .currentStock(s.getCurrentStock())
+                        .dailyConsumption(s.getDailyConsumption())
+                        .thresholdMin(s.getThresholdMin())
+                        .thresholdMax(s.getThresholdMax())
+                        .suggestedQuantity(s.getSuggestedQuantity())
+                        .daysToStockout(s.getDaysToStockout())
+                        .computedAt(s.getComputedAt())
+                        .build())
+                .toList();
+    }
+
+    private ReorderSuggestion suggest(ProductForecastRow r, LocalDate today, Instant now) {
+        if (r.getThresholdMin() == null || r.getThresholdMax() == null) {
+            return null;
+        }
+        double rate = forecastUseCase.rate(r, today);
+        double stock = r.getCurrentStock().doubleValue();
+        double projected = Math.max(0, stock - rate * leadTimeDays);
+        if (projected >= r.getThresholdMin()) {
+            return null;
+        }
+        double quantity = Math.ceil(r.getThresholdMax() - projected);
+        if (quantity <= 0) {
+            return null;
+        }
+        return ReorderSuggestion.builder()
+                .productId(r.getProductId())
+                .productName(r.getProductName())
+                .currentStock(r.getCurrentStock())
+                .dailyConsumption(BigDecimal.valueOf(rate).setScale(4, RoundingMode.HALF_UP))
+                .thresholdMin(r.getThresholdMin())
+                .thresholdMax(r.getThresholdMax())
+                .suggestedQuantity(BigDecimal.valueOf(quantity))
+                .daysToStockout(rate > 0 ? (long) Math.floor(stock / rate) : null)
+                .computedAt(now)
+                .build();
+    }
+
+    private final class PartitionTask extends RecursiveTask<List<ReorderSuggestion>> {
+        private final List<ProductForecastRow> rows;
+        private final int from;
+        private final int to;
+        private final LocalDate today;
+        private final Instant now;
+
+        PartitionTask(List<ProductForecastRow> rows, int from, int to, LocalDate today, Instant now) {
+            this.rows = rows;
+            this.from = from;
+            this.to = to;
+            this.today = today;
+            this.now = now;
+        }
+
+        @Override
+        protected List<ReorderSuggestion> compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                List<ReorderSuggestion> out = new ArrayList<>();
+                for (int i = from; i < to; i++) {
+                    ReorderSuggestion s = suggest(rows.get(i), today, now);
+                    if (s != null) {
+                        out.add(s);
+                    }
+                }
+                return out;
+            }
+            int mid = (from + to) >>> 1;
+            PartitionTask left = new PartitionTask(rows, from, mid, today, now);
+            left.fork();
+            List<ReorderSuggestion> right = new PartitionTask(rows, mid, to, today, now).compute();
+            List<ReorderSuggestion> result = left.join();
+            result.addAll(right);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+// src/main/java/com/myBusiness/application/usecase/ReportJobService.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.application.dto.ReportFilterDto;
+import com.myBusiness.application.dto.ReportJobDto;
+import com.myBusiness.application.exception.InvalidMovementException;
+import com.myBusiness.application.exception.ReportJobNotFoundException;
+import com.myBusiness.application.exception.ReportJobNotReadyException;
+import com.myBusiness.application.exception.ReportJobRejectedException;
+import com.myBusiness.application.util.ReportFilterKeys;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cola de trabajos de reportes. Cada trabajo se genera en un pool acotado y el
+ * resultado queda en disco (app.reports.jobs.dir) hasta que vence su retención.
+ *
+ * Deduplicación: la clave de un trabajo es filtro normalizado + formato + versión de
+ * datos (InventoryDataVersion, leída de la BD). Una solicitud con la misma clave que un
+ * trabajo pendiente, en curso o ya terminado reutiliza ese trabajo en lugar de lanzar otra
+ * ejecución. Un trabajo se registra por id antes de que su clave sea visible, así que
+ * cualquier id devuelto se puede consultar.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportJobService {
+
+    public static final String FORMAT_PDF = "pdf";
+    public static final String FORMAT_EXCEL = "excel";
+
+    public enum Status { PENDING, RUNNING, DONE, FAILED }
+
+    private final GenerateInventoryReportUseCase reportUseCase;
+    private final InventoryDataVersion dataVersion;
+
+    @Value("${app.reports.jobs.dir:${java.io.tmpdir}/mybusiness-report-jobs}")
+    private String jobsDir;
+
+    @Value("${app.reports.jobs.pool-size:2}")
+    private int poolSize;
+
+    @Value("${app.reports.jobs.queue-capacity:20}")
+    private int queueCapacity;
+
+    @Value("${app.reports.jobs.retention-minutes:60}")
+    private long retentionMinutes;
+
+    private final Map<String, ReportJob> jobsById = new ConcurrentHashMap<>();
+    private final Map<String, ReportJob> jobsByKey = new ConcurrentHashMap<>();
+
+    private Path baseDir;
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() throws IOException {
+        baseDir = Paths.get(jobsDir).toAbsolutePath();
+        Files.createDirectories(baseDir);
+        AtomicInteger threadCount = new AtomicInteger();
+        // Con la cola llena, execute() lanza RejectedExecutionException (AbortPolicy)
+        executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                r -> {
+                    Thread t = new Thread(r, "report-job-" + threadCount.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public ReportJobDto submit(ReportFilterDto filter, String format) {
+        String fmt = normalizeFormat(format);
+        ReportFilterDto safeFilter = filter != null ? filter : new ReportFilterDto();
+        String key = ReportFilterKeys.of(safeFilter) + "|" + fmt + "|v" + dataVersion.current();
+
+        ReportJob created = new ReportJob(UUID.randomUUID().toString(), key, fmt, safeFilter);
+        ReportJob job = jobsByKey.compute(key, (k, existing) -> {
+            if (existing != null && existing.status != Status.FAILED) {
+                return existing;
+            }
+            // Dentro de compute: quien reutilice este trabajo ya lo encuentra por id
+            jobsById.put(created.id, created);
+            return created;
+        });
+        if (job != created) {
+            return toDto(job);
+        }
+
+        try {
+            executor.execute(() -> run(created));
+        } catch (RejectedExecutionException ex) {
+            jobsByKey.remove(key, created);
+            jobsById.remove(created.id);
+            throw new ReportJobRejectedException("Cola de reportes llena, intente más tarde");
+        }
+        return toDto(created);
+    }
+
+    public ReportJobDto getJob(String id) {
+        return toDto(find(id));
+    }
+
+    /**
+     * Archivo generado por un trabajo terminado.
+     */
+    public Path resultFile(String id) {
+        ReportJob job = find(id);
+        if (job.status != Status.DONE) {
+            throw new ReportJobNotReadyException("El trabajo " + id + " está en estado " + job.status);
+        }
+        return job.file;
+    }
+
+    public String contentType(String id) {
+        return FORMAT_EXCEL.equals(find(id).format)
+                ? "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"
+                : "application/pdf";
+    }
+
+    public String fileName(String id) {
+        return "inventory_report." + (FORMAT_EXCEL.equals(find(id).format) ? "xlsx" : "pdf");
+    }
+
+    /**
+     * Elimina trabajos terminados (y sus archivos) más antiguos que la retención.
+     */
+    @Scheduled(fixedDelayString = "${app.reports.jobs.cleanup-interval-ms:300000}")
+    public void purgeExpired() {
+        Instant limit = Instant.now().minus(Duration.ofMinutes(retentionMinutes));
+        for (ReportJob job : jobsById.values()) {
+            if (job.finishedAt != null && job.finishedAt.isBefore(limit)) {
+                // Primero la clave: ninguna solicitud nueva recibe un id que ya no existe
+                jobsByKey.remove(job.key, job);
+                jobsById.remove(job.id);
+                deleteQuietly(job.file);
+            }
+        }
+    }
+
+    private void run(ReportJob job) {
+        job.status = Status.RUNNING;
+        Path tmp = baseDir.resolve(job.id + ".part");
+        Path target = baseDir.resolve(job.id + (FORMAT_EXCEL.equals(job.format) ? ".xlsx" : ".pdf"));
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+                if (FORMAT_EXCEL.equals(job.format)) {
+                    reportUseCase.exportToExcel(job.filter, out);
+                } else {
+                    reportUseCase.exportToPdf(job.filter, out);
+                }
+            }
+            // El archivo solo es visible con su nombre final cuando está completo
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            job.file = target;
+            job.sizeBytes = Files.size(target);
+            job.status = Status.DONE;
+        } catch (Exception ex) {
+            log.error("Fallo generando el reporte {}", job.id, ex);
+            deleteQuietly(tmp);
+            job.error = ex.getMessage();
+            job.status = Status.FAILED;
+        } finally {
+            job.finishedAt = Instant.now();
+        }
+    }
+
+    private ReportJob find(String id) {
+        ReportJob job = jobsById.get(id);
+        if (job == null) {
+            throw new ReportJobNotFoundException(id);
+        }
+        return job;
+    }
+
+    private String normalizeFormat(String format) {
+        if (FORMAT_PDF.equalsIgnoreCase(format)) {
+            return FORMAT_PDF;
+        }
+        if (FORMAT_EXCEL.equalsIgnoreCase(format)) {
+            return FORMAT_EXCEL;
+        }
+        throw new InvalidMovementException("Formato de reporte inválido: " + format);
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("No se pudo borrar {}", file, ex);
+        }
+    }
+
+    private ReportJobDto toDto(ReportJob job) {
+        return ReportJobDto.builder()
+                .id(job.id)
+                .status(job.status.name())
+                .format(job.format)
+                .createdAt(job.createdAt)
+                .finishedAt(job.finishedAt)
+                .sizeBytes(job.sizeBytes)
+                .error(job.error)
+                .build();
+    }
+
+    private static final class ReportJob {
+        private final String id;
+        private final String key;
+        private final String format;
+        private final ReportFilterDto filter;
+        private final Instant createdAt = Instant.now();
+        private volatile Status status = Status.PENDING;
+        private volatile Instant finishedAt;
+        private volatile Path file;
+        private volatile Long sizeBytes;
+        private volatile String error;
+
+        ReportJob(String id, String key, String format, ReportFilterDto filter) {
+            this.id = id;
+            this.key = key;
+            this.format = format;
+            this.filter = filter;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+// src/main/java/com/myBusiness/application/usecase/RunScheduledReportsUseCase.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.application.dto.ReportFilterDto;
+import com.myBusiness.application.util.ReportFilterKeys;
+import com.myBusiness.domain.model.ReportSchedule;
+import com.myBusiness.domain.port.ReportScheduleRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Envía los reportes programados que vencieron.
+ * Las programaciones vencidas se agrupan por filtro normalizado: cada grupo se genera
+ * una sola vez (en un pool acotado) y el mismo PDF se envía a todos sus suscriptores
+ * en mensajes con destinatarios en BCC, por lotes.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RunScheduledReportsUseCase {
+
+    private final ReportScheduleRepository scheduleRepo;
+    private final GenerateInventoryReportUseCase reportUseCase;
+    private final JavaMailSender mailSender;
+
+    @Value("${app.reports.schedule.pool-size:2}")
+    private int poolSize;
+
+    @Value("${app.reports.schedule.bcc-batch-size:50}")
+    private int bccBatchSize;
+
+    @Value("${app.reports.schedule.from:no-reply@mybusiness.local}")
+    private String from;
+
+    private ExecutorService pool;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadCount = new AtomicInteger();
+        pool = Executors.newFixedThreadPool(Math.max(1, poolSize), r -> {
+            Thread t = new Thread(r, "scheduled-report-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Espera a que terminen todos los grupos antes de volver; con fixedDelay la
+     * siguiente revisión no empieza hasta que la actual haya acabado.
+     */
+    @Scheduled(fixedDelayString = "${app.reports.schedule.poll-interval-ms:60000}")
+    public void runDue() {
+        Instant now = Instant.now();
+        List<ReportSchedule> due = scheduleRepo.findDue(now);
+        if (due.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<ReportSchedule>> groups = due.stream()
+                .collect(Collectors.groupingBy(
+                        s -> ReportFilterKeys.of(toFilter(s)),
+                        LinkedHashMap::new,
+                        Collectors.toList()));
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (List<ReportSchedule> group : groups.values()) {
+            tasks.add(() -> {
+                deliver(group, now);
+                return null;
+            });
+        }
+        log.info("Reportes programados: {} suscripciones vencidas, {} reportes distintos",
+                due.size(), groups.size());
+        try {
+            pool.invokeAll(tasks);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void deliver(List<ReportSchedule> group, Instant runAt) {
+        Path file = null;
+        try {
+            file = Files.createTempFile("scheduled-report-", ".pdf");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+                reportUseCase.exportToPdf(toFilter(group.get(0)), out);
+            }
+
+            List<String> recipients = group.stream()
+                    .map(ReportSchedule::getEmail)
+                    .distinct()
+                    .toList();
+            for (int i = 0; i < recipients.size(); i += bccBatchSize) {
+                send(recipients.subList(i, Math.min(i + bccBatchSize, recipients.size())), file);
+            }
+
+            scheduleRepo.markRun(group.stream().map(ReportSchedule::getId).toList(), runAt);
+        } catch (Exception ex) {
+            // Sin markRun: el grupo se reintenta en la próxima revisión
+            log.error("Fallo enviando reporte programado a {} suscriptores", group.size(), ex);
+        } finally {
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException ex) {
+                    log.warn("No se pudo borrar {}", file, ex);
+                }
+            }
+        }
+    }
+
+    private void send(List<String> bcc, Path attachment) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setFrom(from);
+        helper.setTo(from);
+        helper.setBcc(bcc.toArray(new String[0]));
+        helper.setSubject("Reporte de inventario programado");
+        helper.setText("Adjuntamos el reporte de inventario correspondiente a su suscripción.");
+        helper.addAttachment("inventory_report.pdf", new FileSystemResource(attachment));
+        mailSender.send(message);
+    }
+
+    private ReportFilterDto toFilter(ReportSchedule s) {
+        ReportFilterDto filter = new ReportFilterDto();
+        filter.setProductId(s.getProductId());
+        filter.setCategoryId(s.getCategoryId());
+        filter.setUnitId(s.getUnitId());
+        filter.setDateFrom(s.getDateFrom());
+        filter.setDateTo(s.getDateTo());
+        filter.setMovementType(s.getMovementType());
+        filter.setThresholdBelow(s.getThresholdBelow());
+        // Sin usuario asociado: timeZone queda en null y los días se cortan en UTC
+        return filter;
+    }
+}
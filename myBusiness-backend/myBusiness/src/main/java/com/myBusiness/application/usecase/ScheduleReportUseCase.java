@@ -2,31 +2,102 @@
 package com.myBusiness.application.usecase;
 
 import com.myBusiness.application.dto.ScheduleDto;
+import com.myBusiness.application.exception.InvalidScheduleException;
+import com.myBusiness.domain.model.MovementType;
+import com.myBusiness.domain.model.ReportFrequency;
+import com.myBusiness.domain.model.ReportSchedule;
+import com.myBusiness.domain.port.ReportScheduleRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAdjusters;
 
 @Service
 @RequiredArgsConstructor
 public class ScheduleReportUseCase {
 
+    private final ReportScheduleRepository scheduleRepo;
+
+    // Hora local a la que se envían los reportes programados
+    @Value("${app.reports.schedule.send-hour:7}")
+    private int sendHour;
+
+    /**
+     * Guarda la suscripción. Todas las programaciones de una misma frecuencia quedan
+     * alineadas a la misma hora (y los semanales al lunes), de modo que los suscriptores
+     * de un mismo reporte vencen juntos y el reporte se genera una sola vez por envío.
+     */
+    @Transactional
     public void execute(ScheduleDto scheduleDto) {
-        // TODO: Implement report scheduling logic
-        // For now, just validate the input
         if (scheduleDto.getEmail() == null || scheduleDto.getEmail().trim().isEmpty()) {
-            throw new IllegalArgumentException("Email is required");
+            throw new InvalidScheduleException("Email is required");
+        }
+        ReportFrequency frequency;
+        try {
+            frequency = ReportFrequency.valueOf(String.valueOf(scheduleDto.getFrequency()).trim().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidScheduleException("Frequency must be DAILY or WEEKLY");
         }
-        if (scheduleDto.getFrequency() == null ||
-            (!scheduleDto.getFrequency().equals("DAILY") && !scheduleDto.getFrequency().equals("WEEKLY"))) {
-            throw new IllegalArgumentException("Frequency must be DAILY or WEEKLY");
+
+        LocalDate dateFrom = parseDate(scheduleDto.getDateFrom(), "dateFrom");
+        LocalDate dateTo = parseDate(scheduleDto.getDateTo(), "dateTo");
+        if (dateFrom != null && dateTo != null && dateFrom.isAfter(dateTo)) {
+            throw new InvalidScheduleException("dateFrom no puede ser posterior a dateTo");
+        }
+
+        String movementType = null;
+        if (scheduleDto.getMovementType() != null && !scheduleDto.getMovementType().isBlank()) {
+            try {
+                movementType = MovementType.valueOf(scheduleDto.getMovementType().trim().toUpperCase()).name();
+            } catch (IllegalArgumentException ex) {
+                throw new InvalidScheduleException("Tipo de movimiento inválido: " + scheduleDto.getMovementType());
+            }
         }
 
-        // In a real implementation, this would:
-        // 1. Save the schedule to database
-        // 2. Set up a scheduled task (e.g., using Quartz or Spring Scheduler)
-        // 3. Generate and send the report via email
+        ReportSchedule schedule = ReportSchedule.builder()
+                .email(scheduleDto.getEmail().trim().toLowerCase())
+                .frequency(frequency)
+                .productId(scheduleDto.getProductId())
+                .categoryId(scheduleDto.getCategoryId())
+                .unitId(scheduleDto.getUnitId())
+                .dateFrom(dateFrom)
+                .dateTo(dateTo)
+                .movementType(movementType)
+                .thresholdBelow(scheduleDto.getThresholdBelow())
+                .nextRunAt(firstRun(frequency))
+                .active(true)
+                .build();
+        scheduleRepo.save(schedule);
+    }
 
-        // For now, just log that the report was scheduled
-        System.out.println("Report scheduled for: " + scheduleDto.getEmail() +
-                          " with frequency: " + scheduleDto.getFrequency());
+    private Instant firstRun(ReportFrequency frequency) {
+        ZonedDateTime now = ZonedDateTime.now(ZoneId.systemDefault());
+        ZonedDateTime next = now.toLocalDate().atTime(sendHour, 0).atZone(now.getZone());
+        if (frequency == ReportFrequency.WEEKLY) {
+            next = next.with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
+        }
+        if (!next.isAfter(now)) {
+            next = next.plus(frequency.getPeriod());
+        }
+        return next.toInstant();
+    }
+
+    private LocalDate parseDate(String value, String field) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException ex) {
+            throw new InvalidScheduleException(field + " debe tener formato yyyy-MM-dd");
+        }
     }
-}
\ No newline at end of file
+}
@@ -7,9 +7,6 @@ import com.myBusiness.domain.port.VerificationTokenRepository;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -19,16 +16,14 @@ import java.util.Optional;
 public class SendVerificationCodeUseCase {
 
     private final VerificationTokenRepository tokenRepo;
-    private final JavaMailSender mailSender;
+    private final EmailService emailService;
 
     /**
-     * Envía por SMTP el código que ya existe en verification_tokens (used = false) para un email.
+     * Encola el correo con el código que ya existe en verification_tokens (used = false) para un email.
      * 1) Busca el token más reciente no usado para pendingEmail.
      * 2) Si no existe, lanza InvalidUserException.
-     * 3) Envía un SimpleMailMessage con el código.
+     * 3) Inserta el correo en el outbox; el envío SMTP ocurre fuera del hilo de la petición.
      */
-    
-    @Async
     @Transactional
     public void execute(EmailDto dto) {
         String normalizedEmail = dto.getEmail().trim().toLowerCase();
@@ -43,13 +38,9 @@ public class SendVerificationCodeUseCase {
         VerificationToken vt = maybeToken.get();
         String code = vt.getToken();
 
-        // Armar y enviar el correo
-        SimpleMailMessage msg = new SimpleMailMessage();
-        msg.setTo(normalizedEmail);
-        msg.setSubject("Tu código de verificación");
-        msg.setText("Aquí está tu código de verificación: " + code);
-     
-
-        mailSender.send(msg);
+        emailService.sendSimpleMessage(
+                normalizedEmail,
+                "Tu código de verificación",
+                "Aquí está tu código de verificación: " + code);
     }
 }
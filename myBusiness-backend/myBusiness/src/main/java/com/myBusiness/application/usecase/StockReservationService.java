@@ -0,0 +1,292 @@
+// src/main/java/com/myBusiness/application/usecase/StockReservationService.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.application.dto.MovementInputDto;
+import com.myBusiness.application.dto.MovementOutputDto;
+import com.myBusiness.application.dto.StockAvailabilityDto;
+import com.myBusiness.application.dto.StockReservationDto;
+import com.myBusiness.application.dto.StockReservationInputDto;
+import com.myBusiness.application.exception.InsufficientStockException;
+import com.myBusiness.application.exception.InvalidReservationException;
+import com.myBusiness.application.exception.ProductNotFoundException;
+import com.myBusiness.application.exception.ReservationConflictException;
+import com.myBusiness.application.exception.ReservationNotFoundException;
+import com.myBusiness.domain.model.Location;
+import com.myBusiness.domain.model.LocationStock;
+import com.myBusiness.domain.model.MovementType;
+import com.myBusiness.domain.model.ReservationStatus;
+import com.myBusiness.domain.model.StockReservation;
+import com.myBusiness.domain.port.LocationRepository;
+import com.myBusiness.domain.port.LocationStockRepository;
+import com.myBusiness.domain.port.ProductRepository;
+import com.myBusiness.domain.port.StockReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Reservas de stock (apartado sin salida) con caducidad, sobre location_stock.reserved de la
+ * ubicación de la reserva (por defecto, la ubicación por defecto):
+ *  - reservar: UPDATE condicional quantity - reserved >= q; sin disponible suficiente, 409;
+ *  - liberar / consumir / caducar: la reserva sale de ACTIVE con un UPDATE condicional y solo
+ *    quien lo consigue descuenta reserved, así que una reserva nunca se devuelve dos veces;
+ *  - consumir descuenta reserved y registra la salida (EXIT) con CreateMovementUseCase; las
+ *    salidas normales solo pueden llevarse quantity - reserved (ver LocationStockService).
+ * No hay cerrojos de tabla: cada petición bloquea solo la fila de su (ubicación, producto) durante
+ * el UPDATE. Orden de cerrojos: primero la reserva, después location_stock.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockReservationService {
+
+    private final StockReservationRepository reservationRepo;
+    private final LocationStockRepository locationStockRepo;
+    private final LocationRepository locationRepo;
+    private final LocationStockService locationStock;
+    private final ProductRepository productRepo;
+    private final CreateMovementUseCase createMovementUseCase;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.reservations.default-ttl-seconds:900}")
+    private long defaultTtlSeconds;
+
+    @Value("${app.reservations.max-ttl-seconds:604800}")
+    private long maxTtlSeconds;
+
+    @Value("${app.reservations.sweep.batch-size:500}")
+    private int sweepBatchSize;
+
+    @Value("${app.reservations.retention-days:30}")
+    private long retentionDays;
+
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    @Transactional
+    public StockReservationDto reserve(StockReservationInputDto dto) {
+        Long productId = dto.getProductId();
+        productRepo.findById(productId)
+                .orElseThrow(() -> new InvalidReservationException("Producto no encontrado id=" + productId));
+        long ttl = dto.getTtlSeconds() != null ? dto.getTtlSeconds() : defaultTtlSeconds;
+        if (ttl > maxTtlSeconds) {
+            throw new InvalidReservationException("ttlSeconds admite hasta " + maxTtlSeconds + " segundos");
+        }
+
+        Location location = resolveLocation(dto.getLocationId());
+
+        BigDecimal q = dto.getQuantity();
+        if (!locationStockRepo.reserve(location.getId(), productId, q)) {
+            throw new InsufficientStockException("Stock insuficiente para reservar en la ubicación "
+                    + location.getName() + ": disponible "
+                    + available(productId, location.getId()).getAvailable().toPlainString()
+                    + ", se requieren " + q.toPlainString());
+        }
+
+        StockReservation saved = reservationRepo.save(StockReservation.builder()
+                .productId(productId)
+                .locationId(location.getId())
+                .quantity(q)
+                .reference(dto.getReference() != null ? dto.getReference().trim() : null)
+                .status(ReservationStatus.ACTIVE)
+                .expiresAt(Instant.now().plus(Duration.ofSeconds(ttl)))
+                .build());
+        return toDto(saved);
+    }
+
+    public StockReservationDto get(Long id) {
+        return toDto(findReservation(id));
+    }
+
+    /** Reservas de un producto; status null = ACTIVE. */
+    public List<StockReservationDto> list(Long productId, String status) {
+        return reservationRepo.findByProduct(productId, parseStatus(status), 100).stream()
+                .map(this::toDto)
+                .toList();
+    }
+
+    @Transactional
+    public StockReservationDto release(Long id) {
+        StockReservation r = findActive(id);
+        Instant now = Instant.now();
+        close(r, ReservationStatus.RELEASED, now);
+        locationStockRepo.unreserve(r.getLocationId(), r.getProductId(), r.getQuantity());
+        return toDto(r);
+    }
+
+    /**
+     * Convierte la reserva en una salida real desde su ubicación. Primero deja de contar como
+     * reservada y después el EXIT descuenta el stock, en la misma transacción: la salida cabe
+     * siempre en lo que la propia reserva tenía apartado.
+     */
+    @Transactional
+    public StockReservationDto consume(Long id) {
+        StockReservation r = findActive(id);
+        Instant now = Instant.now();
+        if (!r.getExpiresAt().isAfter(now)) {
+            throw new ReservationConflictException("La reserva " + id + " caducó el " + r.getExpiresAt());
+        }
+        close(r, ReservationStatus.CONSUMED, now);
+        locationStockRepo.unreserve(r.getLocationId(), r.getProductId(), r.getQuantity());
+
+        MovementInputDto exit = new MovementInputDto();
+        exit.setProductId(r.getProductId());
+        exit.setMovementType(MovementType.EXIT.name());
+        exit.setQuantity(r.getQuantity());
+        exit.setReason("Reserva #" + id + (r.getReference() != null ? " (" + r.getReference() + ")" : ""));
+        exit.setLocationId(r.getLocationId());
+        MovementOutputDto movement = createMovementUseCase.execute(exit);
+        r.setMovementId(movement.getId());
+        return toDto(r);
+    }
+
+    /**
+     * Disponible para prometer = stock - reservas activas, por ubicación y sin bajar de 0 en
+     * ninguna (lo reservado en una ubicación no se cubre con stock de otra).
+     * locationId null = suma de todas las ubicaciones.
+     */
+    public StockAvailabilityDto available(Long productId, Long locationId) {
+        if (productRepo.findById(productId).isEmpty()) {
+            throw new ProductNotFoundException(productId);
+        }
+        BigDecimal stock = BigDecimal.ZERO;
+        BigDecimal reserved = BigDecimal.ZERO;
+        BigDecimal available = BigDecimal.ZERO;
+        for (LocationStock s : locationStockRepo.findByProduct(productId)) {
+            if (locationId == null || locationId.equals(s.getLocationId())) {
+                stock = stock.add(s.getQuantity());
+                reserved = reserved.add(s.getReserved());
+                available = available.add(s.getQuantity().subtract(s.getReserved()).max(BigDecimal.ZERO));
+            }
+        }
+        return StockAvailabilityDto.builder()
+                .productId(productId)
+                .locationId(locationId)
+                .stock(stock)
+                .reserved(reserved)
+                .available(available)
+                .build();
+    }
+
+    @Scheduled(fixedDelayString = "${app.reservations.sweep.interval-ms:10000}")
+    public void scheduledSweep() {
+        int expired = sweepExpired();
+        if (expired > 0) {
+            log.info("Reservas caducadas liberadas: {}", expired);
+        }
+    }
+
+    /**
+     * Caduca las reservas vencidas en lotes de `sweep.batch-size`, una transacción por lote.
+     * Las cantidades se agrupan por (ubicación, producto) y se descuentan en orden de ids: un
+     * UPDATE por par y lote, y el mismo orden de cerrojos en todas las instancias.
+     */
+    public int sweepExpired() {
+        if (!sweeping.compareAndSet(false, true)) {
+            return 0;
+        }
+        try {
+            int total = 0;
+            int batch;
+            do {
+                batch = transactionTemplate.execute(status -> {
+                    List<StockReservation> claimed = reservationRepo.claimExpired(Instant.now(), sweepBatchSize);
+                    Map<Long, Map<Long, BigDecimal>> byLocation = new TreeMap<>();
+                    for (StockReservation r : claimed) {
+                        byLocation.computeIfAbsent(r.getLocationId(), k -> new TreeMap<>())
+                                .merge(r.getProductId(), r.getQuantity(), BigDecimal::add);
+                    }
+                    byLocation.forEach((locationId, byProduct) -> byProduct.forEach(
+                            (productId, q) -> locationStockRepo.unreserve(locationId, productId, q)));
+                    return claimed.size();
+                });
+                total += batch;
+            } while (batch == sweepBatchSize);
+            return total;
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.reservations.purge-interval-ms:3600000}")
+    public void purgeClosed() {
+        int deleted = reservationRepo.deleteClosedBefore(Instant.now().minus(Duration.ofDays(retentionDays)));
+        if (deleted > 0) {
+            log.info("Reservas cerradas eliminadas: {}", deleted);
+        }
+    }
+
+    private StockReservation findReservation(Long id) {
+        return reservationRepo.findById(id)
+                .orElseThrow(() -> new ReservationNotFoundException("Reserva no encontrada: " + id));
+    }
+
+    private StockReservation findActive(Long id) {
+        StockReservation r = findReservation(id);
+        if (r.getStatus() != ReservationStatus.ACTIVE) {
+            throw new ReservationConflictException("La reserva " + id + " ya no está activa (" + r.getStatus() + ")");
+        }
+        return r;
+    }
+
+    /**
+     * Transición condicional desde ACTIVE; si otra petición o el barrido se adelantó, 409.
+     * La entidad cargada se actualiza con los mismos valores para que el flush no los pise.
+     */
+    private void close(StockReservation r, ReservationStatus status, Instant at) {
+        if (!reservationRepo.close(r.getId(), status, at)) {
+            throw new ReservationConflictException("La reserva " + r.getId() + " ya no está activa");
+        }
+        r.setStatus(status);
+        r.setClosedAt(at);
+    }
+
+    private Location resolveLocation(Long locationId) {
+        Long id = locationId != null ? locationId : locationStock.defaultLocationId();
+        Location location = locationRepo.findById(id)
+                .orElseThrow(() -> new InvalidReservationException("Ubicación no encontrada id=" + id));
+        if (!location.isActive()) {
+            throw new InvalidReservationException("La ubicación " + location.getName() + " está inactiva");
+        }
+        return location;
+    }
+
+    private ReservationStatus parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return ReservationStatus.ACTIVE;
+        }
+        try {
+            return ReservationStatus.valueOf(status.trim().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidReservationException(
+                    "Estado de reserva inválido: " + status + " (válidos: " + Arrays.toString(ReservationStatus.values()) + ")");
+        }
+    }
+
+    private StockReservationDto toDto(StockReservation r) {
+        return StockReservationDto.builder()
+                .id(r.getId())
+                .productId(r.getProductId())
+                .locationId(r.getLocationId())
+                .quantity(r.getQuantity())
+                .reference(r.getReference())
+                .status(r.getStatus().name())
+                .expiresAt(r.getExpiresAt())
+                .createdAt(r.getCreatedAt())
+                .closedAt(r.getClosedAt())
+                .movementId(r.getMovementId())
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+// src/main/java/com/myBusiness/application/usecase/SyncAlertStateUseCase.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.application.event.AlertChangedEvent;
+import com.myBusiness.domain.model.Alert;
+import com.myBusiness.domain.model.AlertType;
+import com.myBusiness.domain.model.InventoryMovement;
+import com.myBusiness.domain.model.Product;
+import com.myBusiness.domain.port.AlertRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class SyncAlertStateUseCase {
+
+    private final AlertRepository alertRepo;
+    private final ComputeStockUseCase computeStockUseCase;
+    private final UnreadCountUseCase unreadCount;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Alinea los episodios de alerta del producto con su stock actual.
+     * Solo escribe en las transiciones: abre un episodio al salir del rango [min, max],
+     * lo cierra al volver (o al cambiar de UNDERSTOCK a OVERSTOCK), y no hace nada
+     * mientras el estado se mantiene. `trigger` es el movimiento que provocó la
+     * evaluación (puede ser null). Cada transición publica un AlertChangedEvent.
+     *
+     * Debe llamarse después de aplicar el movimiento en location_stock, en la misma
+     * transacción, para evaluar el stock resultante. La apertura es un INSERT … ON CONFLICT
+     * DO NOTHING sobre el índice único de episodios abiertos: si el barrido de umbrales u otra
+     * transacción ya abrió uno para el producto, no se duplica ni se notifica dos veces.
+     */
+    @Transactional
+    public void sync(Product product, InventoryMovement trigger) {
+        BigDecimal stock = computeStockUseCase.execute(product.getId());
+        AlertType desired = evaluate(product, stock);
+        List<Alert> open = alertRepo.findOpenByProductId(product.getId());
+
+        Instant now = Instant.now();
+        boolean alreadyOpen = false;
+        for (Alert a : open) {
+            if (a.getAlertType() == desired && !alreadyOpen) {
+                alreadyOpen = true;
+            } else {
+                a.close(now);
+                alertRepo.save(a);
+                publish(a, product, AlertChangedEvent.ChangeType.CLOSED, now, stock);
+            }
+        }
+
+        if (desired != null && !alreadyOpen) {
+            alertRepo.openIfAbsent(product.getId(), desired, trigger != null ? trigger.getId() : null, now)
+                    .ifPresent(opened -> {
+                        unreadCount.alertsCreated(1);
+                        publish(opened, product, AlertChangedEvent.ChangeType.OPENED, opened.getTriggeredAt(), stock);
+                    });
+        }
+    }
+
+    private void publish(Alert a, Product product, AlertChangedEvent.ChangeType change,
+                         Instant at, BigDecimal stock) {
+        eventPublisher.publishEvent(new AlertChangedEvent(
+                a.getId(),
+                product.getId(),
+                product.getName(),
+                a.getAlertType().name(),
+                change,
+                at,
+                stock,
+                product.getThresholdMin(),
+                product.getThresholdMax()));
+    }
+
+    /** Estado de alerta que corresponde a un stock dado, o null si está dentro del rango. */
+    public static AlertType evaluate(Product product, BigDecimal stock) {
+        Integer min = product.getThresholdMin();
+        Integer max = product.getThresholdMax();
+        if (min != null && stock.compareTo(BigDecimal.valueOf(min)) < 0) {
+            return AlertType.UNDERSTOCK;
+        }
+        if (max != null && stock.compareTo(BigDecimal.valueOf(max)) > 0) {
+            return AlertType.OVERSTOCK;
+        }
+        return null;
+    }
+}
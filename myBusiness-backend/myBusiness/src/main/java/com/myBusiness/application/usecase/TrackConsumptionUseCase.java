@@ -0,0 +1,109 @@
+// src/main/java/com/myBusiness/application/usecase/TrackConsumptionUseCase.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.domain.model.InventoryMovement;
+import com.myBusiness.domain.model.MovementType;
+import com.myBusiness.domain.model.ProductConsumption;
+import com.myBusiness.domain.port.InventoryMovementRepository;
+import com.myBusiness.domain.port.ProductConsumptionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Mantiene la tasa de consumo diario por producto (ProductConsumption).
+ * Cada EXIT nuevo la actualiza en O(1); si se modifica o elimina una salida ya registrada
+ * la tasa se reconstruye con las salidas de los últimos `rebuild-days` días.
+ */
+@Service
+@RequiredArgsConstructor
+public class TrackConsumptionUseCase {
+
+    private final ProductConsumptionRepository consumptionRepo;
+    private final InventoryMovementRepository movementRepo;
+
+    // Peso del día más reciente en la media móvil (0 < alpha <= 1)
+    @Value("${app.forecast.alpha:0.2}")
+    private double alpha;
+
+    @Value("${app.forecast.rebuild-days:120}")
+    private int rebuildDays;
+
+    @Transactional
+    public void recordExit(Long productId, BigDecimal quantity, Instant movementDate) {
+        LocalDate day = LocalDate.ofInstant(movementDate, ZoneId.systemDefault());
+        Optional<ProductConsumption> existing = consumptionRepo.findForUpdate(productId);
+        if (existing.isPresent()) {
+            existing.get().recordExit(day, quantity.doubleValue(), alpha);
+        } else {
+            consumptionRepo.save(firstExit(productId, day, quantity.doubleValue()));
+        }
+    }
+
+    @Transactional
+    public void rebuild(Long productId) {
+        consumptionRepo.deleteByProductId(productId);
+        Instant since = Instant.now().minus(rebuildDays, ChronoUnit.DAYS);
+        List<InventoryMovement> exits = movementRepo.findAllByProductId(productId, since).stream()
+                .filter(m -> m.getMovementType() == MovementType.EXIT)
+                .sorted(Comparator.comparing(InventoryMovement::getMovementDate))
+                .toList();
+        if (exits.isEmpty()) {
+            return;
+        }
+
+        ProductConsumption consumption = null;
+        for (InventoryMovement m : exits) {
+            LocalDate day = LocalDate.ofInstant(m.getMovementDate(), ZoneId.systemDefault());
+            if (consumption == null) {
+                consumption = firstExit(productId, day, m.getQuantity().doubleValue());
+            } else {
+                consumption.recordExit(day, m.getQuantity().doubleValue(), alpha);
+            }
+        }
+        consumptionRepo.save(consumption);
+    }
+
+    public void delete(Long productId) {
+        consumptionRepo.deleteByProductId(productId);
+    }
+
+    public double alpha() {
+        return alpha;
+    }
+
+    /**
+     * Productos con salidas pero sin tasa (datos previos a la tabla product_consumption).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        for (Long productId : consumptionRepo.findProductIdsWithExitsWithoutRate()) {
+            rebuild(productId);
+        }
+    }
+
+    /**
+     * La primera salida inicializa la media con su propio valor, en lugar de partir de 0.
+     */
+    private ProductConsumption firstExit(Long productId, LocalDate day, double quantity) {
+        return ProductConsumption.builder()
+                .productId(productId)
+                .dailyRate(quantity)
+                .currentDay(day)
+                .currentDayQty(quantity)
+                .updatedAt(Instant.now())
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+// src/main/java/com/myBusiness/application/usecase/UnreadCountUseCase.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.domain.model.UnreadCounter;
+import com.myBusiness.domain.port.AlertRepository;
+import com.myBusiness.domain.port.UnreadCounterRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Contador de alertas no leídas para el badge (las notificaciones se cuentan por usuario,
+ * ver NotificationInboxUseCase). Se lee por clave primaria (O(1)) y se mantiene
+ * con deltas en la misma transacción que crea una alerta o cambia su estado de lectura.
+ * Todo código que cree alertas o las marque como leídas debe pasar por aquí.
+ */
+@Service
+@RequiredArgsConstructor
+public class UnreadCountUseCase {
+
+    private final UnreadCounterRepository counterRepo;
+    private final AlertRepository alertRepo;
+
+    public long unreadAlerts() {
+        return counterRepo.get(UnreadCounter.ALERTS);
+    }
+
+    public void alertsCreated(long n) {
+        counterRepo.add(UnreadCounter.ALERTS, n);
+    }
+
+    public void alertsRead(long n) {
+        counterRepo.add(UnreadCounter.ALERTS, -n);
+    }
+
+    /**
+     * Al arrancar, recalcula el contador a partir de la tabla (única vez que se cuentan filas),
+     * por si hubo cambios hechos fuera de la aplicación.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconcile() {
+        counterRepo.set(UnreadCounter.ALERTS, alertRepo.countUnread());
+    }
+}
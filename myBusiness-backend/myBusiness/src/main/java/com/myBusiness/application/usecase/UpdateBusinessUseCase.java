@@ -16,6 +16,7 @@ public class UpdateBusinessUseCase {
 
     private final BusinessRepository businessRepository;
     private final UserRepository userRepository;
+    private final BusinessTimeZoneService timeZones;
 
     @Transactional
     public BusinessOutputDto execute(Long userId, BusinessInputDto inputDto) {
@@ -43,6 +44,8 @@ public class UpdateBusinessUseCase {
         business.setWebsite(inputDto.getWebsite());
         business.setLogoUrl(inputDto.getLogoUrl());
         business.setIndustry(inputDto.getIndustry());
+        timeZones.parse(inputDto.getTimeZone());
+        business.setTimeZone(inputDto.getTimeZone());
 
         Business updatedBusiness = businessRepository.save(business);
 
@@ -57,8 +60,9 @@ public class UpdateBusinessUseCase {
                 .website(updatedBusiness.getWebsite())
                 .logoUrl(updatedBusiness.getLogoUrl())
                 .industry(updatedBusiness.getIndustry())
+                .timeZone(updatedBusiness.getTimeZone())
                 .createdAt(updatedBusiness.getCreatedAt())
                 .updatedAt(updatedBusiness.getUpdatedAt())
                 .build();
     }
-}
\ No newline at end of file
+}
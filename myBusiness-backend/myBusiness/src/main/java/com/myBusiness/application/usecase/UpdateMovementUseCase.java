@@ -3,21 +3,21 @@ package com.myBusiness.application.usecase;
 
 import com.myBusiness.application.dto.MovementInputDto;
 import com.myBusiness.application.dto.MovementOutputDto;
+import com.myBusiness.application.event.MovementChangedEvent;
 import com.myBusiness.application.exception.InvalidMovementException;
 import com.myBusiness.application.exception.MovementNotFoundException;
-import com.myBusiness.domain.model.Alert;
-import com.myBusiness.domain.model.AlertType;
 import com.myBusiness.domain.model.InventoryMovement;
+import com.myBusiness.domain.model.Location;
 import com.myBusiness.domain.model.MovementType;
 import com.myBusiness.domain.model.Product;
-import com.myBusiness.domain.port.AlertRepository;
 import com.myBusiness.domain.port.InventoryMovementRepository;
 import com.myBusiness.domain.port.ProductRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.time.Instant;
 
 @Service
 @RequiredArgsConstructor
@@ -25,12 +25,18 @@ public class UpdateMovementUseCase {
 
     private final InventoryMovementRepository movRepo;
     private final ProductRepository prodRepo;
-    private final AlertRepository alertRepo;
-    private final ComputeStockUseCase computeStockUseCase;
+    private final SyncAlertStateUseCase syncAlertState;
+    private final LocationStockService locationStock;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Transactional
     public MovementOutputDto execute(Long id, MovementInputDto dto) {
-        InventoryMovement existing = movRepo.findById(id)
+        return execute(id, null, dto);
+    }
+
+    /** movementDate (opcional) es la fecha que ya tiene el movimiento: limita la búsqueda a su partición. */
+    @Transactional
+    public MovementOutputDto execute(Long id, Instant movementDate, MovementInputDto dto) {
+        InventoryMovement existing = movRepo.findById(id, movementDate)
                 .orElseThrow(() -> new MovementNotFoundException("Movimiento no encontrado id=" + id));
 
         Product prod = prodRepo.findById(dto.getProductId())
@@ -43,32 +49,44 @@ public class UpdateMovementUseCase {
             throw new InvalidMovementException("Tipo de movimiento inválido: " + dto.getMovementType());
         }
 
+        Location location = locationStock.resolve(dto.getLocationId());
+        Location destination = locationStock.resolveDestination(type, location, dto.getDestinationLocationId());
+
+        Long previousProductId = existing.getProduct().getId();
+        LocationStockService.Effect previousEffect = LocationStockService.Effect.of(existing);
         existing.setProduct(prod);
         existing.setMovementType(type);
         existing.setQuantity(dto.getQuantity());
         existing.setReason(dto.getReason());
+        existing.setLocation(location);
+        existing.setDestinationLocation(destination);
+        existing.setLocationDelta(null);
         InventoryMovement updated = movRepo.save(existing);
+        // Se deshace el efecto anterior, se aplica el nuevo y, como cambió un movimiento
+        // intermedio, se cuadra con el total recalculado desde los movimientos
+        locationStock.reverse(previousEffect);
+        locationStock.applyEdited(updated);
+        if (type != MovementType.ADJUSTMENT) {
+            // Un ADJUSTMENT ya queda cuadrado en applyEdited
+            locationStock.reconcile(prod.getId(), location.getId());
+        }
+        if (!previousProductId.equals(prod.getId()) && previousEffect.locationId() != null) {
+            locationStock.reconcile(previousProductId, previousEffect.locationId());
+        }
 
-        // Después de actualizar, verificar stock y crear alerta si aplica
-        BigDecimal stockActual = computeStockUseCase.execute(prod.getId());
-        Integer min = prod.getThresholdMin();
-        Integer max = prod.getThresholdMax();
-        if (min != null && stockActual.compareTo(BigDecimal.valueOf(min)) < 0) {
-            Alert alert = Alert.builder()
-                    .product(prod)
-                    .alertType(AlertType.UNDERSTOCK)
-                    .movement(updated)
-                    .build();
-            alertRepo.save(alert);
-        } else if (max != null && stockActual.compareTo(BigDecimal.valueOf(max)) > 0) {
-            Alert alert = Alert.builder()
-                    .product(prod)
-                    .alertType(AlertType.OVERSTOCK)
-                    .movement(updated)
-                    .build();
-            alertRepo.save(alert);
+        // Abrir/cerrar episodios de alerta según el nuevo stock
+        syncAlertState.sync(prod, updated);
+        if (!previousProductId.equals(prod.getId())) {
+            prodRepo.findById(previousProductId)
+                    .ifPresent(previous -> syncAlertState.sync(previous, null));
         }
 
+        eventPublisher.publishEvent(new MovementChangedEvent(
+                updated.getId(), prod.getId(),
+                previousProductId.equals(prod.getId()) ? null : previousProductId,
+                MovementChangedEvent.ChangeType.UPDATED,
+                type, updated.getQuantity(), updated.getMovementDate()));
+
         return MovementOutputDto.builder()
                 .id(updated.getId())
                 .productId(updated.getProduct().getId())
@@ -76,6 +94,10 @@ public class UpdateMovementUseCase {
                 .movementType(updated.getMovementType().name())
                 .quantity(updated.getQuantity())
                 .reason(updated.getReason())
+                .locationId(updated.getLocation() != null ? updated.getLocation().getId() : null)
+                .locationName(updated.getLocation() != null ? updated.getLocation().getName() : null)
+                .destinationLocationId(updated.getDestinationLocation() != null ? updated.getDestinationLocation().getId() : null)
+                .destinationLocationName(updated.getDestinationLocation() != null ? updated.getDestinationLocation().getName() : null)
                 .movementDate(updated.getMovementDate())
                 .createdBy(updated.getCreatedBy())
                 .createdDate(updated.getCreatedDate())
@@ -2,6 +2,7 @@ package com.myBusiness.application.usecase;
 
 import com.myBusiness.application.dto.ProductInputDto;
 import com.myBusiness.application.dto.ProductOutputDto;
+import com.myBusiness.application.event.ProductChangedEvent;
 import com.myBusiness.application.exception.InvalidProductException;
 import com.myBusiness.application.exception.ProductNotFoundException;
 import com.myBusiness.application.exception.CategoryNotFoundException;
@@ -12,8 +13,11 @@ import com.myBusiness.domain.port.CategoryRepository;
 import com.myBusiness.domain.port.UnitRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.Objects;
+
 @Service
 @RequiredArgsConstructor
 public class UpdateProductUseCase {
@@ -21,6 +25,8 @@ public class UpdateProductUseCase {
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
     private final UnitRepository unitRepository;
+    private final AlertThresholdSweepUseCase thresholdSweep;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ProductOutputDto execute(Long productId, ProductInputDto input) {
@@ -39,6 +45,9 @@ public class UpdateProductUseCase {
         var unit = unitRepository.findById(input.getUnitId())
                 .orElseThrow(() -> new UnitNotFoundException(input.getUnitId()));
 
+        boolean thresholdsChanged = !Objects.equals(product.getThresholdMin(), input.getThresholdMin())
+                || !Objects.equals(product.getThresholdMax(), input.getThresholdMax());
+
         // 4. Aplicar cambios via métodos de dominio
         product.updateName(input.getName());
         product.updateThresholds(input.getThresholdMin(), input.getThresholdMax());
@@ -48,6 +57,11 @@ public class UpdateProductUseCase {
         
         // 5. Guardar
         Product updated = productRepository.save(product);
+        if (thresholdsChanged) {
+            // Los umbrales nuevos pueden abrir o cerrar el episodio de alerta sin que haya movimientos
+            thresholdSweep.sweepProduct(updated.getId());
+        }
+        eventPublisher.publishEvent(new ProductChangedEvent(updated.getId()));
 
         // 6. Mapear salida
         return ProductOutputDto.builder()
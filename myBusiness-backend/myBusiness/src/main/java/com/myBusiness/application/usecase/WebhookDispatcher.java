@@ -0,0 +1,318 @@
+// src/main/java/com/myBusiness/application/usecase/WebhookDispatcher.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.application.dto.WebhookStatsDto;
+import com.myBusiness.application.exception.InvalidWebhookException;
+import com.myBusiness.domain.model.WebhookDelivery;
+import com.myBusiness.domain.model.WebhookDeliveryStatus;
+import com.myBusiness.domain.model.WebhookSubscription;
+import com.myBusiness.domain.port.WebhookRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Envía las entregas de webhook_deliveries.
+ * Cada ciclo reclama filas (SKIP LOCKED), las agrupa por suscripción y manda un POST con
+ * hasta `batch-size` eventos: {"deliveries":[{"id":..,"event":{..}}, ...]}.
+ * Cada endpoint tiene su propio límite de peticiones simultáneas; mientras está saturado sus
+ * filas no se reclaman, de modo que un receptor lento solo retrasa sus propios eventos.
+ * Los fallos se reintentan con backoff exponencial; al agotar max-attempts (o ante un 4xx
+ * definitivo) la entrega pasa a DEAD y se puede reencolar desde /api/webhooks/dead-letters.
+ * El orden entre lotes de un mismo endpoint solo se conserva con maxConcurrency = 1;
+ * el receptor debe deduplicar por id (entrega al menos una vez).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WebhookDispatcher {
+
+    private final WebhookRepository webhookRepo;
+    private final WebhookService webhookService;
+    private final WebhookTargetGuard targetGuard;
+
+    @Value("${app.webhooks.poll-interval-ms:1000}")
+    private long pollIntervalMs;
+
+    @Value("${app.webhooks.claim-size:500}")
+    private int claimSize;
+
+    @Value("${app.webhooks.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.webhooks.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.webhooks.backoff-base-ms:5000}")
+    private long backoffBaseMs;
+
+    @Value("${app.webhooks.backoff-max-ms:3600000}")
+    private long backoffMaxMs;
+
+    @Value("${app.webhooks.connect-timeout-ms:3000}")
+    private long connectTimeoutMs;
+
+    @Value("${app.webhooks.request-timeout-ms:10000}")
+    private long requestTimeoutMs;
+
+    @Value("${app.webhooks.retention-days:7}")
+    private int retentionDays;
+
+    @Value("${app.webhooks.pool-size:4}")
+    private int poolSize;
+
+    private ExecutorService pool;
+    private HttpClient httpClient;
+
+    // Permisos por suscripción; se recrean si cambia su maxConcurrency
+    private final Map<Long, EndpointPermits> permits = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadCount = new AtomicInteger();
+        pool = Executors.newFixedThreadPool(Math.max(1, poolSize), r -> {
+            Thread t = new Thread(r, "webhook-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .executor(pool)
+                .build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * No espera a las respuestas: los envíos quedan en vuelo y cada uno libera su permiso al
+     * terminar. El lease de las filas SENDING debe superar request-timeout-ms.
+     */
+    @Scheduled(fixedDelayString = "${app.webhooks.poll-interval-ms:1000}")
+    public void dispatch() {
+        Map<Long, WebhookSubscription> subscriptions = webhookService.activeSubscriptions().stream()
+                .collect(Collectors.toMap(WebhookSubscription::getId, Function.identity()));
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        permits.keySet().retainAll(subscriptions.keySet());
+
+        List<WebhookDelivery> claimed;
+        do {
+            Instant now = Instant.now();
+            claimed = webhookRepo.claimBatch(claimSize, now, now.plusMillis(leaseMs()), saturated());
+            Map<Long, List<WebhookDelivery>> bySubscription = claimed.stream()
+                    .collect(Collectors.groupingBy(WebhookDelivery::getSubscriptionId,
+                            LinkedHashMap::new, Collectors.toList()));
+            for (Map.Entry<Long, List<WebhookDelivery>> entry : bySubscription.entrySet()) {
+                WebhookSubscription subscription = subscriptions.get(entry.getKey());
+                List<WebhookDelivery> rows = entry.getValue();
+                if (subscription == null) {
+                    // Activada en otra instancia y aún no recargada aquí
+                    webhookRepo.release(ids(rows), now.plusMillis(pollIntervalMs));
+                    continue;
+                }
+                dispatchRows(subscription, rows);
+            }
+        } while (claimed.size() == claimSize);
+    }
+
+    @Scheduled(cron = "${app.webhooks.cleanup-cron:0 45 3 * * *}")
+    public void purgeSent() {
+        int deleted = webhookRepo.deleteSentBefore(Instant.now().minus(retentionDays, ChronoUnit.DAYS));
+        if (deleted > 0) {
+            log.info("Webhooks: {} entregas enviadas eliminadas", deleted);
+        }
+    }
+
+    public WebhookStatsDto stats() {
+        Map<WebhookDeliveryStatus, Long> counts = webhookRepo.countByStatus();
+        return WebhookStatsDto.builder()
+                .pending(counts.get(WebhookDeliveryStatus.PENDING))
+                .sending(counts.get(WebhookDeliveryStatus.SENDING))
+                .sent(counts.get(WebhookDeliveryStatus.SENT))
+                .dead(counts.get(WebhookDeliveryStatus.DEAD))
+                .activeSubscriptions(webhookService.activeSubscriptions().size())
+                .saturatedEndpoints(saturated().size())
+                .build();
+    }
+
+    /**
+     * Parte las filas en lotes y envía los que quepan en los permisos libres del endpoint;
+     * el resto vuelve a PENDING sin contar intento y se reintenta en el siguiente ciclo.
+     * Antes se vuelve a comprobar el destino: si ahora resuelve a una dirección interna, las
+     * filas se descartan sin reintento.
+     */
+    private void dispatchRows(WebhookSubscription subscription, List<WebhookDelivery> rows) {
+        try {
+            targetGuard.check(URI.create(subscription.getUrl()));
+        } catch (InvalidWebhookException ex) {
+            log.warn("Webhook {}: {}", subscription.getId(), ex.getMessage());
+            fail(rows, ex.getMessage(), true);
+            return;
+        } catch (UnknownHostException ex) {
+            fail(rows, "Host desconocido: " + ex.getMessage(), false);
+            return;
+        }
+        Semaphore semaphore = permitsFor(subscription);
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            List<WebhookDelivery> batch = rows.subList(from, Math.min(rows.size(), from + batchSize));
+            if (!semaphore.tryAcquire()) {
+                webhookRepo.release(ids(rows.subList(from, rows.size())), Instant.now().plusMillis(pollIntervalMs));
+                return;
+            }
+            try {
+                send(subscription, List.copyOf(batch))
+                        .whenComplete((r, ex) -> semaphore.release());
+            } catch (RuntimeException ex) {
+                semaphore.release();
+                fail(batch, ex.getMessage() == null ? ex.getClass().getSimpleName() : ex.getMessage(), false);
+            }
+        }
+    }
+
+    private CompletableFuture<Void> send(WebhookSubscription subscription, List<WebhookDelivery> batch) {
+        StringBuilder body = new StringBuilder("{\"deliveries\":[");
+        for (int i = 0; i < batch.size(); i++) {
+            WebhookDelivery d = batch.get(i);
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"id\":").append(d.getId()).append(",\"event\":").append(d.getPayload()).append('}');
+        }
+        body.append("]}");
+        byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(subscription.getUrl()))
+                .timeout(Duration.ofMillis(requestTimeoutMs))
+                .header("Content-Type", "application/json")
+                .header("User-Agent", "myBusiness-webhooks")
+                .header("X-Webhook-Subscription", String.valueOf(subscription.getId()))
+                .POST(HttpRequest.BodyPublishers.ofByteArray(bytes));
+        if (subscription.getSecret() != null) {
+            request.header("X-Webhook-Signature", "sha256=" + sign(subscription.getSecret(), bytes));
+        }
+
+        return httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.discarding())
+                .handle((response, ex) -> {
+                    if (ex != null) {
+                        String error = ex.getCause() != null ? ex.getCause().toString() : ex.toString();
+                        fail(batch, error, false);
+                    } else if (response.statusCode() / 100 == 2) {
+                        webhookRepo.markSent(ids(batch), Instant.now());
+                    } else {
+                        fail(batch, "HTTP " + response.statusCode(), isPermanent(response.statusCode()));
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * 4xx indica que el receptor rechaza el contenido: reintentar no lo va a arreglar,
+     * salvo 408 (timeout) y 429 (limitación de tasa).
+     */
+    private static boolean isPermanent(int status) {
+        return status / 100 == 4 && status != 408 && status != 429;
+    }
+
+    /**
+     * Las filas de un lote pueden llevar distinto número de intentos (reintentos mezclados
+     * con eventos nuevos): se agrupan para que cada una siga su propio backoff.
+     */
+    private void fail(List<WebhookDelivery> batch, String error, boolean permanent) {
+        if (error.length() > 500) {
+            error = error.substring(0, 500);
+        }
+        Map<Integer, List<Long>> byAttempt = batch.stream()
+                .collect(Collectors.groupingBy(d -> d.getAttempts() + 1,
+                        Collectors.mapping(WebhookDelivery::getId, Collectors.toList())));
+        for (Map.Entry<Integer, List<Long>> entry : byAttempt.entrySet()) {
+            int attempt = entry.getKey();
+            boolean giveUp = permanent || attempt >= maxAttempts;
+            long delay = Math.min(backoffMaxMs, backoffBaseMs << Math.min(attempt - 1, 20));
+            webhookRepo.markFailedAttempt(entry.getValue(), error, Instant.now().plusMillis(delay), giveUp);
+        }
+        log.warn("Webhook: fallo entregando {} eventos a la suscripción {}: {}",
+                batch.size(), batch.get(0).getSubscriptionId(), error);
+    }
+
+    private Semaphore permitsFor(WebhookSubscription subscription) {
+        return permits.compute(subscription.getId(), (id, current) ->
+                current != null && current.limit == subscription.getMaxConcurrency()
+                        ? current
+                        : new EndpointPermits(subscription.getMaxConcurrency())).semaphore;
+    }
+
+    private Set<Long> saturated() {
+        return permits.entrySet().stream()
+                .filter(e -> e.getValue().semaphore.availablePermits() == 0)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+    }
+
+    // El lease cubre el timeout de la petición con margen para registrar el resultado
+    private long leaseMs() {
+        return requestTimeoutMs + connectTimeoutMs + 30_000;
+    }
+
+    private static List<Long> ids(List<WebhookDelivery> rows) {
+        List<Long> ids = new ArrayList<>(rows.size());
+        for (WebhookDelivery d : rows) {
+            ids.add(d.getId());
+        }
+        return ids;
+    }
+
+    private static String sign(String secret, byte[] body) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return HexFormat.of().formatHex(mac.doFinal(body));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HmacSHA256 no disponible", ex);
+        }
+    }
+
+    private static final class EndpointPermits {
+        private final int limit;
+        private final Semaphore semaphore;
+
+        EndpointPermits(int limit) {
+            this.limit = limit;
+            this.semaphore = new Semaphore(limit);
+        }
+    }
+}
@@ -0,0 +1,258 @@
+// src/main/java/com/myBusiness/application/usecase/WebhookService.java
+package com.myBusiness.application.usecase;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myBusiness.application.dto.WebhookDeliveryDto;
+import com.myBusiness.application.dto.WebhookSubscriptionDto;
+import com.myBusiness.application.dto.WebhookSubscriptionInputDto;
+import com.myBusiness.application.event.AlertChangedEvent;
+import com.myBusiness.application.event.MovementChangedEvent;
+import com.myBusiness.application.exception.InvalidWebhookException;
+import com.myBusiness.application.exception.WebhookNotFoundException;
+import com.myBusiness.domain.model.WebhookDelivery;
+import com.myBusiness.domain.model.WebhookDeliveryStatus;
+import com.myBusiness.domain.model.WebhookEventType;
+import com.myBusiness.domain.model.WebhookSubscription;
+import com.myBusiness.domain.port.WebhookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Suscripciones de webhook y encolado de eventos.
+ * Los eventos de alertas y movimientos se convierten en filas de webhook_deliveries dentro de
+ * la misma transacción que los produjo (BEFORE_COMMIT): la escritura nunca hace HTTP ni espera
+ * al receptor, solo un INSERT por suscripción interesada. El envío lo hace WebhookDispatcher.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WebhookService {
+
+    private final WebhookRepository webhookRepo;
+    private final ObjectMapper objectMapper;
+    private final WebhookTargetGuard targetGuard;
+
+    @Value("${app.webhooks.default-concurrency:2}")
+    private int defaultConcurrency;
+
+    @Value("${app.webhooks.max-concurrency:8}")
+    private int maxConcurrency;
+
+    @Value("${app.webhooks.dead-letters.max-size:200}")
+    private int deadLettersMaxSize;
+
+    // Copia en memoria de las suscripciones activas: encolar no consulta la tabla en cada evento
+    private volatile List<WebhookSubscription> activeSubscriptions = List.of();
+
+    /**
+     * Recarga la copia en memoria. Se llama tras cada cambio local y periódicamente
+     * para recoger cambios hechos desde otra instancia.
+     */
+    @Scheduled(fixedDelayString = "${app.webhooks.subscription-refresh-ms:30000}")
+    public void refresh() {
+        activeSubscriptions = List.copyOf(webhookRepo.findActiveSubscriptions());
+    }
+
+    public List<WebhookSubscription> activeSubscriptions() {
+        return activeSubscriptions;
+    }
+
+    public List<WebhookSubscriptionDto> list() {
+        return webhookRepo.findAllSubscriptions().stream().map(this::toDto).toList();
+    }
+
+    public WebhookSubscriptionDto create(WebhookSubscriptionInputDto dto) {
+        WebhookSubscription subscription = WebhookSubscription.builder()
+                .url(validateUrl(dto.getUrl()))
+                .secret(blankToNull(dto.getSecret()))
+                .eventTypes(validateEventTypes(dto.getEventTypes()))
+                .maxConcurrency(validateConcurrency(dto.getMaxConcurrency()))
+                .active(dto.getActive() == null || dto.getActive())
+                .build();
+        WebhookSubscription saved = webhookRepo.saveSubscription(subscription);
+        refresh();
+        return toDto(saved);
+    }
+
+    public WebhookSubscriptionDto update(Long id, WebhookSubscriptionInputDto dto) {
+        WebhookSubscription subscription = findSubscription(id);
+        subscription.setUrl(validateUrl(dto.getUrl()));
+        if (dto.getSecret() != null) {
+            subscription.setSecret(blankToNull(dto.getSecret()));
+        }
+        subscription.setEventTypes(validateEventTypes(dto.getEventTypes()));
+        subscription.setMaxConcurrency(validateConcurrency(dto.getMaxConcurrency()));
+        if (dto.getActive() != null) {
+            subscription.setActive(dto.getActive());
+        }
+        WebhookSubscription saved = webhookRepo.saveSubscription(subscription);
+        refresh();
+        return toDto(saved);
+    }
+
+    public void delete(Long id) {
+        findSubscription(id);
+        webhookRepo.deleteSubscription(id);
+        refresh();
+    }
+
+    public List<WebhookDeliveryDto> deadLetters(Long subscriptionId, int limit) {
+        int size = Math.max(1, Math.min(limit, deadLettersMaxSize));
+        return webhookRepo.findDead(subscriptionId, size).stream()
+                .map(d -> WebhookDeliveryDto.builder()
+                        .id(d.getId())
+                        .subscriptionId(d.getSubscriptionId())
+                        .eventType(d.getEventType().name())
+                        .attempts(d.getAttempts())
+                        .lastError(d.getLastError())
+                        .createdDate(d.getCreatedDate())
+                        .payload(d.getPayload())
+                        .build())
+                .toList();
+    }
+
+    public void retryDeadLetter(Long deliveryId) {
+        if (!webhookRepo.retryDead(deliveryId, Instant.now())) {
+            throw new WebhookNotFoundException(
+                    "Entrega de webhook " + deliveryId + " no encontrada en estado " + WebhookDeliveryStatus.DEAD);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onAlertChanged(AlertChangedEvent event) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("alertId", event.getAlertId());
+        data.put("productId", event.getProductId());
+        data.put("productName", event.getProductName());
+        data.put("alertType", event.getAlertType());
+        data.put("state", event.getChangeType().name());
+        data.put("currentStock", event.getCurrentStock());
+        data.put("thresholdMin", event.getThresholdMin());
+        data.put("thresholdMax", event.getThresholdMax());
+        enqueue(WebhookEventType.ALERT, event.getAt(), data);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onMovementChanged(MovementChangedEvent event) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("movementId", event.getMovementId());
+        data.put("productId", event.getProductId());
+        data.put("previousProductId", event.getPreviousProductId());
+        data.put("change", event.getChangeType().name());
+        data.put("movementType", event.getMovementType() != null ? event.getMovementType().name() : null);
+        data.put("quantity", event.getQuantity());
+        data.put("movementDate", event.getMovementDate());
+        enqueue(WebhookEventType.MOVEMENT, Instant.now(), data);
+    }
+
+    private void enqueue(WebhookEventType type, Instant occurredAt, Map<String, Object> data) {
+        List<WebhookSubscription> subscriptions = activeSubscriptions;
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        String payload;
+        try {
+            Map<String, Object> envelope = new LinkedHashMap<>();
+            envelope.put("type", type.name());
+            envelope.put("occurredAt", occurredAt);
+            envelope.put("data", data);
+            payload = objectMapper.writeValueAsString(envelope);
+        } catch (JsonProcessingException ex) {
+            log.error("No se pudo serializar el evento {} para webhooks", type, ex);
+            return;
+        }
+        List<WebhookDelivery> deliveries = new ArrayList<>();
+        for (WebhookSubscription s : subscriptions) {
+            if (s.accepts(type)) {
+                deliveries.add(WebhookDelivery.builder()
+                        .subscriptionId(s.getId())
+                        .eventType(type)
+                        .payload(payload)
+                        .build());
+            }
+        }
+        if (!deliveries.isEmpty()) {
+            webhookRepo.enqueue(deliveries);
+        }
+    }
+
+    private WebhookSubscription findSubscription(Long id) {
+        return webhookRepo.findSubscriptionById(id)
+                .orElseThrow(() -> new WebhookNotFoundException("Suscripción de webhook no encontrada: " + id));
+    }
+
+    private String validateUrl(String url) {
+        String trimmed = url == null ? "" : url.trim();
+        URI uri;
+        try {
+            uri = URI.create(trimmed);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidWebhookException("url de webhook inválida: " + url);
+        }
+        String scheme = uri.getScheme();
+        if (uri.getHost() == null
+                || !("http".equalsIgnoreCase(scheme) || "https".equalsIgnoreCase(scheme))) {
+            throw new InvalidWebhookException("La url del webhook debe ser http(s) absoluta: " + url);
+        }
+        try {
+            targetGuard.check(uri);
+        } catch (UnknownHostException ex) {
+            throw new InvalidWebhookException("No se pudo resolver el host del webhook: " + uri.getHost());
+        }
+        return trimmed;
+    }
+
+    private String validateEventTypes(List<String> eventTypes) {
+        Set<String> types = new LinkedHashSet<>();
+        for (String t : eventTypes) {
+            try {
+                types.add(WebhookEventType.valueOf(t.trim().toUpperCase()).name());
+            } catch (IllegalArgumentException | NullPointerException ex) {
+                throw new InvalidWebhookException(
+                        "Tipo de evento inválido: " + t + " (válidos: " + Arrays.toString(WebhookEventType.values()) + ")");
+            }
+        }
+        return String.join(",", types);
+    }
+
+    private int validateConcurrency(Integer requested) {
+        int value = requested == null ? defaultConcurrency : requested;
+        if (value < 1 || value > maxConcurrency) {
+            throw new InvalidWebhookException("maxConcurrency debe estar entre 1 y " + maxConcurrency);
+        }
+        return value;
+    }
+
+    private static String blankToNull(String s) {
+        return s == null || s.isBlank() ? null : s;
+    }
+
+    private WebhookSubscriptionDto toDto(WebhookSubscription s) {
+        return WebhookSubscriptionDto.builder()
+                .id(s.getId())
+                .url(s.getUrl())
+                .signed(s.getSecret() != null)
+                .eventTypes(Arrays.stream(s.getEventTypes().split(",")).map(String::trim).toList())
+                .maxConcurrency(s.getMaxConcurrency())
+                .active(s.isActive())
+                .createdDate(s.getCreatedDate())
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+// src/main/java/com/myBusiness/application/usecase/WebhookTargetGuard.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.application.exception.InvalidWebhookException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+
+/**
+ * Impide que un webhook apunte a la red interna (SSRF): el host se resuelve y se rechaza si
+ * alguna de sus direcciones es loopback, privada (site-local / ULA), link-local (incluye los
+ * metadatos de la nube, 169.254.169.254), any-local o multicast.
+ * Se comprueba al registrar la url y otra vez antes de cada envío, porque el DNS puede cambiar
+ * después (DNS rebinding). La resolución queda en la caché DNS de la JVM, así que el envío que
+ * sigue a la comprobación conecta a las mismas direcciones; el HttpClient no sigue
+ * redirecciones, así que no hay otro salto.
+ * `allow-private-targets` lo desactiva para desarrollo con receptores locales.
+ */
+@Component
+public class WebhookTargetGuard {
+
+    @Value("${app.webhooks.allow-private-targets:false}")
+    private boolean allowPrivateTargets;
+
+    /**
+     * @throws InvalidWebhookException si el destino es interno
+     * @throws UnknownHostException si el host no resuelve (puede ser transitorio)
+     */
+    public void check(URI uri) throws UnknownHostException {
+        if (allowPrivateTargets) {
+            return;
+        }
+        for (InetAddress address : InetAddress.getAllByName(uri.getHost())) {
+            if (isInternal(address)) {
+                throw new InvalidWebhookException("El webhook no puede apuntar a una dirección interna: "
+                        + uri.getHost() + " (" + address.getHostAddress() + ")");
+            }
+        }
+    }
+
+    private static boolean isInternal(InetAddress address) {
+        return address.isLoopbackAddress()
+                || address.isSiteLocalAddress()
+                || address.isLinkLocalAddress()
+                || address.isAnyLocalAddress()
+                || address.isMulticastAddress()
+                // fc00::/7 (ULA): el equivalente IPv6 de las redes privadas
+                || (address instanceof Inet6Address && (address.getAddress()[0] & 0xfe) == 0xfc);
+    }
+}
@@ -0,0 +1,33 @@
+// src/main/java/com/myBusiness/application/util/ReportFilterKeys.java
+package com.myBusiness.application.util;
+
+import com.myBusiness.application.dto.ReportFilterDto;
+
+/**
+ * Forma canónica de un ReportFilterDto: dos filtros que producen el mismo reporte
+ * generan la misma clave (nulos y "false" en thresholdBelow se tratan igual).
+ */
+public final class ReportFilterKeys {
+
+    private ReportFilterKeys() {
+    }
+
+    public static String of(ReportFilterDto filter) {
+        if (filter == null) {
+            filter = new ReportFilterDto();
+        }
+        return "p=" + nullSafe(filter.getProductId())
+                + "|c=" + nullSafe(filter.getCategoryId())
+                + "|u=" + nullSafe(filter.getUnitId())
+                + "|l=" + nullSafe(filter.getLocationId())
+                + "|from=" + nullSafe(filter.getDateFrom())
+                + "|to=" + nullSafe(filter.getDateTo())
+                + "|type=" + (filter.getMovementType() == null ? "" : filter.getMovementType().trim().toUpperCase())
+                + "|below=" + Boolean.TRUE.equals(filter.getThresholdBelow())
+                + "|tz=" + nullSafe(filter.getTimeZone());
+    }
+
+    private static String nullSafe(Object value) {
+        return value == null ? "" : value.toString();
+    }
+}
@@ -11,7 +11,13 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.Instant;
 
 @Entity
-@Table(name = "alerts")
+@Table(
+    name = "alerts",
+    indexes = {
+        // Episodios abiertos (closed_at IS NULL) por producto
+        @Index(name = "idx_alerts_open", columnList = "closed_at, product_id")
+    }
+)
 @EntityListeners(AuditingEntityListener.class)         // <— para @CreatedBy/@LastModifiedBy
 @Getter
 @Setter
@@ -29,8 +35,9 @@ public class Alert {
     @JoinColumn(name = "product_id", nullable = false)
     private Product product;
 
+    // Sin FK en BD: inventory_movements está particionada en PostgreSQL y su PK es (id, movement_date)
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "movement_id")
+    @JoinColumn(name = "movement_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private InventoryMovement movement;
 
     @Enumerated(EnumType.STRING)
@@ -40,6 +47,10 @@ public class Alert {
     @Column(name = "triggered_at", nullable = false, updatable = false)
     private Instant triggeredAt;
 
+    // Fin del episodio: null mientras el producto siga fuera de rango
+    @Column(name = "closed_at")
+    private Instant closedAt;
+
     @Column(name = "is_read", nullable = false)
     private boolean isRead;
 
@@ -60,6 +71,14 @@ public class Alert {
     @Column(name = "modified_date", nullable = false)
     private Instant modifiedDate;
 
+    public boolean isOpen() {
+        return closedAt == null;
+    }
+
+    public void close(Instant when) {
+        this.closedAt = when;
+    }
+
     @PrePersist
     void prePersist() {
         this.triggeredAt = Instant.now();
@@ -0,0 +1,54 @@
+// src/main/java/com/myBusiness/domain/model/AlertArchive.java
+package com.myBusiness.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Copia plana (sin FKs) de los episodios de alerta cerrados que salieron de la tabla activa.
+ * La llenan y vacían sentencias masivas (ver ArchiveRetentionJob); no se escribe fila a fila.
+ */
+@Entity
+@Table(
+    name = "alerts_archive",
+    indexes = {
+        @Index(name = "idx_alerts_archive_closed", columnList = "closed_at"),
+        @Index(name = "idx_alerts_archive_product", columnList = "product_id")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AlertArchive {
+
+    @Id
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "movement_id")
+    private Long movementId;
+
+    @Column(name = "alert_type", nullable = false, length = 20)
+    private String alertType;
+
+    @Column(name = "triggered_at", nullable = false)
+    private Instant triggeredAt;
+
+    @Column(name = "closed_at")
+    private Instant closedAt;
+
+    @Column(name = "is_read", nullable = false)
+    private boolean isRead;
+
+    @Column(name = "created_by", length = 50)
+    private String createdBy;
+
+    @Column(name = "created_date")
+    private Instant createdDate;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+}
@@ -0,0 +1,23 @@
+// src/main/java/com/myBusiness/domain/model/AlertTransitionRow.java
+package com.myBusiness.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * Episodio de alerta abierto o cerrado por el barrido de umbrales, con los datos
+ * del producto necesarios para notificarlo (proyección de solo lectura).
+ */
+@Getter
+@AllArgsConstructor
+public class AlertTransitionRow {
+    private Long alertId;
+    private Long productId;
+    private String productName;
+    private AlertType alertType;
+    private BigDecimal currentStock;
+    private Integer thresholdMin;
+    private Integer thresholdMax;
+}
@@ -0,0 +1,15 @@
+// src/main/java/com/myBusiness/domain/model/ArchiveBatch.java
+package com.myBusiness.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Resultado de mover un lote a la tabla de archivo: filas movidas y cuántas seguían sin leer.
+ */
+@Getter
+@AllArgsConstructor
+public class ArchiveBatch {
+    private final int archived;
+    private final int unread;
+}
@@ -0,0 +1,37 @@
+// src/main/java/com/myBusiness/domain/model/ArchivedMovement.java
+package com.myBusiness.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Fila de un segmento de archivo: el movimiento con los nombres vigentes al archivarlo
+ * (proyección de solo lectura, no es entidad). Las ubicaciones y locationDelta van al final;
+ * en segmentos escritos antes de que existieran quedan a null.
+ */
+@Getter
+@AllArgsConstructor
+public class ArchivedMovement {
+    private Long id;
+    private Long productId;
+    private String productName;
+    private Long categoryId;
+    private String categoryName;
+    private String unitName;
+    private MovementType movementType;
+    private BigDecimal quantity;
+    private String reason;
+    private Instant movementDate;
+    private String createdBy;
+    private Long locationId;
+    private Long destinationLocationId;
+    private BigDecimal locationDelta;
+
+    public MovementLedgerRow toLedgerRow() {
+        return new MovementLedgerRow(id, productId, productName, categoryName, unitName,
+                movementType, quantity, reason, movementDate, createdBy);
+    }
+}
@@ -51,6 +51,10 @@ public class Business {
     @Column
     private String industry;
 
+    // Zona horaria IANA del negocio (p.ej. "America/Bogota"); agrupa métricas por fecha local
+    @Column(name = "time_zone", length = 50)
+    private String timeZone;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id", nullable = false)
     private User owner;
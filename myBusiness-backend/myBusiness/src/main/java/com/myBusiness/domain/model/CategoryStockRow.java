@@ -0,0 +1,25 @@
+// src/main/java/com/myBusiness/domain/model/CategoryStockRow.java
+package com.myBusiness.domain.model;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * Agregado por categoría: cantidad de productos y valor de stock (precio × cantidad).
+ * Proyección de solo lectura, no es entidad.
+ */
+@Getter
+public class CategoryStockRow {
+    private final Long categoryId;
+    private final String categoryName;
+    private final long skuCount;
+    private final BigDecimal totalValue;
+
+    public CategoryStockRow(Long categoryId, String categoryName, Long skuCount, BigDecimal totalValue) {
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+        this.skuCount = skuCount != null ? skuCount : 0L;
+        this.totalValue = totalValue != null ? totalValue : BigDecimal.ZERO;
+    }
+}
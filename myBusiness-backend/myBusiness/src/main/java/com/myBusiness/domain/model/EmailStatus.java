@@ -0,0 +1,9 @@
+// src/main/java/com/myBusiness/domain/model/EmailStatus.java
+package com.myBusiness.domain.model;
+
+public enum EmailStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,69 @@
+// src/main/java/com/myBusiness/domain/model/IdempotencyRecord.java
+package com.myBusiness.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Respuesta guardada para una cabecera Idempotency-Key de un usuario.
+ * La fila se crea IN_PROGRESS al empezar la petición (la restricción única impide ejecutarla
+ * dos veces a la vez) y pasa a COMPLETED con el estado y el cuerpo de la respuesta. Mientras
+ * se ejecuta, la instancia que la tiene renueva heartbeatAt; createdAt identifica cada uso de
+ * la clave y las escrituras posteriores lo comprueban.
+ * Caduca en expiresAt; el índice sobre esa columna permite purgarla por rango.
+ */
+@Entity
+@Table(
+    name = "idempotency_keys",
+    uniqueConstraints = @UniqueConstraint(name = "uk_idempotency_owner_key", columnNames = {"owner_id", "idem_key"}),
+    indexes = @Index(name = "idx_idempotency_keys_expires", columnList = "expires_at")
+)
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class IdempotencyRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    @Column(name = "idem_key", nullable = false, length = 100)
+    private String idemKey;
+
+    // SHA-256 de método, ruta y cuerpo: la misma clave con otra petición se rechaza
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 12)
+    private IdempotencyStatus status;
+
+    @Column(name = "response_status")
+    private Integer responseStatus;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    // Cabecera Location de las altas (POST /api/products)
+    @Column(length = 255)
+    private String location;
+
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "heartbeat_at", nullable = false)
+    private Instant heartbeatAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
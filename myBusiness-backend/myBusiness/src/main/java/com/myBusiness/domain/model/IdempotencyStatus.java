@@ -0,0 +1,6 @@
+package com.myBusiness.domain.model;
+
+public enum IdempotencyStatus {
+    IN_PROGRESS,
+    COMPLETED
+}
@@ -3,6 +3,7 @@ package com.myBusiness.domain.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.PartitionKey;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
@@ -11,9 +12,18 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 
 @Entity
-@Table(name = "inventory_movements")
+@Table(
+    name = "inventory_movements",
+    indexes = {
+        @Index(name = "idx_movement_date", columnList = "movement_date"),
+        @Index(name = "idx_movement_product_date", columnList = "product_id, movement_date"),
+        @Index(name = "idx_movement_location_date", columnList = "location_id, movement_date"),
+        @Index(name = "idx_movement_destination_date", columnList = "destination_location_id, movement_date")
+    }
+)
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
@@ -40,6 +50,22 @@ public class InventoryMovement {
     @Column(length = 255)
     private String reason;
 
+    // Ubicación del movimiento; en un TRANSFER es el origen
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "location_id")
+    private Location location;
+
+    // Solo TRANSFER: ubicación que recibe el stock
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "destination_location_id")
+    private Location destinationLocation;
+
+    // Solo ADJUSTMENT: diferencia que aplicó al saldo de su ubicación (para poder revertirla)
+    @Column(name = "location_delta", precision = 15, scale = 2)
+    private BigDecimal locationDelta;
+
+    // Clave de partición en PostgreSQL: UPDATE y DELETE de la entidad la incluyen en el WHERE
+    @PartitionKey
     @Column(name = "movement_date", nullable = false, updatable = false)
     private Instant movementDate;
 
@@ -62,6 +88,7 @@ public class InventoryMovement {
 
     @PrePersist
     void onCreate() {
-        this.movementDate = Instant.now();
+        // Con la precisión de la BD: la fecha que ve el cliente sirve para volver a buscarlo
+        this.movementDate = Instant.now().truncatedTo(ChronoUnit.MICROS);
     }
 }
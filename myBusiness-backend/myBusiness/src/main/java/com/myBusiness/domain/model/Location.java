@@ -0,0 +1,44 @@
+// src/main/java/com/myBusiness/domain/model/Location.java
+package com.myBusiness.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Bodega o tienda donde se guarda stock. Cada movimiento ocurre en una ubicación
+ * (y un TRANSFER, además, en una de destino).
+ */
+@Entity
+@Table(name = "locations")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class Location {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 100)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private LocationType type;
+
+    // Inactiva: conserva historial y saldos pero no admite movimientos nuevos
+    @Column(nullable = false)
+    private boolean active;
+
+    @Column(name = "created_date", nullable = false, updatable = false)
+    private Instant createdDate;
+
+    @PrePersist
+    void onCreate() {
+        this.createdDate = Instant.now();
+    }
+}
@@ -0,0 +1,60 @@
+// src/main/java/com/myBusiness/domain/model/LocationStock.java
+package com.myBusiness.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Saldo de un producto en una ubicación. La clave (location_id, product_id) deja juntas
+ * las filas de cada ubicación: listar su stock recorre solo el prefijo de la clave, y cada
+ * escritura bloquea únicamente la fila de su par (ubicación, producto).
+ * La suma por producto es el stock total (product_stock la copia de forma asíncrona).
+ * `reserved` es lo apartado por reservas activas (StockReservation) en la ubicación: las
+ * salidas y traspasos solo pueden llevarse quantity - reserved.
+ */
+@Entity
+@Table(
+    name = "location_stock",
+    indexes = @Index(name = "idx_location_stock_product", columnList = "product_id")
+)
+@IdClass(LocationStock.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class LocationStock {
+
+    @Id
+    @Column(name = "location_id")
+    private Long locationId;
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal quantity;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal reserved;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long locationId;
+        private Long productId;
+    }
+}
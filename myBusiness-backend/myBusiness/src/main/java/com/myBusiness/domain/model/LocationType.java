@@ -0,0 +1,6 @@
+// src/main/java/com/myBusiness/domain/model/LocationType.java
+package com.myBusiness.domain.model;
+
+public enum LocationType {
+    WAREHOUSE, STORE
+}
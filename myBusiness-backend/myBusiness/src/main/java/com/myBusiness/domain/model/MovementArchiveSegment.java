@@ -0,0 +1,40 @@
+// src/main/java/com/myBusiness/domain/model/MovementArchiveSegment.java
+package com.myBusiness.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Registro de un mes de movimientos archivado en disco. Se inserta en la misma transacción
+ * que borra las filas de inventory_movements: un archivo sin registro es un intento
+ * interrumpido y se puede reescribir; uno registrado ya no se modifica.
+ */
+@Entity
+@Table(name = "movement_archive_segments")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class MovementArchiveSegment {
+
+    // "YYYY-MM" (mes UTC)
+    @Id
+    @Column(length = 7)
+    private String month;
+
+    @Column(name = "file_name", nullable = false, length = 100)
+    private String fileName;
+
+    @Column(name = "row_count", nullable = false)
+    private long rowCount;
+
+    // SHA-256 del archivo comprimido
+    @Column(nullable = false, length = 64)
+    private String checksum;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+}
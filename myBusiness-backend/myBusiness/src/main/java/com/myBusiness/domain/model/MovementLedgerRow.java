@@ -0,0 +1,27 @@
+// src/main/java/com/myBusiness/domain/model/MovementLedgerRow.java
+package com.myBusiness.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Fila plana del libro de movimientos (proyección de solo lectura, no es entidad).
+ * Se usa para exportaciones en streaming sin cargar entidades en el contexto de persistencia.
+ */
+@Getter
+@AllArgsConstructor
+public class MovementLedgerRow {
+    private Long id;
+    private Long productId;
+    private String productName;
+    private String categoryName;
+    private String unitName;
+    private MovementType movementType;
+    private BigDecimal quantity;
+    private String reason;
+    private Instant movementDate;
+    private String createdBy;
+}
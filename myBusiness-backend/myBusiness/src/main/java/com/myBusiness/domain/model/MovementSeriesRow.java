@@ -0,0 +1,21 @@
+// src/main/java/com/myBusiness/domain/model/MovementSeriesRow.java
+package com.myBusiness.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Agregado de movimientos por intervalo de tiempo y tipo (proyección de solo lectura).
+ * bucketStart es la hora local de inicio del intervalo en la zona horaria consultada.
+ */
+@Getter
+@AllArgsConstructor
+public class MovementSeriesRow {
+    private LocalDateTime bucketStart;
+    private MovementType movementType;
+    private long count;
+    private BigDecimal quantity;
+}
@@ -2,7 +2,9 @@
 package com.myBusiness.domain.model;
 
 public enum MovementType {
-    ENTRY, EXIT, ADJUSTMENT;
+    ENTRY, EXIT, ADJUSTMENT,
+    // Mueve stock entre dos ubicaciones; el total del producto no cambia
+    TRANSFER;
 
     public boolean isEntry() {
         return this == ENTRY;
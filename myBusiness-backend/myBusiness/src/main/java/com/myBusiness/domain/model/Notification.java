@@ -6,7 +6,10 @@ import lombok.*;
 import java.time.Instant;
 
 @Entity
-@Table(name = "notifications")
+@Table(
+    name = "notifications",
+    indexes = @Index(name = "idx_notifications_created", columnList = "created_date")
+)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -24,6 +27,7 @@ public class Notification {
     @Column(name = "created_date", nullable = false, updatable = false)
     private Instant createdDate;
 
+    // Ya no se actualiza: el estado de lectura es por usuario (NotificationReadMark)
     @Column(name = "is_read", nullable = false)
     private boolean isRead;
 
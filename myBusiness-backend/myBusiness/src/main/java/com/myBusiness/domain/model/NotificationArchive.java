@@ -0,0 +1,35 @@
+// src/main/java/com/myBusiness/domain/model/NotificationArchive.java
+package com.myBusiness.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Notificaciones antiguas movidas fuera de la tabla activa (ver ArchiveRetentionJob).
+ */
+@Entity
+@Table(
+    name = "notifications_archive",
+    indexes = @Index(name = "idx_notifications_archive_created", columnList = "created_date")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationArchive {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 255)
+    private String message;
+
+    @Column(name = "created_date", nullable = false)
+    private Instant createdDate;
+
+    @Column(name = "is_read", nullable = false)
+    private boolean isRead;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+}
@@ -0,0 +1,33 @@
+// src/main/java/com/myBusiness/domain/model/NotificationReadException.java
+package com.myBusiness.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Notificación leída por un usuario por encima de su marca (lastReadId).
+ * El conjunto es disperso: al avanzar la marca se borran las que quedan por debajo.
+ */
+@Entity
+@Table(
+    name = "notification_read_exceptions",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_notification_read_exception",
+        columnNames = {"user_id", "notification_id"})
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class NotificationReadException {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "notification_id", nullable = false)
+    private Long notificationId;
+}
@@ -0,0 +1,32 @@
+// src/main/java/com/myBusiness/domain/model/NotificationReadMark.java
+package com.myBusiness.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Estado de lectura de la bandeja de un usuario: todas las notificaciones con
+ * id <= lastReadId están leídas. Las leídas por encima de la marca se guardan
+ * aparte (NotificationReadException), así que leer no crea una fila por notificación.
+ */
+@Entity
+@Table(name = "notification_read_marks")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class NotificationReadMark {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "last_read_id", nullable = false)
+    private long lastReadId;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
@@ -0,0 +1,70 @@
+// src/main/java/com/myBusiness/domain/model/OutboundEmail.java
+package com.myBusiness.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Correo pendiente de envío (outbox). Los hilos de petición solo insertan filas;
+ * EmailOutboxWorker las envía por lotes.
+ */
+@Entity
+@Table(
+    name = "email_outbox",
+    indexes = {
+        @Index(name = "idx_email_outbox_status_next", columnList = "status, next_attempt_at")
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OutboundEmail {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 150)
+    private String recipient;
+
+    @Column(nullable = false, length = 255)
+    private String subject;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private EmailStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // PENDING: no antes de esta fecha; SENDING: fin del "lease" del worker que lo tomó
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_date", nullable = false, updatable = false)
+    private Instant createdDate;
+
+    @Column(name = "sent_at")
+    private Instant sentAt;
+
+    @PrePersist
+    void onCreate() {
+        this.createdDate = Instant.now();
+        if (this.status == null) {
+            this.status = EmailStatus.PENDING;
+        }
+        if (this.nextAttemptAt == null) {
+            this.nextAttemptAt = this.createdDate;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+// src/main/java/com/myBusiness/domain/model/OutboxCheckpoint.java
+package com.myBusiness.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Último evento de outbox_events aplicado por una proyección. Avanza en la misma
+ * transacción que el lote que procesa; la fila también sirve de cerrojo entre instancias.
+ * Si el siguiente id falta (commit pendiente o transacción deshecha), `gapHorizon` y
+ * `gapSeenAt` recuerdan cuándo se vio el hueco hasta que se resuelve.
+ */
+@Entity
+@Table(name = "outbox_checkpoints")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OutboxCheckpoint {
+
+    @Id
+    @Column(length = 100)
+    private String projection;
+
+    @Column(name = "last_event_id", nullable = false)
+    private long lastEventId;
+
+    @Column(nullable = false)
+    private int failures;
+
+    /** Siguiente id de transacción cuando se vio el hueco (null: no hay hueco o la BD no lo expone). */
+    @Column(name = "gap_horizon")
+    private Long gapHorizon;
+
+    @Column(name = "gap_seen_at")
+    private Instant gapSeenAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
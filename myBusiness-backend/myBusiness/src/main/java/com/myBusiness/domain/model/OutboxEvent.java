@@ -0,0 +1,54 @@
+// src/main/java/com/myBusiness/domain/model/OutboxEvent.java
+package com.myBusiness.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Evento de movimiento escrito en la misma transacción que el movimiento (outbox).
+ * Las proyecciones lo consumen en orden de id desde OutboxDispatcher; productId es la clave
+ * de orden (todos los eventos de un producto se aplican en el orden en que se confirmaron).
+ */
+@Entity
+@Table(name = "outbox_events")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 20)
+    private OutboxEventType eventType;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    // Solo en MOVEMENT_UPDATED que cambian de producto
+    @Column(name = "previous_product_id")
+    private Long previousProductId;
+
+    @Column(name = "movement_id", nullable = false)
+    private Long movementId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "movement_type", length = 20)
+    private MovementType movementType;
+
+    @Column(precision = 15, scale = 2)
+    private BigDecimal quantity;
+
+    @Column(name = "movement_date")
+    private Instant movementDate;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
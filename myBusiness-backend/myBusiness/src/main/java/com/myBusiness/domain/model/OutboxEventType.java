@@ -0,0 +1,7 @@
+package com.myBusiness.domain.model;
+
+public enum OutboxEventType {
+    MOVEMENT_CREATED,
+    MOVEMENT_UPDATED,
+    MOVEMENT_DELETED
+}
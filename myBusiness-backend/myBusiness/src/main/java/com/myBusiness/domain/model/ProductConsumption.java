@@ -0,0 +1,70 @@
+// src/main/java/com/myBusiness/domain/model/ProductConsumption.java
+package com.myBusiness.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Tasa de consumo diario (EXIT) por producto, como media móvil exponencial.
+ * Las salidas del día en curso se acumulan en currentDayQty; al pasar a otro día ese
+ * acumulado se incorpora a dailyRate (y los días sin salidas cuentan como consumo 0).
+ */
+@Entity
+@Table(name = "product_consumption")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ProductConsumption {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    // EWMA de los días ya cerrados (anteriores a currentDay)
+    @Column(name = "daily_rate", nullable = false)
+    private double dailyRate;
+
+    @Column(name = "current_day", nullable = false)
+    private LocalDate currentDay;
+
+    @Column(name = "current_day_qty", nullable = false)
+    private double currentDayQty;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    /**
+     * Registra una salida en O(1). Salidas con fecha anterior a currentDay se suman al
+     * día en curso (solo ocurre con relojes desfasados).
+     */
+    public void recordExit(LocalDate day, double quantity, double alpha) {
+        if (day.isAfter(currentDay)) {
+            dailyRate = rateAt(day, alpha);
+            currentDay = day;
+            currentDayQty = 0;
+        }
+        currentDayQty += quantity;
+        updatedAt = Instant.now();
+    }
+
+    /**
+     * Tasa vista desde `day`: se cierra currentDay y se decae por cada día vacío entre
+     * medio. Con day == currentDay incluye el acumulado (parcial) de hoy.
+     */
+    public double rateAt(LocalDate day, double alpha) {
+        return rateAt(dailyRate, currentDay, currentDayQty, day, alpha);
+    }
+
+    public static double rateAt(double dailyRate, LocalDate currentDay, double currentDayQty,
+                                LocalDate day, double alpha) {
+        double closed = alpha * currentDayQty + (1 - alpha) * dailyRate;
+        long emptyDays = ChronoUnit.DAYS.between(currentDay, day) - 1;
+        return emptyDays > 0 ? closed * Math.pow(1 - alpha, emptyDays) : closed;
+    }
+}
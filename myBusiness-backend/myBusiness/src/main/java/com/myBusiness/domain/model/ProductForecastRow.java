@@ -0,0 +1,36 @@
+// src/main/java/com/myBusiness/domain/model/ProductForecastRow.java
+package com.myBusiness.domain.model;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Producto con su saldo y su estado de consumo (proyección de solo lectura, no es entidad).
+ * Los campos de consumo son null si el producto nunca tuvo salidas.
+ */
+@Getter
+public class ProductForecastRow {
+    private final Long productId;
+    private final String productName;
+    private final Integer thresholdMin;
+    private final Integer thresholdMax;
+    private final BigDecimal currentStock;
+    private final Double dailyRate;
+    private final LocalDate currentDay;
+    private final Double currentDayQty;
+
+    public ProductForecastRow(Long productId, String productName,
+                              Integer thresholdMin, Integer thresholdMax, BigDecimal currentStock,
+                              Double dailyRate, LocalDate currentDay, Double currentDayQty) {
+        this.productId = productId;
+        this.productName = productName;
+        this.thresholdMin = thresholdMin;
+        this.thresholdMax = thresholdMax;
+        this.currentStock = currentStock != null ? currentStock : BigDecimal.ZERO;
+        this.dailyRate = dailyRate;
+        this.currentDay = currentDay;
+        this.currentDayQty = currentDayQty;
+    }
+}
@@ -0,0 +1,34 @@
+// src/main/java/com/myBusiness/domain/model/ProductStock.java
+package com.myBusiness.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Stock total materializado por producto para las consultas agrupadas (resumen por categoría,
+ * previsiones). Es la suma de location_stock y se pone al día desde el outbox
+ * (ProductStockProjection), fuera de la transacción del movimiento: puede ir unos instantes por
+ * detrás. Las lecturas puntuales usan la suma directamente (ComputeStockUseCase.execute).
+ */
+@Entity
+@Table(name = "product_stock")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ProductStock {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal quantity;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
@@ -0,0 +1,50 @@
+// src/main/java/com/myBusiness/domain/model/ReorderSuggestion.java
+package com.myBusiness.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Sugerencia de reposición calculada por el proceso nocturno (ReorderSuggestionJob).
+ * La tabla se reemplaza completa en cada ejecución.
+ */
+@Entity
+@Table(name = "reorder_suggestions")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ReorderSuggestion {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(name = "product_name", nullable = false, length = 100)
+    private String productName;
+
+    @Column(name = "current_stock", nullable = false, precision = 15, scale = 2)
+    private BigDecimal currentStock;
+
+    @Column(name = "daily_consumption", nullable = false, precision = 15, scale = 4)
+    private BigDecimal dailyConsumption;
+
+    @Column(name = "threshold_min", nullable = false)
+    private Integer thresholdMin;
+
+    @Column(name = "threshold_max", nullable = false)
+    private Integer thresholdMax;
+
+    @Column(name = "suggested_quantity", nullable = false, precision = 15, scale = 2)
+    private BigDecimal suggestedQuantity;
+
+    @Column(name = "days_to_stockout")
+    private Long daysToStockout;
+
+    @Column(name = "computed_at", nullable = false)
+    private Instant computedAt;
+}
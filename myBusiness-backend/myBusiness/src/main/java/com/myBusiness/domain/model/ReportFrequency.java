@@ -0,0 +1,19 @@
+// src/main/java/com/myBusiness/domain/model/ReportFrequency.java
+package com.myBusiness.domain.model;
+
+import java.time.Duration;
+
+public enum ReportFrequency {
+    DAILY(Duration.ofDays(1)),
+    WEEKLY(Duration.ofDays(7));
+
+    private final Duration period;
+
+    ReportFrequency(Duration period) {
+        this.period = period;
+    }
+
+    public Duration getPeriod() {
+        return period;
+    }
+}
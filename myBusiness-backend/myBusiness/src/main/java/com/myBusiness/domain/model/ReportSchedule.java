@@ -0,0 +1,78 @@
+// src/main/java/com/myBusiness/domain/model/ReportSchedule.java
+package com.myBusiness.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Suscripción de un destinatario a un reporte periódico de inventario.
+ * Los filtros son los mismos de ReportFilterDto.
+ */
+@Entity
+@Table(
+    name = "report_schedules",
+    indexes = {
+        @Index(name = "idx_report_schedule_next_run", columnList = "active, next_run_at")
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ReportSchedule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 150)
+    private String email;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ReportFrequency frequency;
+
+    // --- Filtros del reporte (opcionales) ---
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Column(name = "unit_id")
+    private Long unitId;
+
+    @Column(name = "date_from")
+    private LocalDate dateFrom;
+
+    @Column(name = "date_to")
+    private LocalDate dateTo;
+
+    @Column(name = "movement_type", length = 20)
+    private String movementType;
+
+    @Column(name = "threshold_below")
+    private Boolean thresholdBelow;
+
+    // --- Planificación ---
+    @Column(name = "next_run_at", nullable = false)
+    private Instant nextRunAt;
+
+    @Column(name = "last_run_at")
+    private Instant lastRunAt;
+
+    @Column(nullable = false)
+    private boolean active;
+
+    @Column(name = "created_date", nullable = false, updatable = false)
+    private Instant createdDate;
+
+    @PrePersist
+    void onCreate() {
+        this.createdDate = Instant.now();
+    }
+}
@@ -0,0 +1,6 @@
+// src/main/java/com/myBusiness/domain/model/ReservationStatus.java
+package com.myBusiness.domain.model;
+
+public enum ReservationStatus {
+    ACTIVE, RELEASED, CONSUMED, EXPIRED
+}
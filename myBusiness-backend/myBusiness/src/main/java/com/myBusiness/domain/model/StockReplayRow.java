@@ -0,0 +1,21 @@
+// src/main/java/com/myBusiness/domain/model/StockReplayRow.java
+package com.myBusiness.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * Movimiento reducido a lo necesario para reconstruir stock y valor
+ * (proyección de solo lectura, no es entidad).
+ */
+@Getter
+@AllArgsConstructor
+public class StockReplayRow {
+    private Long productId;
+    private Long categoryId;
+    private BigDecimal price;
+    private MovementType movementType;
+    private BigDecimal quantity;
+}
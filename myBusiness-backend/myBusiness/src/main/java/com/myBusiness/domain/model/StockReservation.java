@@ -0,0 +1,69 @@
+// src/main/java/com/myBusiness/domain/model/StockReservation.java
+package com.myBusiness.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Stock apartado en una ubicación para un pedido pendiente sin registrar una salida. Mientras
+ * está ACTIVE su cantidad cuenta en location_stock.reserved de su (ubicación, producto); al
+ * liberarse, consumirse (EXIT) o caducar deja de contar.
+ * El estado solo sale de ACTIVE con un UPDATE condicional, así que cada reserva descuenta una sola vez.
+ */
+@Entity
+@Table(
+    name = "stock_reservations",
+    indexes = {
+        @Index(name = "idx_reservation_status_expires", columnList = "status, expires_at"),
+        @Index(name = "idx_reservation_product_status", columnList = "product_id, status")
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class StockReservation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "location_id", nullable = false)
+    private Long locationId;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal quantity;
+
+    // Referencia externa (p. ej. el número de pedido)
+    @Column(length = 100)
+    private String reference;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReservationStatus status;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "closed_at")
+    private Instant closedAt;
+
+    // Salida (EXIT) registrada al consumir la reserva
+    @Column(name = "movement_id")
+    private Long movementId;
+
+    @PrePersist
+    void onCreate() {
+        this.createdAt = Instant.now();
+    }
+}
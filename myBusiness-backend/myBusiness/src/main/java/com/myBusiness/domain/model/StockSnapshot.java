@@ -0,0 +1,32 @@
+// src/main/java/com/myBusiness/domain/model/StockSnapshot.java
+package com.myBusiness.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Stock de un producto al terminar los movimientos ya archivados (anteriores a asOf).
+ * Es el punto de partida para reconstruir el saldo con los movimientos que siguen en la tabla.
+ */
+@Entity
+@Table(name = "stock_snapshots")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class StockSnapshot {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal quantity;
+
+    @Column(name = "as_of", nullable = false)
+    private Instant asOf;
+}
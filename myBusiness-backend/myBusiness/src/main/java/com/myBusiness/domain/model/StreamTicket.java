@@ -0,0 +1,39 @@
+// src/main/java/com/myBusiness/domain/model/StreamTicket.java
+package com.myBusiness.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Ticket de un solo uso para abrir /api/alerts/stream. EventSource no puede enviar la cabecera
+ * Authorization, así que la url lleva este ticket en lugar del JWT: caduca en segundos y se
+ * borra al usarse. Solo se guarda el SHA-256 del ticket.
+ */
+@Entity
+@Table(
+    name = "stream_tickets",
+    uniqueConstraints = @UniqueConstraint(name = "uk_stream_tickets_hash", columnNames = "ticket_hash"),
+    indexes = @Index(name = "idx_stream_tickets_expires", columnList = "expires_at")
+)
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class StreamTicket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "ticket_hash", nullable = false, length = 64)
+    private String ticketHash;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
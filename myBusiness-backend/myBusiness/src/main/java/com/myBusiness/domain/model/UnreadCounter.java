@@ -0,0 +1,29 @@
+// src/main/java/com/myBusiness/domain/model/UnreadCounter.java
+package com.myBusiness.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Contador materializado de elementos no leídos (una fila por tipo; hoy solo alertas).
+ * Se actualiza con deltas atómicos en la misma transacción que cambia el estado de lectura,
+ * para que los badges no tengan que contar filas.
+ */
+@Entity
+@Table(name = "unread_counters")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class UnreadCounter {
+
+    public static final String ALERTS = "ALERTS";
+
+    @Id
+    @Column(length = 30)
+    private String name;
+
+    @Column(nullable = false)
+    private long unread;
+}
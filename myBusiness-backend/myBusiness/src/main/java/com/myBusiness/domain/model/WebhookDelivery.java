@@ -0,0 +1,74 @@
+// src/main/java/com/myBusiness/domain/model/WebhookDelivery.java
+package com.myBusiness.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Evento pendiente de entregar a una suscripción (cola persistente de webhooks).
+ * La transacción que produce el evento solo inserta la fila; WebhookDispatcher la envía
+ * agrupada con otras de la misma suscripción. DEAD es la lista de eventos agotados.
+ */
+@Entity
+@Table(
+    name = "webhook_deliveries",
+    indexes = {
+        @Index(name = "idx_webhook_deliveries_status_next", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_webhook_deliveries_subscription", columnList = "subscription_id")
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class WebhookDelivery {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "subscription_id", nullable = false)
+    private Long subscriptionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 10)
+    private WebhookEventType eventType;
+
+    // JSON del evento, ya serializado al encolar
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private WebhookDeliveryStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // PENDING: no antes de esta fecha; SENDING: fin del "lease" del dispatcher que la tomó
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_date", nullable = false, updatable = false)
+    private Instant createdDate;
+
+    @Column(name = "sent_at")
+    private Instant sentAt;
+
+    @PrePersist
+    void onCreate() {
+        this.createdDate = Instant.now();
+        if (this.status == null) {
+            this.status = WebhookDeliveryStatus.PENDING;
+        }
+        if (this.nextAttemptAt == null) {
+            this.nextAttemptAt = this.createdDate;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+// src/main/java/com/myBusiness/domain/model/WebhookDeliveryStatus.java
+package com.myBusiness.domain.model;
+
+public enum WebhookDeliveryStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    DEAD
+}
@@ -0,0 +1,7 @@
+// src/main/java/com/myBusiness/domain/model/WebhookEventType.java
+package com.myBusiness.domain.model;
+
+public enum WebhookEventType {
+    ALERT,
+    MOVEMENT
+}
@@ -0,0 +1,59 @@
+// src/main/java/com/myBusiness/domain/model/WebhookSubscription.java
+package com.myBusiness.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Endpoint externo suscrito a eventos de alertas y/o movimientos.
+ * event_types guarda los tipos separados por coma (ALERT,MOVEMENT).
+ */
+@Entity
+@Table(name = "webhook_subscriptions")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class WebhookSubscription {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 500)
+    private String url;
+
+    // Si está informado, cada POST lleva X-Webhook-Signature: sha256=<HMAC del cuerpo>
+    @Column(length = 200)
+    private String secret;
+
+    @Column(name = "event_types", nullable = false, length = 100)
+    private String eventTypes;
+
+    // Peticiones simultáneas máximas hacia este endpoint
+    @Column(name = "max_concurrency", nullable = false)
+    private int maxConcurrency;
+
+    @Column(nullable = false)
+    private boolean active;
+
+    @Column(name = "created_date", nullable = false, updatable = false)
+    private Instant createdDate;
+
+    @PrePersist
+    void onCreate() {
+        this.createdDate = Instant.now();
+    }
+
+    public boolean accepts(WebhookEventType type) {
+        for (String t : eventTypes.split(",")) {
+            if (t.trim().equals(type.name())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
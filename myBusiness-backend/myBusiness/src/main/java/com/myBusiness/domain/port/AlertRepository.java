@@ -1,15 +1,90 @@
 package com.myBusiness.domain.port;
 
 import com.myBusiness.domain.model.Alert;
+import com.myBusiness.domain.model.AlertTransitionRow;
+import com.myBusiness.domain.model.AlertType;
+import com.myBusiness.domain.model.ArchiveBatch;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface AlertRepository {
     Alert save(Alert alert);
     Optional<Alert> findById(Long id);
+    boolean existsById(Long id);
     List<Alert> findAllUnread();
     List<Alert> findAllByProductId(Long productId);
     List<Alert> findAll();  // agregado para historial
+
+    /** Episodios abiertos (closedAt null), con su producto cargado. */
+    List<Alert> findOpen();
+    List<Alert> findOpenByProductId(Long productId);
+
+    /**
+     * Abre un episodio si el producto no tiene ninguno abierto (INSERT … ON CONFLICT DO NOTHING
+     * contra el índice único parcial; en H2, bloqueando el producto y comprobando antes);
+     * devuelve el episodio abierto, o vacío si otra transacción se adelantó. movementId puede
+     * ser null.
+     */
+    Optional<Alert> openIfAbsent(Long productId, AlertType type, Long movementId, Instant triggeredAt);
+
+    /**
+     * En PostgreSQL crea, si falta, el índice único parcial alerts(product_id) WHERE closed_at
+     * IS NULL (como mucho un episodio abierto por producto); antes cierra los duplicados que
+     * hubiera, dejando abierto el más reciente. Devuelve cuántos cerró.
+     */
+    int ensureSingleOpenEpisode(Instant closedAt);
+
+    /** Quita la referencia al movimiento en las alertas que lo apunten (antes de borrarlo). */
+    void detachMovement(Long movementId);
+
+    /** Marca como leída si no lo estaba; devuelve true si cambió. */
+    boolean markRead(Long id);
+
+    /** Marca como leídas las que no lo estaban; devuelve cuántas cambiaron. */
+    int markRead(Collection<Long> ids);
+
+    /** Marca todas como leídas con un solo UPDATE; devuelve cuántas cambiaron. */
+    int markAllRead();
+
+    long countUnread();
+
+    /**
+     * Página por cursor, de la más reciente a la más antigua: alertas con id < beforeId
+     * (beforeId null = desde el principio), con producto y movimiento cargados.
+     */
+    List<Alert> findPage(Long beforeId, boolean unreadOnly, int limit);
+
+    // ——— Barrido de umbrales (productos con id en [fromProductId, toProductId]) ———
+
+    /** Episodios abiertos cuyo tipo ya no corresponde al stock y umbrales actuales. */
+    List<AlertTransitionRow> findStaleOpen(Long fromProductId, Long toProductId);
+
+    /** Cierra los episodios indicados que sigan abiertos; devuelve cuántos cerró. */
+    int closeByIds(Collection<Long> ids, Instant closedAt);
+
+    /**
+     * Abre con un INSERT … SELECT un episodio para cada producto fuera de rango que no
+     * tenga uno abierto (ON CONFLICT DO NOTHING si otra transacción lo abre a la vez; en H2,
+     * bloqueando antes los productos del rango); devuelve cuántos abrió.
+     */
+    int openMissing(Long fromProductId, Long toProductId, Instant triggeredAt);
+
+    /** Episodios abiertos por openMissing con ese instante (para notificarlos). */
+    List<AlertTransitionRow> findOpenedAt(Long fromProductId, Long toProductId, Instant triggeredAt);
+
+    /**
+     * Mueve a alerts_archive hasta `batchSize` episodios cerrados antes de `cutoff`
+     * (INSERT … SELECT + DELETE por rango de id, sin cargar entidades).
+     */
+    ArchiveBatch archiveClosedBefore(Instant cutoff, int batchSize);
+
+    /**
+     * Borra del archivo los episodios cerrados antes de `cutoff` (mismo criterio que
+     * archiveClosedBefore) en una sola sentencia.
+     */
+    int purgeArchiveBefore(Instant cutoff);
     void deleteById(Long id);
 }
@@ -0,0 +1,27 @@
+// src/main/java/com/myBusiness/domain/port/EmailOutboxRepository.java
+package com.myBusiness.domain.port;
+
+import com.myBusiness.domain.model.EmailStatus;
+import com.myBusiness.domain.model.OutboundEmail;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface EmailOutboxRepository {
+    OutboundEmail save(OutboundEmail email);
+
+    /**
+     * Toma hasta `limit` correos listos para enviar y los marca SENDING hasta `leaseUntil`.
+     * Filas bloqueadas por otro worker se saltan.
+     */
+    List<OutboundEmail> claimBatch(int limit, Instant now, Instant leaseUntil);
+
+    void markSent(List<Long> ids, Instant sentAt);
+    void markFailedAttempt(Long id, String error, Instant nextAttemptAt, boolean giveUp);
+    int deleteSentBefore(Instant limit);
+
+    Map<EmailStatus, Long> countByStatus();
+    Optional<Instant> findOldestPendingDate();
+}
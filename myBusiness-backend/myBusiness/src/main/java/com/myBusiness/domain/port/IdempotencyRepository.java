@@ -0,0 +1,37 @@
+// src/main/java/com/myBusiness/domain/port/IdempotencyRepository.java
+package com.myBusiness.domain.port;
+
+import com.myBusiness.domain.model.IdempotencyRecord;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface IdempotencyRepository {
+
+    /**
+     * Inserta la fila IN_PROGRESS en su propia transacción. Si ya existe una para el mismo
+     * usuario y clave, la restricción única produce DataIntegrityViolationException.
+     */
+    void insert(IdempotencyRecord record);
+
+    Optional<IdempotencyRecord> find(Long ownerId, String idemKey);
+
+    /**
+     * Reutiliza una fila caducada o abandonada: solo gana quien la encuentra todavía con
+     * el createdAt y el heartbeatAt leídos (UPDATE condicional).
+     */
+    boolean takeOver(Long id, Instant seenCreatedAt, Instant seenHeartbeatAt, String requestHash,
+                     Instant now, Instant expiresAt);
+
+    /** Renueva el latido de una fila IN_PROGRESS; false si ya no es el mismo uso (createdAt). */
+    boolean heartbeat(Long id, Instant createdAt, Instant now);
+
+    /** Guarda la respuesta si la fila sigue IN_PROGRESS con ese createdAt; false si otra petición la tomó. */
+    boolean complete(Long id, Instant createdAt, int responseStatus, String contentType, String location,
+                     String responseBody);
+
+    /** Borra la fila si sigue IN_PROGRESS con ese createdAt. */
+    void delete(Long id, Instant createdAt);
+
+    int deleteExpired(Instant now);
+}
@@ -1,30 +1,115 @@
 // src/main/java/com/myBusiness/domain/port/InventoryMovementRepository.java
 package com.myBusiness.domain.port;
 
+import com.myBusiness.domain.model.ArchivedMovement;
 import com.myBusiness.domain.model.InventoryMovement;
+import com.myBusiness.domain.model.MovementLedgerRow;
+import com.myBusiness.domain.model.MovementSeriesRow;
+import com.myBusiness.domain.model.StockReplayRow;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface InventoryMovementRepository {
     InventoryMovement save(InventoryMovement movement);
+
+    /**
+     * Sin la fecha, PostgreSQL tiene que buscar el id en todas las particiones: usar la variante
+     * con movementDate siempre que el llamador la conozca.
+     */
     Optional<InventoryMovement> findById(Long id);
-    boolean existsById(Long id);
-    List<InventoryMovement> findAllByProductId(Long productId);
-    void deleteById(Long id);
 
     /**
-     * Filtrado por producto, categoría, unidad y rango de fechas (LocalDate).
-     * dateFrom/dateTo incluyentes. Si un parámetro es null, no se filtra por él.
+     * Igual, limitado a la partición de movementDate (null = todas). Si con esa fecha no
+     * aparece, se busca solo por id.
+     */
+    Optional<InventoryMovement> findById(Long id, Instant movementDate);
+
+    /** Movimientos del producto con movementDate >= from, del más reciente al más antiguo. */
+    List<InventoryMovement> findAllByProductId(Long productId, Instant from);
+
+    /** Borra el movimiento (en su partición: movement_date forma parte del WHERE). */
+    void delete(InventoryMovement movement);
+
+    /**
+     * Filtrado por producto, categoría, unidad, ubicación (como origen o destino de un TRANSFER)
+     * y rango de fechas (LocalDate). dateFrom/dateTo incluyentes y cortados en `zone` (se consulta
+     * movementDate en [dateFrom, dateTo + 1 día), lo que permite a PostgreSQL descartar
+     * particiones). Si un parámetro es null, no se filtra por él.
+     * Solo ve la tabla: los casos de uso llaman a MovementHistoryService.findByFilter, que
+     * añade los meses archivados.
      */
     List<InventoryMovement> findByFilter(
         Long productId,
         Long categoryId,
         Long unitId,
+        Long locationId,
         LocalDate dateFrom,
-        LocalDate dateTo
+        LocalDate dateTo,
+        ZoneId zone
     );
 
-    List<InventoryMovement> findAll();
     List<InventoryMovement> findTopNByOrderByMovementDateDesc(int limit);
+
+    /**
+     * Recorre en streaming (cursor de BD) los movimientos con movementDate en [from, to),
+     * ordenados por fecha e id. Debe consumirse dentro de una transacción y cerrarse al terminar.
+     */
+    Stream<MovementLedgerRow> streamLedger(
+        Long productId,
+        Instant from,
+        Instant to,
+        int fetchSize
+    );
+
+    /** Cantidad de movimientos con movementDate en [from, to). */
+    long countBetween(Instant from, Instant to);
+
+    /**
+     * Bloquea (FOR UPDATE) los movimientos con movementDate en [from, to) hasta el final de la
+     * transacción en curso y devuelve cuántos son.
+     */
+    long lockBetween(Instant from, Instant to);
+
+    /**
+     * Movimientos con movementDate en [from, to) para escribirlos en un segmento de archivo,
+     * ordenados por fecha e id. Debe consumirse dentro de una transacción y cerrarse al terminar.
+     */
+    Stream<ArchivedMovement> streamForArchive(Instant from, Instant to, int fetchSize);
+
+    /** Borra los movimientos con movementDate en [from, to), desligando antes sus alertas. */
+    int deleteBetween(Instant from, Instant to);
+
+    /** Fecha del movimiento más antiguo, si existe alguno. */
+    Optional<Instant> findEarliestMovementDate();
+
+    /**
+     * Huella del contenido de la tabla ("cantidad:id máximo:última modificación"): cambia con
+     * cualquier alta, baja o modificación confirmada.
+     */
+    String contentVersion();
+
+    /**
+     * Recorre en streaming los movimientos anteriores a `until`, ordenados por producto,
+     * fecha e id (para reconstruir stock a una fecha). unitId null = todas las unidades.
+     * Debe consumirse dentro de una transacción y cerrarse al terminar.
+     */
+    Stream<StockReplayRow> streamStockReplay(Long unitId, Instant until, int fetchSize);
+
+    /**
+     * Agrupa en la BD los movimientos con movementDate en [from, to) por intervalo
+     * (hour/day/week/month, truncado en la zona `timeZone`) y por tipo.
+     * productId/categoryId null = sin filtrar. Resultado ordenado por intervalo.
+     */
+    List<MovementSeriesRow> findSeries(
+        String bucket,
+        String timeZone,
+        Instant from,
+        Instant to,
+        Long productId,
+        Long categoryId
+    );
 }
@@ -0,0 +1,21 @@
+// src/main/java/com/myBusiness/domain/port/LocationRepository.java
+package com.myBusiness.domain.port;
+
+import com.myBusiness.domain.model.Location;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface LocationRepository {
+    Location save(Location location);
+    Optional<Location> findById(Long id);
+    Optional<Location> findByName(String name);
+    List<Location> findAll();
+    void deleteById(Long id);
+
+    /** true si algún movimiento ocurre en la ubicación (como origen o destino). */
+    boolean hasMovements(Long locationId);
+
+    /** Asigna `locationId` a los movimientos sin ubicación (previos a las ubicaciones). */
+    int assignToUnlocatedMovements(Long locationId);
+}
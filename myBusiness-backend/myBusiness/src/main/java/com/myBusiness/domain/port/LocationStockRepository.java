@@ -0,0 +1,73 @@
+// src/main/java/com/myBusiness/domain/port/LocationStockRepository.java
+package com.myBusiness.domain.port;
+
+import com.myBusiness.domain.model.LocationStock;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface LocationStockRepository {
+    Optional<BigDecimal> findQuantity(Long locationId, Long productId);
+    Optional<BigDecimal> findReserved(Long locationId, Long productId);
+
+    /** Saldos de una ubicación (solo sus filas), ordenados por producto. */
+    List<LocationStock> findByLocation(Long locationId);
+
+    /** Saldos de un producto en todas sus ubicaciones. */
+    List<LocationStock> findByProduct(Long productId);
+
+    /** Stock total del producto: suma de sus ubicaciones (0 si no tiene filas). */
+    BigDecimal sumByProduct(Long productId);
+
+    /** Totales de varios productos en una consulta agrupada; los que no tienen filas no aparecen. */
+    Map<Long, BigDecimal> sumByProducts(Collection<Long> productIds);
+
+    /**
+     * Bloquea (SELECT ... FOR UPDATE, en orden de ubicación) todas las filas del producto y
+     * devuelve su suma. Solo lo usa ADJUSTMENT, que fija el total.
+     */
+    BigDecimal lockSumByProduct(Long productId);
+
+    /**
+     * Suma `delta` al saldo con un UPDATE condicional que solo se aplica si el resultado no es
+     * negativo. Devuelve false si no se aplicó (sin fila, o saldo insuficiente para un delta negativo).
+     */
+    boolean add(Long locationId, Long productId, BigDecimal delta);
+
+    /**
+     * Resta `quantity` solo si no toca lo reservado (quantity - reserved >= :q): salidas y
+     * origen de traspasos. Devuelve false si no se aplicó.
+     */
+    boolean take(Long locationId, Long productId, BigDecimal quantity);
+
+    /**
+     * Aparta `quantity` con un UPDATE condicional (quantity - reserved >= :q) sobre la fila del
+     * par. Devuelve false si no hay disponible suficiente o no hay fila.
+     */
+    boolean reserve(Long locationId, Long productId, BigDecimal quantity);
+
+    /** Devuelve `quantity` reservada al disponible, sin bajar reserved de 0. */
+    void unreserve(Long locationId, Long productId, BigDecimal quantity);
+
+    /** Suma `delta` sin condición, dejando el saldo en 0 si quedaría negativo (reversiones). */
+    void addClamped(Long locationId, Long productId, BigDecimal delta);
+
+    /**
+     * Crea la fila con saldo 0 en su propia transacción. Si otra petición la creó a la vez,
+     * lanza DataIntegrityViolationException (la fila existe igualmente).
+     */
+    void insertEmpty(Long locationId, Long productId);
+
+    /**
+     * Crea en `locationId` la fila de cada producto que tiene saldo en product_stock pero
+     * ninguna fila por ubicación. Devuelve cuántas creó.
+     */
+    int seedFromProductStock(Long locationId);
+
+    /** Si la ubicación tiene stock o reservas. */
+    boolean hasStock(Long locationId);
+    void deleteByProductId(Long productId);
+}
@@ -0,0 +1,12 @@
+// src/main/java/com/myBusiness/domain/port/MovementArchiveSegmentRepository.java
+package com.myBusiness.domain.port;
+
+import com.myBusiness.domain.model.MovementArchiveSegment;
+
+import java.util.List;
+
+public interface MovementArchiveSegmentRepository {
+    /** Segmentos registrados, del mes más antiguo al más reciente. */
+    List<MovementArchiveSegment> findAll();
+    MovementArchiveSegment save(MovementArchiveSegment segment);
+}
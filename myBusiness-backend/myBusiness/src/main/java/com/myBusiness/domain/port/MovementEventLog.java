@@ -0,0 +1,42 @@
+// src/main/java/com/myBusiness/domain/port/MovementEventLog.java
+package com.myBusiness.domain.port;
+
+/**
+ * Registro binario de solo anexado con los cambios de movimientos (alta, modificación, baja).
+ * Cada evento es un registro de ancho fijo con una secuencia creciente desde 1; sirve para
+ * reconstruir proyecciones sin leer la base de datos.
+ * Los valores van como primitivos: cantidad en centésimas y fecha en microsegundos UTC.
+ */
+public interface MovementEventLog {
+
+    byte CREATED = 1;
+    byte UPDATED = 2;
+    byte DELETED = 3;
+
+    /** Recibe cada registro durante replay; sin objetos intermedios por evento. */
+    @FunctionalInterface
+    interface Handler {
+        void onEvent(long sequence, byte changeType, long movementId, long productId,
+                     byte movementType, long quantityCents, long movementDateMicros);
+    }
+
+    /** Añade un evento y devuelve su secuencia. */
+    long append(byte changeType, long movementId, long productId,
+                byte movementType, long quantityCents, long movementDateMicros);
+
+    /**
+     * Recorre en orden los eventos con secuencia >= fromSequence que existían al empezar.
+     * Devuelve cuántos se entregaron.
+     */
+    long replay(long fromSequence, Handler handler);
+
+    /** Última secuencia escrita; 0 si el registro está vacío. */
+    long lastSequence();
+
+    /** Fuerza a disco lo escrito desde el último flush. */
+    void flush();
+
+    int segmentCount();
+
+    long sizeBytes();
+}
@@ -0,0 +1,39 @@
+// src/main/java/com/myBusiness/domain/port/MovementPartitionRepository.java
+package com.myBusiness.domain.port;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Particionado mensual de inventory_movements por movement_date (solo PostgreSQL).
+ * En otras bases (H2) la tabla queda como la crea Hibernate y estas operaciones no aplican.
+ */
+public interface MovementPartitionRepository {
+
+    /** true si la base soporta particionado declarativo (PostgreSQL). */
+    boolean isSupported();
+
+    boolean isPartitioned();
+
+    /**
+     * Alinea el CHECK de movement_type con los valores actuales de MovementType. Hibernate no
+     * retoca el CHECK de una tabla existente y CREATE TABLE ... LIKE lo copia tal cual, así que
+     * una base anterior rechazaría los tipos nuevos (TRANSFER). No hace nada si ya coincide.
+     */
+    void syncMovementTypeCheck();
+
+    /**
+     * Convierte la tabla normal en particionada: crea particiones mensuales desde el mes del
+     * movimiento más antiguo hasta `until`, más una partición DEFAULT, y copia las filas.
+     */
+    void convertToPartitioned(YearMonth until);
+
+    /** Crea las particiones que falten en [from, to]; devuelve los meses creados. */
+    List<YearMonth> ensurePartitions(YearMonth from, YearMonth to);
+
+    /** Elimina la partición del mes si existe (se usa cuando sus filas ya se archivaron). */
+    void dropPartition(YearMonth month);
+
+    /** Filas que cayeron en la partición DEFAULT (debería ser 0 si el job va por delante). */
+    long countDefaultPartitionRows();
+}
@@ -0,0 +1,25 @@
+// src/main/java/com/myBusiness/domain/port/MovementSegmentStore.java
+package com.myBusiness.domain.port;
+
+import com.myBusiness.domain.model.ArchivedMovement;
+import com.myBusiness.domain.model.MovementArchiveSegment;
+
+import java.io.IOException;
+import java.time.YearMonth;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Almacenamiento en frío de movimientos: un archivo comprimido e inmutable por mes.
+ */
+public interface MovementSegmentStore {
+
+    /**
+     * Escribe el segmento del mes (reemplaza un intento anterior no registrado) y devuelve
+     * sus datos para registrarlo. El archivo solo aparece con su nombre final cuando está completo.
+     */
+    MovementArchiveSegment write(YearMonth month, Iterator<ArchivedMovement> rows) throws IOException;
+
+    /** Lee un segmento en orden de fecha e id. El Stream debe cerrarse al terminar. */
+    Stream<ArchivedMovement> read(MovementArchiveSegment segment);
+}
@@ -0,0 +1,53 @@
+// src/main/java/com/myBusiness/domain/port/NotificationInboxRepository.java
+package com.myBusiness.domain.port;
+
+import com.myBusiness.domain.model.Notification;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Bandeja por usuario sobre la tabla global de notificaciones:
+ * no leídas = id > marca del usuario y no presentes en su conjunto de excepciones.
+ */
+public interface NotificationInboxRepository {
+
+    /** Marca actual (0 si el usuario nunca leyó nada). */
+    long findLastReadId(Long userId);
+
+    /** Marca actual bloqueada para actualizarla; vacío si el usuario aún no tiene fila. */
+    Optional<Long> lockLastReadId(Long userId);
+
+    /**
+     * Crea la marca a 0 en su propia transacción. Si otra petición la creó a la vez, la PK
+     * produce DataIntegrityViolationException.
+     */
+    void insertReadMark(Long userId);
+
+    void updateLastReadId(Long userId, long lastReadId);
+
+    /** Registra una excepción; false si ya existía. */
+    boolean addException(Long userId, Long notificationId);
+
+    /** Borra las excepciones que quedaron por debajo de la marca. */
+    void deleteExceptionsUpTo(Long userId, long lastReadId);
+
+    /** Excepciones del usuario por encima de la marca. */
+    Set<Long> findExceptions(Long userId, long lastReadId);
+
+    /** Primera notificación no leída por encima de la marca (para compactar). */
+    Optional<Long> findFirstUnreadId(Long userId, long lastReadId);
+
+    /** No leídas, de la más reciente a la más antigua (recorrido por rango de la PK). */
+    List<Notification> findUnread(Long userId, long lastReadId);
+
+    /** Ids no leídos en (afterId, upToId]. */
+    List<Long> findUnreadIds(Long userId, long afterId, long upToId);
+
+    long countUnread(Long userId, long lastReadId);
+
+    /** Mayor id entre las notificaciones creadas antes de `before`. */
+    Optional<Long> findMaxNotificationIdCreatedBefore(Instant before);
+}
@@ -1,7 +1,9 @@
 package com.myBusiness.domain.port;
 
+import com.myBusiness.domain.model.ArchiveBatch;
 import com.myBusiness.domain.model.Notification;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,5 +12,13 @@ public interface NotificationRepository {
     Optional<Notification> findById(Long id);
     List<Notification> findAllUnread();
     List<Notification> findAll();      
-    void markAsRead(Long id);
+
+    /**
+     * Mueve a notifications_archive hasta `batchSize` notificaciones creadas antes de `cutoff`
+     * (y borra las lecturas por usuario que las referencian).
+     */
+    ArchiveBatch archiveCreatedBefore(Instant cutoff, int batchSize);
+
+    /** Borra del archivo lo anterior a `cutoff` en una sola sentencia. */
+    int purgeArchiveBefore(Instant cutoff);
 }
@@ -0,0 +1,47 @@
+// src/main/java/com/myBusiness/domain/port/OutboxRepository.java
+package com.myBusiness.domain.port;
+
+import com.myBusiness.domain.model.OutboxCheckpoint;
+import com.myBusiness.domain.model.OutboxEvent;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxRepository {
+
+    /** Inserta el evento en la transacción en curso. */
+    void append(OutboxEvent event);
+
+    /** Eventos con id > afterId, en orden de id. */
+    List<OutboxEvent> findAfter(long afterId, int limit);
+
+    /**
+     * Transacción más antigua aún en curso (xmin de la instantánea actual); vacío si la BD no
+     * lo expone (H2).
+     */
+    Optional<Long> oldestRunningTransaction();
+
+    /**
+     * Siguiente id de transacción por asignar (xmax de la instantánea actual): cualquier
+     * transacción que ya haya escrito tiene un id menor. Vacío si la BD no lo expone (H2).
+     */
+    Optional<Long> nextTransaction();
+
+    /** Crea el checkpoint de la proyección si no existe (empezando en 0). */
+    void ensureCheckpoint(String projection);
+
+    /**
+     * Bloquea el checkpoint hasta el fin de la transacción; vacío si lo tiene otra instancia (SKIP LOCKED).
+     */
+    Optional<OutboxCheckpoint> lockCheckpoint(String projection);
+
+    void recordFailure(String projection, String error);
+
+    List<OutboxCheckpoint> findAllCheckpoints();
+
+    long countAfter(long afterId);
+
+    /** Borra los eventos hasta upToId creados antes de `before`. */
+    int deleteProcessed(long upToId, Instant before);
+}
@@ -0,0 +1,21 @@
+// src/main/java/com/myBusiness/domain/port/ProductConsumptionRepository.java
+package com.myBusiness.domain.port;
+
+import com.myBusiness.domain.model.ProductConsumption;
+import com.myBusiness.domain.model.ProductForecastRow;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ProductConsumptionRepository {
+    /** Lee la fila bloqueándola (SELECT ... FOR UPDATE) hasta el fin de la transacción. */
+    Optional<ProductConsumption> findForUpdate(Long productId);
+    ProductConsumption save(ProductConsumption consumption);
+    void deleteByProductId(Long productId);
+    List<Long> findProductIdsWithExitsWithoutRate();
+
+    /**
+     * Saldo y consumo de los productos en una sola consulta. productId null = todo el catálogo.
+     */
+    List<ProductForecastRow> findForecastRows(Long productId);
+}
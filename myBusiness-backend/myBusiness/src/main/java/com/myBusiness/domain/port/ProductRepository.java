@@ -15,4 +15,13 @@ public interface ProductRepository {
     void deleteById(Long id);
     Page<Product> findAll(Pageable pageable);
     long count();
+
+    /** Mayor id de producto (para recorrer el catálogo por rangos de id). */
+    Optional<Long> findMaxId();
+
+    /**
+     * Huella del contenido de la tabla ("cantidad:id máximo:última modificación"): cambia con
+     * cualquier alta, baja o modificación confirmada.
+     */
+    String contentVersion();
 }
@@ -0,0 +1,27 @@
+// src/main/java/com/myBusiness/domain/port/ProductStockRepository.java
+package com.myBusiness.domain.port;
+
+import com.myBusiness.domain.model.CategoryStockRow;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface ProductStockRepository {
+    Optional<BigDecimal> findQuantity(Long productId);
+
+    /** Saldos de varios productos en una sola consulta; los que no tienen fila no aparecen. */
+    Map<Long, BigDecimal> findQuantities(Collection<Long> productIds);
+
+    void upsert(Long productId, BigDecimal quantity);
+    void deleteByProductId(Long productId);
+    List<Long> findProductIdsWithoutBalance();
+
+    /**
+     * SKUs y valor de stock por categoría en una sola consulta agrupada.
+     * Incluye categorías sin productos. unitId null = todas las unidades.
+     */
+    List<CategoryStockRow> summarizeByCategory(Long unitId);
+}
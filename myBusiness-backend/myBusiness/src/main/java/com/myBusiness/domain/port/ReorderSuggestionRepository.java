@@ -0,0 +1,14 @@
+// src/main/java/com/myBusiness/domain/port/ReorderSuggestionRepository.java
+package com.myBusiness.domain.port;
+
+import com.myBusiness.domain.model.ReorderSuggestion;
+
+import java.util.List;
+
+public interface ReorderSuggestionRepository {
+    /** Reemplaza el contenido de la tabla en una sola transacción. */
+    void replaceAll(List<ReorderSuggestion> suggestions);
+
+    /** Ordenadas por urgencia (menos días hasta quiebre primero). */
+    List<ReorderSuggestion> findAll();
+}
@@ -0,0 +1,13 @@
+// src/main/java/com/myBusiness/domain/port/ReportScheduleRepository.java
+package com.myBusiness.domain.port;
+
+import com.myBusiness.domain.model.ReportSchedule;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface ReportScheduleRepository {
+    ReportSchedule save(ReportSchedule schedule);
+    List<ReportSchedule> findDue(Instant now);
+    void markRun(List<Long> ids, Instant runAt);
+}
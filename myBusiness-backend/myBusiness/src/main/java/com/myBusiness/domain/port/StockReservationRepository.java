@@ -0,0 +1,34 @@
+// src/main/java/com/myBusiness/domain/port/StockReservationRepository.java
+package com.myBusiness.domain.port;
+
+import com.myBusiness.domain.model.ReservationStatus;
+import com.myBusiness.domain.model.StockReservation;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface StockReservationRepository {
+    StockReservation save(StockReservation reservation);
+    Optional<StockReservation> findById(Long id);
+
+    /** Reservas de un producto en un estado, más recientes primero. */
+    List<StockReservation> findByProduct(Long productId, ReservationStatus status, int limit);
+
+    /**
+     * Pasa la reserva de ACTIVE a `status` con un UPDATE condicional.
+     * Devuelve false si ya no estaba activa (otra petición o el barrido llegó antes).
+     */
+    boolean close(Long id, ReservationStatus status, Instant at);
+
+    /**
+     * Toma hasta `limit` reservas activas caducadas (SKIP LOCKED en PostgreSQL) y las marca EXPIRED.
+     * Varias instancias pueden barrer a la vez sin repartirse la misma reserva.
+     */
+    List<StockReservation> claimExpired(Instant now, int limit);
+
+    /** Borra las reservas cerradas antes de `before`. */
+    int deleteClosedBefore(Instant before);
+
+    void deleteByProductId(Long productId);
+}
@@ -0,0 +1,23 @@
+// src/main/java/com/myBusiness/domain/port/StockSnapshotRepository.java
+package com.myBusiness.domain.port;
+
+import com.myBusiness.domain.model.StockReplayRow;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface StockSnapshotRepository {
+    Optional<BigDecimal> findQuantity(Long productId);
+    Map<Long, BigDecimal> findAllQuantities();
+    void upsertAll(Map<Long, BigDecimal> quantities, Instant asOf);
+    void deleteByProductId(Long productId);
+
+    /**
+     * Una fila por producto (ordenadas por id) con su categoría y precio actuales y el stock
+     * archivado como ADJUSTMENT (0 si no tiene snapshot). unitId null = todas las unidades.
+     */
+    List<StockReplayRow> findReplayBaseline(Long unitId);
+}
@@ -0,0 +1,20 @@
+// src/main/java/com/myBusiness/domain/port/StreamTicketRepository.java
+package com.myBusiness.domain.port;
+
+import com.myBusiness.domain.model.StreamTicket;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface StreamTicketRepository {
+
+    void save(StreamTicket ticket);
+
+    /**
+     * Usuario del ticket si existe y no ha caducado. Lo borra en la misma operación: solo una
+     * de dos peticiones concurrentes con el mismo ticket lo consigue.
+     */
+    Optional<Long> consume(String ticketHash, Instant now);
+
+    int deleteExpired(Instant now);
+}
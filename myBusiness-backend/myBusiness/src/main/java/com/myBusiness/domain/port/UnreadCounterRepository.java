@@ -0,0 +1,13 @@
+// src/main/java/com/myBusiness/domain/port/UnreadCounterRepository.java
+package com.myBusiness.domain.port;
+
+public interface UnreadCounterRepository {
+    /** Valor actual del contador (0 si aún no existe). */
+    long get(String name);
+
+    /** Suma `delta` de forma atómica (sin bajar de 0); crea la fila si no existe. */
+    void add(String name, long delta);
+
+    /** Fija el valor (reconciliación al arrancar). */
+    void set(String name, long value);
+}
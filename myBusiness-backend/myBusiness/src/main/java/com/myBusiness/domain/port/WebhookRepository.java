@@ -0,0 +1,49 @@
+// src/main/java/com/myBusiness/domain/port/WebhookRepository.java
+package com.myBusiness.domain.port;
+
+import com.myBusiness.domain.model.WebhookDelivery;
+import com.myBusiness.domain.model.WebhookDeliveryStatus;
+import com.myBusiness.domain.model.WebhookSubscription;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface WebhookRepository {
+    WebhookSubscription saveSubscription(WebhookSubscription subscription);
+    Optional<WebhookSubscription> findSubscriptionById(Long id);
+    List<WebhookSubscription> findAllSubscriptions();
+    List<WebhookSubscription> findActiveSubscriptions();
+
+    /** Borra la suscripción junto con sus entregas pendientes y muertas. */
+    void deleteSubscription(Long id);
+
+    void enqueue(List<WebhookDelivery> deliveries);
+
+    /**
+     * Toma hasta `limit` entregas listas de suscripciones activas y las marca SENDING hasta
+     * `leaseUntil`. Se omiten las suscripciones de `excludedSubscriptionIds` (endpoints saturados)
+     * y las filas bloqueadas por otro dispatcher.
+     */
+    List<WebhookDelivery> claimBatch(int limit, Instant now, Instant leaseUntil,
+                                     Collection<Long> excludedSubscriptionIds);
+
+    void markSent(List<Long> ids, Instant sentAt);
+
+    /** Registra un intento fallido del lote; con giveUp las filas pasan a DEAD. */
+    void markFailedAttempt(List<Long> ids, String error, Instant nextAttemptAt, boolean giveUp);
+
+    /** Devuelve a PENDING sin contar intento (endpoint saturado, no se llegó a enviar). */
+    void release(List<Long> ids, Instant nextAttemptAt);
+
+    List<WebhookDelivery> findDead(Long subscriptionId, int limit);
+
+    /** Reencola una entrega DEAD con los intentos a cero. false si no existe o no está DEAD. */
+    boolean retryDead(Long id, Instant now);
+
+    int deleteSentBefore(Instant limit);
+
+    Map<WebhookDeliveryStatus, Long> countByStatus();
+}
@@ -2,7 +2,10 @@ package com.myBusiness.infrastructure.config;
 
 import com.myBusiness.infrastructure.security.JwtAuthenticationFilter;
 import com.myBusiness.infrastructure.security.JpaUserDetailsService;
+import com.myBusiness.infrastructure.web.IdempotencyFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -25,6 +28,7 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtFilter;
+    private final IdempotencyFilter idempotencyFilter;
     private final JpaUserDetailsService userDetailsService;
     private final BCryptPasswordEncoder passwordEncoder;
 
@@ -45,12 +49,16 @@ public class SecurityConfig {
           .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
           // 4) Reglas de autorización
           .authorizeHttpRequests(auth -> auth
+                // Los despachos ASYNC (SSE) ya se autorizaron en la petición original
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers(HttpMethod.OPTIONS, "/api/**").permitAll()
                 .requestMatchers("/api/auth/**", "/api/users/**").permitAll()
                 .requestMatchers("/api/dashboard/**").authenticated()
                 .requestMatchers("/api/products/**", "/api/reports/**").authenticated()
                 .requestMatchers("/api/movements/**").authenticated()
                 .requestMatchers("/api/notifications/**").authenticated()
+                // Las suscripciones deciden a dónde sale la información del inventario
+                .requestMatchers("/api/webhooks/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
           )
           // 5) Proveedor de autenticación con BCrypt y UserDetailsService
@@ -59,12 +67,24 @@ public class SecurityConfig {
               setPasswordEncoder(passwordEncoder);
           }})
           // 6) Filtro JWT
-          .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
+          .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
+          // 7) Idempotency-Key: necesita el usuario ya autenticado
+          .addFilterAfter(idempotencyFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
 
-  
+    /**
+     * IdempotencyFilter solo debe ejecutarse dentro de la cadena de seguridad (después del JWT),
+     * no como filtro suelto del contenedor.
+     */
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilterRegistration(IdempotencyFilter filter) {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration config = new CorsConfiguration();
@@ -79,6 +99,8 @@ public class SecurityConfig {
         ));
         // Cabeceras permitidas
         config.setAllowedHeaders(List.of("*"));
+        // Cabeceras de respuesta legibles desde el navegador
+        config.setExposedHeaders(List.of(IdempotencyFilter.REPLAYED_HEADER, "Retry-After"));
         // Permitir credenciales (cookies, headers, etc.)
         config.setAllowCredentials(true);
 
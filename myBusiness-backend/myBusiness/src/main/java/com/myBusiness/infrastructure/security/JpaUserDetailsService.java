@@ -4,12 +4,18 @@ import com.myBusiness.domain.model.User;
 import com.myBusiness.domain.port.UserRepository;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.*;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -17,15 +23,33 @@ public class JpaUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepo;
 
+    private Set<String> adminEmails = Set.of();
+
+    // Cuentas con ROLE_ADMIN (gestión de webhooks), separadas por comas
+    @Value("${app.security.admin-emails:}")
+    void setAdminEmails(String emails) {
+        adminEmails = Arrays.stream(emails.split(","))
+            .map(e -> e.trim().toLowerCase())
+            .filter(e -> !e.isEmpty())
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User u = userRepo.findByEmail(email.trim().toLowerCase())
+        String key = email.trim().toLowerCase();
+        User u = userRepo.findByEmail(key)
             .orElseThrow(() -> new UsernameNotFoundException("Usuario no encontrado: " + email));
 
         if (!u.isEnabled()) {
             throw new DisabledException("Email no verificado");
         }
 
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        authorities.add(new SimpleGrantedAuthority("ROLE_USER"));
+        if (adminEmails.contains(key)) {
+            authorities.add(new SimpleGrantedAuthority("ROLE_ADMIN"));
+        }
+
         return new org.springframework.security.core.userdetails.User(
             u.getUsername(),
             u.getPassword(),
@@ -33,7 +57,7 @@ public class JpaUserDetailsService implements UserDetailsService {
             true,           
             true,            
             true,           
-            Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
+            authorities
         );
     }
 }
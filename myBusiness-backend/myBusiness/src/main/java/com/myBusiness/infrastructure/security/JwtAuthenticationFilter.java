@@ -4,6 +4,7 @@ package com.myBusiness.infrastructure.security;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.*;
+import com.myBusiness.application.usecase.AlertStreamTicketService;
 import com.myBusiness.domain.model.User;
 import com.myBusiness.domain.port.UserRepository;
 import org.springframework.security.authentication.*;
@@ -18,16 +19,23 @@ import java.io.IOException;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    // EventSource no puede enviar cabeceras: el stream SSE se abre con un ticket de un solo
+    // uso (POST /api/alerts/stream/ticket), nunca con el JWT en la url
+    private static final String TICKET_PATH = "/api/alerts/stream";
+
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
     private final UserRepository userRepository;
+    private final AlertStreamTicketService streamTickets;
 
     public JwtAuthenticationFilter(JwtUtil jwtUtil,
                                     UserDetailsService userDetailsService,
-                                    UserRepository userRepository) {
+                                    UserRepository userRepository,
+                                    AlertStreamTicketService streamTickets) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
         this.userRepository = userRepository;
+        this.streamTickets = streamTickets;
     }
 
     @Override
@@ -43,6 +51,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             if (jwtUtil.validateToken(token)) {
                 username = jwtUtil.extractUsername(token);
             }
+        } else if (TICKET_PATH.equals(req.getRequestURI()) && req.getParameter("ticket") != null
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            streamTickets.redeem(req.getParameter("ticket"))
+                .flatMap(userRepository::findById)
+                .ifPresent(user -> authenticate(req, user));
         }
 
         if (username != null &&
@@ -64,4 +77,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
        
         chain.doFilter(req, res);
     }
+
+    private void authenticate(HttpServletRequest req, User user) {
+        UserDetails userDetails = userDetailsService.loadUserByUsername(user.getUsername());
+        UsernamePasswordAuthenticationToken auth =
+            new UsernamePasswordAuthenticationToken(user.getId(), null, userDetails.getAuthorities());
+        auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(req));
+        SecurityContextHolder.getContext().setAuthentication(auth);
+    }
 }
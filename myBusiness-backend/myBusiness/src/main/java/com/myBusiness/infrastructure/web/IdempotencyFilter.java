@@ -0,0 +1,258 @@
+// src/main/java/com/myBusiness/infrastructure/web/IdempotencyFilter.java
+package com.myBusiness.infrastructure.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myBusiness.application.usecase.IdempotencyService;
+import com.myBusiness.domain.model.IdempotencyRecord;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.Part;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cabecera Idempotency-Key en las escrituras de movimientos, productos (incluida la importación
+ * masiva) y reservas. Va detrás del filtro JWT porque la clave es por usuario:
+ *  - primera petición con la clave: se ejecuta y se guarda la respuesta (salvo 5xx, que libera la clave);
+ *  - repetición con la misma petición: se devuelve la respuesta guardada con Idempotent-Replayed: true;
+ *  - repetición mientras la primera sigue en curso: 409 con Retry-After;
+ *  - la misma clave con otra ruta o cuerpo: 422.
+ * Sin la cabecera, la petición pasa sin cambios.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final Set<String> METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Value("${app.idempotency.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.idempotency.paths:/api/movements/**,/api/products/**,/api/reservations/**}")
+    private String[] paths;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest req) {
+        if (!enabled || req.getHeader(HEADER) == null || !METHODS.contains(req.getMethod())) {
+            return true;
+        }
+        String uri = req.getRequestURI();
+        for (String pattern : paths) {
+            if (pathMatcher.match(pattern.trim(), uri)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+            throws ServletException, IOException {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !(auth.getPrincipal() instanceof Long ownerId)) {
+            // Sin usuario no hay ámbito para la clave; la autorización decidirá después
+            chain.doFilter(req, res);
+            return;
+        }
+        String key = req.getHeader(HEADER).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            writeError(res, HttpStatus.BAD_REQUEST,
+                    HEADER + " debe tener entre 1 y " + MAX_KEY_LENGTH + " caracteres");
+            return;
+        }
+
+        MessageDigest digest = sha256();
+        String query = req.getQueryString() != null ? "?" + req.getQueryString() : "";
+        digest.update((req.getMethod() + " " + req.getRequestURI() + query + "\n")
+                .getBytes(StandardCharsets.UTF_8));
+        HttpServletRequest request = req;
+        if (isMultipart(req)) {
+            // El contenedor guarda las partes ya leídas: el controlador las vuelve a obtener sin problema
+            for (Part part : req.getParts()) {
+                digest.update((part.getName() + "|" + part.getSubmittedFileName() + "\n").getBytes(StandardCharsets.UTF_8));
+                try (InputStream in = new DigestInputStream(part.getInputStream(), digest)) {
+                    in.transferTo(OutputStream.nullOutputStream());
+                }
+            }
+        } else {
+            byte[] body = req.getInputStream().readAllBytes();
+            digest.update(body);
+            request = new CachedBodyRequest(req, body);
+        }
+        String requestHash = HexFormat.of().formatHex(digest.digest());
+
+        IdempotencyService.Claim claim = idempotencyService.begin(ownerId, key, requestHash);
+        switch (claim.getOutcome()) {
+            case REPLAY -> replay(res, claim.getRecord());
+            case IN_PROGRESS -> {
+                res.setHeader("Retry-After", "1");
+                writeError(res, HttpStatus.CONFLICT, "Ya hay una petición en curso con esta " + HEADER);
+            }
+            case MISMATCH -> writeError(res, HttpStatus.UNPROCESSABLE_ENTITY,
+                    "La " + HEADER + " ya se usó con una petición distinta");
+            case EXECUTE -> execute(request, res, chain, claim.getRecord());
+        }
+    }
+
+    private void execute(HttpServletRequest req, HttpServletResponse res, FilterChain chain, IdempotencyRecord record)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(res);
+        try {
+            chain.doFilter(req, wrapper);
+        } catch (ServletException | IOException | RuntimeException ex) {
+            idempotencyService.release(record);
+            throw ex;
+        }
+        int status = wrapper.getStatus();
+        if (status >= 500) {
+            idempotencyService.release(record);
+        } else {
+            idempotencyService.complete(record, status, wrapper.getContentType(), wrapper.getHeader(HttpHeaders.LOCATION),
+                    new String(wrapper.getContentAsByteArray(), StandardCharsets.UTF_8));
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private void replay(HttpServletResponse res, IdempotencyRecord record) throws IOException {
+        res.setStatus(record.getResponseStatus());
+        res.setHeader(REPLAYED_HEADER, "true");
+        if (record.getLocation() != null) {
+            res.setHeader(HttpHeaders.LOCATION, record.getLocation());
+        }
+        if (record.getContentType() != null) {
+            res.setContentType(record.getContentType());
+        }
+        if (record.getResponseBody() != null && !record.getResponseBody().isEmpty()) {
+            byte[] body = record.getResponseBody().getBytes(StandardCharsets.UTF_8);
+            res.setContentLength(body.length);
+            res.getOutputStream().write(body);
+        }
+    }
+
+    private void writeError(HttpServletResponse res, HttpStatus status, String msg) throws IOException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", Instant.now());
+        body.put("status", status.value());
+        body.put("error", status.getReasonPhrase());
+        body.put("message", msg);
+        res.setStatus(status.value());
+        res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(res.getOutputStream(), body);
+    }
+
+    private static boolean isMultipart(HttpServletRequest req) {
+        String contentType = req.getContentType();
+        return contentType != null && contentType.toLowerCase().startsWith("multipart/");
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 no disponible", ex);
+        }
+    }
+
+    /** Petición cuyo cuerpo ya se leyó para calcular el hash; se sirve desde memoria. */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /** El cuerpo ya está en memoria: todo está disponible desde el primer momento. */
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        listener.onDataAvailable();
+                        listener.onAllDataRead();
+                    } catch (IOException ex) {
+                        listener.onError(ex);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
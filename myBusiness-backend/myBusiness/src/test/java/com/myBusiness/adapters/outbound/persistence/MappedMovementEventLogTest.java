@@ -0,0 +1,124 @@
+// src/test/java/com/myBusiness/adapters/outbound/persistence/MappedMovementEventLogTest.java
+package com.myBusiness.adapters.outbound.persistence;
+
+import com.myBusiness.domain.port.MovementEventLog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedMovementEventLogTest {
+
+    private static final int SEGMENT_RECORDS = 1024;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void recoversAllRecordsAfterRestart() throws IOException {
+        MappedMovementEventLog log = open();
+        log.append(MovementEventLog.CREATED, 10, 100, (byte) 0, 1_500, 1_000_000);
+        log.append(MovementEventLog.UPDATED, 10, 100, (byte) 0, 2_000, 2_000_000);
+        log.append(MovementEventLog.DELETED, 10, 100, (byte) 0, 0, 3_000_000);
+        log.close();
+
+        MappedMovementEventLog reopened = open();
+        List<long[]> events = replay(reopened, 1);
+
+        assertThat(reopened.lastSequence()).isEqualTo(3);
+        assertThat(events).hasSize(3);
+        assertThat(events.get(1)).containsExactly(2, MovementEventLog.UPDATED, 10, 100, 0, 2_000, 2_000_000);
+        assertThat(reopened.append(MovementEventLog.CREATED, 11, 100, (byte) 0, 1, 4_000_000)).isEqualTo(4);
+    }
+
+    @Test
+    void recoveryDropsTornRecordAndEverythingAfterIt() throws IOException {
+        MappedMovementEventLog log = open();
+        for (int i = 1; i <= 3; i++) {
+            log.append(MovementEventLog.CREATED, i, 100, (byte) 0, i * 100L, i * 1_000_000L);
+        }
+        log.close();
+
+        // Cuerpo del segundo registro a medio escribir: el CRC ya no cuadra
+        try (RandomAccessFile file = new RandomAccessFile(segment().toFile(), "rw")) {
+            file.seek(MappedMovementEventLog.RECORD_SIZE + 16);
+            file.writeLong(-1L);
+        }
+
+        MappedMovementEventLog reopened = open();
+
+        assertThat(reopened.lastSequence()).isEqualTo(1);
+        assertThat(replay(reopened, 1)).hasSize(1);
+        try (RandomAccessFile file = new RandomAccessFile(segment().toFile(), "r")) {
+            byte[] tail = new byte[2 * MappedMovementEventLog.RECORD_SIZE];
+            file.seek(MappedMovementEventLog.RECORD_SIZE);
+            file.readFully(tail);
+            assertThat(tail).containsOnly((byte) 0);
+        }
+        // La secuencia descartada se reutiliza
+        assertThat(reopened.append(MovementEventLog.CREATED, 9, 100, (byte) 0, 1, 1)).isEqualTo(2);
+    }
+
+    @Test
+    void recoveryStopsAtOutOfOrderSequence() throws IOException {
+        MappedMovementEventLog log = open();
+        log.append(MovementEventLog.CREATED, 1, 100, (byte) 0, 100, 1);
+        log.append(MovementEventLog.CREATED, 2, 100, (byte) 0, 200, 2);
+        log.close();
+
+        // Secuencia 7 donde debía ir la 2
+        try (RandomAccessFile file = new RandomAccessFile(segment().toFile(), "rw")) {
+            file.seek(MappedMovementEventLog.RECORD_SIZE);
+            file.write(new byte[] {7, 0, 0, 0, 0, 0, 0, 0});
+        }
+
+        assertThat(open().lastSequence()).isEqualTo(1);
+    }
+
+    @Test
+    void rollsToNewSegmentAndReplaysAcrossBoth() throws IOException {
+        MappedMovementEventLog log = open();
+        for (int i = 1; i <= SEGMENT_RECORDS + 5; i++) {
+            log.append(MovementEventLog.CREATED, i, 100, (byte) 0, i, i);
+        }
+        log.close();
+
+        MappedMovementEventLog reopened = open();
+        List<long[]> events = replay(reopened, SEGMENT_RECORDS - 2);
+
+        assertThat(reopened.segmentCount()).isEqualTo(2);
+        assertThat(reopened.lastSequence()).isEqualTo(SEGMENT_RECORDS + 5);
+        assertThat(events).extracting(e -> e[0])
+                .containsExactly(1022L, 1023L, 1024L, 1025L, 1026L, 1027L, 1028L, 1029L);
+    }
+
+    private MappedMovementEventLog open() throws IOException {
+        MappedMovementEventLog log = new MappedMovementEventLog();
+        ReflectionTestUtils.setField(log, "logDir", dir.toString());
+        ReflectionTestUtils.setField(log, "segmentRecords", SEGMENT_RECORDS);
+        log.init();
+        return log;
+    }
+
+    private Path segment() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.sorted().findFirst().orElseThrow();
+        }
+    }
+
+    private static List<long[]> replay(MappedMovementEventLog log, long from) {
+        List<long[]> events = new ArrayList<>();
+        log.replay(from, (seq, change, movementId, productId, type, cents, micros) ->
+                events.add(new long[] {seq, change, movementId, productId, type, cents, micros}));
+        return events;
+    }
+}
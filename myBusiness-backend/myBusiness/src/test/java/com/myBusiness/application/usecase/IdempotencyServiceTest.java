@@ -0,0 +1,206 @@
+// src/test/java/com/myBusiness/application/usecase/IdempotencyServiceTest.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.application.usecase.IdempotencyService.Claim;
+import com.myBusiness.application.usecase.IdempotencyService.Outcome;
+import com.myBusiness.domain.model.IdempotencyRecord;
+import com.myBusiness.domain.model.IdempotencyStatus;
+import com.myBusiness.domain.port.IdempotencyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IdempotencyServiceTest {
+
+    private static final Long OWNER = 7L;
+    private static final String KEY = "k-1";
+    private static final String HASH = "hash-a";
+
+    private IdempotencyRepository repo;
+    private IdempotencyService service;
+
+    @BeforeEach
+    void setUp() {
+        repo = mock(IdempotencyRepository.class);
+        service = new IdempotencyService(repo);
+        ReflectionTestUtils.setField(service, "ttlHours", 24L);
+        ReflectionTestUtils.setField(service, "inProgressTimeoutSeconds", 60L);
+    }
+
+    @Test
+    void firstRequestExecutes() {
+        insertAssigns(1L);
+
+        Claim claim = service.begin(OWNER, KEY, HASH);
+
+        assertThat(claim.getOutcome()).isEqualTo(Outcome.EXECUTE);
+        assertThat(claim.getRecord().getId()).isEqualTo(1L);
+        assertThat(claim.getRecord().getHeartbeatAt()).isEqualTo(claim.getRecord().getCreatedAt());
+    }
+
+    @Test
+    void completedKeyWithSameRequestReplays() {
+        IdempotencyRecord stored = stored(IdempotencyStatus.COMPLETED, HASH, ago(300), inHours(1));
+        conflictWith(stored);
+
+        Claim claim = service.begin(OWNER, KEY, HASH);
+
+        assertThat(claim.getOutcome()).isEqualTo(Outcome.REPLAY);
+        assertThat(claim.getRecord()).isSameAs(stored);
+    }
+
+    @Test
+    void otherRequestWithLiveKeyIsMismatchEvenIfAbandoned() {
+        conflictWith(stored(IdempotencyStatus.IN_PROGRESS, "hash-b", ago(600), inHours(1)));
+
+        Claim claim = service.begin(OWNER, KEY, HASH);
+
+        assertThat(claim.getOutcome()).isEqualTo(Outcome.MISMATCH);
+        verify(repo, never()).takeOver(any(), any(), any(), anyString(), any(), any());
+    }
+
+    @Test
+    void runningKeyWithRecentHeartbeatIsInProgress() {
+        conflictWith(stored(IdempotencyStatus.IN_PROGRESS, HASH, ago(5), inHours(1)));
+
+        Claim claim = service.begin(OWNER, KEY, HASH);
+
+        assertThat(claim.getOutcome()).isEqualTo(Outcome.IN_PROGRESS);
+        verify(repo, never()).takeOver(any(), any(), any(), anyString(), any(), any());
+    }
+
+    @Test
+    void abandonedKeyIsTakenOverWithTheSeenTimestamps() {
+        IdempotencyRecord stored = stored(IdempotencyStatus.IN_PROGRESS, HASH, ago(600), inHours(1));
+        conflictWith(stored);
+        when(repo.takeOver(eq(stored.getId()), eq(stored.getCreatedAt()), eq(stored.getHeartbeatAt()),
+                eq(HASH), any(), any())).thenReturn(true);
+
+        Claim claim = service.begin(OWNER, KEY, HASH);
+
+        assertThat(claim.getOutcome()).isEqualTo(Outcome.EXECUTE);
+        assertThat(claim.getRecord().getId()).isEqualTo(stored.getId());
+        assertThat(claim.getRecord().getCreatedAt()).isAfter(stored.getCreatedAt());
+    }
+
+    @Test
+    void lostTakeOverIsInProgress() {
+        conflictWith(stored(IdempotencyStatus.IN_PROGRESS, HASH, ago(600), inHours(1)));
+        when(repo.takeOver(any(), any(), any(), anyString(), any(), any())).thenReturn(false);
+
+        Claim claim = service.begin(OWNER, KEY, HASH);
+
+        assertThat(claim.getOutcome()).isEqualTo(Outcome.IN_PROGRESS);
+    }
+
+    @Test
+    void expiredKeyIsReusableByAnyRequest() {
+        conflictWith(stored(IdempotencyStatus.COMPLETED, "hash-b", ago(600), ago(1)));
+        when(repo.takeOver(any(), any(), any(), eq(HASH), any(), any())).thenReturn(true);
+
+        Claim claim = service.begin(OWNER, KEY, HASH);
+
+        assertThat(claim.getOutcome()).isEqualTo(Outcome.EXECUTE);
+    }
+
+    @Test
+    void keyReleasedBetweenInsertAndReadIsRetried() {
+        doThrow(new DataIntegrityViolationException("uk_idempotency_owner_key"))
+                .doAnswer(inv -> {
+                    inv.<IdempotencyRecord>getArgument(0).setId(3L);
+                    return null;
+                })
+                .when(repo).insert(any());
+        when(repo.find(OWNER, KEY)).thenReturn(Optional.empty());
+
+        Claim claim = service.begin(OWNER, KEY, HASH);
+
+        assertThat(claim.getOutcome()).isEqualTo(Outcome.EXECUTE);
+        verify(repo, times(2)).insert(any());
+    }
+
+    @Test
+    void heartbeatRenewsRunningKeysUntilFenced() {
+        insertAssigns(1L);
+        IdempotencyRecord record = service.begin(OWNER, KEY, HASH).getRecord();
+        when(repo.heartbeat(eq(1L), eq(record.getCreatedAt()), any())).thenReturn(true, false);
+
+        service.heartbeat();
+        service.heartbeat();   // otra petición la retomó: deja de renovarse
+        service.heartbeat();
+
+        verify(repo, times(2)).heartbeat(eq(1L), eq(record.getCreatedAt()), any());
+    }
+
+    @Test
+    void completeAndReleaseStopHeartbeatAndFenceOnCreatedAt() {
+        insertAssigns(1L);
+        IdempotencyRecord record = service.begin(OWNER, KEY, HASH).getRecord();
+        when(repo.complete(eq(1L), eq(record.getCreatedAt()), eq(201), any(), any(), any())).thenReturn(true);
+
+        service.complete(record, 201, "application/json", null, "{}");
+        service.heartbeat();
+
+        verify(repo).complete(1L, record.getCreatedAt(), 201, "application/json", null, "{}");
+        verify(repo, never()).heartbeat(any(), any(), any());
+
+        insertAssigns(2L);
+        IdempotencyRecord other = service.begin(OWNER, "k-2", HASH).getRecord();
+        service.release(other);
+        service.heartbeat();
+
+        verify(repo).delete(2L, other.getCreatedAt());
+        verify(repo, never()).heartbeat(any(), any(), any());
+    }
+
+    private void insertAssigns(Long id) {
+        doAnswer(inv -> {
+            inv.<IdempotencyRecord>getArgument(0).setId(id);
+            return null;
+        }).when(repo).insert(any());
+    }
+
+    private void conflictWith(IdempotencyRecord stored) {
+        doThrow(new DataIntegrityViolationException("uk_idempotency_owner_key")).when(repo).insert(any());
+        when(repo.find(OWNER, KEY)).thenReturn(Optional.of(stored));
+    }
+
+    private static IdempotencyRecord stored(IdempotencyStatus status, String hash, Instant heartbeatAt,
+                                            Instant expiresAt) {
+        return IdempotencyRecord.builder()
+                .id(42L)
+                .ownerId(OWNER)
+                .idemKey(KEY)
+                .requestHash(hash)
+                .status(status)
+                .createdAt(heartbeatAt.minusSeconds(1))
+                .heartbeatAt(heartbeatAt)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    private static Instant ago(long seconds) {
+        return Instant.now().minusSeconds(seconds);
+    }
+
+    private static Instant inHours(long hours) {
+        return Instant.now().plus(Duration.ofHours(hours));
+    }
+}
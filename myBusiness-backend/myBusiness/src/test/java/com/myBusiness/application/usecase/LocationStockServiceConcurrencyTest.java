@@ -0,0 +1,170 @@
+// src/test/java/com/myBusiness/application/usecase/LocationStockServiceConcurrencyTest.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.adapters.outbound.persistence.LocationStockRepositoryImpl;
+import com.myBusiness.application.exception.InsufficientStockException;
+import com.myBusiness.application.exception.InvalidMovementException;
+import com.myBusiness.domain.model.InventoryMovement;
+import com.myBusiness.domain.model.Location;
+import com.myBusiness.domain.model.MovementType;
+import com.myBusiness.domain.model.Product;
+import com.myBusiness.domain.port.LocationRepository;
+import com.myBusiness.domain.port.LocationStockRepository;
+import com.myBusiness.infrastructure.config.AuditingConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Salidas y reservas concurrentes sobre la misma fila de location_stock: los UPDATE
+ * condicionales no deben dejar vender ni apartar más de lo que hay.
+ * Cada tarea corre en su propia transacción (la clase no envuelve los tests en una).
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import({LocationStockRepositoryImpl.class, AuditingConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LocationStockServiceConcurrencyTest {
+
+    private static final Long LOCATION = 1L;
+    private static final int THREADS = 20;
+    private static final AtomicLong PRODUCT_IDS = new AtomicLong(1000);
+
+    @Autowired
+    private LocationStockRepository stockRepo;
+
+    private LocationStockService service;
+    private ExecutorService pool;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        service = new LocationStockService(mock(LocationRepository.class), stockRepo, mock(ComputeStockUseCase.class));
+        pool = Executors.newFixedThreadPool(THREADS);
+        // Un producto distinto por test: los datos se confirman y no se limpian entre tests
+        productId = PRODUCT_IDS.incrementAndGet();
+        stockRepo.insertEmpty(LOCATION, productId);
+        stockRepo.add(LOCATION, productId, BigDecimal.TEN);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void concurrentExitsNeverTakeMoreThanTheBalance() throws Exception {
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            tasks.add(this::exitOne);
+        }
+
+        List<Boolean> results = runTogether(tasks);
+
+        assertThat(results).filteredOn(ok -> ok).hasSize(10);
+        assertThat(stockRepo.findQuantity(LOCATION, productId)).hasValueSatisfying(
+                q -> assertThat(q).isEqualByComparingTo(BigDecimal.ZERO));
+    }
+
+    @Test
+    void concurrentReservationsNeverExceedTheBalance() throws Exception {
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            tasks.add(() -> stockRepo.reserve(LOCATION, productId, BigDecimal.ONE));
+        }
+
+        List<Boolean> results = runTogether(tasks);
+
+        assertThat(results).filteredOn(ok -> ok).hasSize(10);
+        assertThat(stockRepo.findReserved(LOCATION, productId)).hasValueSatisfying(
+                r -> assertThat(r).isEqualByComparingTo(BigDecimal.TEN));
+    }
+
+    @Test
+    void exitsAndReservationsRacingShareTheBalanceWithoutOverlap() throws Exception {
+        List<Callable<Boolean>> exits = new ArrayList<>();
+        List<Callable<Boolean>> reservations = new ArrayList<>();
+        for (int i = 0; i < THREADS / 2; i++) {
+            exits.add(this::exitOne);
+            reservations.add(() -> stockRepo.reserve(LOCATION, productId, BigDecimal.ONE));
+        }
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS / 2; i++) {
+            tasks.add(exits.get(i));
+            tasks.add(reservations.get(i));
+        }
+
+        List<Boolean> results = runTogether(tasks);
+
+        long exited = 0;
+        long reserved = 0;
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i)) {
+                if (i % 2 == 0) {
+                    exited++;
+                } else {
+                    reserved++;
+                }
+            }
+        }
+        BigDecimal quantity = stockRepo.findQuantity(LOCATION, productId).orElseThrow();
+        BigDecimal reservedNow = stockRepo.findReserved(LOCATION, productId).orElseThrow();
+
+        assertThat(exited + reserved).isEqualTo(10);
+        assertThat(quantity).isEqualByComparingTo(BigDecimal.valueOf(10 - exited));
+        assertThat(reservedNow).isEqualByComparingTo(BigDecimal.valueOf(reserved));
+        assertThat(quantity.subtract(reservedNow)).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    /** EXIT de una unidad; false si se rechazó por falta de stock (400) o por reservas (409). */
+    private boolean exitOne() {
+        InventoryMovement exit = InventoryMovement.builder()
+                .product(Product.builder().id(productId).build())
+                .location(Location.builder().id(LOCATION).build())
+                .movementType(MovementType.EXIT)
+                .quantity(BigDecimal.ONE)
+                .build();
+        try {
+            service.apply(exit);
+            return true;
+        } catch (InvalidMovementException | InsufficientStockException ex) {
+            return false;
+        }
+    }
+
+    /** Lanza todas las tareas a la vez y devuelve sus resultados en el mismo orden. */
+    private List<Boolean> runTogether(List<Callable<Boolean>> tasks) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (Callable<Boolean> task : tasks) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        start.countDown();
+        List<Boolean> results = new ArrayList<>();
+        for (Future<Boolean> f : futures) {
+            results.add(f.get(30, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,187 @@
+// src/test/java/com/myBusiness/application/usecase/OutboxDispatcherTest.java
+package com.myBusiness.application.usecase;
+
+import com.myBusiness.application.event.OutboxProjection;
+import com.myBusiness.domain.model.OutboxCheckpoint;
+import com.myBusiness.domain.model.OutboxEvent;
+import com.myBusiness.domain.port.OutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxDispatcherTest {
+
+    private static final String NAME = "test";
+
+    private OutboxRepository repo;
+    private RecordingProjection projection;
+    private OutboxDispatcher dispatcher;
+    private OutboxCheckpoint checkpoint;
+
+    @BeforeEach
+    void setUp() {
+        repo = mock(OutboxRepository.class);
+        projection = new RecordingProjection();
+        TransactionTemplate tx = mock(TransactionTemplate.class);
+        when(tx.execute(any())).thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        dispatcher = new OutboxDispatcher(repo, List.of(projection), tx);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 500);
+        ReflectionTestUtils.setField(dispatcher, "maxBatchesPerPoll", 1);
+        ReflectionTestUtils.setField(dispatcher, "gapTimeoutMs", 600_000L);
+        ReflectionTestUtils.setField(dispatcher, "backoffBaseMs", 60_000L);
+        ReflectionTestUtils.setField(dispatcher, "backoffMaxMs", 300_000L);
+        dispatcher.registerProjections();
+
+        checkpoint = OutboxCheckpoint.builder()
+                .projection(NAME)
+                .lastEventId(0)
+                .updatedAt(Instant.EPOCH)
+                .build();
+        when(repo.lockCheckpoint(NAME)).thenReturn(Optional.of(checkpoint));
+        when(repo.nextTransaction()).thenReturn(Optional.of(100L));
+        when(repo.oldestRunningTransaction()).thenReturn(Optional.of(90L));
+    }
+
+    @Test
+    void contiguousEventsAreAppliedAndAdvanceTheCheckpoint() {
+        events(1, 2, 3);
+
+        dispatcher.poll();
+
+        assertThat(projection.batches).containsExactly(List.of(1L, 2L, 3L));
+        assertThat(checkpoint.getLastEventId()).isEqualTo(3);
+        assertThat(checkpoint.getGapSeenAt()).isNull();
+    }
+
+    @Test
+    void batchStopsBeforeAMissingIdAndRecordsTheHorizon() {
+        events(1, 2, 4);
+
+        dispatcher.poll();
+
+        assertThat(projection.batches).containsExactly(List.of(1L, 2L));
+        assertThat(checkpoint.getLastEventId()).isEqualTo(2);
+        assertThat(checkpoint.getGapHorizon()).isEqualTo(100L);
+        assertThat(checkpoint.getGapSeenAt()).isNotNull();
+    }
+
+    @Test
+    void headGapWaitsWhileTransactionsThatCouldHoldItAreRunning() {
+        Instant seenAt = Instant.now().minusSeconds(3600);
+        gapAt(2, 100L, seenAt);
+        events(4, 5);
+
+        dispatcher.poll();
+
+        assertThat(projection.batches).isEmpty();
+        assertThat(checkpoint.getLastEventId()).isEqualTo(2);
+        // El hueco que se espera conserva su horizonte original
+        assertThat(checkpoint.getGapHorizon()).isEqualTo(100L);
+        assertThat(checkpoint.getGapSeenAt()).isEqualTo(seenAt);
+    }
+
+    @Test
+    void missingIdThatAppearsIsAppliedInItsPlace() {
+        gapAt(2, 100L, Instant.now());
+        events(3, 4, 5);
+
+        dispatcher.poll();
+
+        assertThat(projection.batches).containsExactly(List.of(3L, 4L, 5L));
+        assertThat(checkpoint.getGapSeenAt()).isNull();
+        assertThat(checkpoint.getGapHorizon()).isNull();
+    }
+
+    @Test
+    void resolvedHeadGapIsSkippedButANewGapStopsTheBatch() {
+        gapAt(2, 100L, Instant.now());
+        when(repo.oldestRunningTransaction()).thenReturn(Optional.of(100L));
+        when(repo.nextTransaction()).thenReturn(Optional.of(120L));
+        events(4, 5, 7);
+
+        dispatcher.poll();
+
+        assertThat(projection.batches).containsExactly(List.of(4L, 5L));
+        assertThat(checkpoint.getLastEventId()).isEqualTo(5);
+        assertThat(checkpoint.getGapHorizon()).isEqualTo(120L);
+    }
+
+    @Test
+    void withoutSnapshotsTheHeadGapIsSkippedAfterTheTimeout() {
+        when(repo.oldestRunningTransaction()).thenReturn(Optional.empty());
+        when(repo.nextTransaction()).thenReturn(Optional.empty());
+
+        gapAt(2, null, Instant.now().minusSeconds(60));
+        events(4);
+        dispatcher.poll();
+        assertThat(projection.batches).isEmpty();
+
+        checkpoint.setGapSeenAt(Instant.now().minusSeconds(11 * 60));
+        dispatcher.poll();
+        assertThat(projection.batches).containsExactly(List.of(4L));
+        assertThat(checkpoint.getLastEventId()).isEqualTo(4);
+    }
+
+    @Test
+    void failedBatchKeepsTheCheckpointAndBacksOff() {
+        events(1, 2);
+        projection.failure = new IllegalStateException("boom");
+
+        dispatcher.poll();
+        dispatcher.poll();   // dentro del backoff: no se reintenta todavía
+
+        assertThat(checkpoint.getLastEventId()).isZero();
+        verify(repo).recordFailure(eq(NAME), anyString());
+        verify(repo, times(1)).findAfter(anyLong(), anyInt());
+    }
+
+    private void events(long... ids) {
+        List<OutboxEvent> events = new ArrayList<>();
+        Arrays.stream(ids).forEach(id -> events.add(OutboxEvent.builder().id(id).build()));
+        when(repo.findAfter(anyLong(), anyInt())).thenReturn(events);
+    }
+
+    private void gapAt(long lastEventId, Long horizon, Instant seenAt) {
+        checkpoint.setLastEventId(lastEventId);
+        checkpoint.setGapHorizon(horizon);
+        checkpoint.setGapSeenAt(seenAt);
+    }
+
+    private static final class RecordingProjection implements OutboxProjection {
+        private final List<List<Long>> batches = new ArrayList<>();
+        private RuntimeException failure;
+
+        @Override
+        public String name() {
+            return NAME;
+        }
+
+        @Override
+        public void handle(List<OutboxEvent> events) {
+            if (failure != null) {
+                throw failure;
+            }
+            batches.add(events.stream().map(OutboxEvent::getId).toList());
+        }
+    }
+}
@@ -2,7 +2,7 @@
 import React from 'react'
 import { Routes, Route, Navigate } from 'react-router-dom'
 import { Toaster } from 'react-hot-toast'
-import { useAlertPolling } from '@/hooks/useAlertPolling'
+import { useAlertStream } from '@/hooks/useAlertStream'
 import LandingPage from '@/pages/LandingPage'
 import Products from '@/pages/Products'
 import Reports from '@/pages/Reports'
@@ -15,8 +15,8 @@ import PublicLayout from '@/layouts/PublicLayout'
 import PrivateLayout from '@/layouts/PrivateLayout'
 
 export default function App() {
-  // Reducir intervalo de polling a 5s para minimizar retraso en alertas
-  useAlertPolling(5000)
+  // Alertas en tiempo real por SSE (reemplaza el polling cada 5s)
+  useAlertStream()
 
   return (
     <>
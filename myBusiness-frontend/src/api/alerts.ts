@@ -77,3 +77,32 @@ export async function fetchUnreadAlerts(
   )
   return resp.data
 }
+
+export interface AlertStreamEvent {
+  id: number;
+  productId: number;
+  productName: string;
+  alertType: string;          // 'UNDERSTOCK' | 'OVERSTOCK'
+  state: 'OPENED' | 'CLOSED';
+  at: string;
+  currentStock: number;
+  thresholdMin: number;
+  thresholdMax: number;
+}
+
+/**
+ * Pide un ticket de un solo uso para abrir el stream SSE. EventSource no admite cabeceras,
+ * así que la url lleva este ticket (segundos de vida) y nunca el JWT.
+ */
+export async function createAlertStreamTicket(): Promise<string> {
+  const client = axiosWithAuth()
+  const resp = await client.post<{ ticket: string; expiresAt: string }>('/alerts/stream/ticket')
+  return resp.data.ticket
+}
+
+/** URL del stream SSE de alertas con el ticket y el último id recibido al recrear la conexión. */
+export function alertStreamUrl(ticket: string, lastEventId?: string | null): string {
+  const params = new URLSearchParams({ ticket })
+  if (lastEventId) params.set('lastEventId', lastEventId)
+  return `${API_BASE}/alerts/stream?${params.toString()}`
+}
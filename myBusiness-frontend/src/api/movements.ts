@@ -43,28 +43,36 @@ export async function createMovement(
   return resp.data;
 }
 
+// movementDate (la fecha que trajo el listado) permite al backend buscar solo en su partición
 export async function fetchMovementById(
-  id: number
+  id: number,
+  movementDate?: string
 ): Promise<MovementOutputDto> {
   const client = axiosWithAuth();
-  const resp = await client.get<MovementOutputDto>(`/movements/${id}`);
+  const resp = await client.get<MovementOutputDto>(`/movements/${id}`, {
+    params: { movementDate },
+  });
   return resp.data;
 }
 
 export async function updateMovement(
   id: number,
-  dto: MovementInputDto
+  dto: MovementInputDto,
+  movementDate?: string
 ): Promise<MovementOutputDto> {
   const client = axiosWithAuth();
-  const resp = await client.put<MovementOutputDto>(`/movements/${id}`, dto);
+  const resp = await client.put<MovementOutputDto>(`/movements/${id}`, dto, {
+    params: { movementDate },
+  });
   return resp.data;
 }
 
 export async function deleteMovement(
-  id: number
+  id: number,
+  movementDate?: string
 ): Promise<void> {
   const client = axiosWithAuth();
-  await client.delete(`/movements/${id}`);
+  await client.delete(`/movements/${id}`, { params: { movementDate } });
 }
 
 // Tendencias y recuentos
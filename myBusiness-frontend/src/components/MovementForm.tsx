@@ -145,7 +145,7 @@ export default function MovementForm({ initialData, onSaved, onCancel }: Movemen
     try {
       let saved: MovementOutputDto;
       if (isEdit && initialData) {
-        saved = await updateMovement(initialData.id, dto);
+        saved = await updateMovement(initialData.id, dto, initialData.movementDate);
       } else {
         saved = await createMovement(dto);
       }
@@ -0,0 +1,100 @@
+import { useEffect, useRef } from 'react'
+import { useAuth } from '@/hooks/useAuth'
+import toast from 'react-hot-toast'
+import { AlertCircle } from 'lucide-react'
+import { alertStreamUrl, AlertStreamEvent, createAlertStreamTicket } from '@/api/alerts'
+
+function AlertToast({ productName, alertType }: { productName: string; alertType: string }) {
+  return (
+    <div className="flex items-center space-x-2">
+      <AlertCircle className="w-6 h-6 text-red-600 animate-pulse" />
+      <div>
+        <p className="font-semibold">Alerta: {productName}</p>
+        <p className="text-sm">Tipo: {alertType === 'UNDERSTOCK' ? 'Stock bajo' : 'Stock alto'}</p>
+      </div>
+    </div>
+  )
+}
+
+/**
+ * Escucha /api/alerts/stream (Server-Sent Events) en lugar de hacer polling.
+ * Cada conexión se abre con un ticket de un solo uso, así que la reconexión automática del
+ * navegador no sirve: ante cualquier error se cierra y se recrea con un ticket nuevo,
+ * pasando el último id recibido.
+ */
+export function useAlertStream(reconnectMs: number = 5000) {
+  const { user } = useAuth()
+  const lastEventIdRef = useRef<string | null>(null)
+
+  useEffect(() => {
+    if (!user) return
+    let source: EventSource | null = null
+    let retryTimer: ReturnType<typeof setTimeout> | null = null
+    let closed = false
+
+    const notify = (detail: unknown) => {
+      // Notificar a componentes interesados (Dashboard/Tablas) para recargar datos
+      try {
+        window.dispatchEvent(new CustomEvent('alerts:new', { detail }))
+      } catch {}
+    }
+
+    const scheduleReconnect = () => {
+      if (closed || retryTimer) return
+      retryTimer = setTimeout(() => {
+        retryTimer = null
+        connect()
+      }, reconnectMs)
+    }
+
+    const connect = async () => {
+      if (!localStorage.getItem('token') || closed) return
+      let ticket: string
+      try {
+        ticket = await createAlertStreamTicket()
+      } catch {
+        scheduleReconnect()
+        return
+      }
+      if (closed) return
+      source = new EventSource(alertStreamUrl(ticket, lastEventIdRef.current))
+
+      source.addEventListener('alert', (e: MessageEvent) => {
+        lastEventIdRef.current = e.lastEventId || lastEventIdRef.current
+        const alert: AlertStreamEvent = JSON.parse(e.data)
+        if (alert.state === 'OPENED') {
+          toast.custom(t => (
+            <div className={`
+              max-w-sm w-full bg-white border-l-4 border-red-500 p-4 shadow-lg transform transition-all
+              ${t.visible ? 'opacity-100 translate-y-0' : 'opacity-0 translate-y-2'}
+            `}>
+              <AlertToast productName={alert.productName} alertType={alert.alertType} />
+            </div>
+          ), { id: `alert-${alert.id}`, duration: 3000 })
+        }
+        notify(alert)
+      })
+
+      // El servidor no pudo reanudar desde el último id: recargar el estado completo
+      source.addEventListener('reset', () => {
+        lastEventIdRef.current = null
+        notify({ reset: true })
+      })
+
+      source.onerror = () => {
+        // El ticket ya se gastó: en vez de dejar que el navegador reintente con la misma url,
+        // se cierra y se pide otro
+        source?.close()
+        source = null
+        scheduleReconnect()
+      }
+    }
+
+    connect()
+    return () => {
+      closed = true
+      if (retryTimer) clearTimeout(retryTimer)
+      source?.close()
+    }
+  }, [user, reconnectMs])
+}
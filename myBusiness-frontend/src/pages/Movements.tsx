@@ -155,7 +155,7 @@ export default function Movements() {
               onClick={async () => {
                 if (!confirm('¿Seguro que deseas eliminar este movimiento?')) return;
                 try {
-                  await deleteMovement(row.original.id!);
+                  await deleteMovement(row.original.id!, row.original.movementDate);
                   toast.success('Movimiento eliminado');
                   // recargar la misma página con filtros aplicados
                   fetchPage(pageInfo.pageIndex, appliedFilters);